@@ -448,6 +448,9 @@ class AckMsgImpl extends MsgImpl implements AckMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
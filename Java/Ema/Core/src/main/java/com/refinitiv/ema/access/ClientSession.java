@@ -31,6 +31,7 @@ class ClientSession extends VaNode
     private LongObject _loginHandle;
     protected int _majorVersion;
     protected int _minorVersion;
+    private ClientSessionQueue _outboundQueue;
 
     ClientSession(OmmServerBaseImpl ommServerBaseImpl)
     {
@@ -131,6 +132,17 @@ class ClientSession extends VaNode
     	return _itemInfoByStreamIdMap.values();
     }
     
+    /* Outbound messages queued while the channel is out of buffers, see OmmIProviderImpl. */
+    ClientSessionQueue outboundQueue()
+    {
+        return _outboundQueue;
+    }
+
+    void outboundQueue(ClientSessionQueue outboundQueue)
+    {
+        _outboundQueue = outboundQueue;
+    }
+
     HashMap<LongObject, HashMap<Buffer, ArrayList<ItemInfo>>> serviceGroupIdToItemInfoMap()
     {
     	return _serviceGroupIdToItemInfoMap;
@@ -142,6 +154,11 @@ class ClientSession extends VaNode
         {	
         	_removingInCloseAll = true;
         	
+        	if ( _outboundQueue != null )
+        	{
+        		_outboundQueue.clear();
+        	}
+        	
         	Iterator<ItemInfo> iter = _itemInfoByStreamIdMap.values().iterator();
         	
         	ItemInfo itemInfo;
@@ -249,6 +266,7 @@ class ClientSession extends VaNode
     	}
     	
         _rsslReactorChannel = null;
+        _outboundQueue = null;
         _isLogin = false;
         _removingInCloseAll = false;
     }
@@ -0,0 +1,248 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.CopyMsgFlags;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.UpdateMsg;
+
+/* Outbound messages of a ClientSession whose channel is out of buffers. Once a message
+ * is queued, every later message of the session is queued behind it until the queue
+ * drains, so the messages of the session keep their order.
+ *
+ * An update queued for a stream whose last queued message is a conflatable update is
+ * merged into that update instead of being queued, see FieldListAccumulator. The
+ * merged update is sent with the header of the latest update and its conflation count
+ * set to the number of updates merged.
+ *
+ * Every method is called with the userLock held. */
+class ClientSessionQueue
+{
+	private static final int MAX_CONFLATION_COUNT = 0x7FFF;
+	private static final int MAX_CONFLATION_TIME = 0xFFFF;
+
+	private final ArrayDeque<Entry> _queue = new ArrayDeque<>();
+	private final LongObjectHashTable<Entry> _conflatableByStreamId = new LongObjectHashTable<>();
+	private final EncodeIterator _encodeIter = CodecFactory.createEncodeIterator();
+	private final int _majorVersion;
+	private final int _minorVersion;
+
+	private int _maxQueuedMessages;
+	private long _totalQueuedMessages;
+	private long _conflatedMessages;
+	private boolean _evicted;
+
+	ClientSessionQueue(int majorVersion, int minorVersion)
+	{
+		_majorVersion = majorVersion;
+		_minorVersion = minorVersion;
+	}
+
+	boolean isEmpty()
+	{
+		return _queue.isEmpty();
+	}
+
+	int size()
+	{
+		return _queue.size();
+	}
+
+	/* Returns false if the message would exceed maxSize queued messages. */
+	boolean offer(Msg rsslMsg, int maxSize)
+	{
+		boolean conflatable = FieldListAccumulator.isConflatable(rsslMsg);
+		if (conflatable)
+		{
+			Entry entry = _conflatableByStreamId.get(rsslMsg.streamId());
+			if (entry != null && entry.merge(rsslMsg, _majorVersion, _minorVersion))
+			{
+				++_conflatedMessages;
+				return true;
+			}
+		}
+
+		if (_queue.size() >= maxSize)
+			return false;
+
+		Entry entry = new Entry();
+		if (rsslMsg.copy(entry._rsslMsg, CopyMsgFlags.ALL_FLAGS) < CodecReturnCodes.SUCCESS)
+			return false;
+		entry._queuedTime = System.nanoTime();
+
+		_queue.add(entry);
+		if (conflatable)
+			_conflatableByStreamId.put(rsslMsg.streamId(), entry);
+		else
+			_conflatableByStreamId.remove(rsslMsg.streamId());
+
+		++_totalQueuedMessages;
+		if (_queue.size() > _maxQueuedMessages)
+			_maxQueuedMessages = _queue.size();
+
+		return true;
+	}
+
+	/* Returns the message at the head of the queue ready to be submitted, or null if the
+	 * queue is empty. The message stays queued until removeHead(). */
+	Msg head()
+	{
+		Entry entry = _queue.peek();
+		if (entry == null)
+			return null;
+
+		if (entry._fields != null && !entry._encoded)
+		{
+			int ret;
+			while ((ret = entry.encodeFields(_encodeIter, _majorVersion, _minorVersion)) == CodecReturnCodes.BUFFER_TOO_SMALL)
+				entry._payload = ByteBuffer.allocate(entry._payload.capacity() * 2);
+
+			/* the merged update cannot be lost, the fields of the latest update are sent then */
+			if (ret >= CodecReturnCodes.SUCCESS)
+				entry.applyConflation();
+			entry._encoded = true;
+		}
+
+		return entry._rsslMsg;
+	}
+
+	long headQueuedTime()
+	{
+		Entry entry = _queue.peek();
+		return entry != null ? entry._queuedTime : 0;
+	}
+
+	void removeHead()
+	{
+		Entry entry = _queue.poll();
+		if (entry != null && _conflatableByStreamId.get(entry._rsslMsg.streamId()) == entry)
+			_conflatableByStreamId.remove(entry._rsslMsg.streamId());
+	}
+
+	/* The session is to be disconnected; later messages of the session are dropped. */
+	void evict()
+	{
+		_evicted = true;
+		clear();
+	}
+
+	boolean evicted()
+	{
+		return _evicted;
+	}
+
+	int maxQueuedMessages()
+	{
+		return _maxQueuedMessages;
+	}
+
+	long totalQueuedMessages()
+	{
+		return _totalQueuedMessages;
+	}
+
+	long conflatedMessages()
+	{
+		return _conflatedMessages;
+	}
+
+	void clear()
+	{
+		_queue.clear();
+		_conflatableByStreamId.clear();
+	}
+
+	private static class Entry
+	{
+		Msg _rsslMsg = CodecFactory.createMsg();
+		long _queuedTime;
+		long _lastMergedTime;
+
+		/* set once another update is merged into this one */
+		FieldListAccumulator _fields;
+		int _mergedCount;
+		ByteBuffer _payload;
+		final Buffer _payloadBuffer = CodecFactory.createBuffer();
+		boolean _encoded;
+
+		/* Returns false if either update cannot be decoded; the entry is then left as it
+		 * was, FieldListAccumulator.add() merges nothing of a field list it fails on. */
+		boolean merge(Msg rsslMsg, int majorVersion, int minorVersion)
+		{
+			boolean firstMerge = _fields == null;
+			if (firstMerge)
+			{
+				FieldListAccumulator fields = new FieldListAccumulator();
+				if (!fields.add(_rsslMsg.encodedDataBody(), majorVersion, minorVersion))
+					return false;
+				_fields = fields;
+				_mergedCount = conflationCount(_rsslMsg);
+				_payload = ByteBuffer.allocate(Math.max(_rsslMsg.encodedDataBody().length() * 2, 256));
+			}
+
+			if (!_fields.add(rsslMsg.encodedDataBody(), majorVersion, minorVersion))
+			{
+				if (firstMerge)
+				{
+					_fields = null;
+					_mergedCount = 0;
+					_payload = null;
+				}
+				return false;
+			}
+
+			/* the header of the latest update is sent, its payload is replaced on encoding */
+			Msg latest = CodecFactory.createMsg();
+			if (rsslMsg.copy(latest, CopyMsgFlags.ALL_FLAGS) >= CodecReturnCodes.SUCCESS)
+				_rsslMsg = latest;
+			_encoded = false;
+
+			_mergedCount += conflationCount(rsslMsg);
+			_lastMergedTime = System.nanoTime();
+			return true;
+		}
+
+		int encodeFields(EncodeIterator encodeIter, int majorVersion, int minorVersion)
+		{
+			_payload.clear();
+			_payloadBuffer.data(_payload);
+			encodeIter.clear();
+			encodeIter.setBufferAndRWFVersion(_payloadBuffer, majorVersion, minorVersion);
+
+			int ret = _fields.encode(encodeIter);
+			if (ret >= CodecReturnCodes.SUCCESS)
+				_payloadBuffer.data(_payload, 0, _payload.position());
+
+			return ret;
+		}
+
+		void applyConflation()
+		{
+			_rsslMsg.encodedDataBody(_payloadBuffer);
+
+			UpdateMsg updateMsg = (UpdateMsg)_rsslMsg;
+			updateMsg.applyHasConfInfo();
+			updateMsg.conflationCount(Math.min(_mergedCount, MAX_CONFLATION_COUNT));
+			updateMsg.conflationTime((int)Math.min((_lastMergedTime - _queuedTime) / 1000000, MAX_CONFLATION_TIME));
+		}
+
+		private static int conflationCount(Msg rsslMsg)
+		{
+			UpdateMsg updateMsg = (UpdateMsg)rsslMsg;
+			return updateMsg.checkHasConfInfo() && updateMsg.conflationCount() > 0 ? updateMsg.conflationCount() : 1;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+///*|-----------------------------------------------------------------------------
+// *|            This source code is provided under the Apache 2.0 license      --
+// *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+// *|                See the project's LICENSE.md for details.                  --
+// *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+///*|-----------------------------------------------------------------------------
+
+package com.refinitiv.ema.access;
+
+/**
+ * The ClientSessionStatistics interface provides the outbound queue statistics of a
+ * client connected to an IProvider application.
+ *
+ * When ClientSessionQueueSize is configured, messages submitted to a client whose
+ * channel is out of buffers are queued for that client instead of failing, and updates
+ * queued for the same item stream are conflated. A client whose queue exceeds
+ * ClientSessionQueueSize messages, or whose oldest queued message is older than
+ * ClientSessionQueueMaxDelay milliseconds, is disconnected.
+ *
+ * @see OmmProvider#clientSessionStatistics(java.util.List)
+ */
+public interface ClientSessionStatistics
+{
+	/**
+	 * Returns the client handle of the client session.
+	 * 
+	 * @return client handle
+	 */
+	public long clientHandle();
+
+	/**
+	 * Returns the number of messages currently queued for the client.
+	 * 
+	 * @return number of queued messages
+	 */
+	public int queuedMessages();
+
+	/**
+	 * Returns the highest number of messages queued for the client at once.
+	 * 
+	 * @return high water mark of the queued messages
+	 */
+	public int maxQueuedMessages();
+
+	/**
+	 * Returns the number of messages queued for the client since it connected, not
+	 * counting the updates conflated into queued updates.
+	 * 
+	 * @return total number of queued messages
+	 */
+	public long totalQueuedMessages();
+
+	/**
+	 * Returns the number of updates conflated into updates already queued for the client.
+	 * 
+	 * @return number of conflated updates
+	 */
+	public long conflatedMessages();
+
+	/**
+	 * Returns whether the client is being disconnected for exceeding ClientSessionQueueSize
+	 * or ClientSessionQueueMaxDelay. Messages submitted to it are dropped.
+	 * 
+	 * @return true if the client is being disconnected
+	 */
+	public boolean evicted();
+}
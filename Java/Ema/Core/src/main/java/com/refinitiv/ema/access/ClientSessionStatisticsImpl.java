@@ -0,0 +1,86 @@
+///*|-----------------------------------------------------------------------------
+// *|            This source code is provided under the Apache 2.0 license      --
+// *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+// *|                See the project's LICENSE.md for details.                  --
+// *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+///*|-----------------------------------------------------------------------------
+
+package com.refinitiv.ema.access;
+
+class ClientSessionStatisticsImpl implements ClientSessionStatistics
+{
+	private final long _clientHandle;
+	private final int _queuedMessages;
+	private final int _maxQueuedMessages;
+	private final long _totalQueuedMessages;
+	private final long _conflatedMessages;
+	private final boolean _evicted;
+
+	ClientSessionStatisticsImpl(long clientHandle, ClientSessionQueue queue)
+	{
+		_clientHandle = clientHandle;
+		if (queue != null)
+		{
+			_queuedMessages = queue.size();
+			_maxQueuedMessages = queue.maxQueuedMessages();
+			_totalQueuedMessages = queue.totalQueuedMessages();
+			_conflatedMessages = queue.conflatedMessages();
+			_evicted = queue.evicted();
+		}
+		else
+		{
+			_queuedMessages = 0;
+			_maxQueuedMessages = 0;
+			_totalQueuedMessages = 0;
+			_conflatedMessages = 0;
+			_evicted = false;
+		}
+	}
+
+	@Override
+	public long clientHandle()
+	{
+		return _clientHandle;
+	}
+
+	@Override
+	public int queuedMessages()
+	{
+		return _queuedMessages;
+	}
+
+	@Override
+	public int maxQueuedMessages()
+	{
+		return _maxQueuedMessages;
+	}
+
+	@Override
+	public long totalQueuedMessages()
+	{
+		return _totalQueuedMessages;
+	}
+
+	@Override
+	public long conflatedMessages()
+	{
+		return _conflatedMessages;
+	}
+
+	@Override
+	public boolean evicted()
+	{
+		return _evicted;
+	}
+
+	@Override
+	public String toString()
+	{
+		return new StringBuilder().append("clientHandle: ").append(_clientHandle)
+				.append(", queuedMessages: ").append(_queuedMessages)
+				.append(", maxQueuedMessages: ").append(_maxQueuedMessages)
+				.append(", totalQueuedMessages: ").append(_totalQueuedMessages)
+				.append(", conflatedMessages: ").append(_conflatedMessages)
+				.append(", evicted: ").append(_evicted).toString();
+	}
+}
@@ -0,0 +1,116 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.locks.StampedLock;
+
+/* LongObjectHashTable that can be read from any thread while it is being updated.
+ * Updates are serialized by a StampedLock. Lookups run as optimistic reads and
+ * only take the read lock when an update ran at the same time, so the common
+ * lookup neither blocks nor allocates. */
+class ConcurrentLongObjectHashTable<V> extends LongObjectHashTable<V>
+{
+    private final StampedLock _lock = new StampedLock();
+
+    ConcurrentLongObjectHashTable()
+    {
+        super();
+    }
+
+    ConcurrentLongObjectHashTable(int expectedSize)
+    {
+        super(expectedSize);
+    }
+
+    @Override
+    V get(long key)
+    {
+        long stamp = _lock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            long[] keys = _keys;
+            Object[] values = _values;
+            /* the arrays may be from different generations while a resize is in progress */
+            V value = (keys.length == values.length) ? LongObjectHashTable.<V>find(keys, values, key) : null;
+            if (_lock.validate(stamp))
+                return value;
+        }
+
+        stamp = _lock.readLock();
+        try
+        {
+            return super.get(key);
+        }
+        finally
+        {
+            _lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    V put(long key, V value)
+    {
+        long stamp = _lock.writeLock();
+        try
+        {
+            return super.put(key, value);
+        }
+        finally
+        {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    V remove(long key)
+    {
+        long stamp = _lock.writeLock();
+        try
+        {
+            return super.remove(key);
+        }
+        finally
+        {
+            _lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    int size()
+    {
+        long stamp = _lock.tryOptimisticRead();
+        int size = _size;
+        if (_lock.validate(stamp))
+            return size;
+
+        stamp = _lock.readLock();
+        try
+        {
+            return _size;
+        }
+        finally
+        {
+            _lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    void clear()
+    {
+        long stamp = _lock.writeLock();
+        try
+        {
+            super.clear();
+        }
+        finally
+        {
+            _lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -123,6 +123,11 @@ class ConfigManager
 	
 	public static final int RestProxyHostName = 56;
 	public static final int RestProxyPort = 57;
+	
+	public static final int CallbackDispatchThreads = 58;
+	public static final int CallbackDispatchQueueSize = 59;
+	public static final int ConflationTime = 60;
+	public static final int ConflationCount = 61;
 
 	// Channel: Global
 	public static final int ChannelGroup = 100;
@@ -262,6 +267,9 @@ class ConfigManager
 	public static final int IProviderAcceptMessageThatChangesService = 812;
 	public static final int IProviderAcceptMessageWithoutQosInRange = 813;
 	public static final int IProviderEnforceAckIDValidation = 814;
+	public static final int IProviderSubmitQueueSize = 815;
+	public static final int IProviderClientSessionQueueSize = 816;
+	public static final int IProviderClientSessionQueueMaxDelay = 817;
 	
 	// Server: Global
 	public static final int ServerGroup = 900;
@@ -341,7 +349,11 @@ class ConfigManager
 		ConsumerTagDict.add( "Dictionary",ConsumerDictionaryName );
 		ConsumerTagDict.add( "WarmStandbyChannelSet", ConsumerWarmStandbyChannelSet);
 		
+		ConsumerTagDict.add( "CallbackDispatchQueueSize",CallbackDispatchQueueSize );
+		ConsumerTagDict.add( "CallbackDispatchThreads",CallbackDispatchThreads );
 		ConsumerTagDict.add( "CatchUnhandledException",CatchUnhandledException );
+		ConsumerTagDict.add( "ConflationCount",ConflationCount );
+		ConsumerTagDict.add( "ConflationTime",ConflationTime );
 		ConsumerTagDict.add( "DictionaryRequestTimeOut",DictionaryRequestTimeOut );
 		ConsumerTagDict.add( "DirectoryRequestTimeOut",DirectoryRequestTimeOut );
 		ConsumerTagDict.add( "DispatchTimeoutApiThread",DispatchTimeoutApiThread );
@@ -553,6 +565,9 @@ class ConfigManager
 		IProviderTagDict.add( "AcceptMessageThatChangesService", IProviderAcceptMessageThatChangesService);
 		IProviderTagDict.add( "AcceptMessageWithoutQosInRange", IProviderAcceptMessageWithoutQosInRange);
 		IProviderTagDict.add( "EnforceAckIDValidation", IProviderEnforceAckIDValidation );
+		IProviderTagDict.add( "SubmitQueueSize", IProviderSubmitQueueSize );
+		IProviderTagDict.add( "ClientSessionQueueSize", IProviderClientSessionQueueSize );
+		IProviderTagDict.add( "ClientSessionQueueMaxDelay", IProviderClientSessionQueueMaxDelay );
 		IProviderTagDict.add( "FieldDictionaryFragmentSize", DictionaryFieldDictFragmentSize);
 		IProviderTagDict.add( "EnumTypeFragmentSize", DictionaryEnumTypeFragmentSize);
 		IProviderTagDict.add( "XmlTraceFileName",XmlTraceFileName );		
@@ -794,7 +809,13 @@ class ConfigManager
 		"AcceptMessageWithoutAcceptingRequests",
 		"AcceptMessageWithoutBeingLogin",
 		"AcceptMessageWithoutQosInRange",
+		"CallbackDispatchQueueSize",
+		"CallbackDispatchThreads",
+		"ClientSessionQueueMaxDelay",
+		"ClientSessionQueueSize",
 		"CompressionThreshold",
+		"ConflationCount",
+		"ConflationTime",
 		"ConnectionPingTimeout",
 		"ConnectionMinPingTimeout",
 		"DictionaryRequestTimeOut",
@@ -834,6 +855,7 @@ class ConfigManager
 		"ServiceCountHint",
 		"ServiceId",
 		"ServiceState",
+		"SubmitQueueSize",
 		"SupportsOutOfBandSnapshots",
 		"SupportsQoSRange",
 		"SysRecvBufSize",
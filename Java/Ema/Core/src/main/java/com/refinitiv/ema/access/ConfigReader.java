@@ -7,7 +7,8 @@
 
 package com.refinitiv.ema.access;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.net.URL;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -19,8 +20,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.io.File;
 
-import org.apache.commons.configuration2.ex.ConfigurationException;
-import org.apache.commons.configuration2.XMLConfiguration;
+import javax.xml.stream.XMLStreamException;
 
 import com.refinitiv.ema.access.ConfigManager.Branch;
 import com.refinitiv.ema.access.ConfigManager.ConfigAttributes;
@@ -29,9 +29,6 @@ import com.refinitiv.ema.access.ConfigManager.TagDictionary;
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.eta.transport.CompressionTypes;
 import com.refinitiv.eta.transport.ConnectionTypes;
-import org.apache.commons.configuration2.io.FileHandler;
-import org.apache.commons.configuration2.tree.ImmutableNode;
-import org.apache.commons.configuration2.tree.NodeHandler;
 
 class ConfigReader 
 {
@@ -740,9 +737,9 @@ class ConfigReader
 			return null;
 		}
 
-		private ConfigElement handleConfigEntry(ImmutableNode nodePtr, XMLnode theNode, int tagId)
+		private ConfigElement handleConfigEntry(ConfigXmlParser.Node nodePtr, XMLnode theNode, int tagId)
 		{
-			Map<String, Object> attributeList = nodePtr.getAttributes();
+			Map<String, String> attributeList = nodePtr.getAttributes();
 
 			String attributeValue = null;
 
@@ -750,7 +747,7 @@ class ConfigReader
 			{
 				if(attributeName.equalsIgnoreCase("value") )
 				{
-					attributeValue = (String) attributeList.get(attributeName);
+					attributeValue = attributeList.get(attributeName);
 				}
 				else
 				{
@@ -762,9 +759,9 @@ class ConfigReader
 			return e;
 		}
 
-		private void processNode(XMLnode theNode, ImmutableNode nodePtr, TagDictionary tagDict)
+		private void processNode(XMLnode theNode, ConfigXmlParser.Node nodePtr, TagDictionary tagDict)
 		{
-			List<ImmutableNode> children = nodePtr.getChildren();
+			List<ConfigXmlParser.Node> children = nodePtr.getChildren();
 			if(children == null || children.size() == 0 )
 			{
 				errorTracker().append("No children for ").append(nodePtr.getNodeName()).create(Severity.ERROR);
@@ -773,7 +770,7 @@ class ConfigReader
 
 			for (int i = 0; i < children.size(); i++)
 			{
-				ImmutableNode configNodeChild = children.get(i);
+				ConfigXmlParser.Node configNodeChild = children.get(i);
 
 				if( configNodeChild.getAttributes() != null && configNodeChild.getAttributes().size() > 0 )
 				{
@@ -902,12 +899,12 @@ class ConfigReader
 			}
 		}
 
-		private void skipNode(ImmutableNode nodePtr)
+		private void skipNode(ConfigXmlParser.Node nodePtr)
 		{
-			List<ImmutableNode> children = nodePtr.getChildren();
+			List<ConfigXmlParser.Node> children = nodePtr.getChildren();
 			for (int i = 0; i < children.size(); i++)
 			{
-				ImmutableNode configNodeChild = children.get(i);
+				ConfigXmlParser.Node configNodeChild = children.get(i);
 
 				if( configNodeChild.getAttributes() != null && configNodeChild.getAttributes().size() > 0 )
 				{
@@ -989,25 +986,23 @@ class ConfigReader
 						.append( System.getProperty("user.dir") ).append( "]" ).create(Severity.TRACE);
 			}
 
-			XMLConfiguration config = new XMLConfiguration();
+			// the parsed file is shared with the other consumers and providers of the JVM, see ConfigXmlParser
+			ConfigXmlParser.Node configRoot;
 
 			try 
 			{
-				FileHandler fh = new FileHandler(config);
 				if (path == null || path.isEmpty()) {
-					InputStream in = ClassLoader.class.getResourceAsStream("/".concat(defaultFileName));
-					if (in == null) {
-						fh.setFileName(defaultFileName);
-						fh.load();
+					URL url = ClassLoader.class.getResource("/".concat(defaultFileName));
+					if (url == null) {
+						configRoot = ConfigXmlParser.parseFile(defaultFileName);
 					} else {
-						fh.load(in);
+						configRoot = ConfigXmlParser.parseResource(url);
 					}
 				} else {
-					fh.setFileName(fileName);
-					fh.load();
+					configRoot = ConfigXmlParser.parseFile(fileName);
 				}
 			} 
-			catch (ConfigurationException e)
+			catch (IOException | XMLStreamException e)
 			{
 				if (path == null || path.isEmpty()) {
 					errorTracker().append(e.getMessage()).create(Severity.TRACE);
@@ -1020,8 +1015,6 @@ class ConfigReader
 				throw _parent.oommICExcept().message(errorMsg);
 			}
 
-			NodeHandler<ImmutableNode> nh = config.getNodeModel().getNodeHandler();
-
 			configkeyTypePair = new Hashtable<String, Integer>();
 
 			for( int i = 0; i < ConfigManager.AsciiValues.length; i++ )
@@ -1047,7 +1040,7 @@ class ConfigReader
 
 			if(_debugDump) debugDump("=== Start: XMLConfig file read dump ========================");
 
-			processNode(xmlRoot, nh.getRootNode(), ConfigManager.ConsumerTagDict);
+			processNode(xmlRoot, configRoot, ConfigManager.ConsumerTagDict);
 			
 			if(_debugDump) debugDump("=== End ====================================================");
 
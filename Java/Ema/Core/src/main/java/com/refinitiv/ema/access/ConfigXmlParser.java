@@ -0,0 +1,216 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/* Reads an EMA XML configuration with a StAX parser into a tree of Nodes, which
+ * XMLConfigReader turns into its XMLnode tree. Only elements and their attributes are
+ * kept; text, comments and processing instructions are skipped.
+ *
+ * A parsed configuration is cached and reused by the consumers and providers created
+ * later in the JVM for as long as its file is not modified. The Nodes are never
+ * modified once parsed, so they are shared between the readers. */
+class ConfigXmlParser
+{
+	static class Node
+	{
+		private final String _name;
+		private Map<String, String> _attributes = Collections.emptyMap();
+		private List<Node> _children = Collections.emptyList();
+
+		private Node(String name)
+		{
+			_name = name;
+		}
+
+		String getNodeName()
+		{
+			return _name;
+		}
+
+		Map<String, String> getAttributes()
+		{
+			return _attributes;
+		}
+
+		List<Node> getChildren()
+		{
+			return _children;
+		}
+
+		private void addAttribute(String name, String value)
+		{
+			if (_attributes.isEmpty())
+				_attributes = new LinkedHashMap<>();
+			_attributes.put(name, value);
+		}
+
+		private void addChild(Node child)
+		{
+			if (_children.isEmpty())
+				_children = new ArrayList<>();
+			_children.add(child);
+		}
+	}
+
+	private static class CachedConfig
+	{
+		final Node _root;
+		final long _lastModified;
+		final long _length;
+
+		CachedConfig(Node root, long lastModified, long length)
+		{
+			_root = root;
+			_lastModified = lastModified;
+			_length = length;
+		}
+	}
+
+	private static final Map<String, CachedConfig> _cache = new ConcurrentHashMap<>();
+	private static XMLInputFactory _inputFactory;
+
+	/* Returns the root node of the configuration in fileName. */
+	static Node parseFile(String fileName) throws IOException, XMLStreamException
+	{
+		File file = new File(fileName);
+		String key = file.getCanonicalPath();
+		long lastModified = file.lastModified();
+		long length = file.length();
+
+		CachedConfig cached = _cache.get(key);
+		if (cached != null && cached._lastModified == lastModified && cached._length == length)
+			return cached._root;
+
+		Node root;
+		try (InputStream in = new FileInputStream(file))
+		{
+			root = parse(in);
+		}
+
+		_cache.put(key, new CachedConfig(root, lastModified, length));
+		return root;
+	}
+
+	/* Returns the root node of the configuration in the classpath resource at url. */
+	static Node parseResource(URL url) throws IOException, XMLStreamException
+	{
+		String key = url.toString();
+		long lastModified = 0;
+		long length = 0;
+		if (url.getProtocol().equals("file"))
+		{
+			try
+			{
+				File file = new File(url.toURI());
+				lastModified = file.lastModified();
+				length = file.length();
+			}
+			catch (URISyntaxException | IllegalArgumentException e)
+			{
+				/* the resource is then read only once */
+			}
+		}
+
+		CachedConfig cached = _cache.get(key);
+		if (cached != null && cached._lastModified == lastModified && cached._length == length)
+			return cached._root;
+
+		Node root;
+		try (InputStream in = url.openStream())
+		{
+			root = parse(in);
+		}
+
+		_cache.put(key, new CachedConfig(root, lastModified, length));
+		return root;
+	}
+
+	static void clearCache()
+	{
+		_cache.clear();
+	}
+
+	private static synchronized Node parse(InputStream in) throws XMLStreamException
+	{
+		if (_inputFactory == null)
+		{
+			_inputFactory = XMLInputFactory.newInstance();
+			_inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			_inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			_inputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+		}
+
+		XMLStreamReader reader = _inputFactory.createXMLStreamReader(new BufferedInputStream(in));
+		try
+		{
+			Node root = null;
+			ArrayDeque<Node> open = new ArrayDeque<>();
+
+			while (reader.hasNext())
+			{
+				switch (reader.next())
+				{
+					case XMLStreamConstants.START_ELEMENT:
+					{
+						Node node = new Node(name(reader.getPrefix(), reader.getLocalName()));
+						for (int index = 0; index < reader.getAttributeCount(); ++index)
+							node.addAttribute(name(reader.getAttributePrefix(index), reader.getAttributeLocalName(index)),
+									reader.getAttributeValue(index));
+
+						if (open.isEmpty())
+							root = node;
+						else
+							open.peek().addChild(node);
+						open.push(node);
+						break;
+					}
+					case XMLStreamConstants.END_ELEMENT:
+						open.pop();
+						break;
+					default:
+						break;
+				}
+			}
+
+			if (root == null)
+				throw new XMLStreamException("configuration has no root element");
+
+			return root;
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	private static String name(String prefix, String localName)
+	{
+		return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+	}
+}
@@ -0,0 +1,44 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/**
+ * The ConflationStatistics interface provides the update conflation counters of an
+ * OmmConsumer application.
+ *
+ * Updates of an item are conflated when a conflation window is set with
+ * {@link ReqMsg#conflation(int, int)} or with the ConflationTime and ConflationCount
+ * consumer parameters. The updates received within the window are merged into one
+ * update, which is delivered when the window closes.
+ *
+ * @see OmmConsumer#conflationStatistics()
+ */
+public interface ConflationStatistics
+{
+	/**
+	 * Returns the number of updates merged into conflated updates.
+	 * 
+	 * @return number of conflated updates received
+	 */
+	public long updatesReceived();
+
+	/**
+	 * Returns the number of conflated updates delivered to the application.
+	 * 
+	 * @return number of conflated updates delivered
+	 */
+	public long updatesDelivered();
+
+	/**
+	 * Returns the number of items whose conflation window is currently open.
+	 * 
+	 * @return number of items with a pending conflated update
+	 */
+	public int pendingUpdates();
+}
@@ -0,0 +1,58 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+class ConflationStatisticsImpl implements ConflationStatistics
+{
+	private final long _updatesReceived;
+	private final long _updatesDelivered;
+	private final int _pendingUpdates;
+
+	ConflationStatisticsImpl(ItemUpdateConflator conflator)
+	{
+		if (conflator != null)
+		{
+			_updatesReceived = conflator.updatesReceived();
+			_updatesDelivered = conflator.updatesDelivered();
+			_pendingUpdates = conflator.pendingUpdates();
+		}
+		else
+		{
+			_updatesReceived = 0;
+			_updatesDelivered = 0;
+			_pendingUpdates = 0;
+		}
+	}
+
+	@Override
+	public long updatesReceived()
+	{
+		return _updatesReceived;
+	}
+
+	@Override
+	public long updatesDelivered()
+	{
+		return _updatesDelivered;
+	}
+
+	@Override
+	public int pendingUpdates()
+	{
+		return _pendingUpdates;
+	}
+
+	@Override
+	public String toString()
+	{
+		return new StringBuilder().append("updatesReceived: ").append(_updatesReceived)
+				.append(", updatesDelivered: ").append(_updatesDelivered)
+				.append(", pendingUpdates: ").append(_pendingUpdates).toString();
+	}
+}
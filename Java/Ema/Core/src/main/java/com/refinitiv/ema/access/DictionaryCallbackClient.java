@@ -1453,7 +1453,6 @@ class DictionaryItem<T> extends SingleItem<T> implements TimeoutClient
 			if(!_removed) 
 			{
 				_baseImpl.itemCallbackClient().removeFromMap(this);
-				this.itemIdObj().returnToPool();
 				this.returnToPool();
 				_removed = true;
 			}
@@ -421,6 +421,18 @@ public class EmaFactory
 		return new OmmConsumerImpl(config, adminClient, errorClient, OAuthClient, closure);
 	}
 	
+	/**
+	 * Creates a {@link com.refinitiv.ema.access.OmmConsumerPublisher} of the messages of an item.
+	 * 
+	 * @param consumer OmmConsumer opening the item
+	 * @param reqMsg ReqMsg specifying the item; copied by the publisher
+	 * @return {@link com.refinitiv.ema.access.OmmConsumerPublisher}
+	 */
+	public static OmmConsumerPublisher createOmmConsumerPublisher(OmmConsumer consumer, ReqMsg reqMsg)
+	{
+		return new OmmConsumerPublisherImpl(consumer, reqMsg);
+	}
+	
 	/**
 	 * Creates a {@link com.refinitiv.ema.access.OmmConsumerConfig}.
 	 * @return {@link com.refinitiv.ema.access.OmmConsumerConfig}
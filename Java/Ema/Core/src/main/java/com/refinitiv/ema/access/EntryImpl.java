@@ -19,6 +19,7 @@ abstract class EntryImpl extends VaNode
 	private OmmOutOfRangeExceptionImpl 	_ommOORExcept;
 	private StringBuilder _errorString;
 	protected DataImpl 	_load;
+	protected boolean	_loadPending;
 	protected StringBuilder	_toString = new StringBuilder();
 	protected int _previousEncodingType = com.refinitiv.eta.codec.DataTypes.UNKNOWN;
 	protected Object _entryData;
@@ -32,556 +33,566 @@ abstract class EntryImpl extends VaNode
 	
 	public DataImpl load()
 	{
+		if (_loadPending)
+			decodeLoad();
+
 		return _load;
 	}
 	
 	public int loadType()
 	{
-		return _load.dataType();
+		return load().dataType();
 	}
 
 	public int code()
 	{
-		return _load.code();
+		return load().code();
 	}
 	
 	public ReqMsg reqMsg()
 	{
-		if (_load.dataType() != DataTypes.REQ_MSG)
+		if (load().dataType() != DataTypes.REQ_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to reqMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (ReqMsg)_load;
+		return (ReqMsg)load();
 	}
 	
 	public RefreshMsg refreshMsg()
 	{
-		if (_load.dataType() != DataTypes.REFRESH_MSG)
+		if (load().dataType() != DataTypes.REFRESH_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to refreshMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (RefreshMsg)_load;
+		return (RefreshMsg)load();
 	}
 	
 	public UpdateMsg updateMsg()
 	{
-		if (_load.dataType() != DataTypes.UPDATE_MSG)
+		if (load().dataType() != DataTypes.UPDATE_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to UpdateMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (UpdateMsg)_load;
+		return (UpdateMsg)load();
 	}
 
 	public StatusMsg statusMsg()
 	{
-		if (_load.dataType() != DataTypes.STATUS_MSG)
+		if (load().dataType() != DataTypes.STATUS_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to statusMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (StatusMsg)_load;
+		return (StatusMsg)load();
 	}
 
 	public PostMsg postMsg()
 	{
-		if (_load.dataType() != DataTypes.POST_MSG)
+		if (load().dataType() != DataTypes.POST_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to postMsg() while actual entry data type is ")
-			 	 .append(DataType.asString(_load.dataType()));
+			 	 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (PostMsg)_load;
+		return (PostMsg)load();
 	}
 	
 	public AckMsg ackMsg()
 	{
-		if (_load.dataType() != DataTypes.ACK_MSG)
+		if (load().dataType() != DataTypes.ACK_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ackMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 	
-		return (AckMsg)_load;
+		return (AckMsg)load();
 	}
 	
 	public GenericMsg genericMsg()
 	{
-		if (_load.dataType() != DataTypes.GENERIC_MSG)
+		if (load().dataType() != DataTypes.GENERIC_MSG)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to genericMsg() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 	
-		return (GenericMsg)_load;
+		return (GenericMsg)load();
 	}
 
 	public FieldList fieldList()
 	{
-		if (_load.dataType() != DataTypes.FIELD_LIST)
+		if (load().dataType() != DataTypes.FIELD_LIST)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to fieldList() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (FieldList)_load;
+		return (FieldList)load();
 	}
 	
 	public ElementList elementList()
 	{
-		if (_load.dataType() != DataTypes.ELEMENT_LIST)
+		if (load().dataType() != DataTypes.ELEMENT_LIST)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to elementList() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (ElementList)_load;
+		return (ElementList)load();
 	}
 	
 	public OmmArray array()
 	{
-		if (_load.dataType() != DataTypes.ARRAY)
+		if (load().dataType() != DataTypes.ARRAY)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to array() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (OmmArray)_load;
+		return (OmmArray)load();
 	}
 
 	public Map map()
 	{
-		if (_load.dataType() != DataTypes.MAP)
+		if (load().dataType() != DataTypes.MAP)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to map() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (Map)_load;
+		return (Map)load();
 	}
 	
 	public Vector vector()
 	{
-		if (_load.dataType() != DataTypes.VECTOR)
+		if (load().dataType() != DataTypes.VECTOR)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to vector() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (Vector)_load;
+		return (Vector)load();
 	}
 	
 	public Series series()
 	{
-		if (_load.dataType() != DataTypes.SERIES)
+		if (load().dataType() != DataTypes.SERIES)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to series() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (Series)_load;
+		return (Series)load();
 	}
 	
 	public FilterList filterList()
 	{
-		if (_load.dataType() != DataTypes.FILTER_LIST)
+		if (load().dataType() != DataTypes.FILTER_LIST)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to filterList() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (FilterList)_load;
+		return (FilterList)load();
 	}
 	
 	public OmmOpaque opaque()
 	{
-		if (_load.dataType() != DataTypes.OPAQUE)
+		if (load().dataType() != DataTypes.OPAQUE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to opaque() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (OmmOpaque)_load;
+		return (OmmOpaque)load();
 	}
 	
 	public OmmXml xml()
 	{
-		if (_load.dataType() != DataTypes.XML)
+		if (load().dataType() != DataTypes.XML)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to xml() while actual entry data type is ")
-			 	 .append(DataType.asString(_load.dataType()));
+			 	 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (OmmXml)_load;
+		return (OmmXml)load();
 	}
 	
 	public OmmAnsiPage ansiPage()
 	{
-		if (_load.dataType() != DataTypes.ANSI_PAGE)
+		if (load().dataType() != DataTypes.ANSI_PAGE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ansiPage() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 		
-		return (OmmAnsiPage)_load;
+		return (OmmAnsiPage)load();
 	}
 	
 	public long intValue()
 	{
-		if (_load.dataType() != DataTypes.INT)
+		if (load().dataType() != DataTypes.INT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to intValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to intValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return ((OmmInt)_load).intValue();
+		return ((OmmInt)load()).intValue();
 	}
 	
 	public OmmInt ommIntValue()
 	{
-		if (_load.dataType() != DataTypes.INT)
+		if (load().dataType() != DataTypes.INT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ommIntValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ommIntValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmInt)_load;
+		return (OmmInt)load();
 	}
 	
 	public long uintValue()
 	{
-		if (_load.dataType() != DataTypes.UINT)
+		if (load().dataType() != DataTypes.UINT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to uintValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to uintValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return ((OmmUInt)_load).longValue();
+		return ((OmmUInt)load()).longValue();
 	}
 	
 	public OmmUInt ommUIntValue()
 	{
-		if (_load.dataType() != DataTypes.UINT)
+		if (load().dataType() != DataTypes.UINT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ommUIntValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ommUIntValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmUInt)_load;
+		return (OmmUInt)load();
 	}
 	
 	public OmmReal real()
 	{
-		if (_load.dataType() != DataTypes.REAL)
+		if (load().dataType() != DataTypes.REAL)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to real() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to real() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmReal)_load;
+		return (OmmReal)load();
 	}
 
 	public float floatValue()
 	{
-		if (_load.dataType() != DataTypes.FLOAT)
+		if (load().dataType() != DataTypes.FLOAT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to floatValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to floatValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return ((OmmFloat)_load).floatValue();
+		return ((OmmFloat)load()).floatValue();
 	}
 	
 	public OmmFloat ommFloatValue()
 	{
-		if (_load.dataType() != DataTypes.FLOAT)
+		if (load().dataType() != DataTypes.FLOAT)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ommFloatValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ommFloatValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmFloat)_load;
+		return (OmmFloat)load();
 	}
 	
 	public double doubleValue()
 	{
-		if (_load.dataType() != DataTypes.DOUBLE)
+		if (load().dataType() != DataTypes.DOUBLE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to doubleValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to doubleValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return ((OmmDouble)_load).doubleValue();
+		return ((OmmDouble)load()).doubleValue();
 	}
 
 	public OmmDouble ommDoubleValue()
 	{
-		if (_load.dataType() != DataTypes.DOUBLE)
+		if (load().dataType() != DataTypes.DOUBLE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ommDoubleValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ommDoubleValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmDouble)_load;
+		return (OmmDouble)load();
 	}
 
 	public OmmDate date()
 	{
-		if (_load.dataType() != DataTypes.DATE)
+		if (load().dataType() != DataTypes.DATE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to date() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to date() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmDate)_load;
+		return (OmmDate)load();
 	}
 	
 	public OmmTime time()
 	{
-		if (_load.dataType() != DataTypes.TIME)
+		if (load().dataType() != DataTypes.TIME)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to time() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to time() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmTime)_load;
+		return (OmmTime)load();
 	}
 	
 	public OmmDateTime dateTime()
 	{
-		if (_load.dataType() != DataTypes.DATETIME)
+		if (load().dataType() != DataTypes.DATETIME)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to dateTime() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to dateTime() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmDateTime)_load;
+		return (OmmDateTime)load();
 	}
 
 	public OmmQos qos()
 	{
-		if (_load.dataType() != DataTypes.QOS)
+		if (load().dataType() != DataTypes.QOS)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to qos() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to qos() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmQos)_load;
+		return (OmmQos)load();
 	}
 	
 	public OmmState state()
 	{
-		if (_load.dataType() != DataTypes.STATE)
+		if (load().dataType() != DataTypes.STATE)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to state() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to state() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmState)_load;
+		return (OmmState)load();
 	}
 
 	public int enumValue()
 	{
-		if (_load.dataType() != DataTypes.ENUM)
+		if (load().dataType() != DataTypes.ENUM)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to enumValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to enumValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return ((OmmEnum)_load).enumValue();
+		return ((OmmEnum)load()).enumValue();
 	}
 	
 	public OmmEnum ommEnumValue()
 	{
-		if (_load.dataType() != DataTypes.ENUM)
+		if (load().dataType() != DataTypes.ENUM)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ommEnumValue() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ommEnumValue() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmEnum)_load;
+		return (OmmEnum)load();
 	}
 	
 	public OmmBuffer buffer()
 	{
-		if (_load.dataType() != DataTypes.BUFFER)
+		if (load().dataType() != DataTypes.BUFFER)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to buffer() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to buffer() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmBuffer)_load;
+		return (OmmBuffer)load();
 	}
 	
 	public OmmAscii ascii()
 	{
-		if (_load.dataType() != DataTypes.ASCII)
+		if (load().dataType() != DataTypes.ASCII)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to ascii() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to ascii() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmAscii)_load;
+		return (OmmAscii)load();
 	}
 	
 	public OmmUtf8 utf8()
 	{
-		if (_load.dataType() != DataTypes.UTF8)
+		if (load().dataType() != DataTypes.UTF8)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to utf8() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to utf8() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmUtf8)_load;
+		return (OmmUtf8)load();
 	}
 	
 	public OmmRmtes rmtes()
 	{
-		if (_load.dataType() != DataTypes.RMTES)
+		if (load().dataType() != DataTypes.RMTES)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to rmtes() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if (DataCode.BLANK == _load.code())
+		else if (DataCode.BLANK == load().code())
 			throw ommIUExcept().message("Attempt to rmtes() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 
-		return (OmmRmtes)_load;
+		return (OmmRmtes)load();
 	}
 
 	public OmmError error()
 	{
-		if  (_load.dataType() != DataTypes.ERROR)
+		if  (load().dataType() != DataTypes.ERROR)
 		{
 			StringBuilder error = errorString();
 			error.append("Attempt to error() while actual entry data type is ")
-				 .append(DataType.asString(_load.dataType()));
+				 .append(DataType.asString(load().dataType()));
 			throw ommIUExcept().message(error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
 
-		return (OmmError)_load;
+		return (OmmError)load();
 	}
 	
 	void load(DataImpl load)
 	{
 		_load = load;
+		_loadPending = false;
+	}
+
+	// Overridden by entries whose load is decoded on first access.
+	void decodeLoad()
+	{
+		_loadPending = false;
 	}
 	
 	OmmInvalidUsageExceptionImpl ommIUExcept()
@@ -22,6 +22,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 	private FieldListImpl _fieldList;
 	private com.refinitiv.eta.codec.Enum		_rsslEnumValue;
 	protected com.refinitiv.eta.codec.FieldEntry	_rsslFieldEntry;
+	private FieldListIterImpl	_loadDecoder;
+	private int	_loadRetCode;
 	
 	FieldEntryImpl() 
 	{
@@ -103,15 +105,15 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		_toString.append("FieldEntry ")
 				.append(" fid=\"").append(fieldId()).append("\"")
 				.append(" name=\"").append(name()).append("\"")
-				.append(" dataType=\"").append(DataType.asString(_load.dataType()));
+				.append(" dataType=\"").append(DataType.asString(load().dataType()));
 
-		if (_load.dataType() >= DataType.DataTypes.FIELD_LIST || _load.dataType() == DataType.DataTypes.ARRAY)
+		if (load().dataType() >= DataType.DataTypes.FIELD_LIST || load().dataType() == DataType.DataTypes.ARRAY)
 		{
-			_toString.append("\"\n").append(_load.toString(1));
+			_toString.append("\"\n").append(load().toString(1));
 			Utilities.addIndent(_toString, 0).append("FieldEntryEnd\n");
 		}
 		else
-			_toString.append("\" value=\"").append(_load.toString()).append("\"\n");
+			_toString.append("\" value=\"").append(load().toString()).append("\"\n");
 	
 		return _toString.toString();
 	}
@@ -759,11 +761,11 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 	@Override
 	public boolean hasEnumDisplay()
 	{
-		if  ( ( _load.dataType() == DataTypes.ENUM ) && ( DataCode.BLANK != _load.code() ) )
+		if  ( ( load().dataType() == DataTypes.ENUM ) && ( DataCode.BLANK != load().code() ) )
 		{					
 			if ( _rsslDictionaryEntry != null )
 			{
-				_rsslEnumValue.value( ((OmmEnum)_load).enumValue() );
+				_rsslEnumValue.value( ((OmmEnum)load()).enumValue() );
 				
 				com.refinitiv.eta.codec.EnumType enumType = _fieldList._rsslDictionary.entryEnumType( _rsslDictionaryEntry,
 						_rsslEnumValue );
@@ -781,19 +783,19 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 	@Override
 	public String enumDisplay()
 	{
-		if ( _load.dataType() != DataTypes.ENUM )
+		if ( load().dataType() != DataTypes.ENUM )
 		{
 			StringBuilder error = errorString();
 			error.append( "Attempt to enumDisplay() while actual entry data type is ")
-				 .append( DataType.asString( _load.dataType() ) );
+				 .append( DataType.asString( load().dataType() ) );
 			throw ommIUExcept().message( error.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		}
-		else if ( DataCode.BLANK == _load.code() )
+		else if ( DataCode.BLANK == load().code() )
 			throw ommIUExcept().message( "Attempt to enumDisplay() while entry data is blank.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 		
 		if ( _rsslDictionaryEntry != null )
 		{
-			_rsslEnumValue.value( ((OmmEnum)_load).enumValue() );
+			_rsslEnumValue.value( ((OmmEnum)load()).enumValue() );
 			
 			com.refinitiv.eta.codec.EnumType enumType = _fieldList._rsslDictionary.entryEnumType( _rsslDictionaryEntry,
 					_rsslEnumValue );
@@ -847,9 +849,29 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 	FieldEntryImpl entryValue(FieldListImpl fieldList, com.refinitiv.eta.codec.DictionaryEntry rsslDictionaryEntry, DataImpl load)
 	{
 		_load = load;
+		_loadPending = false;
 		_fieldList = fieldList;
 		_rsslDictionaryEntry = rsslDictionaryEntry;
 		
 		return this;
 	}
+
+	// The load is decoded by loadDecoder on first access, see FieldListIterImpl.
+	FieldEntryImpl entryValue(FieldListImpl fieldList, com.refinitiv.eta.codec.DictionaryEntry rsslDictionaryEntry, FieldListIterImpl loadDecoder, int retCode)
+	{
+		_loadPending = true;
+		_loadDecoder = loadDecoder;
+		_loadRetCode = retCode;
+		_fieldList = fieldList;
+		_rsslDictionaryEntry = rsslDictionaryEntry;
+
+		return this;
+	}
+
+	@Override
+	void decodeLoad()
+	{
+		_loadPending = false;
+		_load = _loadDecoder.decodeLoad(_rsslDictionaryEntry, _loadRetCode);
+	}
 }
@@ -0,0 +1,158 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.UpdateMsg;
+
+/* Merges FieldList payloads of updates field by field, so the latest value of each
+ * field is kept. The values are kept encoded in the order the fields first appeared
+ * and are encoded again as one FieldList. */
+class FieldListAccumulator
+{
+	private final DecodeIterator _decodeIter = CodecFactory.createDecodeIterator();
+	private final FieldList _fieldList = CodecFactory.createFieldList();
+	private final FieldEntry _fieldEntry = CodecFactory.createFieldEntry();
+	private final Buffer _value = CodecFactory.createBuffer();
+
+	private boolean _hasInfo;
+	private int _dictionaryId;
+	private int _fieldListNum;
+
+	private int _fieldCount;
+	private int[] _fieldIds = new int[32];
+	private ByteBuffer[] _values = new ByteBuffer[32];
+	private int[] _valueLengths = new int[32];
+
+	/* Returns true for updates whose payload may be merged with the ones of other updates. */
+	static boolean isConflatable(Msg rsslMsg)
+	{
+		return rsslMsg.msgClass() == MsgClasses.UPDATE && rsslMsg.containerType() == DataTypes.FIELD_LIST
+				&& !((UpdateMsg)rsslMsg).checkDoNotConflate();
+	}
+
+	/* Returns false if the field list cannot be decoded or has set data, in which case
+	 * nothing is merged. The list is decoded once to check every entry before any
+	 * value is merged. */
+	boolean add(Buffer encodedFieldList, int majorVersion, int minorVersion)
+	{
+		int ret = decodeInit(encodedFieldList, majorVersion, minorVersion);
+		if (ret == CodecReturnCodes.NO_DATA)
+			return true;
+		else if (ret < CodecReturnCodes.SUCCESS)
+			return false;
+
+		while ((ret = _fieldEntry.decode(_decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			if (ret < CodecReturnCodes.SUCCESS)
+				return false;
+		}
+
+		decodeInit(encodedFieldList, majorVersion, minorVersion);
+		if (_fieldList.checkHasInfo())
+		{
+			_hasInfo = true;
+			_dictionaryId = _fieldList.dictionaryId();
+			_fieldListNum = _fieldList.fieldListNum();
+		}
+
+		while (_fieldEntry.decode(_decodeIter) != CodecReturnCodes.END_OF_CONTAINER)
+			put(_fieldEntry.fieldId(), _fieldEntry.encodedData());
+
+		return true;
+	}
+
+	int encode(EncodeIterator encodeIter)
+	{
+		_fieldList.clear();
+		if (_hasInfo)
+		{
+			_fieldList.applyHasInfo();
+			_fieldList.dictionaryId(_dictionaryId);
+			_fieldList.fieldListNum(_fieldListNum);
+		}
+		_fieldList.applyHasStandardData();
+
+		int ret = _fieldList.encodeInit(encodeIter, null, 0);
+		if (ret < CodecReturnCodes.SUCCESS)
+			return ret;
+
+		for (int index = 0; index < _fieldCount; ++index)
+		{
+			_fieldEntry.clear();
+			_fieldEntry.fieldId(_fieldIds[index]);
+			if (_valueLengths[index] == 0)
+				_value.clear();
+			else
+				_value.data(_values[index], 0, _valueLengths[index]);
+			_fieldEntry.encodedData(_value);
+			if ((ret = _fieldEntry.encode(encodeIter)) < CodecReturnCodes.SUCCESS)
+				return ret;
+		}
+
+		return _fieldList.encodeComplete(encodeIter, true);
+	}
+
+	void clear()
+	{
+		_hasInfo = false;
+		_fieldCount = 0;
+	}
+
+	private int decodeInit(Buffer encodedFieldList, int majorVersion, int minorVersion)
+	{
+		_decodeIter.clear();
+		_decodeIter.setBufferAndRWFVersion(encodedFieldList, majorVersion, minorVersion);
+		_fieldList.clear();
+		_fieldEntry.clear();
+		int ret = _fieldList.decode(_decodeIter, null);
+		if (ret >= CodecReturnCodes.SUCCESS && _fieldList.checkHasSetData())
+			return CodecReturnCodes.FAILURE;
+		return ret;
+	}
+
+	private void put(int fieldId, Buffer value)
+	{
+		int index = 0;
+		while (index < _fieldCount && _fieldIds[index] != fieldId)
+			++index;
+
+		if (index == _fieldCount)
+		{
+			if (_fieldCount == _fieldIds.length)
+			{
+				int capacity = _fieldCount * 2;
+				_fieldIds = Arrays.copyOf(_fieldIds, capacity);
+				_values = Arrays.copyOf(_values, capacity);
+				_valueLengths = Arrays.copyOf(_valueLengths, capacity);
+			}
+			_fieldIds[_fieldCount++] = fieldId;
+		}
+
+		int length = value.length();
+		if (_values[index] == null || _values[index].capacity() < length)
+			_values[index] = ByteBuffer.allocate(Math.max(length, 16));
+		_values[index].clear();
+		if (length > 0)
+			value.copy(_values[index]);
+		_valueLengths[index] = length;
+	}
+}
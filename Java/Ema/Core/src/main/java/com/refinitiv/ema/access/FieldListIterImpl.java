@@ -11,37 +11,34 @@ import java.util.Iterator;
 
 import com.refinitiv.ema.access.DataType.DataTypes;
 import com.refinitiv.ema.access.OmmError.ErrorCode;
+import com.refinitiv.eta.codec.CodecFactory;
 
+// Iterates the entries of a FieldList by reference without filling its collection.
+// Only the entry header is decoded while iterating; the value of an entry is decoded
+// on first access into a flyweight owned by this iterator, one per data type, so that
+// fields the application does not look at cost neither decoding nor pool traffic.
 class FieldListIterImpl implements Iterator<FieldEntry>
 {
-	public com.refinitiv.eta.codec.FieldList			_rsslFieldList;		// Pulled from EmaObjectManager
-	protected com.refinitiv.eta.codec.DecodeIterator 	_rsslDecodeIter;	// Pulled from EmaObjectManager
-	FieldEntryImpl 										_fieldEntry = null;	// Pulled from EmaObjectManager
+	com.refinitiv.eta.codec.FieldList					_rsslFieldList = CodecFactory.createFieldList();
+	com.refinitiv.eta.codec.DecodeIterator 				_rsslDecodeIter = CodecFactory.createDecodeIterator();
+	private com.refinitiv.eta.codec.DecodeIterator		_rsslLoadDecodeIter = CodecFactory.createDecodeIterator();
+	private DataImpl[]									_loads = new DataImpl[DataTypes.ERROR + 1];
+	FieldEntryImpl 										_fieldEntry;
 	FieldListImpl _fieldListImpl;			// Uses the FieldListImpl of the parent that created this object
+	private boolean										_started;
 
 	public FieldListIterImpl(FieldListImpl fieldListImpl)
 	{
 		this._fieldListImpl = fieldListImpl;
+		_fieldEntry = new FieldEntryImpl(CodecFactory.createFieldEntry(), load(DataTypes.NO_DATA));
 	}
 	
 	// Resets the iterImpl
 	public void clear()
 	{
-		if (_fieldEntry != null)
-		{
-			_fieldEntry.returnToPool();
-			_fieldEntry = null;
-		}
-		if (_rsslFieldList != null)
-		{
-			_fieldListImpl._objManager._rsslFieldListPool.add(_rsslFieldList);
-			_rsslFieldList = null;
-		}
-		if (_rsslDecodeIter != null)
-		{
-			_fieldListImpl._objManager._etaDecodeIteratorPool.add(_rsslDecodeIter);
-			_rsslFieldList = null;
-		}
+		_started = false;
+		_fieldEntry._rsslFieldEntry.clear();
+		_fieldEntry.entryValue(_fieldListImpl, null, load(DataTypes.NO_DATA));
 	}
 	
 	@Override
@@ -52,69 +49,71 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 	
 	public boolean decodeNext()
 	{
-		DataImpl load;
-		com.refinitiv.eta.codec.DictionaryEntry rsslDictionaryEntry = null;
-		
-		int retCode;
-
 		// First entry to decode
-		if (_fieldEntry == null)
+		if (!_started)
 		{
-			_fieldEntry = fieldEntryInstance();
-			_rsslFieldList = rsslFieldListInstance();
-			_rsslDecodeIter = decodeIteratorInstance();
-			
-			retCode = _rsslDecodeIter.setBufferAndRWFVersion(_fieldListImpl._rsslBuffer, _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer);
-			
-			retCode = _rsslFieldList.decode(_rsslDecodeIter, _fieldListImpl._rsslLocalFLSetDefDb);
+			_started = true;
+			_rsslDecodeIter.clear();
+			_rsslFieldList.clear();
+			_rsslDecodeIter.setBufferAndRWFVersion(_fieldListImpl._rsslBuffer, _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer);
+			_rsslFieldList.decode(_rsslDecodeIter, _fieldListImpl._rsslLocalFLSetDefDb);
 		}
 		
-		if ((retCode  = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter)) != com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
+		int retCode = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter);
+		if (retCode == com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
+			return false;
+
+		com.refinitiv.eta.codec.DictionaryEntry rsslDictionaryEntry = null;
+		if (retCode == com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS)
+			rsslDictionaryEntry = _fieldListImpl._rsslDictionary.entry(_fieldEntry._rsslFieldEntry.fieldId());
+
+		_fieldEntry.entryValue(_fieldListImpl, rsslDictionaryEntry, this, retCode);
+		return true;
+	}
+
+	// Decodes the value of the current entry, called by FieldEntryImpl on first access.
+	DataImpl decodeLoad(com.refinitiv.eta.codec.DictionaryEntry rsslDictionaryEntry, int entryRetCode)
+	{
+		com.refinitiv.eta.codec.Buffer encodedData = _fieldEntry._rsslFieldEntry.encodedData();
+		DataImpl load;
+
+		switch (entryRetCode)
 		{
-			switch(retCode)
+		case com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS :
+			if (rsslDictionaryEntry == null)
 			{
-			case com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS :
-				rsslDictionaryEntry = _fieldListImpl._rsslDictionary.entry(_fieldEntry._rsslFieldEntry.fieldId());
-				if (rsslDictionaryEntry == null)
-				{
-					load = _fieldListImpl.dataInstance(_fieldEntry._load, DataTypes.ERROR);
-					load.decode(_fieldEntry._rsslFieldEntry.encodedData(),ErrorCode.FIELD_ID_NOT_FOUND);
-				}
-				else			
-				{			
-					int dType = _fieldListImpl.dataType(rsslDictionaryEntry.rwfType(), _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer, _fieldEntry._rsslFieldEntry.encodedData());
-					load = _fieldListImpl.dataInstance(_fieldEntry._load, dType);
-					if ( dType < DataType.DataTypes.FIELD_LIST || dType == DataType.DataTypes.ANSI_PAGE ) {
-						int decodeRetVal = load.decode(_fieldEntry._rsslFieldEntry.encodedData(), _rsslDecodeIter);
-						if(decodeRetVal == com.refinitiv.eta.codec.CodecReturnCodes.INVALID_ARGUMENT ||
-								decodeRetVal ==	com.refinitiv.eta.codec.CodecReturnCodes.INCOMPLETE_DATA){
-							load = _fieldListImpl.dataInstance(load, DataTypes.ERROR);
-							load.decode(_fieldEntry._rsslFieldEntry.encodedData(),ErrorCode.INCOMPLETE_DATA);
-						}
-					} else
-						load.decode(_fieldEntry._rsslFieldEntry.encodedData(), _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer, _fieldListImpl._rsslDictionary, _fieldListImpl._rsslLocalFLSetDefDb);
-				}
-				break;
-			case com.refinitiv.eta.codec.CodecReturnCodes.INCOMPLETE_DATA :
-				load = _fieldListImpl.dataInstance(_fieldEntry._load, DataTypes.ERROR);
-				load.decode(_fieldEntry._rsslFieldEntry.encodedData(),ErrorCode.INCOMPLETE_DATA);
-				break;
-			case com.refinitiv.eta.codec.CodecReturnCodes.UNSUPPORTED_DATA_TYPE :
-				load = _fieldListImpl.dataInstance(_fieldEntry._load, DataTypes.ERROR);
-				load.decode(_fieldEntry._rsslFieldEntry.encodedData(),ErrorCode.UNSUPPORTED_DATA_TYPE);
-				break;
-			default :
-				load = _fieldListImpl.dataInstance(_fieldEntry._load, DataTypes.ERROR);
-				load.decode(_fieldEntry._rsslFieldEntry.encodedData(),ErrorCode.UNKNOWN_ERROR);
-				break;
+				load = load(DataTypes.ERROR);
+				load.decode(encodedData, ErrorCode.FIELD_ID_NOT_FOUND);
+				return load;
 			}
 
-			_fieldEntry.entryValue(_fieldListImpl, rsslDictionaryEntry, load);
-			return true;
-		}
-		else
-		{
-			return false;
+			int dType = _fieldListImpl.dataType(rsslDictionaryEntry.rwfType(), _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer, encodedData);
+			load = load(dType);
+			if ( dType < DataType.DataTypes.FIELD_LIST || dType == DataType.DataTypes.ANSI_PAGE ) {
+				_rsslLoadDecodeIter.clear();
+				int decodeRetVal = _rsslLoadDecodeIter.setBufferAndRWFVersion(encodedData, _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer);
+				if (decodeRetVal == com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS)
+					decodeRetVal = load.decode(encodedData, _rsslLoadDecodeIter);
+				if(decodeRetVal == com.refinitiv.eta.codec.CodecReturnCodes.INVALID_ARGUMENT ||
+						decodeRetVal ==	com.refinitiv.eta.codec.CodecReturnCodes.INCOMPLETE_DATA){
+					load = load(DataTypes.ERROR);
+					load.decode(encodedData, ErrorCode.INCOMPLETE_DATA);
+				}
+			} else
+				load.decode(encodedData, _fieldListImpl._rsslMajVer, _fieldListImpl._rsslMinVer, _fieldListImpl._rsslDictionary, _fieldListImpl._rsslLocalFLSetDefDb);
+			return load;
+		case com.refinitiv.eta.codec.CodecReturnCodes.INCOMPLETE_DATA :
+			load = load(DataTypes.ERROR);
+			load.decode(encodedData, ErrorCode.INCOMPLETE_DATA);
+			return load;
+		case com.refinitiv.eta.codec.CodecReturnCodes.UNSUPPORTED_DATA_TYPE :
+			load = load(DataTypes.ERROR);
+			load.decode(encodedData, ErrorCode.UNSUPPORTED_DATA_TYPE);
+			return load;
+		default :
+			load = load(DataTypes.ERROR);
+			load.decode(encodedData, ErrorCode.UNKNOWN_ERROR);
+			return load;
 		}
 	}
 
@@ -124,52 +123,17 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 		return _fieldEntry;
 	}
 
-	private FieldEntryImpl fieldEntryInstance()
+	// Flyweights are pulled from EmaObjectManager once and then kept by this iterator.
+	private DataImpl load(int dType)
 	{
-		FieldEntryImpl retData = (FieldEntryImpl)_fieldListImpl._objManager._fieldEntryPool.poll();
-        if(retData == null)
-        {
-        	retData = new FieldEntryImpl(com.refinitiv.eta.codec.CodecFactory.createFieldEntry(), _fieldListImpl.noDataInstance());
-        	_fieldListImpl._objManager._fieldEntryPool.updatePool(retData);
-        }
-        else
-        	retData._rsslFieldEntry.clear();
-        
-        return retData;
-	}
-	
-	private com.refinitiv.eta.codec.FieldList rsslFieldListInstance()
-	{
-		com.refinitiv.eta.codec.FieldList retData = null;
-		if (_fieldListImpl._objManager._rsslFieldListPool.size() > 0)
-		{
-			retData = _fieldListImpl._objManager._rsslFieldListPool.remove(_fieldListImpl._objManager._rsslFieldListPool.size()-1);
-		}
-        if (retData == null)
-        {
-        	retData = com.refinitiv.eta.codec.CodecFactory.createFieldList();
-        }
-        else
-        	retData.clear();
-        
-        return retData;
-	}
-	
-	private com.refinitiv.eta.codec.DecodeIterator decodeIteratorInstance()
-	{
-		com.refinitiv.eta.codec.DecodeIterator retData = null;
-		if (_fieldListImpl._objManager._etaDecodeIteratorPool.size() > 0)
+		DataImpl load = _loads[dType];
+		if (load == null)
 		{
-			retData = _fieldListImpl._objManager._etaDecodeIteratorPool.remove(_fieldListImpl._objManager._etaDecodeIteratorPool.size()-1);
+			load = _fieldListImpl.fromPool(dType);
+			_loads[dType] = load;
 		}
-        if (retData == null)
-        {
-        	retData = com.refinitiv.eta.codec.CodecFactory.createDecodeIterator();
-        }
-        else
-        	retData.clear();
-        
-        return retData;
+		
+		return load;
 	}
 	
 	@Override
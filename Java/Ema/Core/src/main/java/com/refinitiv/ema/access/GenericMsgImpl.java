@@ -440,6 +440,9 @@ class GenericMsgImpl extends MsgImpl implements GenericMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
@@ -8,11 +8,8 @@
 package com.refinitiv.ema.access;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.ema.access.DirectoryServiceStore.ServiceIdInteger;
@@ -1031,10 +1028,8 @@ TunnelStreamStatusEventCallback
 	private static final int  PROVIDER_STARTING_STREAM_ID = 0;
 	private static final int CONSUMER_MAX_STREAM_ID_MINUSONE = Integer.MAX_VALUE -1;
 	
-	private Map<LongObject, Item<T>>	_itemMap;
-	private Map<IntObject, Item<T>> _streamIdMap;
-	private LongObject _longObjHolder;
-	private IntObject _intObjHolder;
+	private LongObjectHashTable<Item<T>>	_itemMap;
+	private LongObjectHashTable<Item<T>> _streamIdMap;
 	protected LoginMsg _rsslRDMLoginMsg;
 	private int	_nextStreamId;
 	boolean	_nextStreamIdWrapAround;
@@ -1044,22 +1039,20 @@ TunnelStreamStatusEventCallback
 	{
 		super(baseImpl, CLIENT_NAME);
 
+		int itemCountHint = baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint;
 		if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 		{
-			_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new ConcurrentLongObjectHashTable<>(itemCountHint);
+			_streamIdMap = new ConcurrentLongObjectHashTable<>(itemCountHint);
 		}
 		else
 		{
-			_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new LongObjectHashTable<>(itemCountHint);
+			_streamIdMap = new LongObjectHashTable<>(itemCountHint);
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		if ( baseImpl.implType() == OmmCommonImpl.ImplementationType.CONSUMER )
 		{
 			_nextStreamId = CONSUMER_STARTING_STREAM_ID;
@@ -1076,22 +1069,20 @@ TunnelStreamStatusEventCallback
 	{
 		super(baseImpl, CLIENT_NAME);
 
+		int itemCountHint = baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint;
 		if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 		{
-			_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new ConcurrentLongObjectHashTable<>(itemCountHint);
+			_streamIdMap = new ConcurrentLongObjectHashTable<>(itemCountHint);
 		}
 		else
 		{
-			_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new LongObjectHashTable<>(itemCountHint);
+			_streamIdMap = new LongObjectHashTable<>(itemCountHint);
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		_nextStreamId = PROVIDER_STARTING_STREAM_ID;
 		_nextStreamIdWrapAround = false;
 	}
@@ -1522,7 +1513,7 @@ TunnelStreamStatusEventCallback
         {
         	if ( _baseImpl.implType() != OmmCommonImpl.ImplementationType.CONSUMER )
         	{
-        		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+        		_eventImpl._item = _streamIdMap.get(msg.streamId());
         		
         		if ( _eventImpl._item == null )
         		{
@@ -1678,7 +1669,7 @@ TunnelStreamStatusEventCallback
 		Msg msg = event.msg();
 		ClientSession clientSession = (ClientSession)event.reactorChannel().userSpecObj();
         
-		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+		_eventImpl._item = _streamIdMap.get(msg.streamId());
 		_eventImpl._clientHandle = clientSession.clientHandle();
 		_eventImpl._ommProvider = ((OmmServerBaseImpl)_baseImpl).provider();
 		
@@ -2220,7 +2211,7 @@ TunnelStreamStatusEventCallback
 		}
 		else 
 		{
-			Item<T> parent = _itemMap.get(_longObjHolder.value(parentHandle));
+			Item<T> parent = _itemMap.get(parentHandle);
 			if (parent == null)
 			{
 				StringBuilder temp = _baseImpl.strBuilder();
@@ -2301,7 +2292,7 @@ TunnelStreamStatusEventCallback
 	
 	void reissue(com.refinitiv.ema.access.ReqMsg reqMsg, long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item == null || item._closedStatusClient != null)
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2322,14 +2313,14 @@ TunnelStreamStatusEventCallback
 
 	void unregister(long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item != null)
 			item.close();
 	}
 	
 	void submit(com.refinitiv.ema.access.RefreshMsg refreshMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2350,7 +2341,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.UpdateMsg updateMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2371,7 +2362,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.StatusMsg statusMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2392,7 +2383,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.PostMsg postMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2413,7 +2404,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.GenericMsg genericMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2434,16 +2425,14 @@ TunnelStreamStatusEventCallback
 
 	long addToMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		IntObject streamIdObj = _baseImpl.objManager().createIntObject().value(item._streamId);
-		item.itemId(itemIdObj, streamIdObj);
-		_itemMap.put(itemIdObj, item);
-		_streamIdMap.put(streamIdObj, item);
+		item.itemId(itemId, item._streamId);
+		_itemMap.put(itemId, item);
+		_streamIdMap.put(item._streamId, item);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(streamIdObj.value()).append(" to item map" ).append( OmmLoggerClient.CR )
+			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(item._streamId).append(" to item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
@@ -2454,9 +2443,8 @@ TunnelStreamStatusEventCallback
 	
 	long addToItemMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		item.itemId(itemIdObj, null);
-		_itemMap.put(itemIdObj, item);
+		item.itemId(itemId);
+		_itemMap.put(itemId, item);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
@@ -2472,7 +2460,7 @@ TunnelStreamStatusEventCallback
 	
 	Item<T> getItem(long handle)
 	{
-		return _itemMap.get(_longObjHolder.value(handle));
+		return _itemMap.get(handle);
 	}
 	
 	void removeFromMap(Item<T> item)
@@ -2480,8 +2468,8 @@ TunnelStreamStatusEventCallback
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			if (item.streamIdObj() != null)
-				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item.streamIdObj().value()).append(" from item map" ).append( OmmLoggerClient.CR )
+			if (item._streamIdMapped)
+				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item._mappedStreamId).append(" from item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			else
 				temp.append("Removed Item ").append(item._itemId).append(" from item map" ).append( OmmLoggerClient.CR )
@@ -2490,14 +2478,14 @@ TunnelStreamStatusEventCallback
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
 		}
 
-		if(item.itemIdObj() != null)
+		if(item._itemIdMapped)
 		{
-			_itemMap.remove(item.itemIdObj());
+			_itemMap.remove(item._itemId);
 		}
 
-		if(item.streamIdObj() != null)
+		if(item._streamIdMapped)
 		{
-			_streamIdMap.remove(item.streamIdObj());
+			_streamIdMap.remove(item._mappedStreamId);
 		}
 
 		item.backToPool();
@@ -2505,7 +2493,7 @@ TunnelStreamStatusEventCallback
 
 	boolean isStreamIdInUse(int nextStreamId)
 	{
-		return (_streamIdMap.containsKey(_intObjHolder.value(nextStreamId)));
+		return (_streamIdMap.containsKey(nextStreamId));
 	}
 	
 	int nextStreamId(int numOfItem)
@@ -2572,10 +2560,113 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 {
 	private static final String CLIENT_NAME = "ItemCallbackClientConsumer";
 	
+	private ItemCallbackDispatcher _callbackDispatcher;
+	private boolean _dispatchOnAllMsg;
+	private ItemUpdateConflator _conflator;
+	
 	ItemCallbackClientConsumer(OmmBaseImpl<OmmConsumerClient> baseImpl) {
 		super(baseImpl);
 	}
 	
+	void callbackDispatcher(ItemCallbackDispatcher callbackDispatcher)
+	{
+		_callbackDispatcher = callbackDispatcher;
+	}
+	
+	void conflator(ItemUpdateConflator conflator)
+	{
+		_conflator = conflator;
+	}
+	
+	@Override
+	int processUpdateMsg(Msg rsslMsg, ReactorChannel reactorChannel, DataDictionary dataDictionary)
+	{
+		Item<OmmConsumerClient> item = conflatedItem(rsslMsg.streamId());
+		if (item != null && _conflator.conflate(item, rsslMsg, reactorChannel, dataDictionary))
+			return ReactorCallbackReturnCodes.SUCCESS;
+
+		return super.processUpdateMsg(rsslMsg, reactorChannel, dataDictionary);
+	}
+	
+	/* Other messages of an item are delivered after its pending conflated update. */
+	@Override
+	int processRefreshMsg(Msg rsslMsg, ReactorChannel reactorChannel, DataDictionary dataDictionary)
+	{
+		flushConflatedUpdate(rsslMsg.streamId());
+		return super.processRefreshMsg(rsslMsg, reactorChannel, dataDictionary);
+	}
+	
+	@Override
+	int processStatusMsg(Msg rsslMsg, ReactorChannel reactorChannel, DataDictionary dataDictionary)
+	{
+		flushConflatedUpdate(rsslMsg.streamId());
+		return super.processStatusMsg(rsslMsg, reactorChannel, dataDictionary);
+	}
+	
+	@Override
+	int processGenericMsg(Msg rsslMsg, ChannelInfo channelInfo)
+	{
+		flushConflatedUpdate(rsslMsg.streamId());
+		return super.processGenericMsg(rsslMsg, channelInfo);
+	}
+	
+	@Override
+	void removeFromMap(Item<OmmConsumerClient> item)
+	{
+		if (_conflator != null)
+			_conflator.discard(item.itemId());
+		super.removeFromMap(item);
+	}
+	
+	/* Delivers an update merged by the conflator as if it had just been received. */
+	void deliverConflatedUpdate(Item<OmmConsumerClient> item, Msg rsslMsg, ReactorChannel reactorChannel, DataDictionary dataDictionary)
+	{
+		Item<OmmConsumerClient> eventItem = _eventImpl._item;
+		ReactorChannel eventChannel = _eventImpl._channel;
+
+		_eventImpl._item = item;
+		_eventImpl._channel = reactorChannel;
+		try
+		{
+			super.processUpdateMsg(rsslMsg, reactorChannel, dataDictionary);
+		}
+		finally
+		{
+			_eventImpl._item = eventItem;
+			_eventImpl._channel = eventChannel;
+		}
+	}
+	
+	private void flushConflatedUpdate(int streamId)
+	{
+		Item<OmmConsumerClient> item = conflatedItem(streamId);
+		if (item != null)
+			_conflator.flush(item.itemId());
+	}
+	
+	/* The single item the event is for when its updates may be conflated, otherwise null. */
+	private Item<OmmConsumerClient> conflatedItem(int streamId)
+	{
+		if (_conflator == null || _eventImpl._item == null)
+			return null;
+
+		Item<OmmConsumerClient> item = _eventImpl._item;
+		if (item.type() == Item.ItemType.BATCH_ITEM)
+			item = ((BatchItem<OmmConsumerClient>)item).singleItem(streamId);
+
+		return item != null && item.type() == Item.ItemType.SINGLE_ITEM ? item : null;
+	}
+	
+	/* Hands the callback to the callback threads when they are configured. onAllMsg()
+	 * is delivered together with the message specific callback from the same copy. */
+	private void dispatchToCallbackThread(int callbackType, com.refinitiv.ema.access.Msg msg)
+	{
+		Item<OmmConsumerClient> item = _eventImpl._item;
+		_callbackDispatcher.dispatch(callbackType, item.client(), item.itemId(), item.closure(),
+				item.parent() != null ? item.parent().itemId() : 0, msg, _dispatchOnAllMsg, _eventImpl._channel);
+		_dispatchOnAllMsg = false;
+	}
+	
 	@Override
 	void notifyOnAllMsg(com.refinitiv.ema.access.Msg msg)
 	{
@@ -2587,6 +2678,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			_dispatchOnAllMsg = true;
+			return;
+		}
 		_eventImpl._item.client().onAllMsg(msg, _eventImpl);
 	}
 	
@@ -2601,6 +2697,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			dispatchToCallbackThread(ItemCallbackDispatcher.ON_REFRESH_MSG, EmaFactory.createRefreshMsg(_refreshMsg));
+			return;
+		}
 		_eventImpl._item.client().onRefreshMsg(_refreshMsg, _eventImpl);
 	}
 	
@@ -2615,6 +2716,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			dispatchToCallbackThread(ItemCallbackDispatcher.ON_UPDATE_MSG, EmaFactory.createUpdateMsg(_updateMsg));
+			return;
+		}
 		_eventImpl._item.client().onUpdateMsg(_updateMsg, _eventImpl);
 	}
 	
@@ -2629,6 +2735,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			dispatchToCallbackThread(ItemCallbackDispatcher.ON_STATUS_MSG, EmaFactory.createStatusMsg(_statusMsg));
+			return;
+		}
 		_eventImpl._item.client().onStatusMsg(_statusMsg, _eventImpl);
 	}
 	
@@ -2643,6 +2754,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			dispatchToCallbackThread(ItemCallbackDispatcher.ON_GENERIC_MSG, EmaFactory.createGenericMsg(_genericMsg));
+			return;
+		}
 		_eventImpl._item.client().onGenericMsg(_genericMsg, _eventImpl);
 	} 
 	
@@ -2657,6 +2773,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackDispatcher != null)
+		{
+			dispatchToCallbackThread(ItemCallbackDispatcher.ON_ACK_MSG, EmaFactory.createAckMsg(_ackMsg));
+			return;
+		}
 		_eventImpl._item.client().onAckMsg(_ackMsg, _eventImpl);
 	}
 }
@@ -2722,8 +2843,9 @@ abstract class Item<T> extends VaNode
 	Item<T>					_parent;
 	T						_client;
 	long 					_itemId;
-	LongObject _itemIdObj;
-	IntObject _streamIdObj;
+	boolean					_itemIdMapped;
+	boolean					_streamIdMapped;
+	int						_mappedStreamId;
 	ClosedStatusClient<T>	_closedStatusClient;
 
 	Item() {}
@@ -2752,17 +2874,25 @@ abstract class Item<T> extends VaNode
 		return _parent;
 	}
 	
-	void itemId(LongObject itemIdObj, IntObject streamIdObj)
+	void itemId(long itemId)
+	{
+		_itemId = itemId;
+		_itemIdMapped = true;
+		_streamIdMapped = false;
+	}
+	
+	void itemId(long itemId, int streamId)
 	{
-		_itemId = itemIdObj.value();
-		_itemIdObj = itemIdObj;
-		_streamIdObj = streamIdObj;
+		_itemId = itemId;
+		_itemIdMapped = true;
+		_streamIdMapped = true;
+		_mappedStreamId = streamId;
 	}
 	
 	void backToPool()
 	{
-		if (_itemIdObj != null) _itemIdObj.returnToPool();
-		if (_streamIdObj != null) _streamIdObj.returnToPool();
+		_itemIdMapped = false;
+		_streamIdMapped = false;
 	
 		_closure = null;
 		_parent = null;
@@ -2777,16 +2907,6 @@ abstract class Item<T> extends VaNode
 		return _itemId;
 	}
 	
-	LongObject itemIdObj()
-	{
-		return _itemIdObj;
-	}
-	
-	IntObject streamIdObj()
-	{
-		return _streamIdObj;
-	}
-	
 	void reset(T client, Object closure, Item<T> parent)
 	{
 		_domainType = 0;
@@ -2839,6 +2959,9 @@ class SingleItem<T> extends Item<T>
 	protected Directory	_directory;
 	protected String _serviceName;
 	protected OmmBaseImpl<T>			_baseImpl;
+	/* conflation window of the ReqMsg, -1 if it was not specified */
+	int _conflationTime = -1;
+	int _conflationCount = -1;
 
 	SingleItem() {}
 	
@@ -2854,6 +2977,8 @@ class SingleItem<T> extends Item<T>
 		_baseImpl = baseImpl;
 		
 		_directory = null;
+		_conflationTime = -1;
+		_conflationCount = -1;
 	}
 	
 	@Override
@@ -2933,12 +3058,21 @@ class SingleItem<T> extends Item<T>
 		
 		_serviceName = reqMsg.hasServiceName() ? reqMsg.serviceName() : null;
 
+		_conflationTime = ((ReqMsgImpl)reqMsg).conflationTime();
+		_conflationCount = ((ReqMsgImpl)reqMsg).conflationCount();
+
 		return rsslSubmit(((ReqMsgImpl)reqMsg).rsslMsg());
 	}
 	
 	@Override
 	boolean modify(com.refinitiv.ema.access.ReqMsg reqMsg)
 	{
+		if (((ReqMsgImpl)reqMsg).conflationTime() >= 0)
+		{
+			_conflationTime = ((ReqMsgImpl)reqMsg).conflationTime();
+			_conflationCount = ((ReqMsgImpl)reqMsg).conflationCount();
+		}
+
 		return rsslSubmit(((ReqMsgImpl) reqMsg).rsslMsg());
 	}
 
@@ -0,0 +1,370 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.refinitiv.ema.access.OmmLoggerClient.Severity;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+
+/* Delivers OmmConsumerClient item callbacks on a pool of callback threads instead of
+ * the EMA API thread. Items are partitioned across the threads by handle, so the
+ * callbacks of one item are always delivered in order by the same thread.
+ *
+ * Messages are copied before they are handed off since the EMA API thread reuses its
+ * message objects; the callbacks carrying them are pooled by each thread. Each thread
+ * has its own queue; once a queue holds queueSize callbacks the EMA API thread stops
+ * reading from the network (see awaitCapacity()) until the queue drains to half of its
+ * size. Callbacks are never dropped while the dispatcher is running. */
+class ItemCallbackDispatcher
+{
+	private static final String CLIENT_NAME = "ItemCallbackDispatcher";
+	private static final long SHUTDOWN_TIMEOUT_IN_MILLISEC = 5000;
+	private static final long AWAIT_CAPACITY_INTERVAL_IN_MILLISEC = 10;
+
+	static final int ON_REFRESH_MSG = 1;
+	static final int ON_UPDATE_MSG = 2;
+	static final int ON_STATUS_MSG = 3;
+	static final int ON_GENERIC_MSG = 4;
+	static final int ON_ACK_MSG = 5;
+
+	private final OmmBaseImpl<OmmConsumerClient> _baseImpl;
+	private final Worker[] _workers;
+	private final int _queueSize;
+	private final int _resumeSize;
+	private final Object _capacityMonitor = new Object();
+	private volatile boolean _running;
+
+	ItemCallbackDispatcher(OmmBaseImpl<OmmConsumerClient> baseImpl, int threadCount, int queueSize)
+	{
+		_baseImpl = baseImpl;
+		_queueSize = queueSize > 0 ? queueSize : 1;
+		_resumeSize = _queueSize / 2;
+		_workers = new Worker[threadCount];
+		_running = true;
+
+		for (int i = 0; i < threadCount; i++)
+		{
+			_workers[i] = new Worker(this, baseImpl.instanceName() + "-callback-" + i);
+			_workers[i].start();
+		}
+	}
+
+	int threadCount()
+	{
+		return _workers.length;
+	}
+
+	/* Called by the EMA API thread with the userLock held; never blocks on the callback
+	 * threads. The item is passed by value as it may be closed and reused before the
+	 * callback runs. */
+	void dispatch(int callbackType, OmmConsumerClient client, long handle, Object closure, long parentHandle,
+			Msg msg, boolean notifyOnAllMsg, ReactorChannel channel)
+	{
+		if (!_running)
+			return;
+
+		Worker worker = _workers[partition(handle)];
+		worker._lock.lock();
+		try
+		{
+			Callback callback = worker._pool.poll();
+			if (callback == null)
+				callback = new Callback();
+
+			callback._callbackType = callbackType;
+			callback._client = client;
+			callback._msg = msg;
+			callback._notifyOnAllMsg = notifyOnAllMsg;
+			callback._event._handle = handle;
+			callback._event._closure = closure;
+			callback._event._parentHandle = parentHandle;
+			callback._event._channel = channel;
+
+			worker._queue.add(callback);
+			worker._size = worker._queue.size();
+			worker._notEmpty.signal();
+		}
+		finally
+		{
+			worker._lock.unlock();
+		}
+	}
+
+	/* Called by the EMA API thread, without the userLock, before it reads more messages. */
+	void awaitCapacity()
+	{
+		if (!saturated())
+			return;
+
+		synchronized (_capacityMonitor)
+		{
+			while (_running && saturated())
+			{
+				try
+				{
+					_capacityMonitor.wait(AWAIT_CAPACITY_INTERVAL_IN_MILLISEC);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/* Delivers the callbacks already queued and stops the callback threads. */
+	void shutdown()
+	{
+		if (!_running)
+			return;
+
+		_running = false;
+
+		synchronized (_capacityMonitor)
+		{
+			_capacityMonitor.notifyAll();
+		}
+
+		for (Worker worker : _workers)
+		{
+			worker._lock.lock();
+			try
+			{
+				worker._notEmpty.signal();
+			}
+			finally
+			{
+				worker._lock.unlock();
+			}
+		}
+
+		long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_IN_MILLISEC;
+		for (Worker worker : _workers)
+		{
+			/* the application may uninitialize the consumer from one of its callbacks */
+			if (worker == Thread.currentThread())
+				continue;
+
+			try
+			{
+				worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			if (worker.isAlive() && _baseImpl.loggerClient().isErrorEnabled())
+			{
+				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME,
+						"Callback thread " + worker.getName() + " did not stop within " + SHUTDOWN_TIMEOUT_IN_MILLISEC + " milliseconds.",
+						Severity.ERROR));
+			}
+		}
+	}
+
+	private boolean saturated()
+	{
+		for (Worker worker : _workers)
+		{
+			if (worker._size >= _queueSize)
+				return true;
+		}
+		return false;
+	}
+
+	private int partition(long handle)
+	{
+		int hash = (int)((handle * 0x9E3779B97F4A7C15L) >>> 32);
+		return (hash & Integer.MAX_VALUE) % _workers.length;
+	}
+
+	private void resumed()
+	{
+		synchronized (_capacityMonitor)
+		{
+			_capacityMonitor.notifyAll();
+		}
+	}
+
+	private static class Worker extends Thread
+	{
+		final ItemCallbackDispatcher _dispatcher;
+		final ReentrantLock _lock = new ReentrantLock();
+		final Condition _notEmpty = _lock.newCondition();
+		final ArrayDeque<Callback> _queue = new ArrayDeque<>();
+
+		/* delivered callbacks, reused by dispatch() */
+		final ArrayDeque<Callback> _pool = new ArrayDeque<>();
+
+		/* size of _queue, read by the EMA API thread without the lock */
+		volatile int _size;
+
+		Worker(ItemCallbackDispatcher dispatcher, String name)
+		{
+			super(name);
+			_dispatcher = dispatcher;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run()
+		{
+			Callback callback = null;
+
+			while (true)
+			{
+				int size;
+				_lock.lock();
+				try
+				{
+					if (callback != null)
+					{
+						callback.clear();
+						if (_pool.size() < _dispatcher._queueSize)
+							_pool.add(callback);
+					}
+
+					while (_queue.isEmpty())
+					{
+						if (!_dispatcher._running)
+							return;
+						_notEmpty.await();
+					}
+
+					callback = _queue.poll();
+					size = _size = _queue.size();
+				}
+				catch (InterruptedException e)
+				{
+					return;
+				}
+				finally
+				{
+					_lock.unlock();
+				}
+
+				if (size == _dispatcher._resumeSize)
+					_dispatcher.resumed();
+
+				try
+				{
+					callback.notifyClient();
+				}
+				catch (RuntimeException e)
+				{
+					OmmBaseImpl<OmmConsumerClient> baseImpl = _dispatcher._baseImpl;
+					if (baseImpl.loggerClient().isErrorEnabled())
+					{
+						baseImpl.loggerClient().error(baseImpl.formatLogMessage(CLIENT_NAME,
+								"Exception thrown from OmmConsumerClient callback for handle " + callback._event._handle
+								+ ", exception=" + e.getLocalizedMessage(), Severity.ERROR));
+					}
+				}
+			}
+		}
+	}
+
+	private static class Callback
+	{
+		int _callbackType;
+		OmmConsumerClient _client;
+		Msg _msg;
+		boolean _notifyOnAllMsg;
+		final DispatchedEvent _event = new DispatchedEvent();
+
+		void notifyClient()
+		{
+			if (_notifyOnAllMsg)
+				_client.onAllMsg(_msg, _event);
+
+			switch (_callbackType)
+			{
+				case ON_REFRESH_MSG:
+					_client.onRefreshMsg((RefreshMsg)_msg, _event);
+					break;
+				case ON_UPDATE_MSG:
+					_client.onUpdateMsg((UpdateMsg)_msg, _event);
+					break;
+				case ON_STATUS_MSG:
+					_client.onStatusMsg((StatusMsg)_msg, _event);
+					break;
+				case ON_GENERIC_MSG:
+					_client.onGenericMsg((GenericMsg)_msg, _event);
+					break;
+				case ON_ACK_MSG:
+					_client.onAckMsg((AckMsg)_msg, _event);
+					break;
+				default:
+					break;
+			}
+		}
+
+		/* releases the message and the application objects for a pooled callback */
+		void clear()
+		{
+			_client = null;
+			_msg = null;
+			_event._closure = null;
+			_event._channel = null;
+		}
+	}
+
+	/* Snapshot of the item the callback was dispatched for; the Item itself may
+	 * be closed and reused before the callback runs. */
+	private static class DispatchedEvent implements OmmConsumerEvent
+	{
+		long _handle;
+		Object _closure;
+		long _parentHandle;
+		ReactorChannel _channel;
+		ChannelInformationImpl _channelInfo;
+
+		@Override
+		public long handle()
+		{
+			return _handle;
+		}
+
+		@Override
+		public Object closure()
+		{
+			return _closure;
+		}
+
+		@Override
+		public long parentHandle()
+		{
+			return _parentHandle;
+		}
+
+		@Override
+		public ChannelInformation channelInformation()
+		{
+			if (_channelInfo == null)
+				_channelInfo = new ChannelInformationImpl();
+			else
+				_channelInfo.clear();
+
+			if (_channel != null)
+			{
+				_channelInfo.set(_channel);
+				_channelInfo.ipAddress("not available for OmmConsumer connections");
+				_channelInfo.port(_channel.port());
+			}
+
+			return _channelInfo;
+		}
+	}
+}
@@ -0,0 +1,379 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.refinitiv.ema.access.OmmLoggerClient.Severity;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+
+/* Conflates the updates of consumer items. Updates of an item with a conflation window
+ * are held and merged field by field, so the latest value of each field is kept, until
+ * the window closes. The merged update is then delivered with the header of the latest
+ * update and its conflation count and time set.
+ *
+ * The window of an item is the one of its ReqMsg, or of the batch request it belongs to,
+ * otherwise the ConflationTime/ConflationCount of the consumer configuration. The window
+ * closes when ConflationCount updates have been merged or ConflationTime milliseconds
+ * after the first of them; a value of 0 disables that condition.
+ *
+ * Only FieldList updates are merged. Any other update, and any other message of the item,
+ * is delivered after the pending merged update of the item. Everything runs on the thread
+ * dispatching the item messages under the user lock. */
+class ItemUpdateConflator implements TimeoutClient
+{
+	private static final String CLIENT_NAME = "ItemUpdateConflator";
+	private static final int MAX_CONFLATION_COUNT = 0x7FFF;
+	private static final int MAX_CONFLATION_TIME = 0xFFFF;
+
+	private final OmmBaseImpl<OmmConsumerClient> _baseImpl;
+	private final ItemCallbackClientConsumer _client;
+	private final int _defaultTime;
+	private final int _defaultCount;
+
+	private final LongObjectHashTable<PendingUpdate> _pendingByHandle = new LongObjectHashTable<>();
+	private final ArrayList<PendingUpdate> _pendingList = new ArrayList<>();
+	private final ArrayList<PendingUpdate> _pendingPool = new ArrayList<>();
+	private TimeoutEvent _timeoutEvent;
+	private long _timeoutDeadline;
+
+	private final DecodeIterator _decodeIter = CodecFactory.createDecodeIterator();
+	private final EncodeIterator _encodeIter = CodecFactory.createEncodeIterator();
+	private final Msg _mergedMsg = CodecFactory.createMsg();
+	private final Buffer _buffer = CodecFactory.createBuffer();
+	private final Buffer _encodeBufferWrapper = CodecFactory.createBuffer();
+	private ByteBuffer _encodeBuffer = ByteBuffer.allocate(4096);
+
+	private long _updatesReceived;
+	private long _updatesDelivered;
+
+	ItemUpdateConflator(OmmBaseImpl<OmmConsumerClient> baseImpl, ItemCallbackClientConsumer client, int defaultTime, int defaultCount)
+	{
+		_baseImpl = baseImpl;
+		_client = client;
+		_defaultTime = defaultTime;
+		_defaultCount = defaultCount;
+	}
+
+	/* Returns true if the update is held to be merged, false if it is to be delivered now. */
+	boolean conflate(Item<OmmConsumerClient> item, Msg rsslMsg, ReactorChannel reactorChannel, DataDictionary dataDictionary)
+	{
+		long handle = item.itemId();
+		PendingUpdate pending = _pendingByHandle.get(handle);
+
+		int conflationTime = conflationTime(item);
+		int conflationCount = conflationCount(item);
+		if ((conflationTime == 0 && conflationCount == 0) || !FieldListAccumulator.isConflatable(rsslMsg))
+		{
+			if (pending != null)
+				flush(pending);
+			return false;
+		}
+
+		if (pending != null && pending._reactorChannel != reactorChannel)
+		{
+			flush(pending);
+			pending = null;
+		}
+
+		boolean opened = pending == null;
+		if (opened)
+		{
+			pending = _pendingPool.isEmpty() ? new PendingUpdate() : _pendingPool.remove(_pendingPool.size() - 1);
+			pending.open(item, reactorChannel, dataDictionary, conflationTime, conflationCount);
+			_pendingByHandle.put(handle, pending);
+			_pendingList.add(pending);
+		}
+
+		if (!pending.merge(rsslMsg))
+		{
+			flush(pending);
+			return false;
+		}
+
+		++_updatesReceived;
+
+		if (pending._conflationCount > 0 && pending._mergedCount >= pending._conflationCount)
+			flush(pending);
+		else if (pending._conflationTime > 0 && opened)
+			scheduleTimeout(pending._firstArrival + pending._conflationTime * 1000000L);
+
+		return true;
+	}
+
+	/* Delivers the pending merged update of the item, if any. */
+	void flush(long handle)
+	{
+		PendingUpdate pending = _pendingByHandle.get(handle);
+		if (pending != null)
+			flush(pending);
+	}
+
+	/* Drops the pending merged update of an item being removed. */
+	void discard(long handle)
+	{
+		PendingUpdate pending = _pendingByHandle.get(handle);
+		if (pending != null)
+			release(pending);
+	}
+
+	long updatesReceived()
+	{
+		return _updatesReceived;
+	}
+
+	long updatesDelivered()
+	{
+		return _updatesDelivered;
+	}
+
+	int pendingUpdates()
+	{
+		return _pendingList.size();
+	}
+
+	@Override
+	public void handleTimeoutEvent()
+	{
+		_timeoutEvent = null;
+
+		long now = System.nanoTime();
+		long nextDeadline = 0;
+		boolean hasDeadline = false;
+		for (int index = 0; index < _pendingList.size();)
+		{
+			PendingUpdate pending = _pendingList.get(index);
+			if (pending._conflationTime > 0)
+			{
+				long deadline = pending._firstArrival + pending._conflationTime * 1000000L;
+				if (deadline - now <= 0)
+				{
+					flush(pending);
+					continue;
+				}
+				if (!hasDeadline || deadline - nextDeadline < 0)
+					nextDeadline = deadline;
+				hasDeadline = true;
+			}
+			++index;
+		}
+
+		if (hasDeadline)
+			scheduleTimeout(nextDeadline);
+	}
+
+	@Override
+	public ReentrantLock userLock()
+	{
+		return _baseImpl.userLock();
+	}
+
+	/* Makes sure the timer expires no later than the deadline, in System.nanoTime() terms. */
+	private void scheduleTimeout(long deadline)
+	{
+		if (_timeoutEvent != null)
+		{
+			if (_timeoutDeadline - deadline <= 0)
+				return;
+			_timeoutEvent.cancel();
+		}
+
+		_timeoutDeadline = deadline;
+		_timeoutEvent = _baseImpl.addTimeoutEvent(Math.max((deadline - System.nanoTime()) / 1000, 1), this);
+	}
+
+	private void flush(PendingUpdate pending)
+	{
+		Item<OmmConsumerClient> item = pending._item;
+		ReactorChannel reactorChannel = pending._reactorChannel;
+		DataDictionary dataDictionary = pending._dataDictionary;
+		int mergedCount = pending._mergedCount;
+
+		Msg mergedMsg = encode(pending);
+		release(pending);
+
+		if (mergedMsg == null || _client.getItem(item.itemId()) != item)
+			return;
+
+		_updatesDelivered++;
+		if (mergedCount > 1 && _baseImpl.loggerClient().isTraceEnabled())
+		{
+			StringBuilder temp = _baseImpl.strBuilder();
+			temp.append("Delivering ").append(mergedCount).append(" conflated updates of item ").append(item.itemId())
+				.append(" (").append(_updatesReceived).append(" updates received, ").append(_updatesDelivered).append(" delivered).");
+			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(), Severity.TRACE));
+		}
+
+		_client.deliverConflatedUpdate(item, mergedMsg, reactorChannel, dataDictionary);
+	}
+
+	/* Encodes the header of the latest update with the merged field list. */
+	private Msg encode(PendingUpdate pending)
+	{
+		if (pending._headerLength == 0)
+			return null;
+
+		_buffer.data(pending._header, 0, pending._headerLength);
+		_decodeIter.clear();
+		_decodeIter.setBufferAndRWFVersion(_buffer, pending._majorVersion, pending._minorVersion);
+		_mergedMsg.clear();
+		if (_mergedMsg.decode(_decodeIter) < CodecReturnCodes.SUCCESS)
+			return null;
+
+		UpdateMsg updateMsg = (UpdateMsg)_mergedMsg;
+		if (pending._mergedCount > 1)
+		{
+			updateMsg.applyHasConfInfo();
+			updateMsg.conflationCount(Math.min(pending._mergedCount, MAX_CONFLATION_COUNT));
+			updateMsg.conflationTime(Math.min(pending._conflationTime, MAX_CONFLATION_TIME));
+		}
+
+		int ret;
+		while ((ret = encode(pending, updateMsg)) == CodecReturnCodes.BUFFER_TOO_SMALL)
+			_encodeBuffer = ByteBuffer.allocate(_encodeBuffer.capacity() * 2);
+
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			if (_baseImpl.loggerClient().isErrorEnabled())
+			{
+				StringBuilder temp = _baseImpl.strBuilder();
+				temp.append("Failed to encode conflated update of item ").append(pending._item.itemId())
+					.append(". Error text: ").append(CodecReturnCodes.toString(ret));
+				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(), Severity.ERROR));
+			}
+			return null;
+		}
+
+		_buffer.data(_encodeBuffer, 0, _encodeBuffer.position());
+		_decodeIter.clear();
+		_decodeIter.setBufferAndRWFVersion(_buffer, pending._majorVersion, pending._minorVersion);
+		_mergedMsg.clear();
+		return _mergedMsg.decode(_decodeIter) < CodecReturnCodes.SUCCESS ? null : _mergedMsg;
+	}
+
+	private int encode(PendingUpdate pending, UpdateMsg updateMsg)
+	{
+		_encodeBuffer.clear();
+		_encodeBufferWrapper.data(_encodeBuffer);
+		_encodeIter.clear();
+		_encodeIter.setBufferAndRWFVersion(_encodeBufferWrapper, pending._majorVersion, pending._minorVersion);
+
+		int ret = updateMsg.encodeInit(_encodeIter, 0);
+		if (ret < CodecReturnCodes.SUCCESS)
+			return ret;
+
+		if ((ret = pending._fields.encode(_encodeIter)) < CodecReturnCodes.SUCCESS)
+			return ret;
+
+		return updateMsg.encodeComplete(_encodeIter, true);
+	}
+
+	private void release(PendingUpdate pending)
+	{
+		_pendingByHandle.remove(pending._item.itemId());
+		_pendingList.remove(pending);
+		pending.clear();
+		_pendingPool.add(pending);
+
+		if (_pendingList.isEmpty() && _timeoutEvent != null)
+		{
+			_timeoutEvent.cancel();
+			_timeoutEvent = null;
+		}
+	}
+
+	private int conflationTime(Item<OmmConsumerClient> item)
+	{
+		int conflationTime = ((SingleItem<OmmConsumerClient>)item)._conflationTime;
+		if (conflationTime < 0 && item._parent instanceof BatchItem)
+			conflationTime = ((BatchItem<OmmConsumerClient>)item._parent)._conflationTime;
+
+		return conflationTime < 0 ? _defaultTime : conflationTime;
+	}
+
+	private int conflationCount(Item<OmmConsumerClient> item)
+	{
+		int conflationCount = ((SingleItem<OmmConsumerClient>)item)._conflationCount;
+		if (conflationCount < 0 && item._parent instanceof BatchItem)
+			conflationCount = ((BatchItem<OmmConsumerClient>)item._parent)._conflationCount;
+
+		return conflationCount < 0 ? _defaultCount : conflationCount;
+	}
+
+	/* Merged update of an item. The latest update is kept encoded for its header. */
+	private static class PendingUpdate
+	{
+		Item<OmmConsumerClient> _item;
+		ReactorChannel _reactorChannel;
+		DataDictionary _dataDictionary;
+		int _majorVersion;
+		int _minorVersion;
+		int _conflationTime;
+		int _conflationCount;
+		int _mergedCount;
+		long _firstArrival;
+
+		ByteBuffer _header = ByteBuffer.allocate(256);
+		int _headerLength;
+
+		final FieldListAccumulator _fields = new FieldListAccumulator();
+
+		void open(Item<OmmConsumerClient> item, ReactorChannel reactorChannel, DataDictionary dataDictionary, int conflationTime, int conflationCount)
+		{
+			_item = item;
+			_reactorChannel = reactorChannel;
+			_dataDictionary = dataDictionary;
+			_majorVersion = reactorChannel.majorVersion();
+			_minorVersion = reactorChannel.minorVersion();
+			_conflationTime = conflationTime;
+			_conflationCount = conflationCount;
+			_firstArrival = System.nanoTime();
+		}
+
+		/* Returns false if the update cannot be decoded, in which case it is to be delivered
+		 * as is after the pending update. */
+		boolean merge(Msg rsslMsg)
+		{
+			Buffer encodedMsg = rsslMsg.encodedMsgBuffer();
+			if (encodedMsg == null || encodedMsg.length() == 0
+					|| !_fields.add(rsslMsg.encodedDataBody(), _majorVersion, _minorVersion))
+				return false;
+
+			if (_header.capacity() < encodedMsg.length())
+				_header = ByteBuffer.allocate(encodedMsg.length());
+			_header.clear();
+			encodedMsg.copy(_header);
+			_headerLength = encodedMsg.length();
+
+			UpdateMsg updateMsg = (UpdateMsg)rsslMsg;
+			_mergedCount += updateMsg.checkHasConfInfo() && updateMsg.conflationCount() > 0 ? updateMsg.conflationCount() : 1;
+			return true;
+		}
+
+		void clear()
+		{
+			_item = null;
+			_reactorChannel = null;
+			_dataDictionary = null;
+			_mergedCount = 0;
+			_headerLength = 0;
+			_fields.clear();
+		}
+	}
+}
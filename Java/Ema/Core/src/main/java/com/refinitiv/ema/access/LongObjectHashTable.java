@@ -0,0 +1,220 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.Arrays;
+
+/* Open addressing hash table from a primitive long key to a non null value.
+ * Keys are spread with a Fibonacci hash and collisions are resolved with linear
+ * probing and backward shift deletion, so lookups neither allocate nor follow
+ * node pointers. This class is not thread safe, see ConcurrentLongObjectHashTable. */
+class LongObjectHashTable<V>
+{
+    static final int DEFAULT_EXPECTED_SIZE = 1024;
+    static final int MAX_CAPACITY = 1 << 30;
+    private static final int MIN_CAPACITY = 16;
+
+    long[] _keys;
+    Object[] _values; /* a null value marks an empty slot */
+    int _size;
+    private int _resizeThreshold;
+
+    LongObjectHashTable()
+    {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    LongObjectHashTable(int expectedSize)
+    {
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && threshold(capacity) < expectedSize)
+            capacity <<= 1;
+
+        allocate(capacity);
+    }
+
+    V get(long key)
+    {
+        return find(_keys, _values, key);
+    }
+
+    boolean containsKey(long key)
+    {
+        return get(key) != null;
+    }
+
+    /* Returns the value previously mapped to the key, or null. */
+    V put(long key, V value)
+    {
+        if (value == null)
+            throw new NullPointerException("value");
+
+        long[] keys = _keys;
+        Object[] values = _values;
+        int mask = keys.length - 1;
+        int shift = shift(keys.length);
+
+        for (int index = index(key, shift); ; index = (index + 1) & mask)
+        {
+            Object current = values[index];
+            if (current == null)
+            {
+                keys[index] = key;
+                values[index] = value;
+                if (++_size > _resizeThreshold)
+                    resize();
+                return null;
+            }
+
+            if (keys[index] == key)
+            {
+                values[index] = value;
+                @SuppressWarnings("unchecked")
+                V previous = (V)current;
+                return previous;
+            }
+        }
+    }
+
+    /* Returns the value that was mapped to the key, or null. */
+    V remove(long key)
+    {
+        long[] keys = _keys;
+        Object[] values = _values;
+        int mask = keys.length - 1;
+        int shift = shift(keys.length);
+
+        for (int index = index(key, shift); ; index = (index + 1) & mask)
+        {
+            Object current = values[index];
+            if (current == null)
+                return null;
+
+            if (keys[index] == key)
+            {
+                shiftBack(keys, values, index, mask, shift);
+                _size--;
+                @SuppressWarnings("unchecked")
+                V removed = (V)current;
+                return removed;
+            }
+        }
+    }
+
+    int size()
+    {
+        return _size;
+    }
+
+    boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    void clear()
+    {
+        Arrays.fill(_values, null);
+        _size = 0;
+    }
+
+    /* Looks up a key in the given arrays. Probes at most keys.length slots so
+     * that a reader of a table being modified always terminates. */
+    @SuppressWarnings("unchecked")
+    static <V> V find(long[] keys, Object[] values, long key)
+    {
+        int mask = keys.length - 1;
+        int index = index(key, shift(keys.length));
+
+        for (int probes = 0; probes <= mask; probes++)
+        {
+            Object value = values[index];
+            if (value == null)
+                return null;
+            if (keys[index] == key)
+                return (V)value;
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    static int index(long key, int shift)
+    {
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    static int shift(int capacity)
+    {
+        return Long.numberOfLeadingZeros((long)(capacity - 1));
+    }
+
+    private static int threshold(int capacity)
+    {
+        return capacity - (capacity >>> 2);
+    }
+
+    private void allocate(int capacity)
+    {
+        _keys = new long[capacity];
+        _values = new Object[capacity];
+        _resizeThreshold = capacity < MAX_CAPACITY ? threshold(capacity) : capacity - 1;
+    }
+
+    /* Moves entries following a removed slot back so that no probe sequence is broken. */
+    private static void shiftBack(long[] keys, Object[] values, int free, int mask, int shift)
+    {
+        values[free] = null;
+
+        for (int index = (free + 1) & mask; values[index] != null; index = (index + 1) & mask)
+        {
+            int home = index(keys[index], shift);
+            boolean reachable = (index > free) ? (home <= free || home > index) : (home <= free && home > index);
+            if (reachable)
+            {
+                keys[free] = keys[index];
+                values[free] = values[index];
+                values[index] = null;
+                free = index;
+            }
+        }
+    }
+
+    private void resize()
+    {
+        long[] oldKeys = _keys;
+        Object[] oldValues = _values;
+        if (oldKeys.length >= MAX_CAPACITY)
+        {
+            if (_size >= MAX_CAPACITY - 1)
+                throw new IllegalStateException("LongObjectHashTable is full");
+            return;
+        }
+
+        long[] keys = new long[oldKeys.length << 1];
+        Object[] values = new Object[keys.length];
+        int mask = keys.length - 1;
+        int shift = shift(keys.length);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldValues[i] == null)
+                continue;
+
+            int index = index(oldKeys[i], shift);
+            while (values[index] != null)
+                index = (index + 1) & mask;
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+
+        _resizeThreshold = keys.length < MAX_CAPACITY ? threshold(keys.length) : keys.length - 1;
+        _values = values;
+        _keys = keys;
+    }
+}
@@ -25,6 +25,8 @@ class MsgImpl extends DataImpl implements Msg
 	protected PayloadAttribSummaryImpl	_payloadAttrib = new PayloadAttribSummaryImpl();
 	protected DataImpl 	_attribDecoded;
 	protected DataImpl 	_payloadDecoded;
+	protected boolean	_attribPending;
+	protected boolean	_payloadPending;
 	protected com.refinitiv.eta.codec.DataDictionary _rsslDictionary;
 	protected com.refinitiv.eta.codec.Msg _rsslMsg; 
 	protected com.refinitiv.eta.codec.Msg _rsslNestedMsg = CodecFactory.createMsg();
@@ -241,6 +243,9 @@ class MsgImpl extends DataImpl implements Msg
 	@Override
 	public Attrib attrib()
 	{
+		if (_attribPending)
+			decodeAttrib();
+
 		if (_attribDecoded == null)
 			_attribDecoded = new NoDataImpl();
 		
@@ -251,6 +256,9 @@ class MsgImpl extends DataImpl implements Msg
 	@Override
 	public Payload payload()
 	{
+		if (_payloadPending)
+			decodePayload();
+
 		if (_payloadDecoded == null)
 			_payloadDecoded = new NoDataImpl();
 			
@@ -280,8 +288,18 @@ class MsgImpl extends DataImpl implements Msg
 		return _serviceName;
 	}
 	
+	// Attrib and payload are decoded on first access only, so that callbacks which
+	// look at the message header alone do not decode (or pull pooled objects for) the data.
 	void decodeAttribPayload()
 	{
+		_attribPending = true;
+		_payloadPending = true;
+	}
+
+	private void decodeAttrib()
+	{
+		_attribPending = false;
+
 		com.refinitiv.eta.codec.MsgKey msgKey = _rsslMsg.msgKey();
 		int dType;
 		if (msgKey != null)
@@ -303,8 +321,13 @@ class MsgImpl extends DataImpl implements Msg
 						_rsslMajVer, _rsslMinVer, _rsslDictionary, null);
 			}
 		}
-		
-		dType = dataType(_rsslMsg.containerType(), _rsslMajVer, _rsslMinVer, _rsslMsg.encodedDataBody());
+	}
+
+	private void decodePayload()
+	{
+		_payloadPending = false;
+
+		int dType = dataType(_rsslMsg.containerType(), _rsslMajVer, _rsslMinVer, _rsslMsg.encodedDataBody());
 		if (DataTypes.ERROR == dType)
 		{
 			_payloadDecoded = dataInstance(_payloadDecoded, DataTypes.ERROR);
@@ -330,11 +353,17 @@ class MsgImpl extends DataImpl implements Msg
 	
 	DataImpl attribData()
 	{
+		if (_attribPending)
+			decodeAttrib();
+
 		return _attribDecoded;
 	}
 
 	DataImpl payloadData()
 	{
+		if (_payloadPending)
+			decodePayload();
+
 		return _payloadDecoded;
 	}
 	
@@ -830,6 +859,8 @@ class MsgImpl extends DataImpl implements Msg
 	void msgClear()
 	{
 		_serviceNameSet = false;
+		_attribPending = false;
+		_payloadPending = false;
 		_serviceName = null;
 		_domainTypeSet = false;
 		
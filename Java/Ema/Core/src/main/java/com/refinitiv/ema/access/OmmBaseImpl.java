@@ -162,6 +162,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	protected DirectoryCallbackClient<T>  _directoryCallbackClient;
 	protected ItemCallbackClient<T>  _itemCallbackClient;
 	protected ChannelCallbackClient<T> _channelCallbackClient;
+	protected ItemCallbackDispatcher _callbackDispatcher;
 	
 	protected ReactorOAuthCredentialRenewalOptions _OAuthRenewalOpts = ReactorFactory.createReactorOAuthCredentialRenewalOptions();
 	
@@ -450,6 +451,9 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		{
 			if (_activeConfig.userDispatch == OperationModel.API_DISPATCH)
 			{
+				if (_callbackDispatcher != null)
+					_callbackDispatcher.shutdown();
+
 				if (_executor != null)
 				{
 					_executor.shutdown();
@@ -1831,6 +1835,10 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 						pipeRead();
 					}
 
+					/* stop reading while the callback threads are behind */
+					if (_callbackDispatcher != null)
+						_callbackDispatcher.awaitCapacity();
+
 					_userLock.lock();
 					try {
 						ret = _rsslReactor.dispatchAll(_selector.selectedKeys(), _rsslDispatchOptions, _rsslErrorInfo);
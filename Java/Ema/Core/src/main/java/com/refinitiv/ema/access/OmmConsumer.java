@@ -292,6 +292,19 @@ public interface OmmConsumer
 	 * @throws OmmInvalidUsageException if failed to modify I/O option to
 	 */
 	public void modifyIOCtl(int code, int value);
+
+	/**
+	 * Returns the update conflation counters of this OmmConsumer. Updates are only
+	 * conflated for items with a conflation window, see {@link ReqMsg#conflation(int, int)}.
+	 * <p> This method is ObjectLevelSafe.</p>
+	 * <p> The default implementation returns counters of zero.</p>
+	 *
+	 * @return the conflation counters
+	 */
+	public default ConflationStatistics conflationStatistics()
+	{
+		return new ConflationStatisticsImpl(null);
+	}
 	
 	
 	/** Provide updated OAuth2 credentials when the callback OmmOAuth2ConsumerClient::onCredentialRenewal is called.
@@ -10,16 +10,33 @@ package com.refinitiv.ema.access;
 class OmmConsumerActiveConfig extends ActiveConfig
 {
 	static final String DEFAULT_CONSUMER_SERVICE_NAME = "14002";
+	static final int DEFAULT_CALLBACK_DISPATCH_THREADS = 0;
+	static final int DEFAULT_CALLBACK_DISPATCH_QUEUE_SIZE = 10000;
+	static final int DEFAULT_CONFLATION_TIME = 0;
+	static final int DEFAULT_CONFLATION_COUNT = 0;
+
+	int callbackDispatchThreads;
+	int callbackDispatchQueueSize;
+	int conflationTime;
+	int conflationCount;
 
 	OmmConsumerActiveConfig()
 	{
 		super(DEFAULT_CONSUMER_SERVICE_NAME);
+		callbackDispatchThreads = DEFAULT_CALLBACK_DISPATCH_THREADS;
+		callbackDispatchQueueSize = DEFAULT_CALLBACK_DISPATCH_QUEUE_SIZE;
+		conflationTime = DEFAULT_CONFLATION_TIME;
+		conflationCount = DEFAULT_CONFLATION_COUNT;
 	}
 	
 	@Override
 	void clear()
 	{
 		super.clear();
+		callbackDispatchThreads = DEFAULT_CALLBACK_DISPATCH_THREADS;
+		callbackDispatchQueueSize = DEFAULT_CALLBACK_DISPATCH_QUEUE_SIZE;
+		conflationTime = DEFAULT_CONFLATION_TIME;
+		conflationCount = DEFAULT_CONFLATION_COUNT;
 	}
 
 }
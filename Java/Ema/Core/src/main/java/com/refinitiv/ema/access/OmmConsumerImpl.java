@@ -37,6 +37,7 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 	private OmmOAuth2ConsumerClient _OAuthConsumerClient = null;
 	private ConsumerSessionInfo sessionInfo = new ConsumerSessionInfo();
 	private ReactorJsonConverterOptions jsonConverterOptions = ReactorFactory.createReactorJsonConverterOptions();
+	private ItemUpdateConflator _conflator;
 
 	OmmConsumerImpl(OmmConsumerConfig config)
 	{
@@ -399,6 +400,34 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 				if (value >= 0)
 					_activeConfig.maxOutstandingPosts = value > maxInt ? maxInt : value;
 			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.CallbackDispatchThreads)) != null)
+			{
+				value = ce.intLongValue();
+				if (value >= 0)
+					_activeConfig.callbackDispatchThreads = value > maxInt ? maxInt : value;
+			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.CallbackDispatchQueueSize)) != null)
+			{
+				value = ce.intLongValue();
+				if (value > 0)
+					_activeConfig.callbackDispatchQueueSize = value > maxInt ? maxInt : value;
+			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.ConflationTime)) != null)
+			{
+				value = ce.intLongValue();
+				if (value >= 0)
+					_activeConfig.conflationTime = value > maxInt ? maxInt : value;
+			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.ConflationCount)) != null)
+			{
+				value = ce.intLongValue();
+				if (value >= 0)
+					_activeConfig.conflationCount = value > maxInt ? maxInt : value;
+			}
 		}
 
 		if(_activeConfig.dictionaryConfig.dataDictionary == null)
@@ -578,9 +607,19 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 		_directoryCallbackClient = new DirectoryCallbackClientConsumer(this);
 		_directoryCallbackClient.initialize();
 
-		_itemCallbackClient = new ItemCallbackClientConsumer(this);
+		ItemCallbackClientConsumer itemCallbackClient = new ItemCallbackClientConsumer(this);
+		_itemCallbackClient = itemCallbackClient;
 		_itemCallbackClient.initialize();
 
+		if (_activeConfig.userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH && _activeConfig.callbackDispatchThreads > 0)
+		{
+			_callbackDispatcher = new ItemCallbackDispatcher(this, _activeConfig.callbackDispatchThreads, _activeConfig.callbackDispatchQueueSize);
+			itemCallbackClient.callbackDispatcher(_callbackDispatcher);
+		}
+
+		_conflator = new ItemUpdateConflator(this, itemCallbackClient, _activeConfig.conflationTime, _activeConfig.conflationCount);
+		itemCallbackClient.conflator(_conflator);
+
 
 		jsonConverterOptions.clear();
 		DataDictionary dictionary = dictionaryCallbackClient().defaultRsslDictionary();
@@ -690,6 +729,20 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 		return LongIdGenerator.nextLongId();
 	}
 
+	@Override
+	public ConflationStatistics conflationStatistics()
+	{
+		userLock().lock();
+		try
+		{
+			return new ConflationStatisticsImpl(_conflator);
+		}
+		finally
+		{
+			userLock().unlock();
+		}
+	}
+
 	@Override
 	public void channelInformation(ChannelInformation channelInformation)
 	{
@@ -0,0 +1,65 @@
+///*|-----------------------------------------------------------------------------
+// *|            This source code is provided under the Apache 2.0 license      --
+// *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+// *|                See the project's LICENSE.md for details.                  --
+// *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+///*|-----------------------------------------------------------------------------
+
+package com.refinitiv.ema.access;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * OmmConsumerPublisher is a Reactive Streams {@link org.reactivestreams.Publisher} of the
+ * messages of an item opened on an {@link com.refinitiv.ema.access.OmmConsumer}.
+ *
+ * <p>Each subscription opens the item with {@link com.refinitiv.ema.access.OmmConsumer#registerClient(ReqMsg, OmmConsumerClient)}
+ * and closes it when the subscription is cancelled. The subscriber receives copies of the
+ * refresh, update, status, generic and ack messages of the item, which stay valid after
+ * onNext() returns. The subscriber is completed once the item stream is closed.</p>
+ *
+ * <p>Messages received while the subscriber has no outstanding demand are buffered.
+ * Once the buffer is half full, the item stream is paused with a reissue request. It is
+ * resumed, with a refresh of the item, once the subscriber has taken every buffered
+ * message and requests more. The pause reaches the provider only if it supports optimized
+ * pause and resume. If the buffer overflows, the subscription is cancelled and the
+ * subscriber receives onError().</p>
+ *
+ * <p>With conflation enabled, an update received while the previous buffered message is
+ * an update of the item is merged into it, so the subscriber receives the latest value of
+ * every field with the conflation count set to the number of updates merged. Updates
+ * whose payload is not a FieldList and updates with the DoNotConflate flag are buffered
+ * as they are.</p>
+ *
+ * <p>The publisher keeps a copy of the ReqMsg passed to it, which is used for every
+ * subscription and for the pause and resume reissues; the application may reuse its ReqMsg
+ * once the publisher is created. Batch requests are not supported; each item is published
+ * by its own publisher.</p>
+ *
+ * <p>An OmmConsumerPublisher is created from EmaFactory
+ * (see {@link com.refinitiv.ema.access.EmaFactory#createOmmConsumerPublisher(OmmConsumer, ReqMsg)}).</p>
+ *
+ * @see OmmConsumer
+ * @see ReqMsg
+ */
+public interface OmmConsumerPublisher extends Publisher<Msg>
+{
+	/**
+	 * Specifies the maximum number of messages buffered for a subscriber.<br>
+	 * Applies to the subscriptions made afterwards. The default is 1024.
+	 *
+	 * @param bufferSize specifies the maximum number of buffered messages; must be greater than zero
+	 * @throws OmmInvalidUsageException if bufferSize is not greater than zero
+	 * @return reference to this object
+	 */
+	public OmmConsumerPublisher bufferSize(int bufferSize);
+
+	/**
+	 * Specifies if buffered updates are conflated.<br>
+	 * Applies to the subscriptions made afterwards. Conflation is disabled by default.
+	 *
+	 * @param conflate specifies if buffered updates are conflated
+	 * @return reference to this object
+	 */
+	public OmmConsumerPublisher conflate(boolean conflate);
+}
@@ -0,0 +1,560 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.refinitiv.ema.access.DataType.DataTypes;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.CopyMsgFlags;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.RequestMsg;
+import com.refinitiv.eta.codec.RequestMsgFlags;
+
+class OmmConsumerPublisherImpl implements OmmConsumerPublisher
+{
+	private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final OmmConsumer _consumer;
+	private final ReqMsg _reqMsg;
+	private volatile int _bufferSize = DEFAULT_BUFFER_SIZE;
+	private volatile boolean _conflate;
+
+	OmmConsumerPublisherImpl(OmmConsumer consumer, ReqMsg reqMsg)
+	{
+		_consumer = consumer;
+		_reqMsg = copy(reqMsg);
+	}
+
+	/* The pause and resume reissues change the flags of the request, so the publisher works
+	 * on its own copy; the clone constructor of ReqMsg only copies decoded messages. */
+	private static ReqMsg copy(ReqMsg reqMsg)
+	{
+		ReqMsgImpl other = (ReqMsgImpl)reqMsg;
+		ReqMsgImpl copy = new ReqMsgImpl();
+		if (other._rsslMsg.copy(copy._rsslMsg, CopyMsgFlags.ALL_FLAGS) < CodecReturnCodes.SUCCESS)
+			throw new OmmInvalidUsageExceptionImpl().message("Failed to copy the ReqMsg passed to OmmConsumerPublisher",
+					OmmInvalidUsageException.ErrorCode.INTERNAL_ERROR);
+
+		if (other.hasServiceName())
+			copy.service(other.serviceName());
+		if (other.conflationTime() >= 0 && other.conflationCount() >= 0)
+			copy.conflation(other.conflationTime(), other.conflationCount());
+
+		return copy;
+	}
+
+	@Override
+	public OmmConsumerPublisher bufferSize(int bufferSize)
+	{
+		if (bufferSize <= 0)
+			throw new OmmInvalidUsageExceptionImpl().message("Invalid bufferSize " + bufferSize + " passed in OmmConsumerPublisher.bufferSize(); must be greater than zero",
+					OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+
+		_bufferSize = bufferSize;
+		return this;
+	}
+
+	@Override
+	public OmmConsumerPublisher conflate(boolean conflate)
+	{
+		_conflate = conflate;
+		return this;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super Msg> subscriber)
+	{
+		if (subscriber == null)
+			throw new NullPointerException("subscriber");
+
+		ItemSubscription subscription = new ItemSubscription(subscriber, _bufferSize, _conflate);
+		subscriber.onSubscribe(subscription);
+		subscription.open();
+	}
+
+	/* Subscription to one item stream. The messages of the item are received on the thread
+	 * dispatching the consumer and are handed to the subscriber by whichever thread drains
+	 * the buffer, which is either the dispatching thread or a thread calling request().
+	 * _lock guards the buffer and the state of the subscription; it is never held while the
+	 * subscriber or the consumer is called. The pause and resume reissues are made with the
+	 * userLock of the consumer held, so they reach the consumer in the order they are decided. */
+	private class ItemSubscription implements Subscription, OmmConsumerClient
+	{
+		private static final int MAX_CONFLATION_COUNT = 0x7FFF;
+		private static final int MAX_CONFLATION_TIME = 0xFFFF;
+
+		private final Subscriber<? super Msg> _subscriber;
+		private final int _bufferSize;
+		private final int _pauseThreshold;
+		private final boolean _conflate;
+		private final boolean _streaming;
+
+		private final ReentrantLock _lock = new ReentrantLock();
+		private final ArrayDeque<Entry> _queue = new ArrayDeque<>();
+		private final EncodeIterator _encodeIter = CodecFactory.createEncodeIterator();
+		private long _demand;
+		private long _handle;
+		private boolean _draining;
+		private boolean _paused;
+		private boolean _pauseSent;
+		private boolean _streamClosed;
+		private boolean _cancelled;
+		private boolean _terminated;
+		private Throwable _error;
+
+		ItemSubscription(Subscriber<? super Msg> subscriber, int bufferSize, boolean conflate)
+		{
+			_subscriber = subscriber;
+			_bufferSize = bufferSize;
+			_pauseThreshold = Math.max(bufferSize / 2, 1);
+			_conflate = conflate;
+			_streaming = _reqMsg.interestAfterRefresh();
+		}
+
+		void open()
+		{
+			long handle;
+			try
+			{
+				handle = _consumer.registerClient(_reqMsg, this);
+			}
+			catch (OmmException e)
+			{
+				fail(e, false);
+				return;
+			}
+
+			boolean cancelled;
+			_lock.lock();
+			try
+			{
+				_handle = handle;
+				cancelled = _cancelled || _error != null;
+			}
+			finally
+			{
+				_lock.unlock();
+			}
+
+			if (cancelled)
+				unregister(handle);
+		}
+
+		@Override
+		public void request(long n)
+		{
+			if (n <= 0)
+			{
+				fail(new IllegalArgumentException("request() called with " + n + "; the number of requested messages must be positive"), true);
+				return;
+			}
+
+			_lock.lock();
+			try
+			{
+				_demand = _demand + n < 0 ? Long.MAX_VALUE : _demand + n;
+			}
+			finally
+			{
+				_lock.unlock();
+			}
+
+			drain();
+		}
+
+		@Override
+		public void cancel()
+		{
+			long handle;
+			_lock.lock();
+			try
+			{
+				if (_cancelled)
+					return;
+
+				_cancelled = true;
+				_queue.clear();
+				handle = _streamClosed || _error != null ? 0 : _handle;
+			}
+			finally
+			{
+				_lock.unlock();
+			}
+
+			if (handle != 0)
+				unregister(handle);
+		}
+
+		@Override
+		public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
+		{
+			boolean closed = refreshMsg.complete() && refreshMsg.state().streamState() != OmmState.StreamState.OPEN;
+			offer(EmaFactory.createRefreshMsg(refreshMsg), consumerEvent, closed);
+		}
+
+		@Override
+		public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+		{
+			offer(EmaFactory.createUpdateMsg(updateMsg), consumerEvent, false);
+		}
+
+		@Override
+		public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent)
+		{
+			boolean closed = statusMsg.hasState() && statusMsg.state().streamState() != OmmState.StreamState.OPEN
+					&& statusMsg.state().streamState() != OmmState.StreamState.NON_STREAMING;
+			offer(EmaFactory.createStatusMsg(statusMsg), consumerEvent, closed);
+		}
+
+		@Override
+		public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent)
+		{
+			offer(EmaFactory.createGenericMsg(genericMsg), consumerEvent, false);
+		}
+
+		@Override
+		public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent)
+		{
+			offer(EmaFactory.createAckMsg(ackMsg), consumerEvent, false);
+		}
+
+		@Override
+		public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+
+		private void offer(Msg msg, OmmConsumerEvent consumerEvent, boolean closed)
+		{
+			boolean overflow = false;
+			boolean pause = false;
+			long handle;
+
+			_lock.lock();
+			try
+			{
+				if (_cancelled || _terminated || _error != null)
+					return;
+
+				_handle = handle = consumerEvent.handle();
+
+				if (!merge(msg))
+				{
+					if (_queue.size() >= _bufferSize)
+					{
+						_error = new IllegalStateException("More than " + _bufferSize + " messages were buffered for a subscriber without demand");
+						_queue.clear();
+						overflow = !closed;
+					}
+					else
+					{
+						_queue.add(new Entry(msg));
+					}
+				}
+
+				if (closed)
+					_streamClosed = true;
+				else if (_streaming && !_paused && _error == null && _demand == 0 && _queue.size() >= _pauseThreshold)
+					_paused = pause = true;
+			}
+			finally
+			{
+				_lock.unlock();
+			}
+
+			if (overflow)
+				unregister(handle);
+			else if (pause)
+				sendPause();
+
+			drain();
+		}
+
+		/* Merges an update into the buffered update at the tail of the buffer. */
+		private boolean merge(Msg msg)
+		{
+			if (!_conflate || _queue.isEmpty() || msg.dataType() != DataTypes.UPDATE_MSG)
+				return false;
+
+			Entry tail = _queue.peekLast();
+			if (tail._msg.dataType() != DataTypes.UPDATE_MSG)
+				return false;
+
+			MsgImpl tailMsg = (MsgImpl)tail._msg;
+			MsgImpl latestMsg = (MsgImpl)msg;
+			if (!FieldListAccumulator.isConflatable(tailMsg._rsslMsg) || !FieldListAccumulator.isConflatable(latestMsg._rsslMsg))
+				return false;
+
+			if (tail._fields == null)
+			{
+				FieldListAccumulator fields = new FieldListAccumulator();
+				if (!fields.add(tailMsg._rsslMsg.encodedDataBody(), tailMsg._rsslMajVer, tailMsg._rsslMinVer))
+					return false;
+				tail._fields = fields;
+				tail._mergedCount = conflationCount(tailMsg);
+			}
+
+			if (!tail._fields.add(latestMsg._rsslMsg.encodedDataBody(), latestMsg._rsslMajVer, latestMsg._rsslMinVer))
+				return false;
+
+			/* the header of the latest update is sent, its payload is replaced on delivery */
+			tail._msg = msg;
+			tail._mergedCount += conflationCount(latestMsg);
+			tail._lastMergedTime = System.nanoTime();
+			return true;
+		}
+
+		private void drain()
+		{
+			boolean resume = false;
+
+			_lock.lock();
+			if (_draining)
+			{
+				_lock.unlock();
+				return;
+			}
+			_draining = true;
+
+			try
+			{
+				for (;;)
+				{
+					if (_cancelled || _terminated)
+						break;
+
+					if (_error != null)
+					{
+						_terminated = true;
+						Throwable error = _error;
+						_lock.unlock();
+						try
+						{
+							_subscriber.onError(error);
+						}
+						finally
+						{
+							_lock.lock();
+						}
+						break;
+					}
+
+					if (_queue.isEmpty())
+					{
+						if (_streamClosed)
+						{
+							_terminated = true;
+							_lock.unlock();
+							try
+							{
+								_subscriber.onComplete();
+							}
+							finally
+							{
+								_lock.lock();
+							}
+						}
+						else if (_paused && _demand > 0)
+						{
+							_paused = false;
+							resume = true;
+						}
+						break;
+					}
+
+					if (_demand == 0)
+						break;
+
+					Entry entry = _queue.poll();
+					if (_demand != Long.MAX_VALUE)
+						--_demand;
+
+					_lock.unlock();
+					try
+					{
+						_subscriber.onNext(entry._fields != null ? encodeMerged(entry) : entry._msg);
+					}
+					finally
+					{
+						_lock.lock();
+					}
+				}
+			}
+			finally
+			{
+				_draining = false;
+				_lock.unlock();
+			}
+
+			if (resume)
+				sendPause();
+		}
+
+		/* Reissues the request with the pause flag set or cleared to match _paused. A
+		 * resumed item is refreshed, since its updates were not received while paused. */
+		private void sendPause()
+		{
+			ReentrantLock userLock = ((OmmCommonImpl)_consumer).userLock();
+			userLock.lock();
+			try
+			{
+				boolean paused;
+				long handle;
+				_lock.lock();
+				try
+				{
+					paused = _paused;
+					handle = _cancelled || _streamClosed || _error != null ? 0 : _handle;
+				}
+				finally
+				{
+					_lock.unlock();
+				}
+
+				if (handle == 0 || paused == _pauseSent)
+					return;
+
+				/* the request is reissued as it is, so a view on the item is kept; its flags are
+				 * restored before the userLock is released, as other subscriptions register it */
+				_pauseSent = paused;
+				RequestMsg rsslMsg = (RequestMsg)((ReqMsgImpl)_reqMsg)._rsslMsg;
+				int flags = rsslMsg.flags();
+				try
+				{
+					if (paused)
+						rsslMsg.flags(flags | RequestMsgFlags.PAUSE | RequestMsgFlags.NO_REFRESH);
+					else
+						rsslMsg.flags(flags & ~(RequestMsgFlags.PAUSE | RequestMsgFlags.NO_REFRESH));
+					_consumer.reissue(_reqMsg, handle);
+				}
+				finally
+				{
+					rsslMsg.flags(flags);
+				}
+			}
+			catch (OmmException e)
+			{
+				/* the item is not paused then, the buffer limit still applies */
+			}
+			finally
+			{
+				userLock.unlock();
+			}
+		}
+
+		private void fail(Throwable error, boolean unregister)
+		{
+			long handle;
+			_lock.lock();
+			try
+			{
+				if (_cancelled || _terminated || _error != null)
+					return;
+
+				_error = error;
+				_queue.clear();
+				handle = unregister && !_streamClosed ? _handle : 0;
+			}
+			finally
+			{
+				_lock.unlock();
+			}
+
+			if (handle != 0)
+				unregister(handle);
+
+			drain();
+		}
+
+		private void unregister(long handle)
+		{
+			try
+			{
+				_consumer.unregister(handle);
+			}
+			catch (OmmException e)
+			{
+				/* the item is closed already */
+			}
+		}
+
+		/* Replaces the payload of the latest update of the entry with the merged fields. If
+		 * the merged fields cannot be encoded, the latest update is delivered as it is. */
+		private Msg encodeMerged(Entry entry)
+		{
+			UpdateMsgImpl updateMsg = (UpdateMsgImpl)entry._msg;
+			com.refinitiv.eta.codec.UpdateMsg rsslMsg = (com.refinitiv.eta.codec.UpdateMsg)updateMsg._rsslMsg;
+
+			rsslMsg.applyHasConfInfo();
+			rsslMsg.conflationCount(Math.min(entry._mergedCount, MAX_CONFLATION_COUNT));
+			rsslMsg.conflationTime((int)Math.min((entry._lastMergedTime - entry._queuedTime) / 1000000, MAX_CONFLATION_TIME));
+
+			Buffer buffer = CodecFactory.createBuffer();
+			ByteBuffer byteBuffer = ByteBuffer.allocate(Math.max(rsslMsg.encodedMsgBuffer().length() * 2, 256));
+			int ret;
+			while ((ret = encode(rsslMsg, entry._fields, buffer, byteBuffer, updateMsg._rsslMajVer, updateMsg._rsslMinVer)) == CodecReturnCodes.BUFFER_TOO_SMALL)
+				byteBuffer = ByteBuffer.allocate(byteBuffer.capacity() * 2);
+
+			if (ret < CodecReturnCodes.SUCCESS)
+				return updateMsg;
+
+			buffer.data(byteBuffer, 0, byteBuffer.position());
+			String serviceName = updateMsg.hasServiceName() ? updateMsg.serviceName() : null;
+			updateMsg.decode(buffer, updateMsg._rsslMajVer, updateMsg._rsslMinVer, updateMsg._rsslDictionary, null);
+			if (serviceName != null)
+				updateMsg.service(serviceName);
+
+			return updateMsg;
+		}
+
+		private int encode(com.refinitiv.eta.codec.UpdateMsg rsslMsg, FieldListAccumulator fields, Buffer buffer, ByteBuffer byteBuffer,
+				int majorVersion, int minorVersion)
+		{
+			buffer.data(byteBuffer);
+			_encodeIter.clear();
+			_encodeIter.setBufferAndRWFVersion(buffer, majorVersion, minorVersion);
+
+			int ret = rsslMsg.encodeInit(_encodeIter, 0);
+			if (ret < CodecReturnCodes.SUCCESS)
+				return ret;
+
+			if ((ret = fields.encode(_encodeIter)) < CodecReturnCodes.SUCCESS)
+				return ret;
+
+			return rsslMsg.encodeComplete(_encodeIter, true);
+		}
+
+		private int conflationCount(MsgImpl msg)
+		{
+			com.refinitiv.eta.codec.UpdateMsg rsslMsg = (com.refinitiv.eta.codec.UpdateMsg)msg._rsslMsg;
+			return rsslMsg.checkHasConfInfo() && rsslMsg.conflationCount() > 0 ? rsslMsg.conflationCount() : 1;
+		}
+	}
+
+	private static class Entry
+	{
+		Msg _msg;
+		final long _queuedTime = System.nanoTime();
+		long _lastMergedTime;
+
+		/* set once another update is merged into this one */
+		FieldListAccumulator _fields;
+		int _mergedCount;
+
+		Entry(Msg msg)
+		{
+			_msg = msg;
+		}
+	}
+}
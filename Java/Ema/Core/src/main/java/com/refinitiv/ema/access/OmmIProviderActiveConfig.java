@@ -27,6 +27,9 @@ class OmmIProviderActiveConfig extends ActiveServerConfig
 	static final int DEFAULT_FIELD_DICT_FRAGMENT_SIZE         = 8192;
 	static final int DEFAULT_ENUM_TYPE_FRAGMENT_SIZE        = 12800;
 	static final int DEFAULT_REQUEST_TIMEOUT				= 15000;
+	static final int DEFAULT_SUBMIT_QUEUE_SIZE				= 0;
+	static final int DEFAULT_CLIENT_SESSION_QUEUE_SIZE		= 0;
+	static final int DEFAULT_CLIENT_SESSION_QUEUE_MAX_DELAY	= 0;
 	    
 	
 	int 						directoryAdminControl;
@@ -34,6 +37,9 @@ class OmmIProviderActiveConfig extends ActiveServerConfig
 	boolean						refreshFirstRequired;
 	int							maxFieldDictFragmentSize;
 	int							maxEnumTypeFragmentSize;
+	int							submitQueueSize;
+	int							clientSessionQueueSize;
+	int							clientSessionQueueMaxDelay;
 
 	OmmIProviderActiveConfig()
 	{
@@ -44,6 +50,9 @@ class OmmIProviderActiveConfig extends ActiveServerConfig
 		refreshFirstRequired = DEFAULT_REFRESH_FIRST_REQUIRED;
 		maxFieldDictFragmentSize = DEFAULT_FIELD_DICT_FRAGMENT_SIZE;
 		maxEnumTypeFragmentSize = DEFAULT_ENUM_TYPE_FRAGMENT_SIZE;
+		submitQueueSize = DEFAULT_SUBMIT_QUEUE_SIZE;
+		clientSessionQueueSize = DEFAULT_CLIENT_SESSION_QUEUE_SIZE;
+		clientSessionQueueMaxDelay = DEFAULT_CLIENT_SESSION_QUEUE_MAX_DELAY;
 	}
 	
 	StringBuilder configTrace()
@@ -54,7 +63,10 @@ class OmmIProviderActiveConfig extends ActiveServerConfig
 		.append("\n\t dictionaryAdminControl: ").append(dictionaryAdminControl) 
 		.append("\n\t refreshFirstRequired: ").append(refreshFirstRequired) 
 		.append("\n\t maxFieldDictFragmentSize: ").append(maxFieldDictFragmentSize)
-		.append("\n\t maxEnumTypeFragmentSize: ").append(maxEnumTypeFragmentSize);
+		.append("\n\t maxEnumTypeFragmentSize: ").append(maxEnumTypeFragmentSize)
+		.append("\n\t submitQueueSize: ").append(submitQueueSize)
+		.append("\n\t clientSessionQueueSize: ").append(clientSessionQueueSize)
+		.append("\n\t clientSessionQueueMaxDelay: ").append(clientSessionQueueMaxDelay);
 		
 		return traceStr;
 	}
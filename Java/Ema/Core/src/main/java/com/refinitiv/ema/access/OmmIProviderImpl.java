@@ -7,6 +7,8 @@
 
 package com.refinitiv.ema.access;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -14,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import com.refinitiv.ema.access.ConfigManager.ConfigAttributes;
 import com.refinitiv.ema.access.ConfigManager.ConfigElement;
+import com.refinitiv.ema.access.OmmIProviderConfig.OperationModel;
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.ema.access.ServiceIdConverter.ServiceIdConversionError;
 import com.refinitiv.ema.rdm.EmaRdm;
@@ -43,6 +46,8 @@ import com.refinitiv.eta.valueadd.domainrep.rdm.directory.Service.ServiceState;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannelEvent;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannelEventTypes;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorFactory;
 import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
 
 class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, DirectoryServiceStoreClient
@@ -55,6 +60,14 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	private ItemWatchList	_itemWatchList;
 	private ServiceIdConverter	_serviceIdConverter;
+	private volatile ProviderSubmitQueue _submitQueue;
+	private ProviderSubmitQueue.Entry _pendingQueuedSubmit;
+	private SubmitBatch _submitBatch = new SubmitBatch();
+	private boolean _drainingSubmitQueue;
+	private ReactorErrorInfo _submitQueueErrorInfo;
+	private ArrayList<ClientSession> _queuedClientSessions = new ArrayList<>();
+	private volatile boolean _hasQueuedClientSessions;
+	private ReactorErrorInfo _clientSessionErrorInfo = ReactorFactory.createReactorErrorInfo();
 	private static final long MIN_LONG_VALUE = 1;
     private static final long MAX_LONG_VALUE = Long.MAX_VALUE;
     
@@ -83,6 +96,8 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		_fanoutDirectoryMsg = DirectoryMsgFactory.createMsg();
 		
 		_serviceIdConverter = new ServiceIdConverter(_ommIProviderDirectoryStore);
+		
+		createSubmitQueue();
 	}
 	
 	OmmIProviderImpl(OmmProviderConfig config, OmmProviderClient ommProviderClient, OmmProviderErrorClient providerErrorClient, Object closure)
@@ -108,6 +123,8 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		_fanoutDirectoryMsg = DirectoryMsgFactory.createMsg();
 
 		_serviceIdConverter = new ServiceIdConverter(_ommIProviderDirectoryStore);
+		
+		createSubmitQueue();
 	}
 	
 	//only for unit test, internal use
@@ -134,6 +151,8 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		_fanoutDirectoryMsg = DirectoryMsgFactory.createMsg();
 
 		_serviceIdConverter = new ServiceIdConverter(_ommIProviderDirectoryStore);
+		
+		createSubmitQueue();
 	}
 
 	@Override
@@ -216,6 +235,27 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 			{
 				_activeConfig.enforceAckIDValidation = element.intLongValue() > 0 ? true : false;
 			}
+
+			element = (ConfigElement)iProviderAttributes.getElement(ConfigManager.IProviderSubmitQueueSize);
+
+			if (element != null)
+			{
+				_activeConfig.submitQueueSize = element.intLongValue() < 0 ? OmmIProviderActiveConfig.DEFAULT_SUBMIT_QUEUE_SIZE : element.intLongValue();
+			}
+
+			element = (ConfigElement)iProviderAttributes.getElement(ConfigManager.IProviderClientSessionQueueSize);
+
+			if (element != null)
+			{
+				_activeConfig.clientSessionQueueSize = element.intLongValue() < 0 ? OmmIProviderActiveConfig.DEFAULT_CLIENT_SESSION_QUEUE_SIZE : element.intLongValue();
+			}
+
+			element = (ConfigElement)iProviderAttributes.getElement(ConfigManager.IProviderClientSessionQueueMaxDelay);
+
+			if (element != null)
+			{
+				_activeConfig.clientSessionQueueMaxDelay = element.intLongValue() < 0 ? OmmIProviderActiveConfig.DEFAULT_CLIENT_SESSION_QUEUE_MAX_DELAY : element.intLongValue();
+			}
 			
 			element = (ConfigElement)iProviderAttributes.getElement(ConfigManager.DictionaryFieldDictFragmentSize);
 			
@@ -546,6 +586,9 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	@Override
 	public void submit(UpdateMsg updateMsg, long handle)
 	{
+		if (_submitQueue != null && queueSubmit((UpdateMsgImpl)updateMsg, handle))
+			return;
+		
 		userLock().lock();
 		
 		UpdateMsgImpl updateMsgImpl = (UpdateMsgImpl)updateMsg;
@@ -883,6 +926,9 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 
 	boolean submit(MsgImpl msgImpl, List<ItemInfo> itemInfoList, StringBuilder text, boolean applyDirectoryFilter)
 	{
+		if ( !drainSubmitQueueLocked() )
+			return submitQueueBlocked(msgImpl);
+		
 		ItemInfo itemInfo;
 		
 		for( int index = 0; index < itemInfoList.size(); index++ )
@@ -1006,6 +1052,7 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 				{
 					_rsslErrorInfo.clear();
 					
+					_submitBatch.channel(itemInfo.clientSession().channel());
 					int ret = itemInfo.clientSession().channel().submit(rdmMsgBase, _rsslSubmitOptions, _rsslErrorInfo);
 					
 					if (ReactorReturnCodes.SUCCESS > ret )
@@ -1082,9 +1129,12 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	
 	boolean submit(MsgImpl msgImpl, ClientSession clientSession)
 	{
+		if ( !drainSubmitQueueLocked() )
+			return submitQueueBlocked(msgImpl);
+		
 		_rsslErrorInfo.clear();
 		int ret;
-		if (ReactorReturnCodes.SUCCESS > (ret = clientSession.channel().submit(msgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
+		if (ReactorReturnCodes.SUCCESS > (ret = submit(msgImpl._rsslMsg, clientSession, _rsslErrorInfo)))
 	    {			
 			if (loggerClient().isErrorEnabled())
         	{
@@ -1115,6 +1165,325 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		return true;
 	}
 	
+	/* The submit queue lets publisher threads submit UpdateMsgs of item streams without
+	 * waiting for the userLock while the EMA API thread dispatches; the EMA API thread
+	 * submits the queued messages to the channel. It is only used with API_DISPATCH. */
+	private void createSubmitQueue()
+	{
+		if (_activeConfig.submitQueueSize > 0 && _activeConfig.userDispatch == OperationModel.API_DISPATCH)
+		{
+			_submitQueueErrorInfo = ReactorFactory.createReactorErrorInfo();
+			_submitQueue = new ProviderSubmitQueue(_activeConfig.submitQueueSize);
+		}
+	}
+	
+	/* Returns false if the message must be submitted under the userLock instead, e.g. it
+	 * needs validation against the directory or the handle is not valid (the error is
+	 * reported by the synchronous path). */
+	private boolean queueSubmit(UpdateMsgImpl updateMsgImpl, long handle)
+	{
+		if ( handle == 0 || userLock().isHeldByCurrentThread() )
+			return false;
+		
+		int domainType = updateMsgImpl.domainType();
+		if ( domainType == EmaRdm.MMT_LOGIN || domainType == EmaRdm.MMT_DIRECTORY || domainType == EmaRdm.MMT_DICTIONARY )
+			return false;
+		
+		if ( ( updateMsgImpl._rsslMsg.flags() & UpdateMsgFlags.HAS_MSG_KEY ) != 0 )
+			return false;
+		
+		ItemInfo itemInfo = findItemInfo(handle);
+		if ( itemInfo == null || ( _activeConfig.refreshFirstRequired && !itemInfo.isSentRefresh() ) )
+			return false;
+		
+		if ( !_submitQueue.offer(handle, updateMsgImpl._rsslMsg) )
+			return false;
+		
+		if ( _submitQueue.wakeupRequired() )
+		{
+			try
+			{
+				pipeWrite();
+			}
+			catch (IOException e)
+			{
+				/* the queue is drained on the next pass of the dispatch loop anyway */
+			}
+		}
+		
+		return true;
+	}
+	
+	@Override
+	void drainSubmitQueue()
+	{
+		if ( _hasQueuedClientSessions )
+		{
+			userLock().lock();
+			try
+			{
+				drainClientSessions();
+			}
+			finally
+			{
+				userLock().unlock();
+			}
+		}
+		
+		if ( _submitQueue == null || ( _submitQueue.isEmpty() && _pendingQueuedSubmit == null ) )
+			return;
+		
+		userLock().lock();
+		try
+		{
+			drainSubmitQueueLocked();
+		}
+		finally
+		{
+			userLock().unlock();
+		}
+	}
+	
+	/* Called with the userLock held, also before every synchronous submit so that
+	 * messages of a publisher thread are not reordered. Returns false if a queued
+	 * message is still waiting for output buffers; a synchronous submit must then
+	 * fail instead of overtaking it. */
+	private boolean drainSubmitQueueLocked()
+	{
+		if ( _submitQueue == null || _drainingSubmitQueue )
+			return true;
+		
+		_drainingSubmitQueue = true;
+		try
+		{
+			_submitQueue.wakeupDone();
+			
+			if ( _pendingQueuedSubmit != null )
+			{
+				ProviderSubmitQueue.Entry entry = _pendingQueuedSubmit;
+				_pendingQueuedSubmit = null;
+				if ( !submitQueued(entry) )
+					return false;
+				_submitQueue.release(entry);
+			}
+			
+			ProviderSubmitQueue.Entry entry;
+			while ( ( entry = _submitQueue.poll() ) != null )
+			{
+				if ( !submitQueued(entry) )
+					return false;
+				_submitQueue.release(entry);
+			}
+			
+			return true;
+		}
+		finally
+		{
+			_drainingSubmitQueue = false;
+		}
+	}
+	
+	/* Fails a synchronous submit while queued messages wait for output buffers. */
+	private boolean submitQueueBlocked(MsgImpl msgImpl)
+	{
+		userLock().unlock();
+		strBuilder().append("Failed to submit ")
+			.append(DataType.asString(msgImpl.dataType())).append(". Reason: ")
+			.append(ReactorReturnCodes.toString(ReactorReturnCodes.NO_BUFFERS))
+			.append(". Error text: ")
+			.append(_submitQueue.size() + 1).append(" queued UpdateMsgs are waiting for output buffers.");
+		
+		handleInvalidUsage(_strBuilder.toString(), ReactorReturnCodes.NO_BUFFERS);
+		return false;
+	}
+	
+	/* Returns false when the channel is out of buffers; the entry is kept and the
+	 * queue is drained again on the next pass of the dispatch loop. */
+	private boolean submitQueued(ProviderSubmitQueue.Entry entry)
+	{
+		ItemInfo itemInfo = getItemInfo(entry._handle);
+		
+		if ( itemInfo == null )
+		{
+			queuedSubmitFailed(strBuilder().append("Dropping queued UpdateMsg for the closed Handle = ")
+					.append(entry._handle).append(".").toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+			return true;
+		}
+		
+		entry._rsslMsg.streamId((int)itemInfo.streamId().value());
+		
+		_submitQueueErrorInfo.clear();
+		int ret = submit(entry._rsslMsg, itemInfo.clientSession(), _submitQueueErrorInfo);
+		if ( ret == ReactorReturnCodes.NO_BUFFERS )
+		{
+			_pendingQueuedSubmit = entry;
+			return false;
+		}
+		else if ( ret < ReactorReturnCodes.SUCCESS )
+		{
+			queuedSubmitFailed(strBuilder().append("Failed to submit queued UpdateMsg for Handle = ").append(entry._handle)
+					.append(". Reason: ").append(ReactorReturnCodes.toString(ret))
+					.append(". Error text: ").append(_submitQueueErrorInfo.error().text()).toString(), ret);
+		}
+		
+		return true;
+	}
+	
+	/* Submits the message to the channel of the client session. With ClientSessionQueueSize
+	 * set, a message the channel has no buffer for is queued for the session instead, as is
+	 * every message behind it until the queue drains; see ClientSessionQueue. A session whose
+	 * queue overflows is evicted: its messages are dropped and it is disconnected by the
+	 * EMA API thread. Called with the userLock held. */
+	private int submit(Msg rsslMsg, ClientSession clientSession, ReactorErrorInfo errorInfo)
+	{
+		ReactorChannel reactorChannel = clientSession.channel();
+		if ( _activeConfig.clientSessionQueueSize == 0 )
+		{
+			_submitBatch.channel(reactorChannel);
+			return reactorChannel.submit(rsslMsg, _rsslSubmitOptions, errorInfo);
+		}
+		
+		ClientSessionQueue queue = clientSession.outboundQueue();
+		if ( queue != null )
+		{
+			if ( queue.evicted() )
+				return ReactorReturnCodes.SUCCESS;
+			
+			drainClientSession(clientSession);
+		}
+		
+		if ( queue == null || queue.isEmpty() )
+		{
+			_submitBatch.channel(reactorChannel);
+			int ret = reactorChannel.submit(rsslMsg, _rsslSubmitOptions, errorInfo);
+			if ( ret != ReactorReturnCodes.NO_BUFFERS )
+				return ret;
+			
+			if ( queue == null )
+			{
+				queue = new ClientSessionQueue(clientSession._majorVersion, clientSession._minorVersion);
+				clientSession.outboundQueue(queue);
+			}
+		}
+		
+		if ( !queue.offer(rsslMsg, _activeConfig.clientSessionQueueSize) )
+		{
+			evictClientSession(clientSession, strBuilder().append("more than ").append(_activeConfig.clientSessionQueueSize)
+					.append(" messages are queued").toString());
+		}
+		
+		if ( !_queuedClientSessions.contains(clientSession) )
+		{
+			_queuedClientSessions.add(clientSession);
+			_hasQueuedClientSessions = true;
+		}
+		
+		return ReactorReturnCodes.SUCCESS;
+	}
+	
+	/* Submits the queued messages of the client session until its channel is out of buffers. */
+	private void drainClientSession(ClientSession clientSession)
+	{
+		ClientSessionQueue queue = clientSession.outboundQueue();
+		ReactorChannel reactorChannel = clientSession.channel();
+		Msg rsslMsg;
+		
+		while ( ( rsslMsg = queue.head() ) != null )
+		{
+			_clientSessionErrorInfo.clear();
+			_submitBatch.channel(reactorChannel);
+			int ret = reactorChannel.submit(rsslMsg, _rsslSubmitOptions, _clientSessionErrorInfo);
+			if ( ret == ReactorReturnCodes.NO_BUFFERS )
+				return;
+			
+			queue.removeHead();
+			
+			if ( ret < ReactorReturnCodes.SUCCESS )
+			{
+				/* the channel is going down, the session is closed on the channel event */
+				if ( loggerClient().isErrorEnabled() )
+				{
+					strBuilder().append("Dropping ").append(queue.size() + 1).append(" queued messages for client handle ")
+						.append(clientSession.clientHandle().value()).append(". Reason: ").append(ReactorReturnCodes.toString(ret))
+						.append(". Error text: ").append(_clientSessionErrorInfo.error().text());
+					loggerClient().error(formatLogMessage(instanceName(), _strBuilder.toString(), Severity.ERROR));
+				}
+				
+				queue.clear();
+				return;
+			}
+		}
+	}
+	
+	/* Called by the EMA API thread with the userLock held. */
+	private void drainClientSessions()
+	{
+		long now = System.nanoTime();
+		long maxDelay = _activeConfig.clientSessionQueueMaxDelay * 1000000L;
+		
+		for ( int index = _queuedClientSessions.size() - 1; index >= 0; --index )
+		{
+			ClientSession clientSession = _queuedClientSessions.get(index);
+			ClientSessionQueue queue = clientSession.outboundQueue();
+			
+			if ( queue == null || clientSession.channel() == null )
+			{
+				_queuedClientSessions.remove(index);
+				continue;
+			}
+			
+			if ( !queue.evicted() )
+			{
+				drainClientSession(clientSession);
+				
+				if ( queue.isEmpty() )
+				{
+					_queuedClientSessions.remove(index);
+					continue;
+				}
+				
+				if ( maxDelay > 0 && now - queue.headQueuedTime() > maxDelay )
+				{
+					evictClientSession(clientSession, strBuilder().append("a message is queued for more than ")
+							.append(_activeConfig.clientSessionQueueMaxDelay).append(" milliseconds").toString());
+				}
+				else
+					continue;
+			}
+			
+			_queuedClientSessions.remove(index);
+			_itemWatchList.processCloseLogin(clientSession);
+			serverChannelHandler().closeChannel(clientSession.channel());
+		}
+		
+		_hasQueuedClientSessions = !_queuedClientSessions.isEmpty();
+	}
+	
+	private void evictClientSession(ClientSession clientSession, String reason)
+	{
+		ClientSessionQueue queue = clientSession.outboundQueue();
+		
+		if ( loggerClient().isWarnEnabled() )
+		{
+			StringBuilder temp = strBuilder();
+			temp.append("Disconnecting slow client handle ").append(clientSession.clientHandle().value())
+				.append(" as ").append(reason).append(". Dropping ").append(queue.size()).append(" queued messages.");
+			loggerClient().warn(formatLogMessage(instanceName(), temp.toString(), Severity.WARNING));
+		}
+		
+		queue.evict();
+	}
+	
+	/* Errors of queued messages are raised on the EMA API thread; they go to the error
+	 * client if there is one, exceptions would only stop the dispatch loop. */
+	private void queuedSubmitFailed(String text, int errorCode)
+	{
+		if ( hasErrorClient() )
+			handleInvalidUsage(text, errorCode);
+		else if ( loggerClient().isErrorEnabled() )
+			loggerClient().error(formatLogMessage(instanceName(), text, Severity.ERROR));
+	}
+	
 	void handleItemGroup(ItemInfo itemInfo, Buffer groupId, State state)
 	{
 		if ( ( groupId.length() < 2 ) || ( groupId.data().get(0) == 0 && groupId.data().get(1) == 0 ) 
@@ -1231,6 +1600,43 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		return super.dispatch(timeOut);
 	}
 
+	@Override
+	public void beginSubmitBatch()
+	{
+		userLock().lock();
+		_submitBatch.begin();
+	}
+	
+	@Override
+	public void endSubmitBatch()
+	{
+		if ( !userLock().isHeldByCurrentThread() || !_submitBatch.active() )
+		{
+			handleInvalidUsage("Attempt to end a submit batch that was not started by this thread.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+			return;
+		}
+		
+		int ret = _submitBatch.end();
+		if ( ret < ReactorReturnCodes.SUCCESS )
+		{
+			StringBuilder temp = strBuilder();
+			temp.append("Failed to write the messages of the submit batch. Reason: ")
+				.append(ReactorReturnCodes.toString(ret))
+				.append(". Error text: ")
+				.append(_submitBatch.errorText());
+			String text = temp.toString();
+			
+			if ( loggerClient().isErrorEnabled() )
+				loggerClient().error(formatLogMessage(instanceName(), text, Severity.ERROR));
+			
+			userLock().unlock();
+			handleInvalidUsage(text, ret);
+			return;
+		}
+		
+		userLock().unlock();
+	}
+
 	@Override
 	public void unregister(long handle)
 	{
@@ -1241,6 +1647,18 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	public void uninitialize()
 	{
 		super.uninitialize();
+		
+		_submitBatch.clear();
+		
+		if (_submitQueue != null)
+		{
+			if (_pendingQueuedSubmit != null)
+			{
+				_submitQueue.release(_pendingQueuedSubmit);
+				_pendingQueuedSubmit = null;
+			}
+			_submitQueue.clear();
+		}
 	}
 
 	@Override
@@ -1443,6 +1861,8 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 			if ( _itemWatchList != null )
 				_itemWatchList.processChannelEvent(reactorChannelEvent);
 			
+			_submitBatch.channelDown(reactorChannelEvent.reactorChannel());
+			
 			break;
 		default:
 			break;
@@ -1492,6 +1912,23 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		return;
 	}
 
+	@Override
+	public void clientSessionStatistics(List<ClientSessionStatistics> stats)
+	{
+		stats.clear();
+		
+		userLock().lock();
+		try
+		{
+			for (ClientSession clientSession : serverChannelHandler().clientSessionMap().values())
+				stats.add(new ClientSessionStatisticsImpl(clientSession.clientHandle().value(), clientSession.outboundQueue()));
+		}
+		finally
+		{
+			userLock().unlock();
+		}
+	}
+
 	@Override
 	public void channelInformation(ChannelInformation ci) {
 		StringBuilder temp = strBuilder();
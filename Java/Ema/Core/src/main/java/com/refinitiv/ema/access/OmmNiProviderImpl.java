@@ -51,6 +51,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 	private int _nextProviderStreamId;
 	private List<IntObject> _reusedProviderStreamIds;
 	private LongObject _longObject = new LongObject();
+	private SubmitBatch _submitBatch = new SubmitBatch();
 	private ItemWatchList	_itemWatchList;
 	private OmmNiProviderDirectoryStore _ommNiProviderDirectoryStore;
 	private OmmProviderClient _adminClient;
@@ -286,6 +287,8 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 	public void uninitialize()
 	{
 		super.uninitialize();
+		
+		_submitBatch.clear();
 	}
 
 	@Override
@@ -364,6 +367,43 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		return super.dispatch(timeOut);
 	}
 	
+	@Override
+	public void beginSubmitBatch()
+	{
+		userLock().lock();
+		_submitBatch.begin();
+	}
+	
+	@Override
+	public void endSubmitBatch()
+	{
+		if ( !userLock().isHeldByCurrentThread() || !_submitBatch.active() )
+		{
+			handleInvalidUsage("Attempt to end a submit batch that was not started by this thread.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+			return;
+		}
+		
+		int ret = _submitBatch.end();
+		if ( ret < ReactorReturnCodes.SUCCESS )
+		{
+			StringBuilder temp = strBuilder();
+			temp.append("Failed to write the messages of the submit batch. Reason: ")
+				.append(ReactorReturnCodes.toString(ret))
+				.append(". Error text: ")
+				.append(_submitBatch.errorText());
+			String text = temp.toString();
+			
+			if ( loggerClient().isErrorEnabled() )
+				loggerClient().error(formatLogMessage(instanceName(), text, Severity.ERROR));
+			
+			userLock().unlock();
+			handleInvalidUsage(text, ret);
+			return;
+		}
+		
+		userLock().unlock();
+	}
+
 	@Override
 	public void unregister(long handle)
 	{
@@ -603,6 +643,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		
 		_rsslErrorInfo.clear();
 		int ret;
+		_submitBatch.channel(_activeChannelInfo.rsslReactorChannel());
 		if (ReactorReturnCodes.SUCCESS > (ret = _activeChannelInfo.rsslReactorChannel().submit(refreshMsgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
 	    {
 			if (bHandleAdded)
@@ -864,6 +905,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		
 		_rsslErrorInfo.clear();
 		int ret;
+		_submitBatch.channel(_activeChannelInfo.rsslReactorChannel());
 		if (ReactorReturnCodes.SUCCESS > (ret = _activeChannelInfo.rsslReactorChannel().submit(updateMsgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
 	    {
 			if (bHandleAdded)
@@ -1097,6 +1139,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		
 		_rsslErrorInfo.clear();
 		int ret;
+		_submitBatch.channel(_activeChannelInfo.rsslReactorChannel());
 		if (ReactorReturnCodes.SUCCESS > (ret = _activeChannelInfo.rsslReactorChannel().submit(statusMsgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
 	    {
 			if (bHandleAdded)
@@ -1193,6 +1236,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		
 		_rsslErrorInfo.clear();
 		int ret;
+		_submitBatch.channel(_activeChannelInfo.rsslReactorChannel());
 		if (ReactorReturnCodes.SUCCESS > (ret = _activeChannelInfo.rsslReactorChannel().submit(((GenericMsgImpl)genericMsg)._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
 	    {
 			if (loggerClient().isErrorEnabled())
@@ -1321,6 +1365,7 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 			if ( _activeConfig.removeItemsOnDisconnect )
 				removeItems();
 			
+			_submitBatch.channelDown(reactorChannelEvent.reactorChannel());
 			_activeChannelInfo = null;
 			userLock().unlock();
 			break;
@@ -337,6 +337,36 @@ public interface OmmProvider
 	 */
 	public void submit(AckMsg ackMsg, long handle);
 	
+	/**
+	 * Starts a batch of submits made by the calling thread.
+	 * <p>Until the matching {@link #endSubmitBatch()}, the messages this thread submits
+	 * are packed into shared transport buffers instead of being written one at a time,
+	 * and the OmmProvider stays locked for this thread. Other threads, including the
+	 * thread dispatching callbacks, wait until the batch ends, so a batch should only
+	 * span the submits of one publishing cycle.</p>
+	 * <p>Each call must be paired with a call to endSubmitBatch() from the same thread,
+	 * typically in a finally block. Batches may be nested, the messages are written
+	 * when the outermost batch ends.</p>
+	 * <p>The default implementation does nothing, the messages are then written as they
+	 * are submitted.</p>
+	 * <p>This method is ObjectLevelSafe.</p>
+	 */
+	public default void beginSubmitBatch()
+	{
+	}
+	
+	/**
+	 * Ends a batch of submits started with {@link #beginSubmitBatch()} and writes the
+	 * messages packed during the batch.
+	 * <p>This method is ObjectLevelSafe.</p>
+	 * 
+	 * @throws OmmInvalidUsageException if the calling thread did not start a batch or
+	 *         the packed messages could not be written
+	 */
+	public default void endSubmitBatch()
+	{
+	}
+	
 	/**
 	 * Relinquishes application thread of control to receive callbacks via OmmProviderClient descendant.
 	 * Requires OperationalModel to be set to {@link OmmNiProviderConfig.OperationModel#USER_DISPATCH}.
@@ -385,6 +415,22 @@ public interface OmmProvider
 	 */
 	public void connectedClientChannelInfo(List<ChannelInformation> ci);
 
+	/**
+	 * Returns the outbound queue statistics of the clients connected to an IProvider
+	 * application. Messages are only queued when ClientSessionQueueSize is configured.
+	 * <p>The default implementation throws OmmInvalidUsageException.</p>
+	 * <p> This method is ObjectLevelSafe.</p>
+	 *
+	 * @throws OmmInvalidUsageException if is called by an NiProvider application.
+	 *
+	 * @param stats the ClientSessionStatistics List
+	 */
+	public default void clientSessionStatistics(List<ClientSessionStatistics> stats)
+	{
+		throw new OmmInvalidUsageExceptionImpl().message("Only IProvider applications support the clientSessionStatistics method",
+				OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+	}
+
 	/**
 	 * Returns the channel information for an NiProvider application. The channel would be
 	 * the channel used to connect to the ADH, for example.
@@ -70,7 +70,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	private OmmJsonConverterExceptionImpl ommJCExcept;
 	protected LongObject _longValue = new LongObject();
 	
-	private HashMap<LongObject, ItemInfo>	_itemInfoMap;
+	private ConcurrentLongObjectHashTable<ItemInfo>	_itemInfoMap;
 	
 	private ReentrantLock _userLock = new java.util.concurrent.locks.ReentrantLock();
 	private ReentrantLock _dispatchLock = new java.util.concurrent.locks.ReentrantLock();	
@@ -156,7 +156,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new ConcurrentLongObjectHashTable<>();
 		_ommProviderClient = ommProviderClient;
 		_closure = closure;
 		_ommProviderEvent = new OmmEventImpl<OmmProviderEvent>();
@@ -165,7 +165,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, OmmProviderErrorClient providerErrorClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new ConcurrentLongObjectHashTable<>();
 		_ommProviderClient = ommProviderClient;
 		_ommProviderErrorClient = providerErrorClient;
 		_closure = closure;
@@ -492,10 +492,16 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 				_loggerClient.trace(formatLogMessage(_activeServerConfig.instanceName, 
 					"Print out active configuration detail." + _activeServerConfig.configTrace().toString(), Severity.TRACE));
 			}
+			
+			_pipe = Pipe.open();
 	    } 
 		catch (OmmException exception)
 		{
 				throw exception;
+		}
+		catch (IOException exception)
+		{
+			throw (ommIUExcept().message("Failed to open Pipe: " + exception.getLocalizedMessage(), OmmInvalidUsageException.ErrorCode.INTERNAL_ERROR));
 		} finally
 		{
 			if (_userLock.isLocked())
@@ -1128,6 +1134,11 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 		pipeWrite();
 	}
 	
+	/* Called by the dispatch loop without the userLock, see OmmIProviderImpl. */
+	void drainSubmitQueue()
+	{
+	}
+	
 	void pipeWrite() throws IOException
 	{
 		if (_pipe.sink().isOpen() && _pipeWriteCount.incrementAndGet() == 1)
@@ -1224,6 +1235,8 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 					selectCount = _selector.select(selectTimeout > 0 ? selectTimeout : MIN_TIME_FOR_SELECT_IN_MILLISEC);
 				}
 
+				drainSubmitQueue();
+
 				if (selectCount > 0 || !_selector.selectedKeys().isEmpty())
 				{
 					Iterator<SelectionKey> iter = _selector.selectedKeys().iterator();
@@ -1293,6 +1306,11 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 						}
 					}
 					
+					/* a channel out of buffers is flushed by the worker thread, whose FLUSH_DONE
+					 * event the Reactor has just dispatched; drain what was queued for it now
+					 * rather than after the next select() */
+					drainSubmitQueue();
+					
 					if ( _eventReceived ) return true;
 					
 					loopCount = 0;
@@ -1423,7 +1441,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.put(itemInfo.handle(), itemInfo);
+		_itemInfoMap.put(itemInfo.handle().value(), itemInfo);
 		itemInfo.clientSession().addItemInfo(itemInfo);
 		
 		if ( loggerClient().isTraceEnabled( ))
@@ -1441,7 +1459,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.remove(itemInfo.handle());
+		_itemInfoMap.remove(itemInfo.handle().value());
 		itemInfo.clientSession().removeItemInfo(itemInfo);
 		
 		if ( eraseItemGroup && itemInfo.hasItemGroup() )
@@ -1466,15 +1484,21 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_longValue.value(handle);
-		
-		ItemInfo itemInfo = _itemInfoMap.get(_longValue);
+		ItemInfo itemInfo = _itemInfoMap.get(handle);
 		
 		_userLock.unlock();
 		
 		return itemInfo;
 	}
 	
+	/* Looks the handle up without the userLock, the map is concurrent. The ItemInfo may be
+	 * removed and reused for another item as soon as this returns, so it is only good for a
+	 * hint; look the handle up again with getItemInfo() before the ItemInfo is used. */
+	ItemInfo findItemInfo(long handle)
+	{
+		return _itemInfoMap.get(handle);
+	}
+	
 	void addItemGroup(ItemInfo itemInfo, Buffer groupId)
 	{
 		_userLock.lock();
@@ -525,6 +525,9 @@ class PostMsgImpl extends MsgImpl implements PostMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
@@ -1186,6 +1186,26 @@ class ProgrammaticConfigure
 												if (eentry.intValue() >= 0)
 													((ActiveConfig)activeConfig).maxOutstandingPosts = convertToInt(eentry.intValue());
 											}
+											else if ( eentry.name().equals("CallbackDispatchThreads"))
+											{
+												if (eentry.intValue() >= 0)
+													((OmmConsumerActiveConfig)activeConfig).callbackDispatchThreads = convertToInt(eentry.intValue());
+											}
+											else if ( eentry.name().equals("CallbackDispatchQueueSize"))
+											{
+												if (eentry.intValue() > 0)
+													((OmmConsumerActiveConfig)activeConfig).callbackDispatchQueueSize = convertToInt(eentry.intValue());
+											}
+											else if ( eentry.name().equals("ConflationTime"))
+											{
+												if (eentry.intValue() >= 0)
+													((OmmConsumerActiveConfig)activeConfig).conflationTime = convertToInt(eentry.intValue());
+											}
+											else if ( eentry.name().equals("ConflationCount"))
+											{
+												if (eentry.intValue() >= 0)
+													((OmmConsumerActiveConfig)activeConfig).conflationCount = convertToInt(eentry.intValue());
+											}
 											else if ( eentry.name().equals("DirectoryRequestTimeOut"))
 											{
 												if (eentry.intValue() >= 0)
@@ -1350,6 +1370,21 @@ class ProgrammaticConfigure
 													{
 														((OmmIProviderActiveConfig)activeConfig).refreshFirstRequired = eentry.intValue() > 0 ? true : false;
 													}
+													else if (eentry.name().equals("SubmitQueueSize"))
+													{
+														if (eentry.intValue() >= 0)
+															((OmmIProviderActiveConfig)activeConfig).submitQueueSize = convertToInt(eentry.intValue());
+													}
+													else if (eentry.name().equals("ClientSessionQueueSize"))
+													{
+														if (eentry.intValue() >= 0)
+															((OmmIProviderActiveConfig)activeConfig).clientSessionQueueSize = convertToInt(eentry.intValue());
+													}
+													else if (eentry.name().equals("ClientSessionQueueMaxDelay"))
+													{
+														if (eentry.intValue() >= 0)
+															((OmmIProviderActiveConfig)activeConfig).clientSessionQueueMaxDelay = convertToInt(eentry.intValue());
+													}
 													else if (eentry.name().equals("EnumTypeFragmentSize"))
 													{
 														if (eentry.intValue() >= 0)
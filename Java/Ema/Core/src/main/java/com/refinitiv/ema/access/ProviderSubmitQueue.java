@@ -0,0 +1,199 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+
+/* Hands messages submitted by publisher threads over to the EMA API thread of an
+ * OmmIProvider without taking the userLock. Messages are copied when they are
+ * queued, so the publisher may reuse its message as soon as submit() returns.
+ *
+ * The queue is a ring of capacity preallocated entries. A publisher claims the
+ * next free entry, encodes its message into the buffer of the entry and decodes
+ * it back into the Msg of the entry, so queuing allocates nothing once the buffer
+ * of every entry has grown to the size of the messages. The EMA API thread polls
+ * the entries in order and hands each one back with release() once it has been
+ * submitted.
+ *
+ * Messages offered by one thread are polled in the order they were offered. The
+ * queue holds at most capacity messages, polled ones included until they are
+ * released; offer() returns false once it is full and the caller is expected to
+ * submit the message directly instead. */
+class ProviderSubmitQueue
+{
+	private static final int MIN_BUFFER_SIZE = 256;
+
+	private final Entry[] _entries;
+	private final AtomicLong _tail = new AtomicLong();
+	private volatile long _head; /* only written by the polling thread */
+	private final AtomicBoolean _wakeupPending = new AtomicBoolean();
+	private final int _capacity;
+
+	ProviderSubmitQueue(int capacity)
+	{
+		_capacity = capacity;
+		_entries = new Entry[capacity];
+		for (int i = 0; i < capacity; i++)
+			_entries[i] = new Entry(i);
+	}
+
+	int capacity()
+	{
+		return _capacity;
+	}
+
+	int size()
+	{
+		return (int)(_tail.get() - _head);
+	}
+
+	boolean isEmpty()
+	{
+		return _tail.get() == _head;
+	}
+
+	boolean offer(long handle, Msg rsslMsg)
+	{
+		Entry entry;
+		long position;
+		while (true)
+		{
+			position = _tail.get();
+			entry = _entries[(int)(position % _capacity)];
+			long available = entry._sequence - position;
+			if (available < 0)
+				return false;
+			if (available == 0 && _tail.compareAndSet(position, position + 1))
+				break;
+		}
+
+		/* a message that cannot be copied is still published so that the ring stays in
+		 * order; poll() skips it and the caller submits the message directly */
+		entry._handle = handle;
+		entry._valid = false;
+		try
+		{
+			entry._valid = entry.copy(rsslMsg);
+		}
+		finally
+		{
+			entry._sequence = position + 1;
+		}
+		return entry._valid;
+	}
+
+	/* Returns the oldest queued entry, or null. The entry stays in the queue until it
+	 * is released. */
+	Entry poll()
+	{
+		while (true)
+		{
+			long position = _head;
+			Entry entry = _entries[(int)(position % _capacity)];
+			if (entry._sequence != position + 1)
+				return null;
+
+			entry._position = position;
+			_head = position + 1;
+			if (entry._valid)
+				return entry;
+
+			release(entry);
+		}
+	}
+
+	/* Hands a polled entry back for reuse. Entries are released in the order they
+	 * were polled. */
+	void release(Entry entry)
+	{
+		entry._rsslMsg.clear();
+		entry._sequence = entry._position + _capacity;
+	}
+
+	/* Returns true for the first offer after the last wakeupDone(), i.e. when the
+	 * EMA API thread needs to be woken up to drain the queue. */
+	boolean wakeupRequired()
+	{
+		return _wakeupPending.compareAndSet(false, true);
+	}
+
+	/* Called by the EMA API thread before it drains the queue. */
+	void wakeupDone()
+	{
+		_wakeupPending.set(false);
+	}
+
+	void clear()
+	{
+		Entry entry;
+		while ((entry = poll()) != null)
+			release(entry);
+	}
+
+	static class Entry
+	{
+		long _handle;
+		final Msg _rsslMsg = CodecFactory.createMsg();
+
+		private volatile long _sequence;
+		private long _position;
+		private boolean _valid;
+		private final Buffer _buffer = CodecFactory.createBuffer();
+		private ByteBuffer _byteBuffer;
+		private final EncodeIterator _encodeIter = CodecFactory.createEncodeIterator();
+		private final DecodeIterator _decodeIter = CodecFactory.createDecodeIterator();
+
+		Entry(long sequence)
+		{
+			_sequence = sequence;
+		}
+
+		/* Encodes the message into the buffer of the entry, which is grown until the
+		 * message fits and then kept, and decodes it into the Msg of the entry. */
+		private boolean copy(Msg rsslMsg)
+		{
+			if (_byteBuffer == null)
+				_byteBuffer = ByteBuffer.allocate(Math.max(MIN_BUFFER_SIZE, rsslMsg.encodedDataBody().length() + MIN_BUFFER_SIZE));
+
+			int ret;
+			while (true)
+			{
+				_byteBuffer.clear();
+				_buffer.data(_byteBuffer);
+				_encodeIter.clear();
+				if (_encodeIter.setBufferAndRWFVersion(_buffer, Codec.majorVersion(), Codec.minorVersion()) < CodecReturnCodes.SUCCESS)
+					return false;
+
+				if ((ret = rsslMsg.encode(_encodeIter)) != CodecReturnCodes.BUFFER_TOO_SMALL)
+					break;
+
+				_byteBuffer = ByteBuffer.allocate(_byteBuffer.capacity() * 2);
+			}
+
+			if (ret < CodecReturnCodes.SUCCESS)
+				return false;
+
+			_buffer.data(_byteBuffer, 0, _byteBuffer.position());
+			_decodeIter.clear();
+			_rsslMsg.clear();
+			return _decodeIter.setBufferAndRWFVersion(_buffer, Codec.majorVersion(), Codec.minorVersion()) >= CodecReturnCodes.SUCCESS
+					&& _rsslMsg.decode(_decodeIter) >= CodecReturnCodes.SUCCESS;
+		}
+	}
+}
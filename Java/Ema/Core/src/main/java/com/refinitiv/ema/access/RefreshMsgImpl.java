@@ -630,6 +630,9 @@ class RefreshMsgImpl extends MsgImpl implements RefreshMsg
 		_rsslNestedMsg.clear();
 
 		_rsslMsg = _rsslNestedMsg;
+
+		_attribPending = false;
+		_payloadPending = false;
 		
 		_rsslBuffer = rsslBuffer;
 
@@ -402,4 +402,22 @@ public interface ReqMsg extends Msg
 	 * @return reference to this object
 	 */
 	public ReqMsg privateStream(boolean privateStream);
+
+	/**
+	 * Specifies Conflation of the item updates by OmmConsumer.<br>
+	 * Updates with a FieldList payload that arrive while earlier updates of the item are
+	 * pending are merged field by field into one update. The merged update is delivered
+	 * once conflationTime milliseconds have passed since the first pending update or
+	 * conflationCount updates have been merged, whichever comes first, and before any
+	 * other message of the item. Its conflatedCount() and conflatedTime() report the
+	 * number of updates merged into it and the conflation window in milliseconds.<br>
+	 * Zero disables the respective limit; zero for both disables conflation for the item.
+	 * Overrides the ConflationTime and ConflationCount consumer configuration. Conflation
+	 * is done locally and is not requested from the provider.
+	 * 
+	 * @param conflationTime conflation window in milliseconds
+	 * @param conflationCount maximum number of updates merged into one
+	 * @return reference to this object
+	 */
+	public ReqMsg conflation(int conflationTime, int conflationCount);
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 	private com.refinitiv.eta.codec.ArrayEntry _rsslArrayEntry;
 	private com.refinitiv.eta.codec.Buffer _rsslItemBuffer;
     private List<String> _batchItemList;
+	private int _conflationTime = -1;
+	private int _conflationCount = -1;
 	
     ReqMsgImpl()
 	{
@@ -86,6 +88,9 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		if (other.hasServiceName())
 			serviceName(other.serviceName());
 
+		_conflationTime = ((ReqMsgImpl)other)._conflationTime;
+		_conflationCount = ((ReqMsgImpl)other)._conflationCount;
+
 		if (other.payload().dataType() != DataTypes.NO_DATA) {
 			_rsslMsg.encodedDataBody(CodecFactory.createBuffer());
 			payload(other.payload().data());
@@ -97,6 +102,8 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 	{
 		msgClear();
 		initialEncoding();
+		_conflationTime = -1;
+		_conflationCount = -1;
 		return this;
 	}
 
@@ -695,6 +702,31 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		return this;
 	}
 
+	@Override
+	public ReqMsg conflation(int conflationTime, int conflationCount)
+	{
+		if (conflationTime < 0 || conflationCount < 0)
+		{
+			String temp = "Attempt to specify invalid conflation. Passed in conflationTime and conflationCount must not be negative.";
+			throw ommIUExcept().message(temp, OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+		}
+
+		_conflationTime = conflationTime;
+		_conflationCount = conflationCount;
+		return this;
+	}
+
+	/* -1 if conflation was not specified */
+	int conflationTime()
+	{
+		return _conflationTime;
+	}
+
+	int conflationCount()
+	{
+		return _conflationCount;
+	}
+
 	@Override
 	public ReqMsg privateStream(boolean privateStream)
 	{
@@ -738,6 +770,9 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
@@ -9,18 +9,15 @@ package com.refinitiv.ema.access;
 
 import com.refinitiv.eta.valueadd.common.VaPool;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 
 class ServerPool
 {
 	private static boolean _intialized = false;
 	private static VaPool _clientSessionPool = new VaPool(true);
 	private static VaPool _itemInfoPool = new VaPool(true);
-	private static long CLIENT_HANDLE = 0;
-	private static long ITEM_HANDLE = 0;
-	
-	static ReentrantLock _clientHandleLock = new java.util.concurrent.locks.ReentrantLock();
-	static ReentrantLock _itemLock = new java.util.concurrent.locks.ReentrantLock();
+	private static AtomicLong CLIENT_HANDLE = new AtomicLong();
+	private static AtomicLong ITEM_HANDLE = new AtomicLong();
 	
 	static void initialize(OmmServerBaseImpl ommServerBaseImpl, int clientSession, int itemInfo)
 	{
@@ -42,65 +39,47 @@ class ServerPool
 		_intialized = true;
 	}
 	
+	/* The pools are concurrent; providers of the same JVM do not contend on a shared lock. */
 	static ClientSession getClientSession(OmmServerBaseImpl ommServerBaseImpl)
 	{
-		_clientHandleLock.lock();
-		
 		ClientSession clientSession = (ClientSession)_clientSessionPool.poll();
 		if( clientSession == null )
 		{
 			clientSession = new ClientSession(ommServerBaseImpl);
 			_clientSessionPool.updatePool(clientSession);
-			_clientHandleLock.unlock();
-			
-			return clientSession;
 		}
 		else
 		{
 			clientSession.clear();
-			_clientHandleLock.unlock();
-			
-			return clientSession;
 		}
+		
+		return clientSession;
 	}
 	
 	static ItemInfo getItemInfo()
 	{	
-		_itemLock.lock();
 		ItemInfo itemInfo = (ItemInfo)_itemInfoPool.poll();
 		
 		if( itemInfo == null )
 		{
 			itemInfo = new ItemInfo();
 			_itemInfoPool.updatePool(itemInfo);
-			_itemLock.unlock();
-			
-			return itemInfo;
 		}
 		else
 		{
 			itemInfo.clear();
-			_itemLock.unlock();
-			
-			return itemInfo;
 		}
+		
+		return itemInfo;
 	}
 	
 	static long getClientHandle()
 	{
-		_clientHandleLock.lock();
-		++CLIENT_HANDLE;
-		_clientHandleLock.unlock();
-		
-		return CLIENT_HANDLE;
+		return CLIENT_HANDLE.incrementAndGet();
 	}
 	
 	static long getItemHandle()
 	{
-		_itemLock.lock();
-		++ITEM_HANDLE;
-		_itemLock.unlock();
-		
-		return ITEM_HANDLE;
+		return ITEM_HANDLE.incrementAndGet();
 	}
 }
@@ -505,6 +505,9 @@ class StatusMsgImpl extends MsgImpl implements StatusMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
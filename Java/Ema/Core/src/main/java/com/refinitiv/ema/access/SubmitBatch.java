@@ -0,0 +1,95 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.ArrayList;
+
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorFactory;
+import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
+
+/* State of OmmProvider.beginSubmitBatch()/endSubmitBatch(). Every method is called
+ * with the userLock held by the thread that began the batch.
+ *
+ * The first message of the batch submitted to a channel turns on automatic packing
+ * for that channel, so the messages of the batch share packed transport buffers.
+ * The outermost end() writes the packed buffers and turns packing off again.
+ * Channels the application already packs are left as they are. */
+class SubmitBatch
+{
+	private final ArrayList<ReactorChannel> _packedChannels = new ArrayList<>();
+	private final ReactorErrorInfo _errorInfo = ReactorFactory.createReactorErrorInfo();
+	private int _depth;
+	private String _errorText;
+
+	void begin()
+	{
+		++_depth;
+	}
+
+	boolean active()
+	{
+		return _depth > 0;
+	}
+
+	/* Called before a message is submitted to reactorChannel. */
+	void channel(ReactorChannel reactorChannel)
+	{
+		if (_depth == 0 || reactorChannel == null || reactorChannel.autoPacking())
+			return;
+
+		_errorInfo.clear();
+		if (reactorChannel.enableAutoPacking(0, 0, _errorInfo) == ReactorReturnCodes.SUCCESS)
+			_packedChannels.add(reactorChannel);
+	}
+
+	/* Returns the first failure of writing the packed buffers, see errorText(). A
+	 * packed buffer refused with WRITE_CALL_AGAIN is not a failure; the Reactor writes
+	 * the rest of it from its dispatch loop. */
+	int end()
+	{
+		if (_depth == 0 || --_depth > 0)
+			return ReactorReturnCodes.SUCCESS;
+
+		int result = ReactorReturnCodes.SUCCESS;
+		for (int index = 0; index < _packedChannels.size(); ++index)
+		{
+			_errorInfo.clear();
+			int ret = _packedChannels.get(index).disableAutoPacking(_errorInfo);
+
+			if (ret < ReactorReturnCodes.SUCCESS && ret != ReactorReturnCodes.WRITE_CALL_AGAIN && result == ReactorReturnCodes.SUCCESS)
+			{
+				result = ret;
+				_errorText = _errorInfo.error().text();
+			}
+		}
+
+		_packedChannels.clear();
+		return result;
+	}
+
+	String errorText()
+	{
+		return _errorText;
+	}
+
+	/* Forgets a channel that went down; its packed buffer went with it. */
+	void channelDown(ReactorChannel reactorChannel)
+	{
+		_packedChannels.remove(reactorChannel);
+	}
+
+	void clear()
+	{
+		_packedChannels.clear();
+		_depth = 0;
+		_errorText = null;
+	}
+}
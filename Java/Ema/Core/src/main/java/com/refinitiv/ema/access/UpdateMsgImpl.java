@@ -499,6 +499,9 @@ class UpdateMsgImpl extends MsgImpl implements UpdateMsg
 
 		_rsslMsg = _rsslNestedMsg;
 
+		_attribPending = false;
+		_payloadPending = false;
+
 		_rsslBuffer = rsslBuffer;
 
 		_rsslDictionary = rsslDictionary;
@@ -0,0 +1,135 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static com.refinitiv.ema.access.ItemUpdateConflatorTest.describe;
+import static com.refinitiv.ema.access.ItemUpdateConflatorTest.flaggedUpdate;
+import static com.refinitiv.ema.access.ItemUpdateConflatorTest.truncatedUpdate;
+import static com.refinitiv.ema.access.ItemUpdateConflatorTest.update;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.codec.UpdateMsgFlags;
+
+public class ClientSessionQueueTest
+{
+	private ClientSessionQueue _queue = new ClientSessionQueue(Codec.majorVersion(), Codec.minorVersion());
+
+	@Test
+	public void updatesOfAStreamAreMergedWhileQueued()
+	{
+		assertTrue(_queue.offer(update(1, 1L, 2, 2L), 8));
+		assertTrue(_queue.offer(update(2, 3L), 8));
+		assertTrue(_queue.offer(update(3, 4L), 8));
+
+		assertEquals(1, _queue.size());
+		assertEquals(1, _queue.totalQueuedMessages());
+		assertEquals(2, _queue.conflatedMessages());
+		assertEquals(Arrays.asList("3:{1:1 2:3 3:4}"), drain());
+	}
+
+	@Test
+	public void doNotConflateUpdateIsQueuedBehindThePendingUpdate()
+	{
+		assertTrue(_queue.offer(update(1, 1L), 8));
+		assertTrue(_queue.offer(flaggedUpdate(UpdateMsgFlags.DO_NOT_CONFLATE, 2, 2L), 8));
+
+		/* an update behind the DoNotConflate one must not be merged ahead of it */
+		assertTrue(_queue.offer(update(1, 3L), 8));
+
+		assertEquals(0, _queue.conflatedMessages());
+		assertEquals(Arrays.asList("1:{1:1}", "1:{2:2}", "1:{1:3}"), drain());
+	}
+
+	@Test
+	public void undecodableUpdateLeavesThePendingUpdateAsItWas()
+	{
+		assertTrue(_queue.offer(update(1, 1L, 2, 2L), 8));
+
+		/* the second field cannot be decoded, the update is queued unmerged */
+		assertTrue(_queue.offer(truncatedUpdate(2, 9L, 3, 4L), 8));
+		assertEquals(2, _queue.size());
+		assertEquals(0, _queue.conflatedMessages());
+
+		Msg head = _queue.head();
+		assertFalse(((UpdateMsg)head).checkHasConfInfo());
+		assertEquals("1:{1:1 2:2}", describe(head));
+	}
+
+	@Test
+	public void undecodableUpdateDoesNotBreakLaterMerges()
+	{
+		assertTrue(_queue.offer(update(1, 1L), 8));
+		assertTrue(_queue.offer(update(2, 2L), 8));
+		assertTrue(_queue.offer(truncatedUpdate(2, 9L, 3, 4L), 8));
+		assertTrue(_queue.offer(update(3, 5L), 8));
+		assertEquals(3, _queue.size());
+
+		assertEquals("2:{1:1 2:2}", describe(_queue.head()));
+		_queue.removeHead();
+		_queue.removeHead();
+		assertEquals("1:{3:5}", describe(_queue.head()));
+	}
+
+	@Test
+	public void offerFailsOnceTheQueueIsFull()
+	{
+		assertTrue(_queue.offer(flaggedUpdate(UpdateMsgFlags.DO_NOT_CONFLATE, 1, 1L), 2));
+		assertTrue(_queue.offer(update(1, 2L), 2));
+		assertFalse(_queue.offer(flaggedUpdate(UpdateMsgFlags.DO_NOT_CONFLATE, 1, 3L), 2));
+
+		/* merging does not grow the queue */
+		assertTrue(_queue.offer(update(2, 4L), 2));
+		assertEquals(2, _queue.size());
+		assertEquals(2, _queue.maxQueuedMessages());
+	}
+
+	@Test
+	public void evictDropsTheQueuedMessages()
+	{
+		assertTrue(_queue.offer(update(1, 1L), 8));
+		assertTrue(_queue.offer(flaggedUpdate(UpdateMsgFlags.DO_NOT_CONFLATE, 1, 2L), 8));
+		_queue.evict();
+
+		assertTrue(_queue.evicted());
+		assertTrue(_queue.isEmpty());
+		assertNull(_queue.head());
+		assertEquals(0, _queue.headQueuedTime());
+
+		ClientSessionStatistics statistics = new ClientSessionStatisticsImpl(7, _queue);
+		assertEquals(7, statistics.clientHandle());
+		assertEquals(0, statistics.queuedMessages());
+		assertEquals(2, statistics.maxQueuedMessages());
+		assertEquals(2, statistics.totalQueuedMessages());
+		assertTrue(statistics.evicted());
+	}
+
+	private List<String> drain()
+	{
+		List<String> messages = new ArrayList<>();
+		Msg msg;
+		while ((msg = _queue.head()) != null)
+		{
+			messages.add(describe(msg));
+			_queue.removeHead();
+		}
+		return messages;
+	}
+}
@@ -0,0 +1,250 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+public class ItemCallbackDispatcherTest
+{
+	private OmmBaseImpl<OmmConsumerClient> _baseImpl;
+	private ItemCallbackDispatcher _dispatcher;
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setUp()
+	{
+		_baseImpl = mock(OmmBaseImpl.class);
+		when(_baseImpl.instanceName()).thenReturn("Consumer_1");
+		when(_baseImpl.loggerClient()).thenReturn(mock(Logger.class));
+	}
+
+	@After
+	public void tearDown()
+	{
+		if (_dispatcher != null)
+			_dispatcher.shutdown();
+	}
+
+	private void dispatch(OmmConsumerClient client, long handle, Msg msg)
+	{
+		_dispatcher.dispatch(ItemCallbackDispatcher.ON_UPDATE_MSG, client, handle, null, 0, msg, false, null);
+	}
+
+	/* Records the updates of every item and the threads delivering them. */
+	private static class RecordingClient implements OmmConsumerClient
+	{
+		final java.util.Map<Long, List<Msg>> _updates = new HashMap<>();
+		final java.util.Map<Long, Set<Thread>> _threads = new HashMap<>();
+		final CountDownLatch _done;
+
+		RecordingClient(int expectedUpdates)
+		{
+			_done = new CountDownLatch(expectedUpdates);
+		}
+
+		@Override
+		public synchronized void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+		{
+			_updates.computeIfAbsent(consumerEvent.handle(), handle -> new ArrayList<>()).add(updateMsg);
+			_threads.computeIfAbsent(consumerEvent.handle(), handle -> new HashSet<>()).add(Thread.currentThread());
+			_done.countDown();
+		}
+
+		@Override
+		public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent) {}
+		@Override
+		public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+		@Override
+		public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+		@Override
+		public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+		@Override
+		public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+	}
+
+	@Test
+	public void callbacksOfAnItemAreDeliveredInOrderByOneThread() throws InterruptedException
+	{
+		_dispatcher = new ItemCallbackDispatcher(_baseImpl, 4, 100000);
+		RecordingClient client = new RecordingClient(16 * 500);
+
+		java.util.Map<Long, List<Msg>> dispatched = new HashMap<>();
+		for (int i = 0; i < 500; i++)
+		{
+			for (long handle = 1; handle <= 16; handle++)
+			{
+				Msg msg = EmaFactory.createUpdateMsg();
+				dispatched.computeIfAbsent(handle, key -> new ArrayList<>()).add(msg);
+				dispatch(client, handle, msg);
+			}
+		}
+
+		assertTrue(client._done.await(10, TimeUnit.SECONDS));
+
+		Set<Thread> threads = new HashSet<>();
+		synchronized (client)
+		{
+			for (long handle = 1; handle <= 16; handle++)
+			{
+				List<Msg> received = client._updates.get(handle);
+				assertEquals(dispatched.get(handle).size(), received.size());
+				for (int i = 0; i < received.size(); i++)
+					assertTrue(dispatched.get(handle).get(i) == received.get(i));
+
+				assertEquals(1, client._threads.get(handle).size());
+				threads.addAll(client._threads.get(handle));
+			}
+		}
+		assertTrue(threads.size() > 1);
+		assertFalse(threads.contains(Thread.currentThread()));
+	}
+
+	@Test
+	public void awaitCapacityBlocksWhileAQueueIsFull() throws InterruptedException
+	{
+		_dispatcher = new ItemCallbackDispatcher(_baseImpl, 1, 4);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingClient client = new RecordingClient(5)
+		{
+			@Override
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+			{
+				blocked.countDown();
+				try
+				{
+					release.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+				super.onUpdateMsg(updateMsg, consumerEvent);
+			}
+		};
+
+		/* the callback thread is held in the first callback while four more are queued */
+		dispatch(client, 1, EmaFactory.createUpdateMsg());
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 4; i++)
+			dispatch(client, 1, EmaFactory.createUpdateMsg());
+
+		Thread reader = new Thread(() -> _dispatcher.awaitCapacity());
+		reader.start();
+		reader.join(200);
+		assertTrue(reader.isAlive());
+
+		release.countDown();
+		reader.join(5000);
+		assertFalse(reader.isAlive());
+		assertTrue(client._done.await(5, TimeUnit.SECONDS));
+
+		/* a queue below its size does not block */
+		_dispatcher.awaitCapacity();
+	}
+
+	@Test
+	public void shutdownFromACallbackDeliversTheQueuedCallbacks() throws InterruptedException
+	{
+		_dispatcher = new ItemCallbackDispatcher(_baseImpl, 2, 100);
+		CountDownLatch queued = new CountDownLatch(1);
+		List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> callbackThread = new ArrayList<>();
+		long[] shutdownTime = new long[1];
+
+		RecordingClient client = new RecordingClient(0)
+		{
+			@Override
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+			{
+				delivered.add(Long.toString(updateMsg.seqNum()));
+				if (updateMsg.seqNum() != 1)
+					return;
+
+				try
+				{
+					queued.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+
+				callbackThread.add(Thread.currentThread());
+				long start = System.nanoTime();
+				_dispatcher.shutdown();
+				shutdownTime[0] = System.nanoTime() - start;
+				delivered.add("shutdown");
+			}
+		};
+
+		dispatch(client, 1, EmaFactory.createUpdateMsg().seqNum(1));
+		dispatch(client, 1, EmaFactory.createUpdateMsg().seqNum(2));
+		queued.countDown();
+
+		for (int i = 0; i < 500 && delivered.size() < 3; i++)
+			Thread.sleep(10);
+
+		/* the thread making the call is not joined, the other one stops right away */
+		assertEquals(3, delivered.size());
+		assertEquals("1", delivered.get(0));
+		assertEquals("shutdown", delivered.get(1));
+		assertEquals("2", delivered.get(2));
+		assertTrue(shutdownTime[0] < TimeUnit.SECONDS.toNanos(4));
+
+		Thread thread = callbackThread.get(0);
+		assertNotEquals(Thread.currentThread(), thread);
+		thread.join(5000);
+		assertFalse(thread.isAlive());
+
+		/* callbacks dispatched after shutdown are dropped */
+		dispatch(client, 1, EmaFactory.createUpdateMsg().seqNum(3));
+		Thread.sleep(50);
+		assertEquals(3, delivered.size());
+	}
+
+	@Test
+	public void exceptionFromACallbackDoesNotStopTheThread() throws InterruptedException
+	{
+		_dispatcher = new ItemCallbackDispatcher(_baseImpl, 1, 100);
+		RecordingClient client = new RecordingClient(2)
+		{
+			@Override
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+			{
+				super.onUpdateMsg(updateMsg, consumerEvent);
+				if (updateMsg.seqNum() == 1)
+					throw new IllegalStateException("failed");
+			}
+		};
+
+		dispatch(client, 1, EmaFactory.createUpdateMsg().seqNum(1));
+		dispatch(client, 1, EmaFactory.createUpdateMsg().seqNum(2));
+		assertTrue(client._done.await(5, TimeUnit.SECONDS));
+	}
+}
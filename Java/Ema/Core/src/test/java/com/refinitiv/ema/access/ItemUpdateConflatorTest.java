@@ -0,0 +1,257 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.codec.UpdateMsgFlags;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+
+public class ItemUpdateConflatorTest
+{
+	private ItemUpdateConflator _conflator;
+	private SingleItem<OmmConsumerClient> _item = new SingleItem<OmmConsumerClient>();
+	private ReactorChannel _channel;
+
+	/* the delivered updates, e.g. "2:{1:1 2:3}" for a merge of two updates */
+	private List<String> _delivered = new ArrayList<>();
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setUp()
+	{
+		OmmBaseImpl<OmmConsumerClient> baseImpl = mock(OmmBaseImpl.class);
+		when(baseImpl.loggerClient()).thenReturn(mock(Logger.class));
+		when(baseImpl.userLock()).thenReturn(new ReentrantLock());
+
+		ItemCallbackClientConsumer client = mock(ItemCallbackClientConsumer.class);
+		when(client.getItem(anyLong())).thenAnswer(invocation -> (Long)invocation.getArguments()[0] == _item._itemId ? _item : null);
+		doAnswer(invocation ->
+		{
+			_delivered.add(describe((Msg)invocation.getArguments()[1]));
+			return null;
+		}).when(client).deliverConflatedUpdate(any(Item.class), any(Msg.class), any(ReactorChannel.class), any(DataDictionary.class));
+
+		_channel = mock(ReactorChannel.class);
+		when(_channel.majorVersion()).thenReturn(Codec.majorVersion());
+		when(_channel.minorVersion()).thenReturn(Codec.minorVersion());
+
+		_item._itemId = 5;
+		_item._conflationCount = 3;
+		_item._conflationTime = 0;
+		_conflator = new ItemUpdateConflator(baseImpl, client, 0, 0);
+	}
+
+	@Test
+	public void updatesAreMergedUntilTheConflationCount()
+	{
+		assertTrue(conflate(update(1, 1L, 2, 2L)));
+		assertTrue(conflate(update(2, 3L)));
+		assertEquals(0, _delivered.size());
+		assertEquals(1, _conflator.pendingUpdates());
+
+		assertTrue(conflate(update(3, 4L)));
+		assertEquals(Arrays.asList("3:{1:1 2:3 3:4}"), _delivered);
+		assertEquals(0, _conflator.pendingUpdates());
+	}
+
+	@Test
+	public void undecodableUpdateIsNotMerged()
+	{
+		assertTrue(conflate(update(1, 1L, 2, 2L)));
+
+		/* the second field cannot be decoded, the first one must not be merged either */
+		assertFalse(conflate(truncatedUpdate(2, 9L, 3, 4L)));
+		assertEquals(Arrays.asList("1:{1:1 2:2}"), _delivered);
+		assertEquals(0, _conflator.pendingUpdates());
+
+		/* the next update opens a new window */
+		assertTrue(conflate(update(2, 5L)));
+		assertTrue(conflate(update(2, 6L)));
+		assertTrue(conflate(update(3, 7L)));
+		assertEquals(Arrays.asList("1:{1:1 2:2}", "3:{2:6 3:7}"), _delivered);
+	}
+
+	@Test
+	public void undecodableFirstUpdateLeavesNoState()
+	{
+		assertFalse(conflate(truncatedUpdate(2, 9L, 3, 4L)));
+		assertEquals(0, _delivered.size());
+		assertEquals(0, _conflator.pendingUpdates());
+
+		assertTrue(conflate(update(1, 1L)));
+		_conflator.flush(_item._itemId);
+		assertEquals(Arrays.asList("1:{1:1}"), _delivered);
+	}
+
+	@Test
+	public void doNotConflateUpdateFlushesThePendingUpdate()
+	{
+		assertTrue(conflate(update(1, 1L)));
+
+		Msg msg = flaggedUpdate(UpdateMsgFlags.DO_NOT_CONFLATE, 2, 2L);
+		assertFalse(conflate(msg));
+		assertEquals(Arrays.asList("1:{1:1}"), _delivered);
+	}
+
+	@Test
+	public void discardedItemIsNotDelivered()
+	{
+		assertTrue(conflate(update(1, 1L)));
+		_conflator.discard(_item._itemId);
+		_conflator.flush(_item._itemId);
+		assertEquals(0, _delivered.size());
+		assertEquals(0, _conflator.pendingUpdates());
+	}
+
+	@Test
+	public void statisticsCountReceivedAndDeliveredUpdates()
+	{
+		ConflationStatistics statistics = new ConflationStatisticsImpl(null);
+		assertEquals(0, statistics.updatesReceived());
+		assertEquals(0, statistics.updatesDelivered());
+
+		for (long value = 0; value < 7; ++value)
+			conflate(update(1, value));
+
+		statistics = new ConflationStatisticsImpl(_conflator);
+		assertEquals(7, statistics.updatesReceived());
+		assertEquals(2, statistics.updatesDelivered());
+		assertEquals(1, statistics.pendingUpdates());
+	}
+
+	private boolean conflate(Msg msg)
+	{
+		return _conflator.conflate(_item, msg, _channel, null);
+	}
+
+	static Msg update(Object... fieldIdsAndValues)
+	{
+		return flaggedUpdate(0, fieldIdsAndValues);
+	}
+
+	static Msg flaggedUpdate(int flags, Object... fieldIdsAndValues)
+	{
+		return decode(encodeUpdate(flags, encodeFieldList(fieldIdsAndValues)));
+	}
+
+	/* An update whose field list ends in the middle of its last field. */
+	static Msg truncatedUpdate(Object... fieldIdsAndValues)
+	{
+		Buffer fieldList = encodeFieldList(fieldIdsAndValues);
+		fieldList.data(fieldList.data(), 0, fieldList.length() - 1);
+		return decode(encodeUpdate(0, fieldList));
+	}
+
+	private static Buffer encodeFieldList(Object... fieldIdsAndValues)
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(1024));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		UInt value = CodecFactory.createUInt();
+		fieldList.applyHasStandardData();
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encodeIter, null, 0));
+		for (int i = 0; i < fieldIdsAndValues.length; i += 2)
+		{
+			fieldEntry.clear();
+			fieldEntry.fieldId((Integer)fieldIdsAndValues[i]);
+			fieldEntry.dataType(DataTypes.UINT);
+			value.value((Long)fieldIdsAndValues[i + 1]);
+			assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIter, value));
+		}
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encodeIter, true));
+
+		buffer.data(buffer.data(), 0, buffer.data().position());
+		return buffer;
+	}
+
+	private static Buffer encodeUpdate(int flags, Buffer fieldList)
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(1024));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+		UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+		updateMsg.msgClass(MsgClasses.UPDATE);
+		updateMsg.streamId(5);
+		updateMsg.domainType(6);
+		updateMsg.containerType(DataTypes.FIELD_LIST);
+		updateMsg.flags(flags);
+		updateMsg.encodedDataBody(fieldList);
+		assertEquals(CodecReturnCodes.SUCCESS, updateMsg.encode(encodeIter));
+
+		buffer.data(buffer.data(), 0, buffer.data().position());
+		return buffer;
+	}
+
+	private static Msg decode(Buffer buffer)
+	{
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		Msg msg = CodecFactory.createMsg();
+		assertEquals(CodecReturnCodes.SUCCESS, msg.decode(decodeIter));
+		return msg;
+	}
+
+	static String describe(Msg msg)
+	{
+		UpdateMsg updateMsg = (UpdateMsg)msg;
+		StringBuilder text = new StringBuilder();
+		text.append(updateMsg.checkHasConfInfo() ? updateMsg.conflationCount() : 1).append(":{");
+
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(msg.encodedDataBody(), Codec.majorVersion(), Codec.minorVersion());
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		UInt value = CodecFactory.createUInt();
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIter, null));
+		while (fieldEntry.decode(decodeIter) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, value.decode(decodeIter));
+			text.append(text.charAt(text.length() - 1) == '{' ? "" : " ").append(fieldEntry.fieldId()).append(":").append(value.toLong());
+		}
+		return text.append("}").toString();
+	}
+}
@@ -0,0 +1,143 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectHashTableTest
+{
+    @Test
+    public void longTablePutGetRemoveTest()
+    {
+        LongObjectHashTable<String> table = new LongObjectHashTable<>(4);
+
+        assertTrue(table.isEmpty());
+        assertNull(table.put(0, "zero"));
+        assertNull(table.put(-1, "minus one"));
+        assertNull(table.put(Long.MAX_VALUE, "max"));
+        assertEquals("zero", table.put(0, "ZERO"));
+        assertEquals(3, table.size());
+
+        assertEquals("ZERO", table.get(0));
+        assertEquals("minus one", table.get(-1));
+        assertEquals("max", table.get(Long.MAX_VALUE));
+        assertNull(table.get(1));
+        assertTrue(table.containsKey(-1));
+        assertFalse(table.containsKey(Long.MIN_VALUE));
+
+        assertEquals("minus one", table.remove(-1));
+        assertNull(table.remove(-1));
+        assertFalse(table.containsKey(-1));
+        assertEquals(2, table.size());
+
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertNull(table.get(0));
+    }
+
+    @Test
+    public void longTableMatchesHashMapTest()
+    {
+        LongObjectHashTable<Long> table = new LongObjectHashTable<>(16);
+        HashMap<Long, Long> expected = new HashMap<>();
+        Random random = new Random(1234);
+
+        /* small key range so that probe chains collide and entries are shifted back on removal */
+        for (int i = 0; i < 200000; i++)
+        {
+            long key = random.nextInt(5000) * 4096L;
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), table.remove(key));
+            else
+                assertEquals(expected.put(key, (long)i), table.put(key, (long)i));
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (long key = 0; key < 5000 * 4096L; key += 4096L)
+            assertEquals(expected.get(key), table.get(key));
+    }
+
+    @Test
+    public void intKeysMatchHashMapTest()
+    {
+        /* stream ids are widened to long keys, including negative provider stream ids */
+        LongObjectHashTable<Integer> table = new LongObjectHashTable<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(4321);
+
+        for (int i = 0; i < 200000; i++)
+        {
+            int key = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), table.remove(key));
+            else
+                assertEquals(expected.put(key, i), table.put(key, i));
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (int key = -2500; key < 2500; key++)
+            assertEquals(expected.get(key), table.get(key));
+    }
+
+    @Test
+    public void concurrentTableReadWhileUpdatingTest() throws InterruptedException
+    {
+        final ConcurrentLongObjectHashTable<Long> table = new ConcurrentLongObjectHashTable<>(16);
+        final int stableKeys = 1000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (long key = 0; key < stableKeys; key++)
+            table.put(key, key);
+
+        Thread reader = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    for (int i = 0; i < 200; i++)
+                    {
+                        for (long key = 0; key < stableKeys; key++)
+                            assertEquals(Long.valueOf(key), table.get(key));
+                    }
+                }
+                catch (Throwable t)
+                {
+                    failure.set(t);
+                }
+            }
+        });
+        reader.start();
+
+        /* grow and shrink the table with other keys while the reader looks up the stable ones */
+        for (int round = 0; round < 20 && reader.isAlive(); round++)
+        {
+            for (long key = stableKeys; key < 50000; key++)
+                table.put(key, key);
+            for (long key = stableKeys; key < 50000; key++)
+                table.remove(key);
+        }
+
+        reader.join();
+        assertNull(failure.get());
+        assertEquals(stableKeys, table.size());
+        assertSame(table.get(7), table.get(7));
+    }
+}
@@ -0,0 +1,280 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.refinitiv.ema.rdm.EmaRdm;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.RequestMsgFlags;
+import com.refinitiv.eta.codec.StateCodes;
+import com.refinitiv.eta.codec.StatusMsgFlags;
+import com.refinitiv.eta.codec.StreamStates;
+
+public class OmmConsumerPublisherTest
+{
+	private static final long HANDLE = 7;
+
+	private OmmConsumerImpl _consumer;
+	private OmmConsumerClient _client;
+	private OmmConsumerEvent _event;
+	private ReqMsg _reqMsg;
+	private Subscription _subscription;
+
+	/* the signals received by the subscriber, e.g. "1:{1:1}" for an update */
+	private List<String> _signals = new ArrayList<>();
+
+	/* the pause flag of every reissue */
+	private List<Boolean> _reissues = new ArrayList<>();
+
+	@Before
+	public void setUp()
+	{
+		_reqMsg = EmaFactory.createReqMsg().domainType(EmaRdm.MMT_MARKET_PRICE).serviceName("DIRECT_FEED").name("IBM.N");
+
+		_consumer = mock(OmmConsumerImpl.class);
+		when(_consumer.userLock()).thenReturn(new ReentrantLock());
+		when(_consumer.registerClient(any(ReqMsg.class), any(OmmConsumerClient.class))).thenAnswer(invocation ->
+		{
+			_client = (OmmConsumerClient)invocation.getArguments()[1];
+			return HANDLE;
+		});
+		doAnswer(invocation ->
+		{
+			ReqMsg reqMsg = (ReqMsg)invocation.getArguments()[0];
+			assertNotSame(_reqMsg, reqMsg);
+			_reissues.add(reqMsg.pause());
+			return null;
+		}).when(_consumer).reissue(any(ReqMsg.class), anyLong());
+
+		_event = mock(OmmConsumerEvent.class);
+		when(_event.handle()).thenReturn(HANDLE);
+	}
+
+	private void subscribe(OmmConsumerPublisher publisher)
+	{
+		publisher.subscribe(new Subscriber<Msg>()
+		{
+			@Override
+			public void onSubscribe(Subscription subscription)
+			{
+				_subscription = subscription;
+			}
+
+			@Override
+			public void onNext(Msg msg)
+			{
+				if (msg.dataType() == DataType.DataTypes.UPDATE_MSG)
+					_signals.add(ItemUpdateConflatorTest.describe(((MsgImpl)msg)._rsslMsg));
+				else
+					_signals.add(DataType.asString(msg.dataType()));
+			}
+
+			@Override
+			public void onError(Throwable error)
+			{
+				_signals.add("onError " + error.getClass().getSimpleName());
+			}
+
+			@Override
+			public void onComplete()
+			{
+				_signals.add("onComplete");
+			}
+		});
+	}
+
+	private void update(int fieldId, long value)
+	{
+		UpdateMsg updateMsg = JUnitTestConnect.createUpdateMsg();
+		JUnitTestConnect.setRsslData(updateMsg, ItemUpdateConflatorTest.update(fieldId, value), Codec.majorVersion(), Codec.minorVersion(),
+				CodecFactory.createDataDictionary(), null);
+		_client.onUpdateMsg(updateMsg, _event);
+	}
+
+	private void closedStatus()
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(256));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+		com.refinitiv.eta.codec.StatusMsg rsslMsg = (com.refinitiv.eta.codec.StatusMsg)CodecFactory.createMsg();
+		rsslMsg.msgClass(MsgClasses.STATUS);
+		rsslMsg.streamId(5);
+		rsslMsg.domainType(EmaRdm.MMT_MARKET_PRICE);
+		rsslMsg.containerType(DataTypes.NO_DATA);
+		rsslMsg.flags(StatusMsgFlags.HAS_STATE);
+		rsslMsg.state().streamState(StreamStates.CLOSED);
+		rsslMsg.state().code(StateCodes.NOT_FOUND);
+		assertEquals(CodecReturnCodes.SUCCESS, rsslMsg.encode(encodeIter));
+		buffer.data(buffer.data(), 0, buffer.data().position());
+
+		StatusMsg statusMsg = JUnitTestConnect.createStatusMsg();
+		JUnitTestConnect.setRsslData(statusMsg, buffer, Codec.majorVersion(), Codec.minorVersion(), CodecFactory.createDataDictionary(), null);
+		_client.onStatusMsg(statusMsg, _event);
+	}
+
+	@Test
+	public void messagesAreDeliveredOnDemandInOrder()
+	{
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg));
+
+		update(1, 1L);
+		update(1, 2L);
+		update(1, 3L);
+		assertEquals(0, _signals.size());
+
+		_subscription.request(2);
+		assertEquals(Arrays.asList("1:{1:1}", "1:{1:2}"), _signals);
+
+		_subscription.request(1);
+		update(1, 4L);
+		assertEquals(Arrays.asList("1:{1:1}", "1:{1:2}", "1:{1:3}"), _signals);
+	}
+
+	@Test
+	public void closedStreamCompletesAfterTheBufferedMessages()
+	{
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg));
+
+		update(1, 1L);
+		closedStatus();
+		assertEquals(0, _signals.size());
+
+		_subscription.request(1);
+		assertEquals(Arrays.asList("1:{1:1}"), _signals);
+
+		_subscription.request(1);
+		assertEquals(Arrays.asList("1:{1:1}", "StatusMsg", "onComplete"), _signals);
+
+		/* the item is closed by the provider, it is not unregistered */
+		verify(_consumer, never()).unregister(anyLong());
+	}
+
+	@Test
+	public void nonPositiveRequestSignalsOnErrorAndUnregisters()
+	{
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg));
+
+		update(1, 1L);
+		_subscription.request(0);
+		assertEquals(Arrays.asList("onError IllegalArgumentException"), _signals);
+		verify(_consumer, times(1)).unregister(HANDLE);
+
+		/* nothing is signalled after onError */
+		_subscription.request(5);
+		update(1, 2L);
+		_subscription.request(-1);
+		_subscription.cancel();
+		assertEquals(Arrays.asList("onError IllegalArgumentException"), _signals);
+		verify(_consumer, times(1)).unregister(HANDLE);
+	}
+
+	@Test
+	public void cancelStopsDeliveryAndUnregistersOnce()
+	{
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg));
+
+		_subscription.request(1);
+		update(1, 1L);
+		update(1, 2L);
+		_subscription.cancel();
+		_subscription.cancel();
+		verify(_consumer, times(1)).unregister(HANDLE);
+
+		_subscription.request(5);
+		update(1, 3L);
+		assertEquals(Arrays.asList("1:{1:1}"), _signals);
+	}
+
+	@Test
+	public void overflowSignalsOnErrorWithoutTheBufferedMessages()
+	{
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg.interestAfterRefresh(false)).bufferSize(2));
+
+		update(1, 1L);
+		update(1, 2L);
+		assertEquals(0, _signals.size());
+
+		update(1, 3L);
+		assertEquals(Arrays.asList("onError IllegalStateException"), _signals);
+		verify(_consumer, times(1)).unregister(HANDLE);
+
+		_subscription.request(5);
+		assertEquals(Arrays.asList("onError IllegalStateException"), _signals);
+	}
+
+	@Test
+	public void pauseIsReissuedFromACopyOfTheReqMsg()
+	{
+		int flags = ((MsgImpl)_reqMsg)._rsslMsg.flags();
+		subscribe(EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg).bufferSize(4));
+
+		/* half of the buffer is filled without demand */
+		update(1, 1L);
+		update(1, 2L);
+		assertEquals(Arrays.asList(true), _reissues);
+
+		_subscription.request(3);
+		assertEquals(Arrays.asList("1:{1:1}", "1:{1:2}"), _signals);
+		assertEquals(Arrays.asList(true, false), _reissues);
+
+		/* the ReqMsg of the application is never changed */
+		assertEquals(flags, ((MsgImpl)_reqMsg)._rsslMsg.flags());
+		assertEquals(0, flags & (RequestMsgFlags.PAUSE | RequestMsgFlags.NO_REFRESH));
+	}
+
+	@Test
+	public void changesToTheReqMsgAfterCreationAreNotUsed()
+	{
+		OmmConsumerPublisher publisher = EmaFactory.createOmmConsumerPublisher(_consumer, _reqMsg);
+		_reqMsg.clear().domainType(EmaRdm.MMT_MARKET_BY_ORDER).name("TRI.N");
+
+		subscribe(publisher);
+		verify(_consumer).registerClient(argThat(new ArgumentMatcher<ReqMsg>()
+		{
+			@Override
+			public boolean matches(Object argument)
+			{
+				ReqMsg reqMsg = (ReqMsg)argument;
+				return reqMsg != _reqMsg && reqMsg.name().equals("IBM.N") && reqMsg.domainType() == EmaRdm.MMT_MARKET_PRICE
+						&& reqMsg.serviceName().equals("DIRECT_FEED") && reqMsg.interestAfterRefresh();
+			}
+		}), any(OmmConsumerClient.class));
+	}
+}
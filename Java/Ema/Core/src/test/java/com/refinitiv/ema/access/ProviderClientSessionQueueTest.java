@@ -0,0 +1,199 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.refinitiv.ema.rdm.EmaRdm;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
+import com.refinitiv.eta.valueadd.reactor.ReactorSubmitOptions;
+
+public class ProviderClientSessionQueueTest
+{
+	private OmmIProviderImpl _provider;
+	private ClientSession _clientSession;
+	private List<String> _submitted = new ArrayList<>();
+	private int _noBuffers;
+
+	private void createProvider(int queueSize, int maxDelay)
+	{
+		Map outermostMap = EmaFactory.createMap();
+		Map innerMap = EmaFactory.createMap();
+		ElementList elementList = EmaFactory.createElementList();
+		ElementList innerElementList = EmaFactory.createElementList();
+
+		elementList.add(EmaFactory.createElementEntry().ascii("DefaultIProvider", "Provider_1"));
+		innerElementList.add(EmaFactory.createElementEntry().intValue("ClientSessionQueueSize", queueSize));
+		innerElementList.add(EmaFactory.createElementEntry().intValue("ClientSessionQueueMaxDelay", maxDelay));
+		innerMap.add(EmaFactory.createMapEntry().keyAscii("Provider_1", MapEntry.MapAction.ADD, innerElementList));
+		elementList.add(EmaFactory.createElementEntry().map("IProviderList", innerMap));
+		outermostMap.add(EmaFactory.createMapEntry().keyAscii("IProviderGroup", MapEntry.MapAction.ADD, elementList));
+
+		_provider = (OmmIProviderImpl)JUnitTestConnect.createOmmIProvider(EmaFactory.createOmmIProviderConfig().config(outermostMap));
+		_provider._serverChannelHandler = new ServerChannelHandler(_provider);
+
+		/* records the messages written to the channel, e.g. "U1" for the UpdateMsg with SeqNum 1 */
+		ReactorChannel channel = mock(ReactorChannel.class);
+		when(channel.majorVersion()).thenReturn(Codec.majorVersion());
+		when(channel.minorVersion()).thenReturn(Codec.minorVersion());
+		when(channel.submit(any(Msg.class), any(ReactorSubmitOptions.class), any(ReactorErrorInfo.class))).thenAnswer(invocation ->
+		{
+			if (_noBuffers > 0)
+			{
+				_noBuffers--;
+				return ReactorReturnCodes.NO_BUFFERS;
+			}
+
+			Msg msg = (Msg)invocation.getArguments()[0];
+			if (msg.msgClass() == MsgClasses.UPDATE)
+				_submitted.add("U" + ((com.refinitiv.eta.codec.UpdateMsg)msg).seqNum());
+			else
+				_submitted.add(MsgClasses.toString(msg.msgClass()));
+			return ReactorReturnCodes.SUCCESS;
+		});
+
+		_clientSession = new ClientSession(_provider);
+		_clientSession.channel(channel);
+		when(channel.userSpecObj()).thenReturn(_clientSession);
+		_provider.serverChannelHandler().addClientSession(_clientSession);
+	}
+
+	private long addItem(int streamId)
+	{
+		ItemInfo itemInfo = new ItemInfo();
+		itemInfo.clientSession(_clientSession);
+		itemInfo.streamId(streamId);
+		itemInfo.setSentRefresh();
+		_provider.addItemInfo(_clientSession, itemInfo);
+		return itemInfo.handle().value();
+	}
+
+	private static UpdateMsg update(long seqNum)
+	{
+		return EmaFactory.createUpdateMsg().domainType(EmaRdm.MMT_MARKET_PRICE).seqNum(seqNum);
+	}
+
+	private static UpdateMsg update(long seqNum, int fieldId, long value)
+	{
+		FieldList fieldList = EmaFactory.createFieldList();
+		fieldList.add(EmaFactory.createFieldEntry().uintValue(fieldId, value));
+		return update(seqNum).payload(fieldList);
+	}
+
+	private ClientSessionStatistics statistics()
+	{
+		List<ClientSessionStatistics> stats = new ArrayList<>();
+		_provider.clientSessionStatistics(stats);
+		assertEquals(1, stats.size());
+		assertEquals(_clientSession.clientHandle().value(), stats.get(0).clientHandle());
+		return stats.get(0);
+	}
+
+	@Test
+	public void messagesAreQueuedInOrderUntilTheChannelHasBuffers()
+	{
+		createProvider(8, 0);
+		long handle = addItem(5);
+
+		_noBuffers = 2;
+		_provider.submit(update(1), handle);
+		_provider.submit(update(2), handle);
+		assertEquals(0, _submitted.size());
+		assertEquals(2, statistics().queuedMessages());
+
+		_provider.drainSubmitQueue();
+		assertEquals(Arrays.asList("U1", "U2"), _submitted);
+
+		ClientSessionStatistics statistics = statistics();
+		assertEquals(0, statistics.queuedMessages());
+		assertEquals(2, statistics.maxQueuedMessages());
+		assertEquals(2, statistics.totalQueuedMessages());
+		assertFalse(statistics.evicted());
+	}
+
+	@Test
+	public void queuedUpdatesAreConflated()
+	{
+		createProvider(8, 0);
+		long handle = addItem(5);
+
+		_noBuffers = 4;
+		_provider.submit(update(1, 1, 1), handle);
+		_provider.submit(update(2, 2, 2), handle);
+		_provider.submit(update(3, 1, 3), handle);
+		assertEquals(1, statistics().queuedMessages());
+		assertEquals(2, statistics().conflatedMessages());
+
+		_noBuffers = 0;
+		_provider.drainSubmitQueue();
+		assertEquals(Arrays.asList("U3"), _submitted);
+	}
+
+	@Test
+	public void sessionOverflowingTheQueueIsEvicted()
+	{
+		createProvider(2, 0);
+		long handle = addItem(5);
+
+		_noBuffers = Integer.MAX_VALUE;
+		_provider.submit(update(1), handle);
+		_provider.submit(update(2), handle);
+		_provider.submit(update(3), handle);
+
+		ClientSessionStatistics statistics = statistics();
+		assertTrue(statistics.evicted());
+		assertEquals(0, statistics.queuedMessages());
+
+		/* messages to an evicted session are dropped */
+		_noBuffers = 0;
+		_provider.submit(update(4), handle);
+		assertEquals(0, _submitted.size());
+
+		/* the dispatch loop disconnects it */
+		_provider.drainSubmitQueue();
+		List<ClientSessionStatistics> stats = new ArrayList<>();
+		_provider.clientSessionStatistics(stats);
+		assertEquals(0, stats.size());
+		assertEquals(0, _submitted.size());
+	}
+
+	@Test
+	public void sessionWithAStaleQueueIsEvicted() throws InterruptedException
+	{
+		createProvider(8, 1);
+		long handle = addItem(5);
+
+		_noBuffers = Integer.MAX_VALUE;
+		_provider.submit(update(1), handle);
+		_provider.drainSubmitQueue();
+		assertFalse(statistics().evicted());
+
+		Thread.sleep(10);
+		_provider.drainSubmitQueue();
+		List<ClientSessionStatistics> stats = new ArrayList<>();
+		_provider.clientSessionStatistics(stats);
+		assertEquals(0, stats.size());
+	}
+}
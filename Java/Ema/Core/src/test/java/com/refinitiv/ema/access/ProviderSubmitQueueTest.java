@@ -0,0 +1,262 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.ema.rdm.EmaRdm;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
+import com.refinitiv.eta.valueadd.reactor.ReactorSubmitOptions;
+
+public class ProviderSubmitQueueTest
+{
+	private OmmIProviderImpl _provider;
+	private ReactorChannel _channel;
+	private List<String> _submitted = new ArrayList<>();
+	private int _noBuffers;
+
+	@Before
+	public void setUp()
+	{
+		Map outermostMap = EmaFactory.createMap();
+		Map innerMap = EmaFactory.createMap();
+		ElementList elementList = EmaFactory.createElementList();
+		ElementList innerElementList = EmaFactory.createElementList();
+
+		elementList.add(EmaFactory.createElementEntry().ascii("DefaultIProvider", "Provider_1"));
+		innerElementList.add(EmaFactory.createElementEntry().intValue("SubmitQueueSize", 16));
+		innerMap.add(EmaFactory.createMapEntry().keyAscii("Provider_1", MapEntry.MapAction.ADD, innerElementList));
+		elementList.add(EmaFactory.createElementEntry().map("IProviderList", innerMap));
+		outermostMap.add(EmaFactory.createMapEntry().keyAscii("IProviderGroup", MapEntry.MapAction.ADD, elementList));
+
+		_provider = (OmmIProviderImpl)JUnitTestConnect.createOmmIProvider(EmaFactory.createOmmIProviderConfig().config(outermostMap));
+
+		/* records the messages written to the channel, e.g. "U1" for the UpdateMsg with SeqNum 1 */
+		_channel = mock(ReactorChannel.class);
+		when(_channel.submit(any(Msg.class), any(ReactorSubmitOptions.class), any(ReactorErrorInfo.class))).thenAnswer(invocation ->
+		{
+			if (_noBuffers > 0)
+			{
+				_noBuffers--;
+				return ReactorReturnCodes.NO_BUFFERS;
+			}
+
+			Msg msg = (Msg)invocation.getArguments()[0];
+			if (msg.msgClass() == MsgClasses.UPDATE)
+				_submitted.add("U" + ((com.refinitiv.eta.codec.UpdateMsg)msg).seqNum());
+			else
+				_submitted.add(MsgClasses.toString(msg.msgClass()));
+			return ReactorReturnCodes.SUCCESS;
+		});
+	}
+
+	private ItemInfo addItem(int streamId)
+	{
+		ClientSession clientSession = new ClientSession(_provider);
+		clientSession.channel(_channel);
+
+		ItemInfo itemInfo = new ItemInfo();
+		itemInfo.clientSession(clientSession);
+		itemInfo.streamId(streamId);
+		itemInfo.setSentRefresh();
+		_provider.addItemInfo(clientSession, itemInfo);
+		return itemInfo;
+	}
+
+	private static UpdateMsg update(long seqNum)
+	{
+		return EmaFactory.createUpdateMsg().domainType(EmaRdm.MMT_MARKET_PRICE).seqNum(seqNum);
+	}
+
+	private static StatusMsg status()
+	{
+		return EmaFactory.createStatusMsg().domainType(EmaRdm.MMT_MARKET_PRICE)
+				.state(OmmState.StreamState.OPEN, OmmState.DataState.OK, OmmState.StatusCode.NONE, "");
+	}
+
+	@Test
+	public void queuedUpdatesAreSubmittedInOrderByTheDispatchLoop()
+	{
+		long handle = addItem(5).handle().value();
+
+		_provider.submit(update(1), handle);
+		_provider.submit(update(2), handle);
+		assertEquals(0, _submitted.size());
+
+		_provider.drainSubmitQueue();
+		assertEquals(Arrays.asList("U1", "U2"), _submitted);
+	}
+
+	@Test
+	public void synchronousSubmitDoesNotOvertakeQueuedUpdatesOutOfBuffers()
+	{
+		long handle = addItem(5).handle().value();
+
+		_provider.submit(update(1), handle);
+		_provider.submit(update(2), handle);
+
+		_noBuffers = 1;
+		_provider.drainSubmitQueue();
+		assertEquals(0, _submitted.size());
+
+		/* the queued UpdateMsgs still have no buffer, the StatusMsg must not be written before them */
+		_noBuffers = 1;
+		try
+		{
+			_provider.submit(status(), handle);
+			fail("expected OmmInvalidUsageException");
+		}
+		catch (OmmInvalidUsageException exception)
+		{
+			assertEquals(ReactorReturnCodes.NO_BUFFERS, exception.errorCode());
+		}
+		assertEquals(0, _submitted.size());
+		assertEquals(false, _provider.userLock().isHeldByCurrentThread());
+
+		/* once there are buffers again, the queued UpdateMsgs go first */
+		_provider.submit(status(), handle);
+		_provider.submit(update(3), handle);
+		_provider.drainSubmitQueue();
+		assertEquals(Arrays.asList("U1", "U2", "STATUS", "U3"), _submitted);
+	}
+
+	@Test
+	public void queuedUpdateForClosedHandleIsDropped()
+	{
+		ItemInfo closed = addItem(5);
+		long closedHandle = closed.handle().value();
+		long handle = addItem(6).handle().value();
+
+		_provider.submit(update(1), closedHandle);
+		_provider.submit(update(2), handle);
+		_provider.removeItemInfo(closed, false);
+
+		_provider.drainSubmitQueue();
+		assertEquals(Arrays.asList("U2"), _submitted);
+
+		/* the handle is no longer valid for new submits either */
+		try
+		{
+			_provider.submit(update(3), closedHandle);
+			fail("expected OmmInvalidUsageException");
+		}
+		catch (OmmInvalidUsageException exception)
+		{
+			assertEquals(OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT, exception.errorCode());
+		}
+		assertEquals(Arrays.asList("U2"), _submitted);
+	}
+
+	@Test
+	public void entriesAreReusedOnceReleased()
+	{
+		ProviderSubmitQueue queue = new ProviderSubmitQueue(2);
+		FieldList fieldList = EmaFactory.createFieldList();
+		fieldList.add(EmaFactory.createFieldEntry().uintValue(1, 10));
+		UpdateMsg updateMsg = update(1).payload(fieldList);
+		com.refinitiv.eta.codec.UpdateMsg rsslMsg = (com.refinitiv.eta.codec.UpdateMsg)((UpdateMsgImpl)updateMsg)._rsslMsg;
+
+		assertTrue(queue.offer(1, rsslMsg));
+		assertTrue(queue.offer(2, ((UpdateMsgImpl)update(2))._rsslMsg));
+		assertFalse(queue.offer(3, ((UpdateMsgImpl)update(3))._rsslMsg));
+
+		/* the queued message is a copy, the publisher may change its own */
+		rsslMsg.seqNum(9);
+		ProviderSubmitQueue.Entry first = queue.poll();
+		assertEquals(1, first._handle);
+		assertEquals(1, ((com.refinitiv.eta.codec.UpdateMsg)first._rsslMsg).seqNum());
+		assertEquals(rsslMsg.encodedDataBody().toHexString(), first._rsslMsg.encodedDataBody().toHexString());
+
+		/* a polled entry is only reused once it is released */
+		assertFalse(queue.offer(3, ((UpdateMsgImpl)update(3))._rsslMsg));
+		queue.release(first);
+		assertTrue(queue.offer(3, ((UpdateMsgImpl)update(3))._rsslMsg));
+		assertEquals(2, queue.size());
+
+		ProviderSubmitQueue.Entry second = queue.poll();
+		assertEquals(2, ((com.refinitiv.eta.codec.UpdateMsg)second._rsslMsg).seqNum());
+		queue.release(second);
+		ProviderSubmitQueue.Entry third = queue.poll();
+		assertSame(first, third);
+		assertEquals(3, third._handle);
+		assertEquals(3, ((com.refinitiv.eta.codec.UpdateMsg)third._rsslMsg).seqNum());
+		queue.release(third);
+
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void messagesOfEveryPublisherArePolledInOrder() throws InterruptedException
+	{
+		ProviderSubmitQueue queue = new ProviderSubmitQueue(8);
+		int publishers = 4;
+		int messages = 20000;
+
+		List<Thread> threads = new ArrayList<>();
+		for (int publisher = 0; publisher < publishers; publisher++)
+		{
+			final long handle = publisher;
+			Thread thread = new Thread(() ->
+			{
+				UpdateMsg updateMsg = update(0);
+				for (int i = 0; i < messages; i++)
+				{
+					updateMsg.seqNum(i);
+					while (!queue.offer(handle, ((UpdateMsgImpl)updateMsg)._rsslMsg))
+						Thread.yield();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		long[] next = new long[publishers];
+		int polled = 0;
+		long deadline = System.currentTimeMillis() + 30000;
+		while (polled < publishers * messages && System.currentTimeMillis() < deadline)
+		{
+			ProviderSubmitQueue.Entry entry = queue.poll();
+			if (entry == null)
+			{
+				Thread.yield();
+				continue;
+			}
+
+			int publisher = (int)entry._handle;
+			assertEquals(next[publisher]++, ((com.refinitiv.eta.codec.UpdateMsg)entry._rsslMsg).seqNum());
+			queue.release(entry);
+			polled++;
+		}
+
+		for (Thread thread : threads)
+			thread.join(5000);
+		assertEquals(publishers * messages, polled);
+		assertTrue(queue.isEmpty());
+	}
+}
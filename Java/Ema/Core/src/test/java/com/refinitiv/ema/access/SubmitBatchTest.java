@@ -0,0 +1,153 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
+
+public class SubmitBatchTest
+{
+	private SubmitBatch _batch = new SubmitBatch();
+	private ReactorChannel _channel;
+	private boolean _autoPacking;
+	private int _disableResult;
+
+	@Before
+	public void setUp()
+	{
+		_channel = mock(ReactorChannel.class);
+		_disableResult = ReactorReturnCodes.SUCCESS;
+
+		when(_channel.autoPacking()).thenAnswer(invocation -> _autoPacking);
+		when(_channel.enableAutoPacking(anyInt(), anyInt(), any(ReactorErrorInfo.class))).thenAnswer(invocation ->
+		{
+			_autoPacking = true;
+			return ReactorReturnCodes.SUCCESS;
+		});
+		when(_channel.disableAutoPacking(any(ReactorErrorInfo.class))).thenAnswer(invocation ->
+		{
+			_autoPacking = false;
+			if (_disableResult < ReactorReturnCodes.SUCCESS)
+				((ReactorErrorInfo)invocation.getArguments()[0]).error().text("write failed");
+			return _disableResult;
+		});
+	}
+
+	@Test
+	public void channelIsPackedUntilTheBatchEnds()
+	{
+		_batch.channel(_channel);
+		assertFalse(_autoPacking);
+
+		_batch.begin();
+		assertTrue(_batch.active());
+		_batch.channel(_channel);
+		_batch.channel(_channel);
+		assertTrue(_autoPacking);
+		verify(_channel, times(1)).enableAutoPacking(anyInt(), anyInt(), any(ReactorErrorInfo.class));
+
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		assertFalse(_batch.active());
+		assertFalse(_autoPacking);
+		verify(_channel, times(1)).disableAutoPacking(any(ReactorErrorInfo.class));
+	}
+
+	@Test
+	public void nestedBatchWritesWhenTheOutermostEnds()
+	{
+		_batch.begin();
+		_batch.begin();
+		_batch.channel(_channel);
+
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		assertTrue(_autoPacking);
+
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		assertFalse(_autoPacking);
+	}
+
+	@Test
+	public void channelPackedByTheApplicationIsLeftAlone()
+	{
+		_autoPacking = true;
+
+		_batch.begin();
+		_batch.channel(_channel);
+		_batch.end();
+
+		assertTrue(_autoPacking);
+		verify(_channel, never()).enableAutoPacking(anyInt(), anyInt(), any(ReactorErrorInfo.class));
+		verify(_channel, never()).disableAutoPacking(any(ReactorErrorInfo.class));
+	}
+
+	@Test
+	public void writeCallAgainIsNotAFailure()
+	{
+		_disableResult = ReactorReturnCodes.WRITE_CALL_AGAIN;
+
+		_batch.begin();
+		_batch.channel(_channel);
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+	}
+
+	@Test
+	public void writeFailureIsReported()
+	{
+		_disableResult = ReactorReturnCodes.FAILURE;
+
+		_batch.begin();
+		_batch.channel(_channel);
+		assertEquals(ReactorReturnCodes.FAILURE, _batch.end());
+		assertEquals("write failed", _batch.errorText());
+
+		/* the channel is no longer part of a batch */
+		_batch.begin();
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		verify(_channel, times(1)).disableAutoPacking(any(ReactorErrorInfo.class));
+	}
+
+	@Test
+	public void channelDownIsForgotten()
+	{
+		_batch.begin();
+		_batch.channel(_channel);
+		_batch.channelDown(_channel);
+
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		verify(_channel, never()).disableAutoPacking(any(ReactorErrorInfo.class));
+	}
+
+	@Test
+	public void clearEndsTheBatch()
+	{
+		_batch.begin();
+		_batch.begin();
+		_batch.channel(_channel);
+		_batch.clear();
+
+		assertFalse(_batch.active());
+		assertEquals(ReactorReturnCodes.SUCCESS, _batch.end());
+		verify(_channel, never()).disableAutoPacking(any(ReactorErrorInfo.class));
+	}
+}
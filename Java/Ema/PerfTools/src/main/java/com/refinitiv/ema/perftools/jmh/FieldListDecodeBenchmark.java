@@ -0,0 +1,156 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.perftools.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.refinitiv.ema.access.EmaFactory;
+import com.refinitiv.ema.access.FieldEntry;
+import com.refinitiv.ema.access.FieldList;
+import com.refinitiv.ema.access.JUnitTestConnect;
+import com.refinitiv.ema.access.OmmReal;
+import com.refinitiv.ema.access.UpdateMsg;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.Msg;
+
+/**
+ * Measures the cost of delivering one MarketPrice update to an application the way
+ * the EMA API thread does it: the ETA message is decoded, handed to an UpdateMsg and
+ * the application walks the payload FieldList.
+ * <p>
+ * {@code fillCollection} walks the payload with {@link FieldList#iterator()}, which
+ * decodes every entry into pooled objects. {@code iteratorByRef} walks it with
+ * {@link FieldList#iteratorByRef()}, which only decodes the values the application
+ * reads. {@code headerOnly} reads the message header and leaves the payload alone.
+ * With {@code readAllFields} false only BID and ASK are read.
+ * <p>
+ * Run with the gc profiler to compare allocation rates:
+ * <pre>gradlew runEMAJmhBenchmarks -PjmhArgs="FieldListDecodeBenchmark -prof gc"</pre>
+ * RDMFieldDictionary and enumtype.def are loaded from the working directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldListDecodeBenchmark
+{
+	private static final int BID = 22;
+	private static final int ASK = 25;
+
+	@Param({"false", "true"})
+	public boolean readAllFields;
+
+	private DataDictionary _dictionary;
+	private Buffer _encodedMsg;
+	private Msg _rsslMsg;
+	private DecodeIterator _decodeIter;
+	private UpdateMsg _updateMsg;
+
+	@Setup
+	public void setup()
+	{
+		_dictionary = JUnitTestConnect.loadDictionary("./");
+		if (_dictionary == null)
+			throw new IllegalStateException("Unable to load RDMFieldDictionary and enumtype.def from the working directory.");
+
+		FieldList fieldList = EmaFactory.createFieldList();
+		fieldList.add(EmaFactory.createFieldEntry().uintValue(1, 5625));
+		fieldList.add(EmaFactory.createFieldEntry().rmtes(3, ByteBuffer.wrap("THOMSON REUTERS".getBytes())));
+		fieldList.add(EmaFactory.createFieldEntry().enumValue(4, 155));
+		fieldList.add(EmaFactory.createFieldEntry().real(6, 3990, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(11, 15, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(12, 4010, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(13, 3950, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().enumValue(15, 840));
+		fieldList.add(EmaFactory.createFieldEntry().date(16, 2023, 11, 22));
+		fieldList.add(EmaFactory.createFieldEntry().time(18, 14, 30, 15));
+		fieldList.add(EmaFactory.createFieldEntry().real(19, 3960, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(21, 3975, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(BID, 3989, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(ASK, 3991, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+		fieldList.add(EmaFactory.createFieldEntry().real(30, 9, OmmReal.MagnitudeType.EXPONENT_0));
+		fieldList.add(EmaFactory.createFieldEntry().real(31, 19, OmmReal.MagnitudeType.EXPONENT_0));
+		fieldList.add(EmaFactory.createFieldEntry().real(32, 1234567, OmmReal.MagnitudeType.EXPONENT_0));
+		fieldList.add(EmaFactory.createFieldEntry().time(267, 14, 30, 15, 123));
+
+		UpdateMsg encodedMsg = EmaFactory.createUpdateMsg().serviceId(1).name("TRI.N").payload(fieldList);
+		_encodedMsg = JUnitTestConnect.getRsslData(encodedMsg);
+
+		_rsslMsg = CodecFactory.createMsg();
+		_decodeIter = CodecFactory.createDecodeIterator();
+		_updateMsg = JUnitTestConnect.createUpdateMsg();
+	}
+
+	@Benchmark
+	public void fillCollection(Blackhole blackhole)
+	{
+		decodeUpdate();
+
+		for (FieldEntry fieldEntry : _updateMsg.payload().fieldList())
+			readField(fieldEntry, blackhole);
+	}
+
+	@Benchmark
+	public void iteratorByRef(Blackhole blackhole)
+	{
+		decodeUpdate();
+
+		Iterator<FieldEntry> iter = _updateMsg.payload().fieldList().iteratorByRef();
+		while (iter.hasNext())
+			readField(iter.next(), blackhole);
+	}
+
+	@Benchmark
+	public void headerOnly(Blackhole blackhole)
+	{
+		decodeUpdate();
+
+		blackhole.consume(_updateMsg.streamId());
+		blackhole.consume(_updateMsg.updateTypeNum());
+	}
+
+	private void decodeUpdate()
+	{
+		_rsslMsg.clear();
+		_decodeIter.clear();
+		_decodeIter.setBufferAndRWFVersion(_encodedMsg, Codec.majorVersion(), Codec.minorVersion());
+		_rsslMsg.decode(_decodeIter);
+
+		JUnitTestConnect.setRsslData(_updateMsg, _rsslMsg, Codec.majorVersion(), Codec.minorVersion(), _dictionary, null);
+	}
+
+	private void readField(FieldEntry fieldEntry, Blackhole blackhole)
+	{
+		if (readAllFields)
+			blackhole.consume(fieldEntry.load());
+		else if (fieldEntry.fieldId() == BID || fieldEntry.fieldId() == ASK)
+			blackhole.consume(fieldEntry.real().mantissa());
+	}
+}
@@ -0,0 +1,490 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.perftools.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.GenericMsg;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.PostMsg;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+import com.refinitiv.eta.codec.VectorEntryActions;
+import com.refinitiv.eta.json.converter.ConversionResults;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.DecodeJsonMsgOptions;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonConverterProperties;
+import com.refinitiv.eta.json.converter.JsonMsg;
+import com.refinitiv.eta.json.converter.JsonMsgClasses;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.ParseJsonOptions;
+import com.refinitiv.eta.json.converter.RWFToJsonOptions;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Measures the JSON converter the way the Reactor uses it on a WebSocket channel:
+ * {@code rwfToJson} decodes an RWF message and converts it into the JSON output
+ * buffer, {@code jsonToRwf} parses a JSON buffer and decodes its message to RWF.
+ * <p>
+ * The {@code msgClass} parameter selects the message converter, the {@code payload}
+ * parameter the container: a MarketPrice FieldList, a MarketByOrder Map of
+ * {@value #ORDER_COUNT} orders, an ElementList, a Series of ElementLists and a Vector
+ * of FieldLists. {@code streamingDecode} decodes JSON from the parser tokens instead
+ * of a parsed tree, see {@link JsonConverterProperties#JSON_CPC_STREAMING_DECODE}.
+ * <p>
+ * Throughput and the latency percentiles are reported for each case, the allocation
+ * per operation with the gc profiler:
+ * <pre>gradlew runETAJmhBenchmarks -PjmhArgs="JsonConverterBenchmark -p payload=marketPrice -prof gc"</pre>
+ * RDMFieldDictionary and enumtype.def are loaded from the working directory.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonConverterBenchmark
+{
+    private static final int ORDER_COUNT = 100;
+    private static final int BUFFER_SIZE = 65536;
+
+    @Param({"refresh", "update", "post", "generic"})
+    public String msgClass;
+
+    @Param({"marketPrice", "marketByOrder", "elementList", "series", "vector"})
+    public String payload;
+
+    @Param({"false", "true"})
+    public boolean streamingDecode;
+
+    /* a transport buffer over a ByteBuffer, as read from and written to a channel */
+    private static class JsonTransportBuffer implements TransportBuffer
+    {
+        private final ByteBuffer _data;
+
+        JsonTransportBuffer(ByteBuffer data)
+        {
+            _data = data;
+        }
+
+        @Override
+        public ByteBuffer data()
+        {
+            return _data;
+        }
+
+        @Override
+        public int length()
+        {
+            return _data.limit() - _data.position();
+        }
+
+        @Override
+        public int copy(ByteBuffer destBuffer)
+        {
+            int length = length();
+            destBuffer.put(_data.duplicate());
+            return length;
+        }
+
+        @Override
+        public int capacity()
+        {
+            return _data.capacity();
+        }
+
+        @Override
+        public int dataStartPosition()
+        {
+            return 0;
+        }
+    }
+
+    private JsonConverter _converter;
+    private JsonConverterError _error;
+
+    private Buffer _encodedMsg;
+    private Msg _decodeMsg;
+    private DecodeIterator _decodeIter;
+    private RWFToJsonOptions _rwfToJsonOptions;
+    private ConversionResults _conversionResults;
+    private JsonTransportBuffer _jsonOutput;
+
+    private JsonTransportBuffer _jsonInput;
+    private ParseJsonOptions _parseJsonOptions;
+    private DecodeJsonMsgOptions _decodeJsonMsgOptions;
+    private JsonMsg _jsonMsg;
+
+    @Setup
+    public void setup()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error dictionaryError = TransportFactory.createError();
+        if (dictionary.loadFieldDictionary("RDMFieldDictionary", dictionaryError) < CodecReturnCodes.SUCCESS
+                || dictionary.loadEnumTypeDictionary("enumtype.def", dictionaryError) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("Unable to load RDMFieldDictionary and enumtype.def from the working directory.");
+
+        _error = ConverterFactory.createJsonConverterError();
+        _converter = ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+                .setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE, streamingDecode)
+                .setDictionary(dictionary)
+                .build(_error);
+        if (_converter == null)
+            throw new IllegalStateException("Unable to create the JSON converter: " + _error.getText());
+
+        _encodedMsg = encodeMsg();
+        _decodeMsg = CodecFactory.createMsg();
+        _decodeIter = CodecFactory.createDecodeIterator();
+        _rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
+        _rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        _conversionResults = ConverterFactory.createConversionResults();
+        _jsonOutput = new JsonTransportBuffer(ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+        _parseJsonOptions = ConverterFactory.createParseJsonOptions();
+        _parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        _decodeJsonMsgOptions = ConverterFactory.createDecodeJsonMsgOptions();
+        _decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        _decodeJsonMsgOptions.setMajorVersion(Codec.majorVersion());
+        _decodeJsonMsgOptions.setMinorVersion(Codec.minorVersion());
+        _jsonMsg = ConverterFactory.createJsonMsg();
+
+        /* the JSON input is the conversion of the RWF message */
+        rwfToJson();
+        ByteBuffer json = ByteBuffer.allocate(_jsonOutput.data().position());
+        ByteBuffer converted = _jsonOutput.data().duplicate();
+        converted.flip();
+        json.put(converted);
+        json.flip();
+        _jsonInput = new JsonTransportBuffer(json);
+
+        jsonToRwf();
+    }
+
+    @Benchmark
+    public int rwfToJson()
+    {
+        _decodeMsg.clear();
+        _decodeIter.clear();
+        _decodeIter.setBufferAndRWFVersion(_encodedMsg, Codec.majorVersion(), Codec.minorVersion());
+        _decodeMsg.decode(_decodeIter);
+
+        _jsonOutput.data().clear();
+        _error.clear();
+        if (_converter.convertRWFToJson(_decodeMsg, _rwfToJsonOptions, _jsonOutput, _conversionResults, _error) != CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("convertRWFToJson failed: " + _error.getText());
+
+        return _jsonOutput.data().position();
+    }
+
+    @Benchmark
+    public int jsonToRwf()
+    {
+        _error.clear();
+        if (_converter.parseJsonBuffer(_jsonInput, _parseJsonOptions, _error) != CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("parseJsonBuffer failed: " + _error.getText());
+
+        if (_converter.decodeJsonMsg(_jsonMsg, _decodeJsonMsgOptions, _error) != CodecReturnCodes.SUCCESS
+                || _jsonMsg.jsonMsgClass() != JsonMsgClasses.RSSL_MESSAGE)
+            throw new IllegalStateException("decodeJsonMsg failed: " + _error.getText());
+
+        return _jsonMsg.rwfMsg().encodedMsgBuffer().length();
+    }
+
+    private Buffer encodeMsg()
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(BUFFER_SIZE));
+        EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+        encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        Msg msg = CodecFactory.createMsg();
+        initMsg(msg);
+        msg.encodeInit(encodeIter, 0);
+        switch (payload)
+        {
+            case "marketPrice":
+                encodeMarketPrice(encodeIter);
+                break;
+            case "marketByOrder":
+                encodeOrders(encodeIter);
+                break;
+            case "elementList":
+                encodeElementList(encodeIter, 0);
+                break;
+            case "series":
+                encodeSeries(encodeIter);
+                break;
+            case "vector":
+                encodeVector(encodeIter);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload " + payload);
+        }
+        msg.encodeComplete(encodeIter, true);
+
+        Buffer encoded = CodecFactory.createBuffer();
+        encoded.data(buffer.data(), 0, buffer.data().position());
+        return encoded;
+    }
+
+    private void initMsg(Msg msg)
+    {
+        switch (msgClass)
+        {
+            case "refresh":
+                RefreshMsg refreshMsg = (RefreshMsg)msg;
+                refreshMsg.msgClass(MsgClasses.REFRESH);
+                refreshMsg.applySolicited();
+                refreshMsg.applyRefreshComplete();
+                refreshMsg.applyClearCache();
+                refreshMsg.state().streamState(StreamStates.OPEN);
+                refreshMsg.state().dataState(DataStates.OK);
+                refreshMsg.applyHasMsgKey();
+                refreshMsg.msgKey().applyHasName();
+                refreshMsg.msgKey().name().data("TRI.N");
+                break;
+            case "update":
+                msg.msgClass(MsgClasses.UPDATE);
+                break;
+            case "post":
+                PostMsg postMsg = (PostMsg)msg;
+                postMsg.msgClass(MsgClasses.POST);
+                postMsg.applyPostComplete();
+                postMsg.applyHasPostId();
+                postMsg.postId(7);
+                postMsg.postUserInfo().userAddr(0x0a000001L);
+                postMsg.postUserInfo().userId(1234);
+                break;
+            case "generic":
+                GenericMsg genericMsg = (GenericMsg)msg;
+                genericMsg.msgClass(MsgClasses.GENERIC);
+                genericMsg.applyMessageComplete();
+                genericMsg.applyHasMsgKey();
+                genericMsg.msgKey().applyHasName();
+                genericMsg.msgKey().name().data("TRI.N");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown msgClass " + msgClass);
+        }
+
+        msg.streamId(5);
+        msg.domainType("marketByOrder".equals(payload) ? DomainTypes.MARKET_BY_ORDER : DomainTypes.MARKET_PRICE);
+        switch (payload)
+        {
+            case "marketPrice":
+                msg.containerType(DataTypes.FIELD_LIST);
+                break;
+            case "marketByOrder":
+                msg.containerType(DataTypes.MAP);
+                break;
+            case "elementList":
+                msg.containerType(DataTypes.ELEMENT_LIST);
+                break;
+            case "series":
+                msg.containerType(DataTypes.SERIES);
+                break;
+            case "vector":
+                msg.containerType(DataTypes.VECTOR);
+                break;
+        }
+    }
+
+    private static void encodeMarketPrice(EncodeIterator encodeIter)
+    {
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        UInt uint = CodecFactory.createUInt();
+        Buffer text = CodecFactory.createBuffer();
+
+        fieldList.applyHasStandardData();
+        fieldList.encodeInit(encodeIter, null, 0);
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(3);
+        fieldEntry.dataType(DataTypes.RMTES_STRING);
+        text.data("THOMSON REUTERS");
+        fieldEntry.encode(encodeIter, text);
+
+        for (int fid : new int[] {6, 11, 12, 13, 19, 21, 22, 25, 30, 31})
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(fid);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(3990 + fid, RealHints.EXPONENT_2);
+            fieldEntry.encode(encodeIter, real);
+        }
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(32);
+        fieldEntry.dataType(DataTypes.UINT);
+        uint.value(1234567);
+        fieldEntry.encode(encodeIter, uint);
+
+        fieldList.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeOrderFields(EncodeIterator encodeIter, int order)
+    {
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        fieldList.applyHasStandardData();
+        fieldList.encodeInit(encodeIter, null, 0);
+        fieldEntry.clear();
+        fieldEntry.fieldId(3427);
+        fieldEntry.dataType(DataTypes.REAL);
+        real.value(3990 + order, RealHints.EXPONENT_2);
+        fieldEntry.encode(encodeIter, real);
+        fieldEntry.clear();
+        fieldEntry.fieldId(3429);
+        fieldEntry.dataType(DataTypes.REAL);
+        real.value(100 * (order + 1), RealHints.EXPONENT0);
+        fieldEntry.encode(encodeIter, real);
+        fieldList.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeOrders(EncodeIterator encodeIter)
+    {
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        Buffer orderId = CodecFactory.createBuffer();
+
+        map.keyPrimitiveType(DataTypes.BUFFER);
+        map.containerType(DataTypes.FIELD_LIST);
+        map.encodeInit(encodeIter, 0, 0);
+
+        for (int order = 0; order < ORDER_COUNT; ++order)
+        {
+            mapEntry.clear();
+            mapEntry.action(MapEntryActions.ADD);
+            orderId.data("ORDER" + order);
+            mapEntry.encodeInit(encodeIter, orderId, 0);
+            encodeOrderFields(encodeIter, order);
+            mapEntry.encodeComplete(encodeIter, true);
+        }
+
+        map.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeElementList(EncodeIterator encodeIter, int index)
+    {
+        ElementList elementList = CodecFactory.createElementList();
+        ElementEntry elementEntry = CodecFactory.createElementEntry();
+        Real real = CodecFactory.createReal();
+        UInt uint = CodecFactory.createUInt();
+        Buffer text = CodecFactory.createBuffer();
+
+        elementList.applyHasStandardData();
+        elementList.encodeInit(encodeIter, null, 0);
+
+        elementEntry.clear();
+        elementEntry.name().data("Name");
+        elementEntry.dataType(DataTypes.ASCII_STRING);
+        text.data("ENTRY" + index);
+        elementEntry.encode(encodeIter, text);
+
+        elementEntry.clear();
+        elementEntry.name().data("Price");
+        elementEntry.dataType(DataTypes.REAL);
+        real.value(3990 + index, RealHints.EXPONENT_2);
+        elementEntry.encode(encodeIter, real);
+
+        elementEntry.clear();
+        elementEntry.name().data("Volume");
+        elementEntry.dataType(DataTypes.UINT);
+        uint.value(1000 + index);
+        elementEntry.encode(encodeIter, uint);
+
+        elementList.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeSeries(EncodeIterator encodeIter)
+    {
+        Series series = CodecFactory.createSeries();
+        SeriesEntry seriesEntry = CodecFactory.createSeriesEntry();
+
+        series.containerType(DataTypes.ELEMENT_LIST);
+        series.encodeInit(encodeIter, 0, 0);
+
+        for (int index = 0; index < ORDER_COUNT; ++index)
+        {
+            seriesEntry.clear();
+            seriesEntry.encodeInit(encodeIter, 0);
+            encodeElementList(encodeIter, index);
+            seriesEntry.encodeComplete(encodeIter, true);
+        }
+
+        series.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeVector(EncodeIterator encodeIter)
+    {
+        Vector vector = CodecFactory.createVector();
+        VectorEntry vectorEntry = CodecFactory.createVectorEntry();
+
+        vector.containerType(DataTypes.FIELD_LIST);
+        vector.encodeInit(encodeIter, 0, 0);
+
+        for (int index = 0; index < ORDER_COUNT; ++index)
+        {
+            vectorEntry.clear();
+            vectorEntry.index(index);
+            vectorEntry.action(VectorEntryActions.SET);
+            vectorEntry.encodeInit(encodeIter, 0);
+            encodeOrderFields(encodeIter, index);
+            vectorEntry.encodeComplete(encodeIter, true);
+        }
+
+        vector.encodeComplete(encodeIter, true);
+    }
+}
@@ -0,0 +1,291 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.perftools.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.valueadd.cache.CacheError;
+import com.refinitiv.eta.valueadd.cache.CacheFactory;
+import com.refinitiv.eta.valueadd.cache.PayloadCache;
+import com.refinitiv.eta.valueadd.cache.PayloadCacheConfigOptions;
+import com.refinitiv.eta.valueadd.cache.PayloadCursor;
+import com.refinitiv.eta.valueadd.cache.PayloadEntry;
+
+/**
+ * Measures the payload cache the way a provider uses it: {@code applyUpdate} decodes
+ * an update message and applies it to a cached item, {@code retrieveRefresh} encodes
+ * a refresh message with the cached payload. MarketPrice items cache a FieldList,
+ * MarketByOrder items a Map of {@value #ORDER_COUNT} orders of which every update
+ * changes three.
+ * <p>
+ * The {@code cache} parameter compares the Java cache with the cache of the native
+ * library; the native cases need rsslVACacheJNI on java.library.path:
+ * <pre>gradlew runETAJmhBenchmarks -PjmhArgs="PayloadCacheBenchmark -prof gc"</pre>
+ * RDMFieldDictionary and enumtype.def are loaded from the working directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PayloadCacheBenchmark
+{
+    private static final int ORDER_COUNT = 100;
+    private static final int BUFFER_SIZE = 65536;
+
+    @Param({"java", "native"})
+    public String cache;
+
+    @Param({"marketPrice", "marketByOrder"})
+    public String domain;
+
+    private PayloadCache _cache;
+    private PayloadEntry _entry;
+    private PayloadCursor _cursor;
+    private CacheError _error;
+
+    private Buffer _encodedUpdate;
+    private Msg _decodeMsg;
+    private DecodeIterator _decodeIter;
+
+    private RefreshMsg _refreshMsg;
+    private Buffer _retrieveBuffer;
+    private EncodeIterator _encodeIter;
+
+    private int _updateCount;
+
+    @Setup
+    public void setup()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error dictionaryError = TransportFactory.createError();
+        if (dictionary.loadFieldDictionary("RDMFieldDictionary", dictionaryError) < CodecReturnCodes.SUCCESS
+                || dictionary.loadEnumTypeDictionary("enumtype.def", dictionaryError) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("Unable to load RDMFieldDictionary and enumtype.def from the working directory.");
+
+        _error = CacheFactory.createCacheError();
+        PayloadCacheConfigOptions configOptions = CacheFactory.createPayloadCacheConfig();
+        configOptions.useJavaCache(!"native".equals(cache));
+        try
+        {
+            _cache = CacheFactory.createPayloadCache(configOptions, _error);
+        }
+        catch (UnsatisfiedLinkError e)
+        {
+            throw new IllegalStateException("The native cache needs rsslVACacheJNI on java.library.path.", e);
+        }
+        if (_cache == null || _cache.setDictionary(dictionary, "RDMFieldDictionary", _error) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("Unable to create the payload cache: " + _error.text());
+
+        _entry = CacheFactory.createPayloadEntry(_cache, _error);
+        _cursor = CacheFactory.createPayloadCursor();
+        _decodeMsg = CodecFactory.createMsg();
+        _decodeIter = CodecFactory.createDecodeIterator();
+
+        boolean marketByOrder = "marketByOrder".equals(domain);
+        applyMsg(encodeMsg(MsgClasses.REFRESH, marketByOrder, 0));
+        _encodedUpdate = encodeMsg(MsgClasses.UPDATE, marketByOrder, 1);
+
+        _refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+        initMsg(_refreshMsg, MsgClasses.REFRESH, marketByOrder);
+        _retrieveBuffer = CodecFactory.createBuffer();
+        _retrieveBuffer.data(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        _encodeIter = CodecFactory.createEncodeIterator();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _cursor.destroy();
+        _cache.destroy();
+    }
+
+    @Benchmark
+    public int applyUpdate()
+    {
+        return applyMsg(_encodedUpdate);
+    }
+
+    @Benchmark
+    public int retrieveRefresh()
+    {
+        _retrieveBuffer.data().clear();
+        _encodeIter.clear();
+        _encodeIter.setBufferAndRWFVersion(_retrieveBuffer, Codec.majorVersion(), Codec.minorVersion());
+        _cursor.clear();
+
+        _refreshMsg.encodeInit(_encodeIter, 0);
+        int ret = _entry.retrieve(_encodeIter, _cursor, _error);
+        if (ret < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("retrieve failed: " + _error.text());
+        _refreshMsg.encodeComplete(_encodeIter, true);
+
+        return _retrieveBuffer.data().position();
+    }
+
+    private int applyMsg(Buffer encodedMsg)
+    {
+        _decodeMsg.clear();
+        _decodeIter.clear();
+        _decodeIter.setBufferAndRWFVersion(encodedMsg, Codec.majorVersion(), Codec.minorVersion());
+        _decodeMsg.decode(_decodeIter);
+
+        int ret = _entry.apply(_decodeIter, _decodeMsg, _error);
+        if (ret < CodecReturnCodes.SUCCESS && _error.errorId() != CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("apply failed: " + _error.text());
+        return ret;
+    }
+
+    private Buffer encodeMsg(int msgClass, boolean marketByOrder, int tick)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(BUFFER_SIZE));
+        EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+        encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        Msg msg = CodecFactory.createMsg();
+        initMsg(msg, msgClass, marketByOrder);
+        if (msgClass == MsgClasses.REFRESH)
+            ((RefreshMsg)msg).applyClearCache();
+
+        msg.encodeInit(encodeIter, 0);
+        if (marketByOrder)
+            encodeOrders(encodeIter, msgClass == MsgClasses.REFRESH ? ORDER_COUNT : 3, tick);
+        else
+            encodeMarketPrice(encodeIter, msgClass == MsgClasses.REFRESH, tick);
+        msg.encodeComplete(encodeIter, true);
+
+        Buffer encoded = CodecFactory.createBuffer();
+        encoded.data(buffer.data(), 0, buffer.data().position());
+        return encoded;
+    }
+
+    private static void initMsg(Msg msg, int msgClass, boolean marketByOrder)
+    {
+        msg.msgClass(msgClass);
+        msg.streamId(5);
+        msg.domainType(marketByOrder ? DomainTypes.MARKET_BY_ORDER : DomainTypes.MARKET_PRICE);
+        msg.containerType(marketByOrder ? DataTypes.MAP : DataTypes.FIELD_LIST);
+        if (msgClass == MsgClasses.REFRESH)
+        {
+            RefreshMsg refreshMsg = (RefreshMsg)msg;
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+        }
+    }
+
+    private static void encodeMarketPrice(EncodeIterator encodeIter, boolean refresh, int tick)
+    {
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        UInt uint = CodecFactory.createUInt();
+
+        fieldList.applyHasStandardData();
+        fieldList.encodeInit(encodeIter, null, 0);
+
+        int[] realFids = refresh ? new int[] {6, 11, 12, 13, 19, 21, 22, 25, 30, 31} : new int[] {6, 22, 25};
+        for (int fid : realFids)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(fid);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(3990 + fid + tick, RealHints.EXPONENT_2);
+            fieldEntry.encode(encodeIter, real);
+        }
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(32);
+        fieldEntry.dataType(DataTypes.UINT);
+        uint.value(1234567 + tick);
+        fieldEntry.encode(encodeIter, uint);
+
+        fieldList.encodeComplete(encodeIter, true);
+    }
+
+    private static void encodeOrders(EncodeIterator encodeIter, int orderCount, int tick)
+    {
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        Buffer orderId = CodecFactory.createBuffer();
+
+        map.keyPrimitiveType(DataTypes.BUFFER);
+        map.containerType(DataTypes.FIELD_LIST);
+        map.encodeInit(encodeIter, 0, 0);
+
+        for (int order = 0; order < orderCount; ++order)
+        {
+            mapEntry.clear();
+            mapEntry.action(tick == 0 ? MapEntryActions.ADD : MapEntryActions.UPDATE);
+            orderId.data("ORDER" + (order * 31 % ORDER_COUNT));
+            mapEntry.encodeInit(encodeIter, orderId, 0);
+
+            fieldList.clear();
+            fieldList.applyHasStandardData();
+            fieldList.encodeInit(encodeIter, null, 0);
+            fieldEntry.clear();
+            fieldEntry.fieldId(3427);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(3990 + order + tick, RealHints.EXPONENT_2);
+            fieldEntry.encode(encodeIter, real);
+            fieldEntry.clear();
+            fieldEntry.fieldId(3429);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(100 * (order + 1), RealHints.EXPONENT0);
+            fieldEntry.encode(encodeIter, real);
+            fieldList.encodeComplete(encodeIter, true);
+
+            mapEntry.encodeComplete(encodeIter, true);
+        }
+
+        map.encodeComplete(encodeIter, true);
+    }
+}
@@ -0,0 +1,12 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+/**
+ * JMH micro benchmarks of the ETA ValueAdd components and the JSON converter.
+ */
+package com.refinitiv.eta.perftools.jmh;
@@ -0,0 +1,82 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the masking of WebSocket frame payloads by {@link WebSocketFrameParser},
+ * eight bytes at a time, against masking one byte at a time. The payload starts at an
+ * odd offset in the buffer as after a frame header.
+ * <p>
+ * The benchmark is in the transport package to reach the package private frame parser:
+ * <pre>gradlew runETAJmhBenchmarks -PjmhArgs="WebSocketMaskBenchmark"</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WebSocketMaskBenchmark
+{
+    private static final int PAYLOAD_INDEX = 6;
+
+    @Param({"64", "1024", "65536"})
+    public int length;
+
+    @Param({"heap", "direct"})
+    public String buffer;
+
+    private ByteBuffer _buffer;
+    private int _maskValue;
+    private byte[] _mask;
+
+    @Setup
+    public void setup()
+    {
+        int capacity = PAYLOAD_INDEX + length;
+        _buffer = "direct".equals(buffer) ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        for (int i = 0; i < capacity; i++)
+            _buffer.put(i, (byte)i);
+
+        _maskValue = WebSocketFrameParser.getRandomValue();
+        _mask = new byte[4];
+        WebSocketFrameParser.setMaskKey(_mask, _maskValue);
+    }
+
+    @Benchmark
+    public ByteBuffer maskWords()
+    {
+        WebSocketFrameParser.maskDataBlock(_maskValue, _buffer, PAYLOAD_INDEX, length);
+        return _buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer maskBytes()
+    {
+        int index = PAYLOAD_INDEX;
+        for (int i = 0; i < length; i++, index++)
+            _buffer.put(index, (byte)(_buffer.get(index) ^ _mask[i % 4]));
+        return _buffer;
+    }
+}
@@ -765,7 +765,7 @@ class BasicPrimitiveConverter {
         else {
             int res = 2; //for opening and closing \" characters
             if (date.year() > 0) {
-                res += 4 ;
+                res += Math.max(4, getIntLengthCompare(date.year())); //YYYY, years above 9999 take all their digits
                 if (date.month() > 0) {
                     res += (1 + 2); //YYYY-MM
                     if (date.day() > 0)
@@ -822,7 +822,7 @@ class BasicPrimitiveConverter {
     private static void writeNonemptyDate(Date date, JsonBuffer buffer) { //similar to DateImpl.toStringIso8601()
 
         if (date.year() > 0) {
-            writeNum(date.year(), 4, buffer);
+            writeNum(date.year(), Math.max(4, getIntLengthCompare(date.year())), buffer);
             if (date.month() > 0) {
                 buffer.data[buffer.position++] = '-';
                 writeNum(date.month(), 2, buffer);
@@ -869,7 +869,7 @@ class BasicPrimitiveConverter {
                     buffer.data[buffer.position++] = '.';
                     writeNum(time.millisecond(), 3, buffer);
 
-                    if (time.microsecond() != 2074) {
+                    if (time.microsecond() != 2047) {
                         writeNum(time.microsecond(), 3, buffer);
 
                         if (time.nanosecond() != 2047) {
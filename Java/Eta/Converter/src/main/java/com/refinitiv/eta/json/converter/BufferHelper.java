@@ -24,6 +24,11 @@ class BufferHelper {
     }
 
     static boolean checkAndResize(JsonBuffer buffer, int length, JsonConverterError error) {
+        if (buffer.limit >= 0) {
+            if (buffer.position + length >= buffer.limit)
+                return detach(buffer, length, error);
+            return error.isSuccessful();
+        }
         if (buffer.position + length >= buffer.data.length) {
             return reallocate(buffer, getNewBufLength(buffer.data.length, length), error);
         }
@@ -43,6 +48,30 @@ class BufferHelper {
         }
     }
 
+    /* Moves the JSON written so far to an array of the buffer itself once it no longer fits the external
+     * array, and continues there. The caller finds out from the negative limit. */
+    static boolean detach(JsonBuffer buffer, int length, JsonConverterError errorObj) {
+        int written = buffer.position - buffer.start;
+        int newLength = getNewBufLength(written, length);
+        byte[] tmp = buffer.spare;
+        try {
+            if (tmp == null || tmp.length <= newLength) {
+                tmp = JsonFactory.createByteArray(newLength);
+                JsonFactory.releaseByteArray(buffer.spare);
+            }
+        } catch (OutOfMemoryError error) {
+            errorObj.setError(JsonConverterErrorCodes.JSON_ERROR_OUT_OF_MEMORY, "Failed to allocate array of length " + newLength);
+            return false;
+        }
+        System.arraycopy(buffer.data, buffer.start, tmp, 0, written);
+        buffer.data = tmp;
+        buffer.position = written;
+        buffer.start = 0;
+        buffer.limit = -1;
+        buffer.spare = null;
+        return errorObj.isSuccessful();
+    }
+
     static boolean copyToByteArray(String value, JsonBuffer buffer, JsonConverterError error) {
         if (checkAndResize(buffer, value.length(), error)) {
             for(int i = 0; i < value.length(); i++) {
@@ -0,0 +1,94 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.codec.EnumType;
+import com.refinitiv.eta.codec.EnumTypeTable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Holds the JSON bytes of the field names and enum display values of a dictionary, so that
+ * the RWF to JSON conversion copies them instead of escaping the same strings for every field.
+ * The field names are prepared when the dictionary is set on the converter; the display values
+ * of an enum table are prepared the first time a field of that table is expanded.
+ * The bytes are produced by the same writers the conversion otherwise uses. */
+class DictionaryJsonNames {
+
+    private static final byte[] NO_DISPLAY = new byte[0];
+
+    private final int minFid;
+    private final DictionaryEntry[] entries;
+    private final byte[][] fieldNames;
+    private final Map<EnumTypeTable, byte[][]> enumDisplays = new ConcurrentHashMap<>();
+
+    DictionaryJsonNames(DataDictionary dictionary) {
+
+        minFid = dictionary.minFid();
+        int count = dictionary.numberOfEntries() > 0 ? dictionary.maxFid() - minFid + 1 : 0;
+        entries = new DictionaryEntry[count];
+        fieldNames = new byte[count][];
+
+        JsonBuffer buffer = new JsonBuffer(256);
+        JsonConverterError error = ConverterFactory.createJsonConverterError();
+        for (int i = 0; i < count; i++) {
+            DictionaryEntry entry = dictionary.entry(minFid + i);
+            if (entry == null || entry.acronym().data() == null)
+                continue;
+            buffer.position = 0;
+            error.clear();
+            if (BasicPrimitiveConverter.writeAsciiString(entry.acronym(), buffer, error) && BufferHelper.colon(buffer, error)) {
+                entries[i] = entry;
+                fieldNames[i] = Arrays.copyOf(buffer.data, buffer.position);
+            }
+        }
+    }
+
+    /* Returns the quoted name of the field followed by a colon, or null when the entry is not the one
+     * the names were prepared from. */
+    byte[] fieldName(DictionaryEntry entry) {
+        int index = entry.fid() - minFid;
+        if (index < 0 || index >= entries.length || entries[index] != entry)
+            return null;
+        return fieldNames[index];
+    }
+
+    /* Returns the quoted display value of the enum, or null when the enum has no display value in the table. */
+    byte[] enumDisplay(EnumTypeTable table, int value) {
+        byte[][] displays = enumDisplays.get(table);
+        if (displays == null) {
+            displays = prepareDisplays(table);
+            enumDisplays.putIfAbsent(table, displays);
+        }
+        byte[] display = value >= 0 && value < displays.length ? displays[value] : null;
+        return display == NO_DISPLAY ? null : display;
+    }
+
+    private static byte[][] prepareDisplays(EnumTypeTable table) {
+        EnumType[] types = table.enumTypes();
+        byte[][] displays = new byte[Math.min(table.maxValue() + 1, types.length)][];
+
+        JsonBuffer buffer = new JsonBuffer(256);
+        JsonConverterError error = ConverterFactory.createJsonConverterError();
+        for (int i = 0; i < displays.length; i++) {
+            EnumType type = types[i];
+            displays[i] = NO_DISPLAY;
+            if (type == null || type.display().data() == null)
+                continue;
+            buffer.position = 0;
+            error.clear();
+            if (BasicPrimitiveConverter.writeRMTESString(type.display(), buffer, error))
+                displays[i] = Arrays.copyOf(buffer.data, buffer.position);
+        }
+        return displays;
+    }
+}
@@ -23,6 +23,7 @@ public abstract class JsonAbstractConverter implements JsonConverter {
 
     public abstract int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, ConversionResults outResults, JsonConverterError error);
     public abstract int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, JsonConverterError error);
+    public abstract int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, TransportBuffer outBuffer, ConversionResults outResults, JsonConverterError error);
     public abstract int getJsonBuffer(Buffer result, GetJsonMsgOptions options, JsonConverterError error);
     public abstract int getJsonBuffer(TransportBuffer buffer, GetJsonMsgOptions options, JsonConverterError error);
 
@@ -36,6 +37,7 @@ public abstract class JsonAbstractConverter implements JsonConverter {
     abstract AbstractTypeConverter getHandler(RsslMsgChunkType rsslMsgChunkType, JsonConverterError error);
     abstract int getContainerDataType(String jsonTagName, JsonNode jsonNode, JsonConverterError error);
     abstract DataDictionary getDictionary();
+    abstract DictionaryJsonNames getDictionaryJsonNames();
     abstract ObjectMapper getMapper();
     abstract DictionaryEntry dictionaryEntry();
     abstract void dictionaryEntry(DictionaryEntry entry);
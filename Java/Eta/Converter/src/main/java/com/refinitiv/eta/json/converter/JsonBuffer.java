@@ -19,6 +19,13 @@ class JsonBuffer {
     public byte[] data;
     public int position;
 
+    /* While limit is not negative, data is the array of an outbound transport buffer and the JSON is
+     * written from start up to limit; see BufferHelper.checkAndResize. spare holds the array of the
+     * buffer in the meantime. */
+    int start;
+    int limit = -1;
+    byte[] spare;
+
     @Override
     public String toString() {
 
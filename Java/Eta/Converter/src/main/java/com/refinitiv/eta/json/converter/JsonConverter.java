@@ -75,6 +75,22 @@ public interface JsonConverter {
      */
     int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, JsonConverterError error);
 
+    /**
+     * converts the inMsg supplied to JSON format and writes the converted message directly into outBuffer, starting at its current position;
+     * on success the position of outBuffer is moved past the message and there is nothing to fetch with {@link getJsonBuffer};
+     * in case the message does not fit the space remaining in outBuffer, the converted message is stored internally instead,
+     * the position of outBuffer is left unchanged and the message can be fetched with {@link getJsonBuffer} into a larger buffer
+     *
+     * @param inMsg message in RWF format to be converted to JSON format
+     * @param options options that are going to be used during transformation
+     * @param outBuffer transport buffer the JSON message is written to
+     * @param outResults the output parameter that, in case supplied not null, will hold the length of the output JSON message
+     * @param error in case of conversion FAILURE carries information about error that has occurred
+     * @return CodecReturnCodes.SUCCESS in case the message was written to outBuffer, CodecReturnCodes.BUFFER_TOO_SMALL in case
+     * the message was converted but did not fit outBuffer, CodecReturnCodes.FAILURE otherwise
+     */
+    int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, TransportBuffer outBuffer, ConversionResults outResults, JsonConverterError error);
+
     /**
      * fetches the converted JSON message that is currently stored internally by the converter after the call to {@link convertRWFToJson} method
      *
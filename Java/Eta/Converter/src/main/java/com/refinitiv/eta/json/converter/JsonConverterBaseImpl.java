@@ -10,6 +10,8 @@ package com.refinitiv.eta.json.converter;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.refinitiv.eta.codec.*;
 import com.refinitiv.eta.json.util.JsonFactory;
@@ -40,13 +42,21 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
     private boolean allowEnumDisplayStrings;
     private boolean useDefaultQoS;
     private boolean expandEnumFields;
+    private boolean streamingDecode;
     private int defaultServiceId;
     private boolean hasDefaultServiceId;
     private DataDictionary dictionary;
+    private DictionaryJsonNames dictionaryJsonNames;
     private ThreadLocal<DictionaryEntry> dictionaryEntry = ThreadLocal.withInitial(() -> null);
     private ThreadLocal<JsonBuffer> jsonOutputBuffer = ThreadLocal.withInitial(() -> new JsonBuffer());
     private ThreadLocal<ByteBufferInputStream> inputStream = ThreadLocal.withInitial(() -> new ByteBufferInputStream());
     private Map<EnumTypeTable, EnumTableDefinition> enumTableDefinitionMap = new HashMap<>(256);
+    private final com.fasterxml.jackson.core.JsonFactory parserFactory = com.fasterxml.jackson.core.JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS)
+            .build();
+
+    /* decodeStreamingMsg() left the message to the tree decoding, in the working node */
+    private static final int DECODE_FROM_TREE = Integer.MAX_VALUE;
 
     private static final Map<String, Integer> STRING_TO_RWF_MSG_CLASS = new HashMap<>();;
     private static final Map<String, Integer> STRING_TO_JSON_MSG_CLASS = new HashMap<>();
@@ -176,9 +186,16 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
 
         jsonMsg.rwfMsg().clear();
 
-        int ret = setCurrentMessageRoot(error);
-        if (ret != SUCCESS)
-            return ret;
+        int ret;
+        if (currentState.get().isStreaming()) {
+            ret = decodeStreamingMsg(jsonMsg, currentState.get(), error);
+            if (ret != DECODE_FROM_TREE)
+                return ret;
+        } else {
+            ret = setCurrentMessageRoot(error);
+            if (ret != SUCCESS)
+                return ret;
+        }
 
         if (getJsonMsgType(jsonMsg, currentState.get().getWorkingNode(), error) != SUCCESS) {
             currentState.get().setFailedNode(currentState.get().getWorkingNode());
@@ -204,6 +221,63 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         return error.isSuccessful() ? SUCCESS : FAILURE;
     }
 
+    private int decodeStreamingMsg(JsonMsg jsonMsg, JsonConverterState state, JsonConverterError error) {
+        JsonParser parser = state.getStreamParser();
+        if (parser == null)
+            return END_OF_CONTAINER;
+
+        try {
+            JsonToken token = parser.currentToken();
+            if (token != null && parser.getParsingContext().inRoot()) {
+                state.closeStreamParser();
+                return END_OF_CONTAINER;
+            }
+
+            //the buffer holds a message or an array of messages and arrays of messages, see startStreamingDecode()
+            while ((token = parser.nextToken()) != JsonToken.START_OBJECT) {
+                if (token == null || (token == JsonToken.END_ARRAY && parser.getParsingContext().inRoot())) {
+                    state.closeStreamParser();
+                    return END_OF_CONTAINER;
+                }
+            }
+
+            int messageStart = (int) parser.getTokenLocation().getByteOffset();
+            JsonStreamingMsgDecoder decoder = state.getStreamingDecoder();
+            if (decoder == null) {
+                decoder = new JsonStreamingMsgDecoder(this);
+                state.setStreamingDecoder(decoder);
+            }
+
+            if (decoder.decode(parser, jsonMsg)) {
+                if (jsonMsg.jsonMsgClass() != JsonMsgClasses.RSSL_MESSAGE)
+                    return SUCCESS;
+
+                prepareJsonMsgToDecode(jsonMsg);
+                EncodeIterator encIter = JsonFactory.createEncodeIterator();
+                try {
+                    encIter.clear();
+                    encIter.setBufferAndRWFVersion(jsonMsg.rwfMsg().encodedMsgBuffer(), Codec.majorVersion(), Codec.minorVersion());
+                    if (jsonMsg.rwfMsg().encode(encIter) == SUCCESS)
+                        return SUCCESS;
+                } finally {
+                    JsonFactory.releaseEncodeIterator(encIter);
+                }
+                jsonMsg.rwfMsg().clear();
+            } else {
+                decoder.skipMessage(parser);
+            }
+
+            try (JsonParser messageParser = parserFactory.createParser(state.getStreamData(),
+                    state.getStreamOffset() + messageStart, state.getStreamLength() - messageStart)) {
+                state.setWorkingNode(mapper.get().readTree(messageParser));
+            }
+            return DECODE_FROM_TREE;
+        } catch (IOException e) {
+            state.closeStreamParser();
+            return error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, e.getMessage());
+        }
+    }
+
     private int setCurrentMessageRoot(JsonConverterError error) {
         JsonConverterState state = currentState.get();
         JsonNode root = state.getCurrentRoot();
@@ -258,30 +332,90 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
             JsonFactory.releaseByteArray(buffer.data);
             buffer.data = JsonFactory.createByteArray(requiredLenght);
         }
+        if (writeMsg(inMsg, buffer, error)) {
+            if (outResults != null)
+                outResults.setLength(buffer.position + 25);
+            return SUCCESS;
+        } else
+            return FAILURE;
+    }
+
+    @Override
+    public int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, JsonConverterError error) {
+        return convertRWFToJson(inMsg, options, null, error);
+    }
+
+    @Override
+    public int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, TransportBuffer outBuffer, ConversionResults outResults, JsonConverterError error) {
+
+        ByteBuffer data = outBuffer.data();
+        if (!data.hasArray()) {
+            int ret = convertRWFToJson(inMsg, options, outResults, error);
+            if (ret != SUCCESS)
+                return ret;
+            JsonBuffer json = jsonOutputBuffer.get();
+            if (data.limit() - data.position() < json.position)
+                return BUFFER_TOO_SMALL;
+            data.put(json.data, 0, json.position);
+            if (outResults != null)
+                outResults.setLength(json.position);
+            json.position = 0;
+            return SUCCESS;
+        }
+
+        if (options.getJsonProtocolType() != JsonProtocol.JSON_JPT_JSON2) {
+            error.setError(FAILURE, "Invalid protocol type.");
+            return FAILURE;
+        }
+        JsonBuffer buffer = jsonOutputBuffer.get();
+        buffer.spare = buffer.data;
+        buffer.data = data.array();
+        buffer.start = data.arrayOffset() + data.position();
+        buffer.position = buffer.start;
+        buffer.limit = data.arrayOffset() + data.limit();
+        try {
+            if (!writeMsg(inMsg, buffer, error))
+                return FAILURE;
+            if (buffer.limit < 0) {
+                if (outResults != null)
+                    outResults.setLength(buffer.position + 25);
+                return BUFFER_TOO_SMALL;
+            }
+            /* the writers check their length before writing, a message past the limit is never handed on */
+            if (buffer.position > buffer.limit) {
+                error.setError(FAILURE, "JSON message was written past the end of the buffer.");
+                return FAILURE;
+            }
+            data.position(buffer.position - data.arrayOffset());
+            if (outResults != null)
+                outResults.setLength(buffer.position - buffer.start);
+            return SUCCESS;
+        } finally {
+            if (buffer.limit >= 0) {
+                buffer.data = buffer.spare;
+                buffer.position = 0;
+                buffer.start = 0;
+                buffer.limit = -1;
+                buffer.spare = null;
+            }
+        }
+    }
+
+    private boolean writeMsg(Msg inMsg, JsonBuffer buffer, JsonConverterError error) {
         DecodeIterator iter = JsonFactory.createDecodeIterator();
         try {
             iter.clear();
             if (inMsg.encodedDataBody() == null || inMsg.encodedDataBody().data() == null) {
                 error.setError(FAILURE, "RWF Msg encodedDataBody() is not initialized.");
-                return FAILURE;
+                return false;
             }
             iter.setBufferAndRWFVersion(inMsg.encodedDataBody(), Codec.majorVersion(), Codec.minorVersion());
-            if (processMsg(iter, inMsg, buffer, error, true)) {
-                if (outResults != null)
-                    outResults.setLength(buffer.position + 25);
-                return SUCCESS;
-            } else
-                return FAILURE;
+            return processMsg(iter, inMsg, buffer, error, true);
         } finally {
             JsonFactory.releaseDecodeIterator(iter);
         }
     }
 
-    @Override
-    public int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, JsonConverterError error) {
-        return convertRWFToJson(inMsg, options, null, error);
-    }
-
     @Override
     public int getJsonBuffer(Buffer buffer, GetJsonMsgOptions options, JsonConverterError error) {
 
@@ -681,6 +815,12 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
     }
     void setDictionary(DataDictionary dictionary) {
         this.dictionary = dictionary;
+        dictionaryJsonNames = dictionary != null ? new DictionaryJsonNames(dictionary) : null;
+    }
+
+    @Override
+    DictionaryJsonNames getDictionaryJsonNames() {
+        return dictionaryJsonNames;
     }
 
     @Override
@@ -691,6 +831,14 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         catchUnexpectedKeys = enabled;
     }
 
+    boolean streamingDecode() {
+        return streamingDecode;
+    }
+
+    void streamingDecode(boolean enabled) {
+        streamingDecode = enabled;
+    }
+
     @Override
     boolean catchUnexpectedFids() {
         return catchUnexpectedFids;
@@ -766,6 +914,10 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
             jsonConverterState.clear();
             currentState.set(jsonConverterState);
             ByteBuffer data = buffer.data();
+            if (streamingDecode && startStreamingDecode(jsonConverterState, data, buffer.dataStartPosition(), data.limit())) {
+                jsonConverterState.getCurrentBufferData().data(data);
+                return SUCCESS;
+            }
             ByteBufferInputStream stream = inputStream.get();
             stream.setByteBuffer(data, buffer.dataStartPosition(), data.limit());
             ObjectMapper objectMapper = mapper.get();
@@ -783,6 +935,56 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         return SUCCESS;
     }
 
+    /* Prepares the messages of the buffer to be decoded from the parser tokens. The buffer must hold
+     * a message or an array of messages and arrays of messages; any other content, or a buffer that
+     * fails to parse, is parsed into a tree instead, which reports it as before. */
+    private boolean startStreamingDecode(JsonConverterState state, ByteBuffer data, int start, int end) {
+        byte[] bytes;
+        int offset;
+        int length = end - start;
+        if (data.hasArray()) {
+            bytes = data.array();
+            offset = data.arrayOffset() + start;
+        } else {
+            bytes = state.getStreamCopy(length);
+            offset = 0;
+            int position = data.position();
+            data.position(start);
+            data.get(bytes, 0, length);
+            data.position(position);
+        }
+
+        try (JsonParser parser = parserFactory.createParser(bytes, offset, length)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.START_ARRAY) {
+                        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                            if (token != JsonToken.START_OBJECT)
+                                return false;
+                            parser.skipChildren();
+                        }
+                    } else if (token == JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                    } else {
+                        return false;
+                    }
+                }
+            } else {
+                return false;
+            }
+
+            state.setStreamData(bytes, offset, length);
+            state.setStreamParser(parserFactory.createParser(bytes, offset, length));
+            state.setStreaming(true);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     @Override
     public void decodeRsslMessage(int msgClassTypeId, JsonNode path, Object msg, JsonConverterError error, EncodeIterator encodeIterator) {
         AbstractRsslMessageTypeConverter subParser = getRsslMessageHandler(msgClassTypeId, error);
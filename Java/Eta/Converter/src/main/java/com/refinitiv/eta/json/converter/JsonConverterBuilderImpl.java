@@ -123,6 +123,14 @@ class JsonConverterBuilderImpl implements JsonConverterBuilder {
                     }
                     break;
 
+                case JsonConverterProperties.JSON_CPC_STREAMING_DECODE:
+                    if (checkBoolean(entry, error)) {
+                        result.streamingDecode((Boolean) entry.getValue());
+                    } else {
+                        return null;
+                    }
+                    break;
+
                 case JsonConverterProperties.JSON_CPC_DEFAULT_SERVICE_ID:
                     if (checkInteger(entry, error)) {
                         result.setDefaultServiceId((Integer) entry.getValue());
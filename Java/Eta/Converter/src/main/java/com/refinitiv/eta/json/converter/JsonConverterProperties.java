@@ -51,6 +51,13 @@ public class JsonConverterProperties {
 
     public final static int JSON_CPC_PROTOCOL_VERSION = 10;
 
+    /**
+     * (Simplified JSON) When converting from JSON to RWF, decode requests and closes of a single item and
+     * ping/pong messages from the parser tokens, without building a tree of the message. Other messages
+     * are converted as before (value: RsslBool).
+     */
+    public final static int JSON_CPC_STREAMING_DECODE = 11;
+
     private JsonConverterProperties() {
         throw new IllegalAccessError();
     }
@@ -8,10 +8,13 @@
 
 package com.refinitiv.eta.json.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.CodecFactory;
 
+import java.io.IOException;
+
 class JsonConverterState {
 
     private Buffer currentBufferData = CodecFactory.createBuffer();
@@ -22,6 +25,14 @@ class JsonConverterState {
     private int arrayCounter;
     private int entryCounter;
 
+    private boolean streaming;
+    private JsonParser streamParser;
+    private byte[] streamData;
+    private int streamOffset;
+    private int streamLength;
+    private byte[] streamCopy;
+    private JsonStreamingMsgDecoder streamingDecoder;
+
     public Buffer getCurrentBufferData() {
         return currentBufferData;
     }
@@ -74,6 +85,9 @@ class JsonConverterState {
         arrayCounter = 0;
         entryCounter = 0;
         failedMessage = null;
+        closeStreamParser();
+        streaming = false;
+        streamData = null;
     }
 
     public byte[] getFailedMessage() {
@@ -83,5 +97,64 @@ class JsonConverterState {
     public void setFailedMessage(byte[] failedMessage) {
         this.failedMessage = failedMessage;
     }
-}
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public JsonParser getStreamParser() {
+        return streamParser;
+    }
+
+    public void setStreamParser(JsonParser streamParser) {
+        this.streamParser = streamParser;
+    }
+
+    public void closeStreamParser() {
+        if (streamParser == null)
+            return;
+        try {
+            streamParser.close();
+        } catch (IOException e) {
+            //nothing to release for a parser over a byte array
+        }
+        streamParser = null;
+    }
+
+    public byte[] getStreamData() {
+        return streamData;
+    }
+
+    public int getStreamOffset() {
+        return streamOffset;
+    }
+
+    public int getStreamLength() {
+        return streamLength;
+    }
+
+    public void setStreamData(byte[] streamData, int streamOffset, int streamLength) {
+        this.streamData = streamData;
+        this.streamOffset = streamOffset;
+        this.streamLength = streamLength;
+    }
+
+    /* Returns an array of at least length bytes to copy the data of a direct buffer to. */
+    public byte[] getStreamCopy(int length) {
+        if (streamCopy == null || streamCopy.length < length)
+            streamCopy = new byte[Math.max(length, streamCopy == null ? 4096 : streamCopy.length * 2)];
+        return streamCopy;
+    }
+
+    public JsonStreamingMsgDecoder getStreamingDecoder() {
+        return streamingDecoder;
+    }
+
+    public void setStreamingDecoder(JsonStreamingMsgDecoder streamingDecoder) {
+        this.streamingDecoder = streamingDecoder;
+    }
+}
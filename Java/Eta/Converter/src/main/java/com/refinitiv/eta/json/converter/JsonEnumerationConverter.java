@@ -61,9 +61,13 @@ class JsonEnumerationConverter extends AbstractPrimitiveTypeConverter {
             if (ret == CodecReturnCodes.BLANK_DATA)
                 res = BufferHelper.writeArray(ConstCharArrays.nullBytes, outBuffer, false, error);
             else {
+                DictionaryJsonNames names = converter.getDictionaryJsonNames();
+                byte[] display = names != null && entry.enumTypeTable() != null ? names.enumDisplay(entry.enumTypeTable(), enumer.toInt()) : null;
                 EnumType enumType = (entry.enumTypeTable() != null
                                      && enumer.toInt() <= entry.enumTypeTable().maxValue()) ? entry.enumTypeTable().enumTypes()[enumer.toInt()] : null;
-                if (enumType != null && enumType.display().data() != null) {
+                if (display != null) {
+                    res = BufferHelper.copyToByteArray(display, 0, display.length, outBuffer, error);
+                } else if (enumType != null && enumType.display().data() != null) {
                     res = BasicPrimitiveConverter.writeRMTESString(enumType.display(), outBuffer, error);
                 } else {
                     res = BasicPrimitiveConverter.writeLong(enumer.toInt(), outBuffer, error);
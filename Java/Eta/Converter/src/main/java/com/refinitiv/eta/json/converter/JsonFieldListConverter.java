@@ -65,8 +65,14 @@ class JsonFieldListConverter extends AbstractContainerTypeConverter {
         FieldEntry fieldEntry = (FieldEntry) entryObj;
         DictionaryEntry def = converter.getDictionary().entry(fieldEntry.fieldId());
         if (def != null) {
-            BasicPrimitiveConverter.writeAsciiString(def.acronym(), outBuffer, error);
-            BufferHelper.colon(outBuffer, error);
+            DictionaryJsonNames names = converter.getDictionaryJsonNames();
+            byte[] name = names != null ? names.fieldName(def) : null;
+            if (name != null)
+                BufferHelper.copyToByteArray(name, 0, name.length, outBuffer, error);
+            else {
+                BasicPrimitiveConverter.writeAsciiString(def.acronym(), outBuffer, error);
+                BufferHelper.colon(outBuffer, error);
+            }
             if (def.rwfType() < DataTypes.SET_PRIMITIVE_MAX) {
                 if (def.rwfType() != DataTypes.ENUM || !converter.expandEnumFields()) {
                     converter.getPrimitiveHandler(def.rwfType()).encodeJson(decIter, outBuffer, error);
@@ -0,0 +1,440 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.refinitiv.eta.codec.*;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.rdm.InstrumentNameTypes;
+import com.refinitiv.eta.rdm.Login;
+
+import java.io.IOException;
+
+import static com.refinitiv.eta.json.converter.ConstCharArrays.*;
+
+/**
+ * Decodes the messages most often received from WebSocket clients straight from the parser tokens,
+ * without building a JsonNode tree: requests and closes of a single item, with no payload, view,
+ * QoS or priority, and ping/pong messages.
+ *
+ * The values of a message are collected while its keys are read and applied to the RWF message
+ * once its type is known, since the Type key may come after the others. A message with any other
+ * key or value, or with a value the tree decoding would reject, is not decoded here, so that the
+ * tree decoding converts it, or reports it, exactly as it does for every other message.
+ */
+class JsonStreamingMsgDecoder {
+
+    private static final int ID = 0x001;
+    private static final int TYPE = 0x002;
+    private static final int DOMAIN = 0x004;
+    private static final int KEY = 0x008;
+    private static final int STREAMING = 0x010;
+    private static final int REFRESH = 0x020;
+    private static final int PRIVATE = 0x040;
+    private static final int PAUSE = 0x080;
+    private static final int QUALIFIED = 0x100;
+    private static final int KEY_IN_UPDATES = 0x200;
+    private static final int CONF_INFO_IN_UPDATES = 0x400;
+    private static final int ACK = 0x800;
+
+    private static final int REQUEST_KEYS = ID | TYPE | DOMAIN | KEY | STREAMING | REFRESH | PRIVATE | PAUSE | QUALIFIED | KEY_IN_UPDATES | CONF_INFO_IN_UPDATES;
+    private static final int CLOSE_KEYS = ID | TYPE | DOMAIN | ACK;
+
+    private static final int KEY_NAME = 0x01;
+    private static final int KEY_NAME_TYPE = 0x02;
+    private static final int KEY_SERVICE = 0x04;
+    private static final int KEY_IDENTIFIER = 0x08;
+    private static final int KEY_FILTER = 0x10;
+
+    private final JsonConverterBaseImpl converter;
+    private final JsonConverterError lookupError = ConverterFactory.createJsonConverterError();
+
+    private int depth;
+
+    private int keys;
+    private int jsonMsgClass;
+    private int msgClass;
+    private int streamId;
+    private int domainType;
+    private boolean streaming;
+    private boolean refresh;
+    private boolean privateStream;
+    private boolean pause;
+    private boolean qualified;
+    private boolean keyInUpdates;
+    private boolean confInfoInUpdates;
+    private boolean ack;
+
+    private int msgKeyKeys;
+    private String name;
+    private int nameType;
+    private int serviceId;
+    private boolean hasServiceId;
+    private int identifier;
+    private long filter;
+
+    JsonStreamingMsgDecoder(JsonConverterBaseImpl converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Decodes the message whose START_OBJECT token is the current token of the parser.
+     *
+     * @return true if the message is decoded into jsonMsg, with the parser on its END_OBJECT token;
+     *          false if it is to be decoded from a tree, see {@link #skipMessage(JsonParser)}
+     */
+    boolean decode(JsonParser parser, JsonMsg jsonMsg) throws IOException {
+        clear();
+        depth = 1;
+
+        JsonToken token;
+        while ((token = next(parser)) == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            next(parser);
+            if (!decodeKey(key, parser))
+                return false;
+        }
+
+        if (token != JsonToken.END_OBJECT)
+            return false;
+
+        switch (jsonMsgClass) {
+            case JsonMsgClasses.PING:
+            case JsonMsgClasses.PONG:
+                jsonMsg.jsonMsgClass(jsonMsgClass);
+                return true;
+            case JsonMsgClasses.RSSL_MESSAGE:
+                if (msgClass == MsgClasses.REQUEST)
+                    return applyRequest(jsonMsg);
+                if (msgClass == MsgClasses.CLOSE)
+                    return applyClose(jsonMsg);
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Moves the parser to the END_OBJECT token of a message that {@link #decode(JsonParser, JsonMsg)}
+     * did not decode.
+     */
+    void skipMessage(JsonParser parser) throws IOException {
+        while (depth > 0)
+            next(parser);
+    }
+
+    private JsonToken next(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null)
+            throw new IOException("Unexpected end of JSON message");
+
+        if (token.isStructStart())
+            depth++;
+        else if (token.isStructEnd())
+            depth--;
+
+        return token;
+    }
+
+    private boolean decodeKey(String key, JsonParser parser) throws IOException {
+        int keyBit;
+        switch (key) {
+            case JSON_ID:
+                keyBit = ID;
+                if (!isInt(parser))
+                    return false;
+                streamId = parser.getIntValue();
+                break;
+            case JSON_TYPE:
+                keyBit = TYPE;
+                if (!decodeType(parser))
+                    return false;
+                break;
+            case JSON_DOMAIN:
+                keyBit = DOMAIN;
+                if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                    lookupError.clear();
+                    domainType = JsonDomain.ofValue(parser.getText(), lookupError);
+                    if (lookupError.isFailed())
+                        return false;
+                } else if (isInt(parser)) {
+                    domainType = parser.getIntValue();
+                } else {
+                    return false;
+                }
+                break;
+            case JSON_KEY:
+                keyBit = KEY;
+                if (parser.currentToken() != JsonToken.START_OBJECT || !decodeMsgKey(parser))
+                    return false;
+                break;
+            case JSON_STREAMING:
+                keyBit = STREAMING;
+                if (!isBoolean(parser))
+                    return false;
+                streaming = parser.getBooleanValue();
+                break;
+            case JSON_REFRESH:
+                keyBit = REFRESH;
+                if (!isBoolean(parser))
+                    return false;
+                refresh = parser.getBooleanValue();
+                break;
+            case JSON_PRIVATE:
+                keyBit = PRIVATE;
+                if (!isBoolean(parser))
+                    return false;
+                privateStream = parser.getBooleanValue();
+                break;
+            case JSON_PAUSE:
+                keyBit = PAUSE;
+                if (!isBoolean(parser))
+                    return false;
+                pause = parser.getBooleanValue();
+                break;
+            case JSON_QUALIFIED:
+                keyBit = QUALIFIED;
+                if (!isBoolean(parser))
+                    return false;
+                qualified = parser.getBooleanValue();
+                break;
+            case JSON_KEYINUPDATES:
+                keyBit = KEY_IN_UPDATES;
+                if (!isBoolean(parser))
+                    return false;
+                keyInUpdates = parser.getBooleanValue();
+                break;
+            case JSON_CONFINFOINUPDATES:
+                keyBit = CONF_INFO_IN_UPDATES;
+                if (!isBoolean(parser))
+                    return false;
+                confInfoInUpdates = parser.getBooleanValue();
+                break;
+            case JSON_ACK:
+                keyBit = ACK;
+                if (!isBoolean(parser))
+                    return false;
+                ack = parser.getBooleanValue();
+                break;
+            default:
+                return false;
+        }
+
+        //the tree keeps the last value of a repeated key, at the position of the first one
+        if ((keys & keyBit) != 0)
+            return false;
+        keys |= keyBit;
+        return true;
+    }
+
+    private boolean decodeType(JsonParser parser) throws IOException {
+        if (isInt(parser)) {
+            jsonMsgClass = JsonMsgClasses.RSSL_MESSAGE;
+            msgClass = parser.getIntValue();
+            return true;
+        }
+
+        if (parser.currentToken() != JsonToken.VALUE_STRING)
+            return false;
+
+        switch (parser.getText()) {
+            case JsonConverterBaseImpl.REQUEST_STR:
+                jsonMsgClass = JsonMsgClasses.RSSL_MESSAGE;
+                msgClass = MsgClasses.REQUEST;
+                return true;
+            case JsonConverterBaseImpl.CLOSE_STR:
+                jsonMsgClass = JsonMsgClasses.RSSL_MESSAGE;
+                msgClass = MsgClasses.CLOSE;
+                return true;
+            case JsonMsgClasses.PING_STR:
+                jsonMsgClass = JsonMsgClasses.PING;
+                return true;
+            case JsonMsgClasses.PONG_STR:
+                jsonMsgClass = JsonMsgClasses.PONG;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean decodeMsgKey(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = next(parser)) == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            next(parser);
+
+            int keyBit;
+            switch (key) {
+                case JSON_NAME:
+                    keyBit = KEY_NAME;
+                    if (parser.currentToken() != JsonToken.VALUE_STRING)
+                        return false;
+                    name = parser.getText();
+                    break;
+                case JSON_KEY_NAME_TYPE:
+                    keyBit = KEY_NAME_TYPE;
+                    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                        lookupError.clear();
+                        nameType = JsonNameType.ofValue(parser.getText(), lookupError);
+                        if (lookupError.isFailed())
+                            return false;
+                    } else if (isInt(parser)) {
+                        nameType = parser.getIntValue();
+                    } else {
+                        return false;
+                    }
+                    break;
+                case JSON_KEY_SERVICE:
+                    keyBit = KEY_SERVICE;
+                    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                        lookupError.clear();
+                        serviceId = converter.serviceNameToId(parser.getText(), lookupError);
+                        if (lookupError.isFailed())
+                            return false;
+                    } else if (isInt(parser)) {
+                        serviceId = parser.getIntValue();
+                    } else {
+                        return false;
+                    }
+                    if (serviceId < 0)
+                        return false;
+                    hasServiceId = true;
+                    break;
+                case JSON_KEY_IDENTIFIER:
+                    keyBit = KEY_IDENTIFIER;
+                    if (!isInt(parser))
+                        return false;
+                    identifier = parser.getIntValue();
+                    break;
+                case JSON_KEY_FILTER:
+                    keyBit = KEY_FILTER;
+                    if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT
+                            || (parser.getNumberType() != JsonParser.NumberType.INT && parser.getNumberType() != JsonParser.NumberType.LONG))
+                        return false;
+                    filter = parser.getLongValue();
+                    break;
+                default:
+                    return false;
+            }
+
+            if ((msgKeyKeys & keyBit) != 0)
+                return false;
+            msgKeyKeys |= keyBit;
+        }
+
+        if (token != JsonToken.END_OBJECT)
+            return false;
+
+        //the default service ID depends on the domain decoded before the key
+        if (!hasServiceId && converter.hasDefaultServiceId() && domainType != DomainTypes.SOURCE && domainType != DomainTypes.LOGIN) {
+            hasServiceId = true;
+            serviceId = converter.getDefaultServiceId();
+        }
+        return true;
+    }
+
+    private boolean applyRequest(JsonMsg jsonMsg) {
+        if ((keys & ~REQUEST_KEYS) != 0 || (keys & (ID | KEY)) != (ID | KEY))
+            return false;
+
+        jsonMsg.jsonMsgClass(JsonMsgClasses.RSSL_MESSAGE);
+        RequestMsg requestMsg = (RequestMsg) jsonMsg.rwfMsg();
+        requestMsg.msgClass(MsgClasses.REQUEST);
+        requestMsg.domainType(domainType);
+        requestMsg.streamId(streamId);
+
+        if (confInfoInUpdates)
+            requestMsg.applyConfInfoInUpdates();
+        if (!refresh)
+            requestMsg.applyNoRefresh();
+        if (privateStream)
+            requestMsg.applyPrivateStream();
+        if (pause)
+            requestMsg.applyPause();
+        if (qualified)
+            requestMsg.applyQualifiedStream();
+        if (keyInUpdates)
+            requestMsg.applyMsgKeyInUpdates();
+        if (streaming)
+            requestMsg.applyStreaming();
+
+        MsgKey msgKey = requestMsg.msgKey();
+        msgKey.applyHasNameType();
+        msgKey.nameType(nameType);
+        if (name != null) {
+            msgKey.applyHasName();
+            msgKey.name().data(name);
+        } else if (nameType == Login.UserIdTypes.COOKIE || nameType == 5) {
+            msgKey.applyHasName();
+            msgKey.name().data(blankStringConst);
+        }
+        if (hasServiceId) {
+            msgKey.applyHasServiceId();
+            msgKey.serviceId(serviceId);
+        }
+        if ((msgKeyKeys & KEY_IDENTIFIER) != 0) {
+            msgKey.applyHasIdentifier();
+            msgKey.identifier(identifier);
+        }
+        if ((msgKeyKeys & KEY_FILTER) != 0) {
+            msgKey.applyHasFilter();
+            msgKey.filter(filter);
+        }
+
+        converter.getRsslMessageHandler(MsgClasses.REQUEST).setDeafultDynamicQoS(requestMsg);
+        return true;
+    }
+
+    private boolean applyClose(JsonMsg jsonMsg) {
+        if ((keys & ~CLOSE_KEYS) != 0 || (keys & ID) == 0)
+            return false;
+
+        jsonMsg.jsonMsgClass(JsonMsgClasses.RSSL_MESSAGE);
+        CloseMsg closeMsg = (CloseMsg) jsonMsg.rwfMsg();
+        closeMsg.msgClass(MsgClasses.CLOSE);
+        closeMsg.domainType(domainType);
+        closeMsg.streamId(streamId);
+        if (ack)
+            closeMsg.applyAck();
+        return true;
+    }
+
+    private static boolean isInt(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT;
+    }
+
+    private static boolean isBoolean(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_TRUE || parser.currentToken() == JsonToken.VALUE_FALSE;
+    }
+
+    private void clear() {
+        keys = 0;
+        jsonMsgClass = JsonMsgClasses.RSSL_MESSAGE;
+        msgClass = MsgClasses.REQUEST;
+        streamId = 0;
+        domainType = DomainTypes.MARKET_PRICE;
+        streaming = true;
+        refresh = true;
+        privateStream = false;
+        pause = false;
+        qualified = false;
+        keyInUpdates = true;
+        confInfoInUpdates = false;
+        ack = false;
+
+        msgKeyKeys = 0;
+        name = null;
+        nameType = InstrumentNameTypes.RIC;
+        serviceId = 0;
+        hasServiceId = false;
+        identifier = 0;
+        filter = 0;
+    }
+}
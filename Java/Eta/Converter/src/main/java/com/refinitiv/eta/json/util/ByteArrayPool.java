@@ -2,61 +2,85 @@
  *|            This source code is provided under the Apache 2.0 license      --
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
  *|                See the project's LICENSE.md for details.                  --
- *|           Copyright (C) 2019-2022 Refinitiv. All rights reserved.         --
+ *|           Copyright (C) 2019-2023 Refinitiv. All rights reserved.         --
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.eta.json.util;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Pool of byte arrays bucketed by size class.
+ * Size classes are powers of two from {@value #MIN_ARRAY_SIZE} up to {@value #MAX_ARRAY_SIZE} bytes
+ * and a polled array has the length of the smallest class that fits the requested length.
+ * Longer arrays are allocated with the exact length and are not pooled.
+ */
 public class ByteArrayPool {
 
-    private Map<Integer, ObjectPool<byte[]>> arrayPools;
-    private List<Integer> lengths;
+    static final int MIN_ARRAY_SIZE = 4096;
+    static final int NUM_OF_SIZE_CLASSES = 13;
+    static final int MAX_ARRAY_SIZE = MIN_ARRAY_SIZE << (NUM_OF_SIZE_CLASSES - 1);
 
-    private int DEFAULT_ARRAY_SIZE = 4096;
-    private int DEFAULT_NUM_OF_POOLS = 8;
+    /* Large arrays are few, so each thread only keeps a handful of every size class for itself. */
+    private static final int LOCAL_CACHE_SIZE = 8;
 
+    private final ObjectPool<byte[]>[] arrayPools;
+    private final LongAdder oversizedArrays = new LongAdder();
 
     public ByteArrayPool() {
-        arrayPools = new HashMap<>();
-        arrayPools.put(0, new ObjectPool<>(true, () -> new byte[0]));
-        lengths = new LinkedList<>();
-        lengths.add(0);
-
-        int currLen = DEFAULT_ARRAY_SIZE;
-        for (int i = 0; i < DEFAULT_NUM_OF_POOLS; i++) {
-            final int len = currLen;
-            arrayPools.put(currLen, new ObjectPool<>(true, () -> new byte[len]));
-            lengths.add(len);
-            currLen = currLen + DEFAULT_ARRAY_SIZE;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ObjectPool<byte[]>[] pools = new ObjectPool[NUM_OF_SIZE_CLASSES];
+        for (int i = 0; i < NUM_OF_SIZE_CLASSES; i++) {
+            final int len = MIN_ARRAY_SIZE << i;
+            pools[i] = new ObjectPool<>(LOCAL_CACHE_SIZE, () -> new byte[len]);
         }
+        arrayPools = pools;
     }
 
-    public byte[] poll(int length) {
+    /* Index of the smallest size class holding at least length bytes. */
+    static int sizeClass(int length) {
+        if (length <= MIN_ARRAY_SIZE)
+            return 0;
+        return 32 - Integer.numberOfLeadingZeros((length - 1) / MIN_ARRAY_SIZE);
+    }
 
-        int n = length / DEFAULT_ARRAY_SIZE + 1;
-        int newLen = DEFAULT_ARRAY_SIZE * n;
-        ObjectPool<byte[]> pool = arrayPools.get(newLen);
-        if (pool == null) {
-            pool = new ObjectPool<>(true, () -> new byte[newLen]);
-            arrayPools.put(newLen, pool);
+    public byte[] poll(int length) {
+        int sizeClass = sizeClass(length);
+        if (sizeClass >= NUM_OF_SIZE_CLASSES) {
+            oversizedArrays.increment();
+            return new byte[length];
         }
 
-        return pool.get();
+        return arrayPools[sizeClass].get();
     }
 
     public void putBack(byte[] arr) {
 
         if (arr != null) {
-            ObjectPool<byte[]> pool = arrayPools.get(arr.length);
-            if (pool != null)
-                pool.release(arr);
+            int sizeClass = sizeClass(arr.length);
+            if (sizeClass < NUM_OF_SIZE_CLASSES && arr.length == MIN_ARRAY_SIZE << sizeClass)
+                arrayPools[sizeClass].release(arr);
         }
     }
 
+    /**
+     * @return number of arrays served from the pool
+     */
+    public long hits() {
+        long hits = 0;
+        for (ObjectPool<byte[]> pool : arrayPools)
+            hits += pool.hits();
+        return hits;
+    }
+
+    /**
+     * @return number of arrays that had to be allocated, including those too long to be pooled
+     */
+    public long misses() {
+        long misses = oversizedArrays.sum();
+        for (ObjectPool<byte[]> pool : arrayPools)
+            misses += pool.misses();
+        return misses;
+    }
 }
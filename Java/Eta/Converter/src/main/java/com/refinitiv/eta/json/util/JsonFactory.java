@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license      --
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
  *|                See the project's LICENSE.md for details.                  --
- *|           Copyright (C) 2019-2022 Refinitiv. All rights reserved.         --
+ *|           Copyright (C) 2019-2023 Refinitiv. All rights reserved.         --
  *|-----------------------------------------------------------------------------
  */
 
@@ -53,6 +53,14 @@ public class JsonFactory {
     private static ObjectPool<ByteBuffer> byteBufferPool = new ObjectPool<>(true, () -> ByteBuffer.allocate(DEFAULT_BYTEBUFFER_SIZE));
     private static ByteArrayPool byteArrayPool = new ByteArrayPool();
 
+    private static final ObjectPool<?>[] objectPools = {
+            intPool, uintPool, elementListPool, elementEntryPool, bufferPool, fieldListPool, fieldEntryPool, vectorPool,
+            vectorEntryPool, seriesPool, seriesEntryPool, filterListPool, filterEntryPool, realPool, doublePool,
+            floatPool, statePool, qosPool, mapPool, mapEntryPool, enumPool, timePool, datePool, dateTimePool, arrayPool,
+            arrayEntryPool, msgPool, fieldSetDefDbPool, elementSetDefDbPool, decodeIterPool, encodeIteratorPool,
+            byteBufferPool
+    };
+
     private static boolean isInitialized = false;
     public static final int JSON_CONVERTER_DEFAULT_POOLS_SIZE = 10;
 
@@ -336,42 +344,34 @@ public class JsonFactory {
     }
 
 
+    /**
+     * @return number of objects and byte arrays the converter took from its pools
+     */
+    public static long poolHits()
+    {
+        long hits = byteArrayPool.hits();
+        for (ObjectPool<?> pool : objectPools)
+            hits += pool.hits();
+        return hits;
+    }
+
+    /**
+     * @return number of objects and byte arrays the converter had to create because its pools had none
+     */
+    public static long poolMisses()
+    {
+        long misses = byteArrayPool.misses();
+        for (ObjectPool<?> pool : objectPools)
+            misses += pool.misses();
+        return misses;
+    }
+
     public static void initPools(int numOfObjects)
     {
         if(!isInitialized && numOfObjects > 0)
         {
-            intPool.growPool(numOfObjects);
-            uintPool.growPool(numOfObjects);
-            elementListPool.growPool(numOfObjects);
-            elementEntryPool.growPool(numOfObjects);
-            bufferPool.growPool(numOfObjects);
-            fieldListPool.growPool(numOfObjects);
-            fieldEntryPool.growPool(numOfObjects);
-            vectorPool.growPool(numOfObjects);
-            vectorEntryPool.growPool(numOfObjects);
-            seriesPool.growPool(numOfObjects);
-            seriesEntryPool.growPool(numOfObjects);
-            filterListPool.growPool(numOfObjects);
-            filterEntryPool.growPool(numOfObjects);
-            realPool.growPool(numOfObjects);
-            doublePool.growPool(numOfObjects);
-            floatPool.growPool(numOfObjects);
-            statePool.growPool(numOfObjects);
-            qosPool.growPool(numOfObjects);
-            mapPool.growPool(numOfObjects);
-            mapEntryPool.growPool(numOfObjects);
-            enumPool.growPool(numOfObjects);
-            timePool.growPool(numOfObjects);
-            datePool.growPool(numOfObjects);
-            dateTimePool.growPool(numOfObjects);
-            arrayPool.growPool(numOfObjects);
-            arrayEntryPool.growPool(numOfObjects);
-            msgPool.growPool(numOfObjects);
-            fieldSetDefDbPool.growPool(numOfObjects);
-            elementSetDefDbPool.growPool(numOfObjects);
-            decodeIterPool.growPool(numOfObjects);
-            encodeIteratorPool.growPool(numOfObjects);
-            byteBufferPool.growPool(numOfObjects);
+            for (ObjectPool<?> pool : objectPools)
+                pool.growPool(numOfObjects);
 
             isInitialized = true;
         }
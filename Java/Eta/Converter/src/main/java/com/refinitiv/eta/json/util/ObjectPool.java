@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license      --
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
  *|                See the project's LICENSE.md for details.                  --
- *|           Copyright (C) 2019-2022 Refinitiv. All rights reserved.         --
+ *|           Copyright (C) 2019-2023 Refinitiv. All rights reserved.         --
  *|-----------------------------------------------------------------------------
  */
 
@@ -18,6 +18,11 @@ public class ObjectPool<T> {
         this(isConcurrent, DEFAULT_INITIAL_SIZE, supplier);
     }
 
+    /**
+     * @param isConcurrent whether the pool is shared by several threads
+     * @param initialSize initial capacity of the pool, only a hint for a concurrent one
+     * @param supplier creates the objects the pool has none of
+     */
     public ObjectPool(boolean isConcurrent, int initialSize, Supplier<T> supplier) {
         if (isConcurrent)
             pool = new UtilQueueConcurrent<T>(initialSize, supplier);
@@ -26,6 +31,13 @@ public class ObjectPool<T> {
         }
     }
 
+    /**
+     * Creates a concurrent pool in which every thread keeps up to localCacheSize released objects for itself.
+     */
+    public ObjectPool(int localCacheSize, Supplier<T> supplier) {
+        pool = new UtilQueueConcurrent<T>(DEFAULT_INITIAL_SIZE, localCacheSize, supplier);
+    }
+
     public T get() {
         return pool.get();
     }
@@ -38,4 +50,18 @@ public class ObjectPool<T> {
         pool.growPool(numOfObjects);
     }
 
+    /**
+     * @return number of objects served from the pool
+     */
+    public long hits() {
+        return pool.hits();
+    }
+
+    /**
+     * @return number of objects that had to be created because the pool had none
+     */
+    public long misses() {
+        return pool.misses();
+    }
+
 }
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license      --
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
  *|                See the project's LICENSE.md for details.                  --
- *|           Copyright (C) 2019-2022 Refinitiv. All rights reserved.         --
+ *|           Copyright (C) 2019-2023 Refinitiv. All rights reserved.         --
  *|-----------------------------------------------------------------------------
  */
 
@@ -14,7 +14,9 @@ import java.util.function.Supplier;
 
 public class UtilQueue<T> {
     Deque<T> queue;
-    private final Supplier<T> supplier;
+    final Supplier<T> supplier;
+    private long hits;
+    private long misses;
 
     UtilQueue(int initialSize, Supplier<T> supplier) {
         queue = new ArrayDeque<>(initialSize);
@@ -23,10 +25,13 @@ public class UtilQueue<T> {
 
     public T get() {
         T element = queue.poll();
-        if (element == null)
+        if (element == null) {
+            misses++;
             return supplier.get();
-        else
+        } else {
+            hits++;
             return element;
+        }
     }
 
     public void add(T element) {
@@ -42,4 +47,18 @@ public class UtilQueue<T> {
             queue.add(supplier.get());
         }
     }
+
+    /**
+     * @return number of {@link #get()} calls served with a pooled element
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return number of {@link #get()} calls that had to create a new element
+     */
+    public long misses() {
+        return misses;
+    }
 }
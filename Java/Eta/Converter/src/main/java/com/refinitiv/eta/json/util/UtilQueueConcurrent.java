@@ -2,40 +2,117 @@
  *|            This source code is provided under the Apache 2.0 license      --
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
  *|                See the project's LICENSE.md for details.                  --
- *|           Copyright (C) 2019-2022 Refinitiv. All rights reserved.         --
+ *|           Copyright (C) 2019-2023 Refinitiv. All rights reserved.         --
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.eta.json.util;
 
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+/**
+ * Queue shared by the threads converting messages.
+ * Every thread first takes and returns elements through its own bounded cache, so a thread
+ * that releases what it got does not touch any shared state. Elements that do not fit into
+ * the cache go to a lock-free queue all threads take from once their cache is empty.
+ */
 public class UtilQueueConcurrent<T> extends UtilQueue<T> {
-    private Lock lock = new ReentrantLock();
+    static final int DEFAULT_LOCAL_CACHE_SIZE = 256;
+
+    private final ConcurrentLinkedQueue<T> sharedQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<LocalCache> localCache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private static final class LocalCache {
+        final Object[] elements;
+        int size;
+
+        LocalCache(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
 
+    public UtilQueueConcurrent(Supplier<T> supplier) {
+        this(0, DEFAULT_LOCAL_CACHE_SIZE, supplier);
+    }
+
+    /**
+     * Creates a queue in which every thread caches up to {@value #DEFAULT_LOCAL_CACHE_SIZE} elements.
+     *
+     * @param initialSize expected number of elements; the shared queue is unbounded, so this is only a hint
+     * @param supplier creates the elements the queue has none of
+     */
     public UtilQueueConcurrent(int initialSize, Supplier<T> supplier) {
-        super(initialSize, supplier);
+        this(initialSize, DEFAULT_LOCAL_CACHE_SIZE, supplier);
+    }
+
+    /**
+     * @param initialSize expected number of elements; the shared queue is unbounded, so this is only a hint
+     * @param localCacheSize number of released elements every thread keeps for itself
+     * @param supplier creates the elements the queue has none of
+     */
+    public UtilQueueConcurrent(int initialSize, int localCacheSize, Supplier<T> supplier) {
+        super(0, supplier);
+        localCache = ThreadLocal.withInitial(() -> new LocalCache(localCacheSize));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T get() {
-        lock.lock();
-        try {
-            return super.get();
-        } finally {
-            lock.unlock();
+        LocalCache cache = localCache.get();
+        if (cache.size > 0) {
+            hits.increment();
+            T element = (T) cache.elements[--cache.size];
+            cache.elements[cache.size] = null;
+            return element;
+        }
+
+        T element = sharedQueue.poll();
+        if (element == null) {
+            misses.increment();
+            return supplier.get();
         }
+        hits.increment();
+        return element;
     }
 
     @Override
     public void add(T element) {
-        lock.lock();
-        try {
-            super.add(element);
-        } finally {
-            lock.unlock();
+        LocalCache cache = localCache.get();
+        if (cache.size < cache.elements.length)
+            cache.elements[cache.size++] = element;
+        else
+            sharedQueue.offer(element);
+    }
+
+    /**
+     * @return number of elements in the shared queue and in the cache of the calling thread
+     */
+    @Override
+    public int size() {
+        return sharedQueue.size() + localCache.get().size;
+    }
+
+    /**
+     * Adds the new elements to the shared queue so that any thread can take them.
+     */
+    @Override
+    public void growPool(int numOfObjects) {
+        for (int i = 0; i < numOfObjects; i++) {
+            sharedQueue.offer(supplier.get());
         }
     }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
 }
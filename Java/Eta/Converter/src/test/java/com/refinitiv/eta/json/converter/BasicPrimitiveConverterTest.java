@@ -672,6 +672,18 @@ public class BasicPrimitiveConverterTest {
         assertEquals(12, jb.position);
         date.clear();
 
+        jb.position = 0;
+        jb.data = new byte[13];
+        date.year(65535);
+        date.month(12);
+        date.day(31);
+        res = BasicPrimitiveConverter.writeDate(date, jb, error);
+        for (int i = 0; i < 13; i++) {
+            assertEquals("\"65535-12-31\"".charAt(i), (char)jb.data[i]);
+        }
+        assertEquals(13, jb.position);
+        date.clear();
+
         jb.position = 0;
         jb.data = new byte[50];
         date.clear();
@@ -810,6 +822,21 @@ public class BasicPrimitiveConverterTest {
             assertEquals("\"01:00:02.000123\"".charAt(i), (char)jb.data[i]);
         }
 
+        jb.position = 0;
+        jb.data = new byte[50];
+        time.clear();
+        time.hour(1);
+        time.minute(0);
+        time.second(2);
+        time.millisecond(5);
+        time.microsecond(2047);
+        time.nanosecond(2047);
+        res = BasicPrimitiveConverter.writeTime(time, jb, error);
+        assertEquals(14, jb.position);
+        for (int i = 0; i < 14; i++) {
+            assertEquals("\"01:00:02.005\"".charAt(i), (char)jb.data[i]);
+        }
+
         jb.position = 0;
         jb.data = new byte[50];
         time.clear();
@@ -0,0 +1,298 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.refinitiv.eta.codec.*;
+import com.refinitiv.eta.codec.Enum;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.refinitiv.eta.codec.CodecReturnCodes.BUFFER_TOO_SMALL;
+import static com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS;
+import static org.junit.Assert.*;
+
+public class DirectJsonBufferTest {
+
+    private static final byte GUARD = 0x55;
+
+    JsonConverter converter;
+    JsonConverterError convError = ConverterFactory.createJsonConverterError();
+    RWFToJsonOptions rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
+    GetJsonMsgOptions getJsonMsgOptions = ConverterFactory.createGetJsonMsgOptions();
+    ConversionResults conversionResults = ConverterFactory.createConversionResults();
+    DataDictionary dictionary = CodecFactory.createDataDictionary();
+
+    /* a transport buffer over a part of a larger array, as the buffers of a socket channel are */
+    private static class TestTransportBuffer implements TransportBuffer {
+        private final ByteBuffer data;
+
+        TestTransportBuffer(int offset, int length, boolean direct) {
+            ByteBuffer whole = direct ? ByteBuffer.allocateDirect(offset + length + 100) : ByteBuffer.allocate(offset + length + 100);
+            while (whole.hasRemaining())
+                whole.put(GUARD);
+            whole.position(offset);
+            whole.limit(offset + length);
+            data = whole.slice();
+        }
+
+        @Override
+        public ByteBuffer data() {
+            return data;
+        }
+
+        @Override
+        public int length() {
+            return data.position();
+        }
+
+        @Override
+        public int copy(ByteBuffer destBuffer) {
+            return 0;
+        }
+
+        @Override
+        public int capacity() {
+            return data.capacity();
+        }
+
+        @Override
+        public int dataStartPosition() {
+            return 0;
+        }
+
+        byte[] written() {
+            byte[] bytes = new byte[data.position()];
+            ByteBuffer view = data.duplicate();
+            view.flip();
+            view.get(bytes);
+            return bytes;
+        }
+    }
+
+    @Before
+    public void init() {
+        final String fieldDictionaryFile = "../../etc/RDMFieldDictionary";
+        final String enumTypeFile = "../../etc/enumtype.def";
+
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        dictionary.clear();
+        assertTrue(error.text(), dictionary.loadFieldDictionary(fieldDictionaryFile, error) == CodecReturnCodes.SUCCESS);
+        assertTrue(error.text(), dictionary.loadEnumTypeDictionary(enumTypeFile, error) == CodecReturnCodes.SUCCESS);
+
+        converter = ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+                .setProperty(JsonConverterProperties.JSON_CPC_EXPAND_ENUM_FIELDS, true)
+                .setDictionary(dictionary)
+                .build(convError);
+        assertNotNull(converter);
+
+        rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+    }
+
+    private Msg createUpdateMsg(int fieldCount) {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(20000));
+        EncodeIterator encIter = CodecFactory.createEncodeIterator();
+        encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        UpdateMsg updateMsg = (UpdateMsg) CodecFactory.createMsg();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.FIELD_LIST);
+        assertEquals(CodecReturnCodes.ENCODE_CONTAINER, updateMsg.encodeInit(encIter, 0));
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        Enum enumValue = CodecFactory.createEnum();
+        Buffer ascii = CodecFactory.createBuffer();
+        Date date = CodecFactory.createDate();
+
+        fieldList.applyHasStandardData();
+        assertEquals(SUCCESS, fieldList.encodeInit(encIter, null, 0));
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(3);
+        fieldEntry.dataType(DataTypes.ASCII_STRING);
+        ascii.data("DISPLAY \"NAME\"");
+        assertEquals(SUCCESS, fieldEntry.encode(encIter, ascii));
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(4);
+        fieldEntry.dataType(DataTypes.ENUM);
+        enumValue.value(1);
+        assertEquals(SUCCESS, fieldEntry.encode(encIter, enumValue));
+
+        fieldEntry.clear();
+        fieldEntry.fieldId(14);
+        fieldEntry.dataType(DataTypes.ENUM);
+        enumValue.value(2);
+        assertEquals(SUCCESS, fieldEntry.encode(encIter, enumValue));
+
+        /* a year above 9999 takes more than the four digits of YYYY */
+        fieldEntry.clear();
+        fieldEntry.fieldId(16);
+        fieldEntry.dataType(DataTypes.DATE);
+        date.year(10000);
+        date.month(1);
+        date.day(2);
+        assertEquals(SUCCESS, fieldEntry.encode(encIter, date));
+
+        for (int i = 0; i < fieldCount; i++) {
+            fieldEntry.clear();
+            fieldEntry.fieldId(i % 2 == 0 ? 22 : 25);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(1000 + i, RealHints.EXPONENT_2);
+            assertEquals(SUCCESS, fieldEntry.encode(encIter, real));
+        }
+
+        assertEquals(SUCCESS, fieldList.encodeComplete(encIter, true));
+        assertEquals(SUCCESS, updateMsg.encodeComplete(encIter, true));
+
+        DecodeIterator decIter = CodecFactory.createDecodeIterator();
+        decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        Msg msg = CodecFactory.createMsg();
+        assertEquals(SUCCESS, msg.decode(decIter));
+        return msg;
+    }
+
+    private byte[] convertAndCopy(Msg msg) {
+        convError.clear();
+        assertEquals(SUCCESS, converter.convertRWFToJson(msg, rwfToJsonOptions, conversionResults, convError));
+        return fetch();
+    }
+
+    private byte[] fetch() {
+        TestTransportBuffer out = new TestTransportBuffer(0, conversionResults.getLength(), false);
+        getJsonMsgOptions.clear();
+        getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        assertEquals(SUCCESS, converter.getJsonBuffer(out, getJsonMsgOptions, convError));
+        return out.written();
+    }
+
+    private void checkGuards(TestTransportBuffer buffer, int offset) {
+        ByteBuffer data = buffer.data();
+        if (data.hasArray()) {
+            byte[] array = data.array();
+            for (int i = 0; i < offset; i++)
+                assertEquals(GUARD, array[i]);
+            for (int i = offset + data.limit(); i < array.length; i++)
+                assertEquals(GUARD, array[i]);
+        }
+    }
+
+    @Test
+    public void testWriteIntoHeapBuffer() {
+        Msg msg = createUpdateMsg(10);
+        byte[] expected = convertAndCopy(msg);
+        assertTrue(new String(expected).contains("\"DSPLY_NAME\":\"DISPLAY \\\"NAME\\\"\""));
+
+        TestTransportBuffer out = new TestTransportBuffer(13, 4000, false);
+        convError.clear();
+        assertEquals(SUCCESS, converter.convertRWFToJson(msg, rwfToJsonOptions, out, conversionResults, convError));
+        assertTrue(convError.isSuccessful());
+        assertArrayEquals(expected, out.written());
+        assertEquals(expected.length, conversionResults.getLength());
+        checkGuards(out, 13);
+
+        /* the converter keeps working through its own buffer afterwards */
+        assertArrayEquals(expected, convertAndCopy(msg));
+    }
+
+    @Test
+    public void testWriteIntoDirectBuffer() {
+        Msg msg = createUpdateMsg(10);
+        byte[] expected = convertAndCopy(msg);
+
+        TestTransportBuffer out = new TestTransportBuffer(13, 4000, true);
+        convError.clear();
+        assertEquals(SUCCESS, converter.convertRWFToJson(msg, rwfToJsonOptions, out, conversionResults, convError));
+        assertArrayEquals(expected, out.written());
+    }
+
+    @Test
+    public void testBufferTooSmall() {
+        Msg msg = createUpdateMsg(200);
+        byte[] expected = convertAndCopy(msg);
+
+        for (boolean direct : new boolean[] { false, true }) {
+            TestTransportBuffer out = new TestTransportBuffer(13, expected.length / 2, direct);
+            convError.clear();
+            assertEquals(BUFFER_TOO_SMALL, converter.convertRWFToJson(msg, rwfToJsonOptions, out, conversionResults, convError));
+            assertTrue(convError.isSuccessful());
+            assertEquals(0, out.data().position());
+            assertTrue(conversionResults.getLength() >= expected.length);
+            checkGuards(out, 13);
+
+            /* the converted message is fetched as after the conversion into the converter's buffer */
+            assertArrayEquals(expected, fetch());
+        }
+    }
+
+    @Test
+    public void testBufferJustLargeEnough() {
+        Msg msg = createUpdateMsg(50);
+        byte[] expected = convertAndCopy(msg);
+
+        for (int length = expected.length - 2; length < expected.length + 100; length++) {
+            TestTransportBuffer out = new TestTransportBuffer(3, length, false);
+            convError.clear();
+            int ret = converter.convertRWFToJson(msg, rwfToJsonOptions, out, conversionResults, convError);
+            if (ret == SUCCESS)
+                assertArrayEquals(expected, out.written());
+            else {
+                assertEquals(BUFFER_TOO_SMALL, ret);
+                assertArrayEquals(expected, fetch());
+            }
+            checkGuards(out, 3);
+        }
+    }
+
+    @Test
+    public void testWriteEndsAtLimit() {
+        Msg msg = createUpdateMsg(0);
+        byte[] expected = convertAndCopy(msg);
+        assertTrue(new String(expected).endsWith("\"TRADE_DATE\":\"10000-01-02\"}}"));
+
+        /* the date is the last value written, nothing may land past the end of the buffer */
+        for (int length = expected.length - 20; length <= expected.length + 20; length++) {
+            TestTransportBuffer out = new TestTransportBuffer(7, length, false);
+            convError.clear();
+            int ret = converter.convertRWFToJson(msg, rwfToJsonOptions, out, conversionResults, convError);
+            if (ret == SUCCESS)
+                assertArrayEquals(expected, out.written());
+            else {
+                assertEquals(BUFFER_TOO_SMALL, ret);
+                assertTrue(length < expected.length + 20);
+            }
+            checkGuards(out, 7);
+        }
+    }
+
+    @Test
+    public void testPreparedNamesMatchDictionary() {
+        DictionaryJsonNames names = new DictionaryJsonNames(dictionary);
+        assertEquals("\"BID\":", new String(names.fieldName(dictionary.entry(22))));
+
+        DictionaryEntry entry = dictionary.entry(4);
+        byte[] display = names.enumDisplay(entry.enumTypeTable(), 1);
+        assertNotNull(display);
+        assertEquals('"', display[0]);
+        assertNull(names.enumDisplay(entry.enumTypeTable(), 60000));
+        assertTrue(Arrays.equals(display, names.enumDisplay(entry.enumTypeTable(), 1)));
+    }
+}
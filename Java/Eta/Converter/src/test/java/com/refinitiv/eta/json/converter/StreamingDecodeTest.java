@@ -0,0 +1,240 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.refinitiv.eta.codec.*;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.rdm.InstrumentNameTypes;
+import com.refinitiv.eta.transport.TransportBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER;
+import static com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS;
+import static org.junit.Assert.*;
+
+public class StreamingDecodeTest {
+
+    JsonConverter treeConverter;
+    JsonConverter streamingConverter;
+    JsonConverterError convError = ConverterFactory.createJsonConverterError();
+    ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+    DecodeJsonMsgOptions decodeJsonMsgOptions = ConverterFactory.createDecodeJsonMsgOptions();
+
+    private static class TestTransportBuffer implements TransportBuffer {
+        private final ByteBuffer data;
+        private final int start;
+
+        TestTransportBuffer(String json, int start, boolean direct) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            data = direct ? ByteBuffer.allocateDirect(start + bytes.length) : ByteBuffer.allocate(start + bytes.length);
+            data.position(start);
+            data.put(bytes);
+            data.position(start);
+            this.start = start;
+        }
+
+        @Override
+        public ByteBuffer data() {
+            return data;
+        }
+
+        @Override
+        public int length() {
+            return data.limit() - start;
+        }
+
+        @Override
+        public int copy(ByteBuffer destBuffer) {
+            return 0;
+        }
+
+        @Override
+        public int capacity() {
+            return data.capacity();
+        }
+
+        @Override
+        public int dataStartPosition() {
+            return start;
+        }
+    }
+
+    /* the outcome of decoding one message of a buffer */
+    private static class Decoded {
+        int ret;
+        int jsonMsgClass;
+        int errorCode;
+        String errorText;
+        Buffer rwf;
+    }
+
+    @Before
+    public void init() {
+        treeConverter = createConverter(false, false);
+        streamingConverter = createConverter(true, false);
+        parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+    }
+
+    private JsonConverter createConverter(boolean streaming, boolean catchUnknownKeys) {
+        JsonConverter converter = ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_CATCH_UNKNOWN_JSON_KEYS, catchUnknownKeys)
+                .setProperty(JsonConverterProperties.JSON_CPC_DEFAULT_SERVICE_ID, 7)
+                .setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE, streaming)
+                .setServiceConverter(new ServiceNameIdTestConverter())
+                .build(convError);
+        assertNotNull(converter);
+        return converter;
+    }
+
+    private List<Decoded> decodeAll(JsonConverter converter, TransportBuffer buffer) {
+        List<Decoded> result = new ArrayList<>();
+        convError.clear();
+        Decoded parsed = new Decoded();
+        parsed.ret = converter.parseJsonBuffer(buffer, parseJsonOptions, convError);
+        parsed.errorCode = convError.getCode();
+        parsed.errorText = convError.getText();
+        result.add(parsed);
+        if (parsed.ret != SUCCESS)
+            return result;
+
+        JsonMsg jsonMsg = ConverterFactory.createJsonMsg();
+        for (int i = 0; i < 100; i++) {
+            convError.clear();
+            Decoded decoded = new Decoded();
+            decoded.ret = converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError);
+            decoded.jsonMsgClass = jsonMsg.jsonMsgClass();
+            decoded.errorCode = convError.getCode();
+            decoded.errorText = convError.getText();
+            if (decoded.ret == SUCCESS && decoded.jsonMsgClass == JsonMsgClasses.RSSL_MESSAGE) {
+                decoded.rwf = CodecFactory.createBuffer();
+                decoded.rwf.data(ByteBuffer.allocate(jsonMsg.rwfMsg().encodedMsgBuffer().length()));
+                jsonMsg.rwfMsg().encodedMsgBuffer().copy(decoded.rwf);
+            }
+            result.add(decoded);
+            if (decoded.ret != SUCCESS)
+                return result;
+        }
+        fail("decoding did not end");
+        return result;
+    }
+
+    private List<Decoded> checkSameDecoding(String json) {
+        return checkSameDecoding(json, treeConverter, streamingConverter);
+    }
+
+    private List<Decoded> checkSameDecoding(String json, JsonConverter tree, JsonConverter streaming) {
+        List<Decoded> expected = decodeAll(tree, new TestTransportBuffer(json, 0, false));
+        for (int start : new int[] { 0, 5 }) {
+            for (boolean direct : new boolean[] { false, true }) {
+                List<Decoded> actual = decodeAll(streaming, new TestTransportBuffer(json, start, direct));
+                assertEquals(json, expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(json, expected.get(i).ret, actual.get(i).ret);
+                    assertEquals(json, expected.get(i).jsonMsgClass, actual.get(i).jsonMsgClass);
+                    assertEquals(json, expected.get(i).errorCode, actual.get(i).errorCode);
+                    assertEquals(json, expected.get(i).errorText, actual.get(i).errorText);
+                    if (expected.get(i).rwf != null)
+                        assertTrue(json, expected.get(i).rwf.equals(actual.get(i).rwf));
+                    else
+                        assertNull(json, actual.get(i).rwf);
+                }
+            }
+        }
+        return expected;
+    }
+
+    private Msg decodeRwf(Buffer rwf) {
+        DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+        decodeIter.setBufferAndRWFVersion(rwf, Codec.majorVersion(), Codec.minorVersion());
+        Msg msg = CodecFactory.createMsg();
+        assertEquals(SUCCESS, msg.decode(decodeIter));
+        return msg;
+    }
+
+    @Test
+    public void testRequest() {
+        List<Decoded> decoded = checkSameDecoding("{\"ID\":2,\"Key\":{\"Name\":\"TRI.N\"}}");
+        assertEquals(3, decoded.size());
+        assertEquals(END_OF_CONTAINER, decoded.get(2).ret);
+
+        RequestMsg requestMsg = (RequestMsg) decodeRwf(decoded.get(1).rwf);
+        assertEquals(MsgClasses.REQUEST, requestMsg.msgClass());
+        assertEquals(2, requestMsg.streamId());
+        assertEquals(DomainTypes.MARKET_PRICE, requestMsg.domainType());
+        assertTrue(requestMsg.checkStreaming());
+        assertTrue(requestMsg.checkMsgKeyInUpdates());
+        assertEquals("TRI.N", requestMsg.msgKey().name().toString());
+        assertEquals(InstrumentNameTypes.RIC, requestMsg.msgKey().nameType());
+        assertEquals(7, requestMsg.msgKey().serviceId());
+    }
+
+    @Test
+    public void testRequestFlagsAndKey() {
+        checkSameDecoding("{\"ID\":3,\"Type\":\"Request\",\"Domain\":\"MarketByPrice\",\"Streaming\":false,\"Refresh\":false,"
+                + "\"Private\":true,\"Pause\":true,\"Qualified\":true,\"KeyInUpdates\":false,\"ConfInfoInUpdates\":true,"
+                + "\"Key\":{\"Name\":\"IBM.N\",\"NameType\":\"Ric\",\"Service\":\"DIRECT_FEED\",\"Identifier\":5,\"Filter\":7}}");
+        checkSameDecoding("{\"Key\":{\"Name\":\"IBM.N\",\"Service\":3,\"NameType\":2},\"Domain\":6,\"Type\":1,\"ID\":4}");
+        checkSameDecoding("{\"ID\":1,\"Domain\":\"Login\",\"Key\":{\"NameType\":\"Cookie\"}}");
+        checkSameDecoding("{\"ID\":1,\"Key\":{\"Name\":\"user\"},\"Domain\":\"Login\"}");
+        checkSameDecoding("{\"ID\":1,\"Key\":{\"Filter\":4294967295},\"Domain\":\"Source\"}");
+    }
+
+    @Test
+    public void testClosePingPong() {
+        List<Decoded> decoded = checkSameDecoding("[{\"ID\":5,\"Type\":\"Close\",\"Domain\":\"MarketByOrder\",\"Ack\":true},"
+                + "{\"Type\":\"Ping\"},{\"Type\":\"Pong\"}]");
+        assertEquals(5, decoded.size());
+        assertEquals(JsonMsgClasses.PING, decoded.get(2).jsonMsgClass);
+        assertEquals(JsonMsgClasses.PONG, decoded.get(3).jsonMsgClass);
+
+        CloseMsg closeMsg = (CloseMsg) decodeRwf(decoded.get(1).rwf);
+        assertEquals(MsgClasses.CLOSE, closeMsg.msgClass());
+        assertEquals(5, closeMsg.streamId());
+        assertEquals(DomainTypes.MARKET_BY_ORDER, closeMsg.domainType());
+        assertTrue(closeMsg.checkAck());
+
+        checkSameDecoding("{\"Type\":5,\"ID\":6}");
+    }
+
+    @Test
+    public void testMessagesDecodedFromTree() {
+        /* view, batch close, QoS, generic message with payload and a request mixed in arrays */
+        checkSameDecoding("[[{\"ID\":6,\"Key\":{\"Name\":\"A\"},\"View\":[22,25]},{\"ID\":[7,8],\"Type\":\"Close\"}],"
+                + "{\"ID\":9,\"Key\":{\"Name\":\"B\"},\"Qos\":{\"Timeliness\":\"Realtime\",\"Rate\":\"TickByTick\"}},"
+                + "[],{\"ID\":10,\"Key\":{\"Name\":\"C\"}},"
+                + "{\"ID\":11,\"Type\":\"Generic\",\"Domain\":128,\"Elements\":{\"Count\":{\"Type\":\"UInt\",\"Data\":5}}}]");
+        /* repeated key, login request with attributes, unknown key */
+        checkSameDecoding("{\"ID\":2,\"ID\":3,\"Key\":{\"Name\":\"A\"}}");
+        checkSameDecoding("{\"ID\":1,\"Domain\":\"Login\",\"Key\":{\"Name\":\"user\",\"Elements\":{\"ApplicationId\":\"256\"}}}");
+        checkSameDecoding("{\"ID\":12,\"Key\":{\"Name\":\"A\"},\"Unknown\":{\"a\":[1,2,{\"b\":3}]}}");
+        checkSameDecoding("{\"ID\":12,\"Key\":{\"Name\":\"A\"},\"Streaming\":\"true\"}");
+        checkSameDecoding("{\"ID\":12,\"Key\":{\"Name\":\"A\"}} trailing");
+    }
+
+    @Test
+    public void testErrors() {
+        JsonConverter tree = createConverter(false, true);
+        JsonConverter streaming = createConverter(true, true);
+        checkSameDecoding("{\"ID\":12,\"Key\":{\"Name\":\"A\"},\"Unknown\":1}", tree, streaming);
+        checkSameDecoding("[{\"ID\":13,\"Key\":{\"Name\":\"A\"}},{\"Key\":{\"Name\":\"B\"}}]", tree, streaming);
+        checkSameDecoding("[{\"ID\":14,\"Key\":{\"Name\":\"A\"}},{\"ID\":15,\"Type\":\"Unknown\"}]", tree, streaming);
+        checkSameDecoding("[{\"ID\":16,\"Key\":{\"Name\":\"A\"}},{\"ID\":17,\"Domain\":\"Unknown\",\"Key\":{\"Name\":\"A\"}}]", tree, streaming);
+        checkSameDecoding("{\"ID\":16,\"Key\":{\"Name\":\"A\"}", tree, streaming);
+        checkSameDecoding("[{\"ID\":16,\"Key\":{\"Name\":\"A\"}},5]", tree, streaming);
+        checkSameDecoding("5", tree, streaming);
+        checkSameDecoding("", tree, streaming);
+    }
+}
@@ -0,0 +1,100 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectPoolTest {
+
+    @Test
+    public void releasedObjectIsReusedAndCounted() {
+        ObjectPool<Object> pool = new ObjectPool<>(true, Object::new);
+
+        Object obj = pool.get();
+        pool.release(obj);
+        assertSame(obj, pool.get());
+
+        assertEquals(1, pool.hits());
+        assertEquals(1, pool.misses());
+    }
+
+    @Test
+    public void objectsReleasedByOneThreadReachAnother() throws InterruptedException {
+        ObjectPool<Object> pool = new ObjectPool<>(2, Object::new);
+        Object[] objects = {new Object(), new Object(), new Object()};
+        for (Object obj : objects)
+            pool.release(obj);
+
+        // the first two stay in the cache of this thread, the last one goes to the shared queue
+        AtomicReference<Object> polled = new AtomicReference<>();
+        Thread thread = new Thread(() -> polled.set(pool.get()));
+        thread.start();
+        thread.join();
+
+        assertSame(objects[2], polled.get());
+        assertSame(objects[1], pool.get());
+        assertSame(objects[0], pool.get());
+        assertEquals(3, pool.hits());
+        assertEquals(0, pool.misses());
+    }
+
+    @Test
+    public void grownPoolIsSharedByAllThreads() throws InterruptedException {
+        ObjectPool<Object> pool = new ObjectPool<>(true, Object::new);
+        pool.growPool(1);
+
+        Thread thread = new Thread(pool::get);
+        thread.start();
+        thread.join();
+
+        assertEquals(1, pool.hits());
+        assertEquals(0, pool.misses());
+    }
+
+    @Test
+    public void byteArraysAreBucketedBySizeClass() {
+        ByteArrayPool pool = new ByteArrayPool();
+
+        assertEquals(ByteArrayPool.MIN_ARRAY_SIZE, pool.poll(0).length);
+        assertEquals(ByteArrayPool.MIN_ARRAY_SIZE, pool.poll(ByteArrayPool.MIN_ARRAY_SIZE).length);
+        assertEquals(2 * ByteArrayPool.MIN_ARRAY_SIZE, pool.poll(ByteArrayPool.MIN_ARRAY_SIZE + 1).length);
+        assertEquals(16 * ByteArrayPool.MIN_ARRAY_SIZE, pool.poll(9 * ByteArrayPool.MIN_ARRAY_SIZE).length);
+        assertEquals(ByteArrayPool.MAX_ARRAY_SIZE, pool.poll(ByteArrayPool.MAX_ARRAY_SIZE).length);
+        assertEquals(ByteArrayPool.MAX_ARRAY_SIZE + 1, pool.poll(ByteArrayPool.MAX_ARRAY_SIZE + 1).length);
+
+        byte[] array = pool.poll(5000);
+        pool.putBack(array);
+        assertSame(array, pool.poll(6000));
+        assertNotSame(array, pool.poll(6000));
+
+        assertEquals(1, pool.hits());
+        assertEquals(8, pool.misses());
+    }
+
+    @Test
+    public void byteArraysOfOtherLengthsAreNotPooled() {
+        ByteArrayPool pool = new ByteArrayPool();
+
+        pool.putBack(null);
+        pool.putBack(new byte[5000]);
+        pool.putBack(new byte[ByteArrayPool.MAX_ARRAY_SIZE + 1]);
+
+        assertEquals(2 * ByteArrayPool.MIN_ARRAY_SIZE, pool.poll(5000).length);
+        assertTrue(pool.poll(ByteArrayPool.MAX_ARRAY_SIZE + 1) != null);
+        assertEquals(0, pool.hits());
+        assertEquals(2, pool.misses());
+    }
+}
@@ -77,6 +77,7 @@ class ConnectOptionsImpl implements ConnectOptions
         _credentials.clear();
         _wsocketOpts.protocols("");
         _wsocketOpts.maxMsgSize(61440);
+        _wsocketOpts.serverContextTakeover(false);
     }
 
     @Override
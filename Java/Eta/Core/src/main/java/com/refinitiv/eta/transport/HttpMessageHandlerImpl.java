@@ -49,14 +49,13 @@ class HttpMessageHandlerImpl implements HttpMessageHandler {
     );
 
     /**
-     * Group 1 - header tag;
-     * Group 2 - header value.
+     * Characters of a header name besides letters and digits, RFC7230 p.3.2.6 => token.
      */
-    private static final Pattern HEADER_REGEXP = Pattern.compile(
-            "([a-zA-Z0-9!#$%&'*+\\-.^_`|~&&[^(),/:;<=>?@}\\x7B\\x5B-\\x5D\\x0A\\x0D\\x22]]+):\\s?((" + //header name  RFC7230 p.3.2.6 => token
-            HEADER_VALUE_REGEXP_STR + //header values
-            "|([(),\\/:;<=>?@}\\x7B\\x5B-\\x5D\\x22\\x20]))*)\\x0D?\\x0A" //possible delimiters
-    );
+    private static final String HEADER_NAME_SYMBOLS = "!#$%&'*+-.^_`|~";
+
+    private static final byte QUOTE = 0x22;
+    private static final byte BACKSLASH = 0x5C;
+    private static final byte TAB = 0x09;
 
     /**
      * Group 1 - full matching.
@@ -76,6 +75,34 @@ class HttpMessageHandlerImpl implements HttpMessageHandler {
 
     private StringBuilder lineBuilder;
 
+    /* Lower case names of the headers read into HttpHeaders, or null to read every header. */
+    private final String[] materializedHeaderNames;
+    private final byte[][] materializedHeaderNameBytes;
+
+    /* Characters of the header name or value being read. */
+    private char[] headerChars = new char[128];
+
+    HttpMessageHandlerImpl() {
+        materializedHeaderNames = null;
+        materializedHeaderNameBytes = null;
+    }
+
+    /**
+     * Creates a parser which validates every header line but only reads the specified headers into
+     * {@link HttpHeaders}. The header names are matched directly on the received bytes, so no string is created
+     * for the names and values of the other headers.
+     *
+     * @param headerNames - names of the headers to read, in any case.
+     */
+    HttpMessageHandlerImpl(String... headerNames) {
+        materializedHeaderNames = new String[headerNames.length];
+        materializedHeaderNameBytes = new byte[headerNames.length][];
+        for (int i = 0; i < headerNames.length; i++) {
+            materializedHeaderNames[i] = headerNames[i].toLowerCase();
+            materializedHeaderNameBytes[i] = materializedHeaderNames[i].getBytes(Charsets.US_ASCII);
+        }
+    }
+
     @Override
     public void initialize() {
         lineBuilder = new StringBuilder();
@@ -222,40 +249,42 @@ class HttpMessageHandlerImpl implements HttpMessageHandler {
         if (dataLength <= 0) {
             return populateError(error, ParserReturnCodes.HEADERS_NOT_PRESENTED, "Header group is empty.");
         }
-        clearLineBuilder();
         int returnCode;
-        int sbCursor = 0;
         int lineAmount = 0;
-        int bufferLength = start + dataLength;
-        HeaderLineParseState headerLineParseState;
-        for (int i = start; i < bufferLength; i++) {
-            headerLineParseState = checkEndOfLine(data, i);
-            i += headerLineParseState.getIncrementalValue();
-            if (headerLineParseState.isLineEnd() || i >= bufferLength - 1) {
-                //end of header line
-                String headerLine = lineBuilder.substring(sbCursor);
-                ++lineAmount;
-                //add header into pull
-                returnCode = validateAndPushHeader(
-                        httpHeaders, headerLine, lineAmount, headerLine.length(), start + sbCursor, error);
-                if (returnCode < ParserReturnCodes.SUCCESS) {
-                    return returnCode;
-                }
+        int lineStart = start;
+        final int bufferLength = start + dataLength;
+        while (lineStart < bufferLength) {
+            //Although the line terminator for the start-line and header fields is
+            //the sequence CRLF, a recipient MAY recognize a single LF as a line
+            //terminator and ignore any preceding CR.
+            int lineFeed = lineStart;
+            while (lineFeed < bufferLength && data.get(lineFeed) != LF) {
+                ++lineFeed;
+            }
+            int contentEnd = lineFeed;
+            if (contentEnd > lineStart && lineFeed < bufferLength && data.get(contentEnd - 1) == CR) {
+                --contentEnd;
+            }
+            final int lineEnd = Math.min(lineFeed + 1, bufferLength);
 
-                //move cursor of string builder and byte buffer data
-                sbCursor = lineBuilder.length();
+            //check for end of header's section
+            if (lineAmount > 0 && contentEnd == lineStart && lineFeed < bufferLength) {
+                lineStart = lineEnd;
+                break;
+            }
 
-                //check for end of header's section
-                if (i < bufferLength) {
-                    headerLineParseState = checkEndOfLine(data, i);
-                    i += headerLineParseState.getIncrementalValue();
-                    if (headerLineParseState.isLineEnd()) {
-                        break;
-                    }
-                }
+            ++lineAmount;
+            if (lineFeed == bufferLength) {
+                return populateError(error, ParserReturnCodes.INVALID_HEADER_GROUP,
+                        "Error during validating header line %d with value: %s", lineAmount, readString(data, lineStart, lineEnd, false));
+            }
+            returnCode = validateAndPushHeader(httpHeaders, data, lineStart, contentEnd, lineEnd, lineAmount, error);
+            if (returnCode < ParserReturnCodes.SUCCESS) {
+                return returnCode;
             }
+            lineStart = lineEnd;
         }
-        httpHeaders.setHeaderGroupLength(lineBuilder.length());
+        httpHeaders.setHeaderGroupLength(lineStart - start);
         returnCode = parseCookies(httpHeaders, error);
         return returnCode;
     }
@@ -406,22 +435,113 @@ class HttpMessageHandlerImpl implements HttpMessageHandler {
     }
 
     //Used only for reading.
-    private int validateAndPushHeader(HttpHeaders httpHeaders, String headerLine, int lineNumber, int lineLength, int bufferOffsetStart, Error error) {
-        final Matcher headerMatcher = HEADER_REGEXP.matcher(headerLine);
-        if (headerMatcher.matches()) {
-            String headerName = headerMatcher.group(1);
-            String headerValue = headerMatcher.group(2);
-            final HttpHeaderLineInfo line = HttpHeaderLineInfo.builder()
-                    .headerValue(headerValue)
-                    .lineNumber(lineNumber)
-                    .dataLength(lineLength)
-                    .startOffset(bufferOffsetStart)
-                    .build();
-            httpHeaders.addHeader(headerName, line, false);
-            return ParserReturnCodes.SUCCESS;
+    private int validateAndPushHeader(HttpHeaders httpHeaders, ByteBuffer data, int lineStart, int contentEnd, int lineEnd, int lineNumber, Error error) {
+        int nameEnd = lineStart;
+        while (nameEnd < contentEnd && isHeaderNameByte(data.get(nameEnd))) {
+            ++nameEnd;
+        }
+        if (nameEnd == lineStart || nameEnd == contentEnd || data.get(nameEnd) != HEADER_TAG_DELIMITER) {
+            return populateError(error, ParserReturnCodes.INVALID_HEADER_GROUP,
+                    "Error during validating header line %d with value: %s", lineNumber, readString(data, lineStart, lineEnd, false));
+        }
+        int valueStart = nameEnd + 1;
+        if (valueStart < contentEnd && (data.get(valueStart) == SPACE || data.get(valueStart) == TAB)) {
+            ++valueStart;
+        }
+        if (!isValidHeaderValue(data, valueStart, contentEnd)) {
+            return populateError(error, ParserReturnCodes.INVALID_HEADER_GROUP,
+                    "Error during validating header line %d with value: %s", lineNumber, readString(data, lineStart, lineEnd, false));
+        }
+
+        String headerName;
+        if (Objects.isNull(materializedHeaderNames)) {
+            headerName = readString(data, lineStart, nameEnd, true);
+        } else {
+            headerName = findHeaderName(data, lineStart, nameEnd);
+            if (Objects.isNull(headerName)) {
+                return ParserReturnCodes.SUCCESS;
+            }
+        }
+
+        final HttpHeaderLineInfo line = HttpHeaderLineInfo.builder()
+                .headerValue(readString(data, valueStart, contentEnd, false))
+                .lineNumber(lineNumber)
+                .dataLength(lineEnd - lineStart)
+                .startOffset(lineStart)
+                .build();
+        httpHeaders.addHeader(headerName, line, true);
+        return ParserReturnCodes.SUCCESS;
+    }
+
+    /* Returns the lower case header name equal to the bytes of the header name, ignoring case, or null. */
+    private String findHeaderName(ByteBuffer data, int nameStart, int nameEnd) {
+        for (int i = 0; i < materializedHeaderNameBytes.length; i++) {
+            final byte[] nameBytes = materializedHeaderNameBytes[i];
+            if (nameBytes.length != nameEnd - nameStart) {
+                continue;
+            }
+            int j = 0;
+            while (j < nameBytes.length && toLowerCase(data.get(nameStart + j)) == nameBytes[j]) {
+                ++j;
+            }
+            if (j == nameBytes.length) {
+                return materializedHeaderNames[i];
+            }
+        }
+        return null;
+    }
+
+    private String readString(ByteBuffer data, int from, int to, boolean lowerCase) {
+        if (headerChars.length < to - from) {
+            headerChars = new char[to - from];
+        }
+        for (int i = from; i < to; i++) {
+            final byte readByte = lowerCase ? toLowerCase(data.get(i)) : data.get(i);
+            headerChars[i - from] = (char) (readByte & 0xFF);
+        }
+        return new String(headerChars, 0, to - from);
+    }
+
+    private static byte toLowerCase(byte value) {
+        return value >= 'A' && value <= 'Z' ? (byte) (value + ('a' - 'A')) : value;
+    }
+
+    private static boolean isHeaderNameByte(byte value) {
+        return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || (value >= '0' && value <= '9')
+                || HEADER_NAME_SYMBOLS.indexOf(value) >= 0;
+    }
+
+    /**
+     * Checks the header value against {@link #HEADER_VALUE_REGEXP_STR} and the delimiters allowed between values:
+     * visible characters and spaces, while tabs and obs-text are only allowed within quoted strings.
+     */
+    private static boolean isValidHeaderValue(ByteBuffer data, int from, int to) {
+        boolean quoted = false;
+        boolean quotedOnly = false;
+        for (int i = from; i < to; i++) {
+            int readByte = data.get(i) & 0xFF;
+            if (quoted) {
+                if (readByte == QUOTE) {
+                    quoted = false;
+                    quotedOnly = false;
+                    continue;
+                }
+                if (readByte == BACKSLASH && i + 1 < to) {
+                    readByte = data.get(++i) & 0xFF;
+                }
+                if (readByte == TAB || readByte >= 0x80) {
+                    quotedOnly = true;
+                } else if (readByte < SPACE || readByte == 0x7F) {
+                    return false;
+                }
+            } else if (readByte == QUOTE) {
+                quoted = true;
+            } else if (readByte < SPACE || readByte >= 0x7F) {
+                return false;
+            }
         }
-        return populateError(error, ParserReturnCodes.INVALID_HEADER_GROUP,
-                "Error during validating header line %d with value: %s", lineNumber, headerLine);
+        //an unterminated quote is a delimiter, so what follows it must be valid outside of quotes.
+        return !quotedOnly;
     }
 
     private int populateError(Error error, int errorId, String text, Object... args) {
@@ -153,8 +153,6 @@ class ReadBufferStateMachine
 
     protected ProtocolFunctions _protocolFunctions;
 
-    protected final byte[] _maskBytes = new byte[4];
-
     /* callBackChannel is an RsslSocketChannel used to access the buffer pool maintained by the RsslSocketChannel. */
     ReadBufferStateMachine(RsslSocketChannel callBackChannel)
     {
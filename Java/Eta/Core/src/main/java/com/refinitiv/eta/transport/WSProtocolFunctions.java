@@ -30,7 +30,6 @@ class WSProtocolFunctions implements ProtocolFunctions {
 
 	ByteBuffer wsFrameBuffer;
 	int wsFrameHeaderLength;
-	private final byte[] maskArray = new byte[4];
 	
 	public WSProtocolFunctions(RsslSocketChannel rsslSocketChannel)
 	{
@@ -56,8 +55,11 @@ class WSProtocolFunctions implements ProtocolFunctions {
 
 	private void initMsgBuffers() {
 		final boolean isJsonProtocol = Objects.equals(Codec.JSON_PROTOCOL_TYPE, _webSocketSession.getAcceptedProtocol());
+		/* Ping and pong frames are prepared once and sent again and again, so they can only be compressed
+		 * when every message is compressed on its own. Otherwise they go out uncompressed. */
 		final boolean isCompressed = isJsonProtocol
 									 && _webSocketSession.isDeflate()
+									 && _webSocketSession.hasNoOutboundContext()
 									 && _rsslSocketChannel._sessionOutCompression == Ripc.CompressionTypes.ZLIB;
 		final byte[] pingMsgData = isJsonProtocol ? WEB_SOCKET_JSON_PING_MESSAGE : RWF_PING_PONG_MESSAGE;
 		int payloadLength = pingMsgData.length;
@@ -164,10 +166,8 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			final ByteBuffer readIoBuffer = _rsslSocketChannel._readIoBuffer.buffer();
 
 			if (frame.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frame.maskVal);
-
 				/* Unmask the payload data */
-				WebSocketFrameParser.maskDataBlock(maskArray, readIoBuffer, frame.payloadIndex, (int) frame.payloadLen);
+				WebSocketFrameParser.maskDataBlock(frame.maskVal, readIoBuffer, frame.payloadIndex, (int) frame.payloadLen);
 			}
 			
 			switch(_webSocketSession.wsFrameHdr.opcode)
@@ -258,11 +258,9 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			//TODO continue parse
 			boolean partitialFrame = WebSocketFrameParser.decode(_webSocketSession.wsFrameHdr, dest, 0, dest.position());
 			if (!partitialFrame && _webSocketSession.wsFrameHdr.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frameHdr.maskVal);
-
 				/* Unmask the payload data */
 				dest.position(_webSocketSession.wsFrameHdr.hdrLen);
-				WebSocketFrameParser.maskDataBlock(maskArray, dest, dest.position(), (int) frameHdr.payloadLen);
+				WebSocketFrameParser.maskDataBlock(frameHdr.maskVal, dest, dest.position(), (int) frameHdr.payloadLen);
 			}
 			return bytesRead;
 		}
@@ -289,12 +287,10 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			frameHdr.clear();
 			WebSocketFrameParser.decode(_webSocketSession.wsFrameHdr, dest, 0, dest.position());
 			if (frameHdr.payloadLen > 0 && _webSocketSession.wsFrameHdr.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frameHdr.maskVal);
-
 				/* Unmask the payload data */
 				dest.position(_webSocketSession.wsFrameHdr.hdrLen);
 				final int dataLength = dest.limit() - _webSocketSession.wsFrameHdr.hdrLen;
-				WebSocketFrameParser.maskDataBlock(maskArray, dest, dest.position(), dataLength);
+				WebSocketFrameParser.maskDataBlock(frameHdr.maskVal, dest, dest.position(), dataLength);
 			}
 			return bytesRead;
 		} else if (bytesRead == -1) {
@@ -523,25 +519,14 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			byte[] compressedBytes = _rsslSocketChannel._compressor.compressedData();
 			boolean finBit = true;
 			int compressedBytesLenNext = 0;
-			byte[] compressedBytesNext = null;
 			
 			if (compressedBytesLen > MAX_BYTES_FOR_BUFFER)
 			{
-				compressedBytesLen = _rsslSocketChannel._compressor.compress(buffer, buffer.dataStartPosition(), msgLen - 13);
-				
-				// Strip off the trailing 0x00 0x00 0xFF 0xFF as per PMCE spec
-				compressedBytesLen -= 4;
-				
-				compressedBytes = _rsslSocketChannel._compressor.compressedData().clone();
-			    bytesForBuffer = compressedBytesLen;
+				// The message is decompressed as a whole once reassembled, so the compressed bytes
+				// which do not fit are sent as they are in a continuation frame.
+			    bytesForBuffer = MAX_BYTES_FOR_BUFFER;
 			    finBit = false;
-			    
-			    compressedBytesLenNext = _rsslSocketChannel._compressor.compress(buffer, buffer.dataStartPosition() + (msgLen - 13), 13);
-				
-				// Strip off the trailing 0x00 0x00 0xFF 0xFF as per PMCE spec
-			    compressedBytesLenNext -= 4;
-				
-			    compressedBytesNext = _rsslSocketChannel._compressor.compressedData();
+			    compressedBytesLenNext = compressedBytesLen - MAX_BYTES_FOR_BUFFER;
 			}
 			else
 			{
@@ -594,7 +579,7 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			    // Populate second message
 			    compFragmentBuffer.data().position(compFragmentBuffer.dataStartPosition());
 			    compFragmentBuffer.data().limit(compFragmentBuffer.dataStartPosition() + bytesForBuffer);
-			    compFragmentBuffer.data().put(compressedBytesNext, 0, bytesForBuffer);
+			    compFragmentBuffer.data().put(compressedBytes, MAX_BYTES_FOR_BUFFER, bytesForBuffer);
 			
 			    wsHdrlen = WebSocketFrameParser.calculateHeaderLength(bytesForBuffer,
 						_webSocketSession.isClient);
@@ -1064,7 +1049,13 @@ class WSProtocolFunctions implements ProtocolFunctions {
 	            
 	            webSocketSession.compressedLargeBufSize = compressedLen;
 	            webSocketSession.posCompressedLargeBuf = 0;
-	            webSocketSession.compressedLargeBuf = _rsslSocketChannel._compressor.compressedData();
+	            
+	            /* The compressor reuses its array for the next message, so keep a copy for the remaining fragments. */
+	            if (webSocketSession.compressedLargeBuf == null || webSocketSession.compressedLargeBuf.length < compressedLen)
+	            {
+	            	webSocketSession.compressedLargeBuf = new byte[compressedLen];
+	            }
+	            System.arraycopy(_rsslSocketChannel._compressor.compressedData(), 0, webSocketSession.compressedLargeBuf, 0, compressedLen);
 	            
 	            userBytesForFragment = maxPayloadSize - estimateHeaderLength();
 	            opCode = WebSocketFrameParser._WS_OPC_NONE;
@@ -49,5 +49,23 @@ public interface WSocketOpts
 	 */
 	HttpCallback httpCallback();
 
+	/**
+	 * Specifies whether the WebSocket client lets the server keep its permessage-deflate
+	 * compression context from one message to the next. When disabled (the default), the
+	 * client requests server_no_context_takeover and every compressed message from the
+	 * server is independent of the ones before it.
+	 * 
+	 * @param serverContextTakeover true to let the server keep its compression context
+	 */
+	void serverContextTakeover(boolean serverContextTakeover);
+
+	/**
+	 * Whether the WebSocket client lets the server keep its permessage-deflate compression
+	 * context from one message to the next.
+	 * 
+	 * @return true if the server may keep its compression context
+	 */
+	boolean serverContextTakeover();
+
 	void clear();
 }
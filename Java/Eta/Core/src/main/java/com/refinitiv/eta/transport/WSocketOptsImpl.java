@@ -5,6 +5,7 @@ class WSocketOptsImpl implements WSocketOpts {
 	private String _protocolList = "";
 	private long _maxMsgSize = 61440;
 	private HttpCallback httpCallback;
+	private boolean _serverContextTakeover;
 
 	@Override
 	public void protocols(String protocolList) {
@@ -36,10 +37,21 @@ class WSocketOptsImpl implements WSocketOpts {
 		return httpCallback;
 	}
 
+	@Override
+	public void serverContextTakeover(boolean serverContextTakeover) {
+		_serverContextTakeover = serverContextTakeover;
+	}
+
+	@Override
+	public boolean serverContextTakeover() {
+		return _serverContextTakeover;
+	}
+
 	void copy(WSocketOptsImpl destOpts)
 	{
 		destOpts.protocols(_protocolList);
 		destOpts.maxMsgSize(_maxMsgSize);
+		destOpts.serverContextTakeover(_serverContextTakeover);
 	}
 
 	@Override
@@ -47,6 +59,7 @@ class WSocketOptsImpl implements WSocketOpts {
 		this._protocolList = "";
 		_maxMsgSize = 61440L;
 		httpCallback = null;
+		_serverContextTakeover = false;
 	}
 
 	@Override
@@ -54,6 +67,7 @@ class WSocketOptsImpl implements WSocketOpts {
     {
         return "WSocketOpts" + "\n" + 
                "\t\tprotocols: " + _protocolList + 
-               "\t\tmaxMsgSize: " + _maxMsgSize;
+               "\t\tmaxMsgSize: " + _maxMsgSize +
+               "\t\tserverContextTakeover: " + _serverContextTakeover;
     }
 }
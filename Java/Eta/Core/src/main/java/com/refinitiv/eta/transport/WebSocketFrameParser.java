@@ -1,6 +1,7 @@
 package com.refinitiv.eta.transport;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.SplittableRandom;
 import java.util.Objects;
 
@@ -136,17 +137,32 @@ class WebSocketFrameParser {
 	
 	static void maskDataBlock(byte[] mask, byte[] data, int index, int length)
 	{
-		for(int i = 0; i < length; i++, index++)
-		{
-			data[index] = (byte) (data[index] ^ mask[(i%4)]);
-		}
+		maskDataBlock(ByteBuffer.wrap(mask).getInt(), ByteBuffer.wrap(data), index, length);
 	}
 	
 	static void maskDataBlock(byte[] mask, ByteBuffer byteBuffer, int index, int length)
 	{
-		for(int i = 0; i < length; i++, index++)
+		maskDataBlock(ByteBuffer.wrap(mask).getInt(), byteBuffer, index, length);
+	}
+	
+	/* Masks or unmasks length bytes of the buffer from index in place with the mask key maskVal, which
+	 * starts at index. Eight bytes are masked at a time with the mask key repeated in a long. */
+	static void maskDataBlock(int maskVal, ByteBuffer byteBuffer, int index, int length)
+	{
+		long mask = ((long)maskVal << 32) | (maskVal & 0xFFFFFFFFL);
+		if (byteBuffer.order() == ByteOrder.LITTLE_ENDIAN)
+			mask = Long.reverseBytes(mask);
+		
+		int end = index + length;
+		for(; end - index >= 8; index += 8)
+		{
+			byteBuffer.putLong(index, byteBuffer.getLong(index) ^ mask);
+		}
+		
+		/* the remaining bytes start again at the first byte of the mask key */
+		for(int shift = 24; index < end; index++, shift -= 8)
 		{
-			byteBuffer.put(index, (byte)(byteBuffer.get(index) ^ mask[(i%4)]));
+			byteBuffer.put(index, (byte)(byteBuffer.get(index) ^ (maskVal >> (shift & 31))));
 		}
 	}
 	
@@ -344,13 +360,11 @@ class WebSocketFrameParser {
 			int maskValue = getRandomValue();
 			WebSocketFrameParser._lastMaskValue = maskValue;
 			int maskOffSet = hdrLen - maskLen;
-			byte[] mask = new byte[4];
 
 			setBit(msgBuffer.array(), hdrIndex + 1, 7);
 			msgBuffer.putInt(hdrIndex + maskOffSet, maskValue);
 			
-			setMaskKey(mask, maskValue);
-			maskDataBlock(mask,msgBuffer.array(), hdrIndex + hdrLen, (int)dataLength);
+			maskDataBlock(maskValue, msgBuffer, hdrIndex + hdrLen, (int)dataLength);
 		}
 	
 		return hdrLen;
@@ -3,6 +3,7 @@ package com.refinitiv.eta.transport;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 class WebSocketHandlerImpl implements WebSocketHandler {
 
@@ -39,6 +40,14 @@ class WebSocketHandlerImpl implements WebSocketHandler {
     static final String TR_JSON2 = "tr_json2";
     static final String RSSL_RWF = "rssl.rwf";
 
+    /* The headers of an opening handshake read by the parser, the others are only validated. */
+    private static final String[] HANDSHAKE_HEADER_NAMES = Stream.concat(
+            Stream.of(WebSocketRequestHeader.values()).map(WebSocketRequestHeader::getHeaderTitle),
+            Stream.concat(Stream.of(WebSocketResponseHeader.values()).map(WebSocketResponseHeader::getHeaderTitle),
+                    Stream.of("Cookie")))
+            .distinct()
+            .toArray(String[]::new);
+
     private WebSocketSession wsSession;
 
     private HttpMessageHandler httpMessageHandler;
@@ -52,7 +61,7 @@ class WebSocketHandlerImpl implements WebSocketHandler {
     @Override
     public void initialize() {
         wsSession.initialize();
-        httpMessageHandler = new HttpMessageHandlerImpl();
+        httpMessageHandler = new HttpMessageHandlerImpl(HANDSHAKE_HEADER_NAMES);
         httpMessageHandler.initialize();
         initialized = true;
     }
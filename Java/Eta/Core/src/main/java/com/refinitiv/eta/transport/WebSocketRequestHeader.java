@@ -193,7 +193,7 @@ enum WebSocketRequestHeader {
                             .build()
             );
             
-            if(session.isClient)
+            if(session.isClient && (session.getWebSocketOpts() == null || !session.getWebSocketOpts().serverContextTakeover()))
             {
             	httpHeaders.addHeader(headerName,
             			HttpHeaderLineInfo.builder()
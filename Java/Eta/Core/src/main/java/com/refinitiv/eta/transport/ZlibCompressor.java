@@ -1,11 +1,9 @@
 package com.refinitiv.eta.transport;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 
 class ZlibCompressor extends Compressor
@@ -14,17 +12,15 @@ class ZlibCompressor extends Compressor
 
     private Deflater _deflater;
     private Inflater _inflater;
-    private DeflaterOutputStream _deflaterOutputStream;
-    private ByteArrayOutputStream _compressedBytesOutputStream;
     private byte[] _compressedBytes;
+    private int _compressedLength;
+    private byte[] _decompressInputBytes;
     private byte[] _decompressedBytes;
     private byte[] _compressByteArray;
     private int _numBytesAfterDecompress;
     private int _maxCompressionLen;
     private boolean _appendTrailing;
     private boolean _compressnocontexttakeover;
-    private boolean _nowrap;
-    private int _compressionLevel;
     final static byte[] EndingTrailing = new byte[4];
 
     {
@@ -36,8 +32,6 @@ class ZlibCompressor extends Compressor
         _maxCompressionLen = 6144;
         _appendTrailing = false;
         _compressnocontexttakeover = false;
-        _nowrap = false;
-        _compressionLevel = DEFAULT_ZLIB_COMPRESSION_LEVEL;
     }
 
     ZlibCompressor()
@@ -55,148 +49,114 @@ class ZlibCompressor extends Compressor
     {
         _deflater = new Deflater(compressionLevel, nowrap);
         _inflater = new Inflater(nowrap);
-        
-        _compressionLevel = compressionLevel;
-        _nowrap = nowrap;
     }
 
     @Override
     int compress(TransportBufferImpl bufferToCompress, int dataStartPos, int lenToCompress)
     {
-        if (_appendTrailing) {
-            _deflater.reset();
-        }
-        
-        if(lenToCompress > _maxCompressionLen)
+        return compress(bufferToCompress.data(), dataStartPos, lenToCompress);
+    }
+
+    /*
+     * The deflater keeps its sliding window from one call to the next (context takeover)
+     * unless compressnocontexttakeover() was called, in which case it is reset before every message.
+     * Each call ends with a sync flush, so the output can be decompressed as soon as it is received.
+     * The compressed bytes are written into an array owned by this compressor and reused by the next call.
+     */
+    @Override
+    int compress(ByteBuffer bufferToCompress, int dataStartPos, int lenToCompress)
+    {
+        if (_compressnocontexttakeover)
         {
-        	_maxCompressionLen = lenToCompress;
-        	_compressedBytesOutputStream = null;;
-        	 _compressByteArray = null;
-        	 _deflaterOutputStream = null;
-        }
-        
-        if(_compressnocontexttakeover) {
-        	
-        	_deflater.end();
-        	_deflater = new Deflater(_compressionLevel, _nowrap);
-        	
-        	if (_compressedBytesOutputStream == null)
-        		_compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        	else
-        		_compressedBytesOutputStream.reset();
-        	
-        	_deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
+            _deflater.reset();
         }
-        
-        // lazily initialize _compressedBytesOutputStream buffer since we don't know size up front
-        if (_compressedBytesOutputStream == null)
+
+        if (lenToCompress > _maxCompressionLen)
         {
-            _compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
+            _maxCompressionLen = lenToCompress;
         }
-        // lazily initialize _deflaterOutputStream buffer since we don't know size up front
-        if (_deflaterOutputStream == null)
+
+        if (bufferToCompress.hasArray())
         {
-            _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
+            _deflater.setInput(bufferToCompress.array(), bufferToCompress.arrayOffset() + dataStartPos, lenToCompress);
         }
-        // lazily initialize _compressByteArray buffer since we don't know size up front
-        if (_compressByteArray == null)
+        else
         {
-            _compressByteArray = new byte[_maxCompressionLen];
+            // lazily initialize _compressByteArray buffer since we don't know size up front
+            if (_compressByteArray == null || _compressByteArray.length < lenToCompress)
+            {
+                _compressByteArray = new byte[_maxCompressionLen];
+            }
+            copyBytes(bufferToCompress, dataStartPos, _compressByteArray, lenToCompress);
+            _deflater.setInput(_compressByteArray, 0, lenToCompress);
         }
-        // copy bufferToCompress contents to _compressByteArray
-        for (int i = 0; i < lenToCompress; i++)
+
+        int maxCompressedLen = getMaxCompressedLength(_maxCompressionLen);
+        if (_compressedBytes == null || _compressedBytes.length < maxCompressedLen)
         {
-            _compressByteArray[i] = bufferToCompress.data().get(dataStartPos + i);
+            _compressedBytes = new byte[maxCompressedLen];
         }
-        _compressedBytesOutputStream.reset();
-        try
+
+        _compressedLength = 0;
+        while (!_deflater.needsInput())
         {
-            // write bytes to compress
-            _deflaterOutputStream.write(_compressByteArray, 0, lenToCompress);
-            // flush bytes to compress
-            _deflaterOutputStream.flush();
+            deflate(Deflater.NO_FLUSH);
         }
-        catch (Exception e)
+
+        // the flush is complete once the deflater stops short of the end of the array
+        while (deflate(Deflater.SYNC_FLUSH))
         {
-            throw new CompressorException(e.getLocalizedMessage());
         }
-        // get compressed bytes
-        _compressedBytes = _compressedBytesOutputStream.toByteArray();
 
-        // System.out.println("[ZLIB-C2] in=" + lenToCompress + " compressed=" + _compressedBytes.length);
-        return _compressedBytes.length;
+        return _compressedLength;
     }
 
-    @Override
-    int compress(ByteBuffer bufferToCompress, int dataStartPos, int lenToCompress)
+    /* Deflates into _compressedBytes after the bytes already written, growing the array when it fills up.
+     * Returns true if the array was filled up, in which case the deflater may have more output. */
+    private boolean deflate(int flush)
     {
-        if (_appendTrailing) {
-        	
-            _deflater.reset();
-        }
-        
-        if(lenToCompress > _maxCompressionLen)
-        {
-        	_maxCompressionLen = lenToCompress;
-        	_compressedBytesOutputStream = null;;
-        	 _compressByteArray = null;
-        	 _deflaterOutputStream = null;
-        }
-        
-        if(_compressnocontexttakeover) {
-        	
-        	_deflater.end();
-        	_deflater = new Deflater(_compressionLevel, _nowrap);
-        	
-        	if (_compressedBytesOutputStream == null)
-        		_compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        	else
-        		_compressedBytesOutputStream.reset();
-        	
-        	 _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                     getMaxCompressedLength(_maxCompressionLen), true);
-        }
-        
-        // lazily initialize _compressedBytesOutputStream buffer since we don't know size up front
-        if (_compressedBytesOutputStream == null)
-        {
-            _compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        }
-        // lazily initialize _deflaterOutputStream buffer since we don't know size up front
-        if (_deflaterOutputStream == null)
-        {
-            _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
-        }
-        // lazily initialize _compressByteArray buffer since we don't know size up front
-        if (_compressByteArray == null)
-        {
-            _compressByteArray = new byte[_maxCompressionLen];
-        }
-        // copy bufferToCompress contents to _compressByteArray
-        for (int i = 0; i < lenToCompress; i++)
+        int available = _compressedBytes.length - _compressedLength;
+        int numBytes = _deflater.deflate(_compressedBytes, _compressedLength, available, flush);
+        _compressedLength += numBytes;
+
+        if (numBytes < available)
         {
-            _compressByteArray[i] = bufferToCompress.get(dataStartPos + i);
+            return false;
         }
-        _compressedBytesOutputStream.reset();
-        try
+        _compressedBytes = Arrays.copyOf(_compressedBytes, _compressedBytes.length * 2);
+        return true;
+    }
+
+    /* Copies the bytes to decompress, followed by the PMCE trailer when needed,
+     * into an array reused between calls and returns the number of bytes copied. */
+    private int copyDecompressInput(ByteBuffer bufferToDecompress, int dataStartPos, int lenToDecompress)
+    {
+        int inputLength = _appendTrailing ? lenToDecompress + EndingTrailing.length : lenToDecompress;
+        if (_decompressInputBytes == null || _decompressInputBytes.length < inputLength)
         {
-            // write bytes to compress
-            _deflaterOutputStream.write(_compressByteArray, 0, lenToCompress);
-            // flush bytes to compress
-            _deflaterOutputStream.flush();
+            _decompressInputBytes = new byte[Math.max(inputLength, _maxCompressionLen)];
         }
-        catch (Exception e)
+
+        copyBytes(bufferToDecompress, dataStartPos, _decompressInputBytes, lenToDecompress);
+
+        if (_appendTrailing)
         {
-            throw new CompressorException(e.getLocalizedMessage());
+            System.arraycopy(EndingTrailing, 0, _decompressInputBytes, lenToDecompress, EndingTrailing.length);
         }
-        // get compressed bytes
-        _compressedBytes = _compressedBytesOutputStream.toByteArray();
 
-        // System.out.println("[ZLIB-C3] in=" + lenToCompress + " compressed=" + _compressedBytes.length);
-        return _compressedBytes.length;
+        return inputLength;
+    }
+
+    /* Bulk copies length bytes from position srcPos of the buffer, leaving its position and limit unchanged. */
+    private static void copyBytes(ByteBuffer src, int srcPos, byte[] dest, int length)
+    {
+        int position = src.position();
+        int limit = src.limit();
+        src.limit(src.capacity());
+        src.position(srcPos);
+        src.get(dest, 0, length);
+        src.limit(limit);
+        src.position(position);
     }
 
     @Override
@@ -208,25 +168,9 @@ class ZlibCompressor extends Compressor
             _decompressedBytes = new byte[_maxCompressionLen];
         }
 
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int contentStartPos = bufferToDecompress.dataStartPosition();
-        int i = 0;
-        for (; i < lenToDecompress; i++)
-        {
-            byteArray[i] = bufferToDecompress.data().get(contentStartPos + i);
-        }
+        lenToDecompress = copyDecompressInput(bufferToDecompress.data(), bufferToDecompress.dataStartPosition(), lenToDecompress);
 
-        if(_appendTrailing)
-        {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
-        }
-
-        _inflater.setInput(byteArray, 0, lenToDecompress);
+        _inflater.setInput(_decompressInputBytes, 0, lenToDecompress);
         try
         {
             _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
@@ -252,24 +196,9 @@ class ZlibCompressor extends Compressor
         {
             _decompressedBytes = new byte[_maxCompressionLen];
         }
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int i = 0;
-        for (; i < lenToDecompress; i++)
-        {
-            byteArray[i] = bufferToDecompress.buffer().get(dataStartPos + i);
-        }
-
-        if(_appendTrailing)
-        {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
-        }
+        lenToDecompress = copyDecompressInput(bufferToDecompress.buffer(), dataStartPos, lenToDecompress);
 
-        _inflater.setInput(byteArray, 0, lenToDecompress);
+        _inflater.setInput(_decompressInputBytes, 0, lenToDecompress);
         try
         {
             _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
@@ -315,7 +244,7 @@ class ZlibCompressor extends Compressor
     @Override
     int compressedDataLength()
     {
-        return _compressedBytes.length;
+        return _compressedLength;
     }
 
     @Override
@@ -362,26 +291,11 @@ class ZlibCompressor extends Compressor
         	}
     	}
     	
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int i = 0;
-        for (; i < lenToDecompress; i++)
-        {
-            byteArray[i] = bufferToDecompress.buffer().get(dataStartPos + i);
-        }
-
-        if(_appendTrailing)
-        {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
-        }
+        lenToDecompress = copyDecompressInput(bufferToDecompress.buffer(), dataStartPos, lenToDecompress);
 
         try
         {
-            _inflater.setInput(byteArray, 0, lenToDecompress);
+            _inflater.setInput(_decompressInputBytes, 0, lenToDecompress);
         	
             _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
             
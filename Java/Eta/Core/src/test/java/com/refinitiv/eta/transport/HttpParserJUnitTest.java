@@ -275,4 +275,31 @@ public class HttpParserJUnitTest {
             httpResponse.clear();
         }
     }
+
+    //Test 9
+    @Test
+    public void givenParserForFewHeaders_whenRequestShouldBeParsed_thenOnlyTheseHeadersAreRead() {
+        final HttpMessageHandler handshakeParser = new HttpMessageHandlerImpl("Cookie", "Accept", "Content-Type");
+        handshakeParser.initialize();
+        byteData.put(POST_REQUEST_CORRECT_TEST5.getBytes());
+        byteData.put(GET_REQUEST_CORRECT_TEST1.getBytes());
+        int start = POST_REQUEST_CORRECT_TEST5.length();
+        int returnCode = handshakeParser.parseHttpRequest(httpRequest, byteData, GET_REQUEST_CORRECT_TEST1.length(), start, error);
+        assertEquals(ParserReturnCodes.SUCCESS, returnCode);
+
+        final HttpHeaders headers = httpRequest.getRequestHeaders();
+        assertEquals(3, headers.getHeaders().size());
+        assertEquals("application/json", headers.getHeader("content-type").getFirstHeaderValue());
+        assertEquals("application/json", headers.getHeader("accept").getFirstHeaderValue());
+        assertFalse(headers.containsHeader("strange-header"));
+        assertEquals("1", headers.getCookies().get("onecookie"));
+        assertEquals("2", headers.getCookies().get("twocookie"));
+
+        /*headers which are not read are still validated*/
+        httpRequest.clear();
+        byteData.clear();
+        byteData.put(GET_REQUEST_ARRAY_WITH_INCORRECT_HEADERS_TEST3[2]);
+        returnCode = handshakeParser.parseHttpRequest(httpRequest, byteData, GET_REQUEST_ARRAY_WITH_INCORRECT_HEADERS_TEST3[2].length, 0, error);
+        assertEquals(ParserReturnCodes.INVALID_HEADER_GROUP, returnCode);
+    }
 }
@@ -3,6 +3,7 @@ package com.refinitiv.eta.transport;
 import static org.junit.Assert.*;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.refinitiv.eta.transport.WebSocketFrameHdr;
 import com.refinitiv.eta.transport.WebSocketFrameParser;
@@ -302,4 +303,41 @@ public class WebsocketFrameParserJunit
 		
 		assertEquals(0, originalBufer.compareTo(msgBuffer));
 	}
+	
+	@Test
+	public void webSocketMaskMatchesBytewiseMask()
+	{
+		int maskValue = 0x8142A3C4;
+		byte[] mask = new byte[4];
+		WebSocketFrameParser.setMaskKey(mask, maskValue);
+		
+		for (int bufferType = 0; bufferType < 3; bufferType++)
+		{
+			for (int index = 0; index < 9; index++)
+			{
+				for (int length = 0; length < 40; length++)
+				{
+					ByteBuffer msgBuffer = (bufferType == 2) ? ByteBuffer.allocateDirect(64) : ByteBuffer.allocate(64);
+					if (bufferType == 1)
+						msgBuffer.order(ByteOrder.LITTLE_ENDIAN);
+					byte[] expected = new byte[64];
+					for (int i = 0; i < 64; i++)
+					{
+						expected[i] = (byte)(i * 7 + 3);
+						msgBuffer.put(i, expected[i]);
+					}
+					
+					/* Only the bytes in the block are masked, the mask key starts at its first byte */
+					for (int i = 0; i < length; i++)
+						expected[index + i] ^= mask[i % 4];
+					
+					WebSocketFrameParser.maskDataBlock(maskValue, msgBuffer, index, length);
+					
+					for (int i = 0; i < 64; i++)
+						assertEquals("index " + index + " length " + length + " byte " + i, expected[i], msgBuffer.get(i));
+					assertEquals(0, msgBuffer.position());
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,132 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class ZlibCompressorJunit
+{
+    static final String JSON_MESSAGE = "[{\"ID\":5,\"Type\":\"Refresh\",\"Key\":{\"Service\":1,\"Name\":\"TRI.N\"},"
+            + "\"State\":{\"Stream\":\"Open\",\"Data\":\"Ok\"},\"Qos\":{\"Timeliness\":\"Realtime\",\"Rate\":\"TickByTick\"},"
+            + "\"Fields\":{\"BID\":45.55,\"ASK\":45.57,\"BIDSIZE\":18,\"ASKSIZE\":19,\"TRDPRC_1\":45.56}}]";
+
+    /* Creates a compressor set up the way a WebSocket channel with permessage-deflate sets it up. */
+    private static ZlibCompressor webSocketCompressor(boolean noContextTakeover)
+    {
+        ZlibCompressor compressor = new ZlibCompressor(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+        compressor.appendCompressTrailing();
+        if (noContextTakeover)
+        {
+            compressor.compressnocontexttakeover();
+        }
+        compressor.maxCompressionLength(6144);
+        return compressor;
+    }
+
+    private static ByteBuffer message(boolean direct)
+    {
+        byte[] bytes = JSON_MESSAGE.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length + 10) : ByteBuffer.allocate(bytes.length + 10);
+        buffer.position(10);
+        buffer.put(bytes);
+        return buffer;
+    }
+
+    /* Decompresses the frame payload (compressed bytes without the trailing 0x00 0x00 0xFF 0xFF) and returns it as a string. */
+    private static String decompress(ZlibCompressor decompressor, byte[] payload, int length)
+    {
+        ByteBufferPair compressed = new ByteBufferPair(null, length, false);
+        compressed.buffer().put(payload, 0, length);
+        ByteBufferPair decompressed = new ByteBufferPair(null, 6144, false);
+
+        int decompressedLength = decompressor.preDecompress(compressed, 0, length);
+        decompressor.writeDecompressBuffer(decompressed);
+
+        byte[] bytes = new byte[decompressedLength];
+        decompressed.buffer().get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void contextTakeoverShrinksRepeatedMessages()
+    {
+        ZlibCompressor compressor = webSocketCompressor(false);
+        ZlibCompressor decompressor = webSocketCompressor(false);
+        ByteBuffer buffer = message(false);
+
+        int firstLength = 0;
+        for (int i = 0; i < 5; i++)
+        {
+            int compressedLength = compressor.compress(buffer, 10, JSON_MESSAGE.length());
+            assertEquals(compressedLength, compressor.compressedDataLength());
+
+            // Strip off the trailing 0x00 0x00 0xFF 0xFF as per PMCE spec
+            int payloadLength = compressedLength - 4;
+            if (i == 0)
+            {
+                firstLength = payloadLength;
+            }
+            else
+            {
+                assertTrue(payloadLength < firstLength / 2);
+            }
+
+            assertEquals(JSON_MESSAGE, decompress(decompressor, compressor.compressedData(), payloadLength));
+        }
+    }
+
+    @Test
+    public void noContextTakeoverCompressesEachMessageOnItsOwn()
+    {
+        ZlibCompressor compressor = webSocketCompressor(true);
+        ByteBuffer buffer = message(true);
+        int position = buffer.position();
+
+        int firstLength = compressor.compress(buffer, 10, JSON_MESSAGE.length());
+        byte[] compressedData = compressor.compressedData();
+
+        for (int i = 0; i < 3; i++)
+        {
+            int compressedLength = compressor.compress(buffer, 10, JSON_MESSAGE.length());
+            assertEquals(firstLength, compressedLength);
+            assertSame(compressedData, compressor.compressedData());
+            assertEquals(position, buffer.position());
+
+            // every message can be decompressed without the ones before it
+            assertEquals(JSON_MESSAGE, decompress(webSocketCompressor(true), compressor.compressedData(), compressedLength - 4));
+        }
+    }
+
+    @Test
+    public void compressGrowsOutputForIncompressibleData()
+    {
+        ZlibCompressor compressor = webSocketCompressor(false);
+        compressor.maxCompressionLength(16);
+
+        java.util.Random gen = new java.util.Random(2289374);
+        byte[] bytes = new byte[4096];
+        gen.nextBytes(bytes);
+        TransportBufferImpl tbuf = new TransportBufferImpl(bytes.length);
+        tbuf.data().put(bytes);
+
+        int compressedLength = compressor.compress(tbuf, 0, bytes.length);
+        assertTrue(compressedLength > bytes.length);
+        assertEquals(compressedLength, compressor.compressedDataLength());
+
+        ZlibCompressor decompressor = webSocketCompressor(false);
+        ByteBufferPair compressed = new ByteBufferPair(null, compressedLength, false);
+        compressed.buffer().put(compressor.compressedData(), 0, compressedLength - 4);
+        assertEquals(bytes.length, decompressor.preDecompress(compressed, 0, compressedLength - 4));
+    }
+}
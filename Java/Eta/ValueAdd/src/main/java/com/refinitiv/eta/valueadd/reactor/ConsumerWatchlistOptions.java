@@ -22,6 +22,10 @@ public class ConsumerWatchlistOptions
     private int _postAckTimeout = 15000;
     private int _requestTimeout = 15000; 
     private boolean _enableWarmStandby = false;
+    private int _recoveryRequestRate = 0;
+    private int _recoveryRequestBurst = 0;
+    private boolean _recoverByPriority = false;
+    private boolean _packRecoveryRequests = false;
     
     /**
      * Is the watchlist enabled.
@@ -179,6 +183,104 @@ public class ConsumerWatchlistOptions
     {
         _requestTimeout = requestTimeout;
     }
+
+    /**
+     * Maximum number of queued item requests the watchlist sends per second, for example
+     * when re-requesting items after a connection or service recovers. Requests are paced
+     * with a token bucket whose size is given by {@link #recoveryRequestBurst()}.
+     * A value of 0 (the default) means requests are sent as fast as possible.
+     * 
+     * @return the recovery request rate
+     */
+    public int recoveryRequestRate()
+    {
+        return _recoveryRequestRate;
+    }
+
+    /**
+     * Maximum number of queued item requests the watchlist sends per second, for example
+     * when re-requesting items after a connection or service recovers. Requests are paced
+     * with a token bucket whose size is given by {@link #recoveryRequestBurst()}.
+     * A value of 0 (the default) means requests are sent as fast as possible.
+     *
+     * @param recoveryRequestRate the recovery request rate
+     */
+    public void recoveryRequestRate(int recoveryRequestRate)
+    {
+        _recoveryRequestRate = recoveryRequestRate;
+    }
+
+    /**
+     * Maximum number of queued item requests that may be sent at once before
+     * {@link #recoveryRequestRate()} applies. A value of 0 (the default) uses the
+     * recovery request rate as the burst size.
+     * 
+     * @return the recovery request burst
+     */
+    public int recoveryRequestBurst()
+    {
+        return _recoveryRequestBurst;
+    }
+
+    /**
+     * Maximum number of queued item requests that may be sent at once before
+     * {@link #recoveryRequestRate()} applies. A value of 0 (the default) uses the
+     * recovery request rate as the burst size.
+     *
+     * @param recoveryRequestBurst the recovery request burst
+     */
+    public void recoveryRequestBurst(int recoveryRequestBurst)
+    {
+        _recoveryRequestBurst = recoveryRequestBurst;
+    }
+
+    /**
+     * Controls whether queued item requests are sent in order of their priority
+     * (highest priority class first, then highest priority count) instead of the
+     * order in which they were queued.
+     * 
+     * @return whether or not queued item requests are sent in priority order
+     */
+    public boolean recoverByPriority()
+    {
+        return _recoverByPriority;
+    }
+
+    /**
+     * Controls whether queued item requests are sent in order of their priority
+     * (highest priority class first, then highest priority count) instead of the
+     * order in which they were queued.
+     *
+     * @param recoverByPriority whether or not queued item requests are sent in priority order
+     */
+    public void recoverByPriority(boolean recoverByPriority)
+    {
+        _recoverByPriority = recoverByPriority;
+    }
+
+    /**
+     * Controls whether queued item requests sent together, for example when re-requesting
+     * items after a connection or service recovers, are packed into shared buffers
+     * instead of being written one buffer per request.
+     * 
+     * @return whether or not queued item requests are packed
+     */
+    public boolean packRecoveryRequests()
+    {
+        return _packRecoveryRequests;
+    }
+
+    /**
+     * Controls whether queued item requests sent together, for example when re-requesting
+     * items after a connection or service recovers, are packed into shared buffers
+     * instead of being written one buffer per request.
+     *
+     * @param packRecoveryRequests whether or not queued item requests are packed
+     */
+    public void packRecoveryRequests(boolean packRecoveryRequests)
+    {
+        _packRecoveryRequests = packRecoveryRequests;
+    }
         
     
     /**
@@ -193,6 +295,10 @@ public class ConsumerWatchlistOptions
         _maxOutstandingPosts = 100000;
         _postAckTimeout = 15000;
         _requestTimeout = 15000;
+        _recoveryRequestRate = 0;
+        _recoveryRequestBurst = 0;
+        _recoverByPriority = false;
+        _packRecoveryRequests = false;
     }
 
     /*
@@ -207,5 +313,9 @@ public class ConsumerWatchlistOptions
         _maxOutstandingPosts = watchlistOptions.maxOutstandingPosts();
         _postAckTimeout = watchlistOptions.postAckTimeout();
         _requestTimeout = watchlistOptions.requestTimeout();
+        _recoveryRequestRate = watchlistOptions.recoveryRequestRate();
+        _recoveryRequestBurst = watchlistOptions.recoveryRequestBurst();
+        _recoverByPriority = watchlistOptions.recoverByPriority();
+        _packRecoveryRequests = watchlistOptions.packRecoveryRequests();
     }
 }
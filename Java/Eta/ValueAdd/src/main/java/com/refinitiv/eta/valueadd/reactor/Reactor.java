@@ -25,6 +25,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.management.ObjectName;
+
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.CloseMsg;
 import com.refinitiv.eta.codec.Codec;
@@ -84,6 +86,7 @@ import com.refinitiv.eta.transport.TransportFactory;
 import com.refinitiv.eta.transport.TransportReturnCodes;
 import com.refinitiv.eta.transport.WriteArgs;
 import com.refinitiv.eta.transport.WriteArgsImpl;
+import com.refinitiv.eta.transport.WriteFlags;
 import com.refinitiv.eta.valueadd.common.SelectableBiDirectionalQueue;
 import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
 import com.refinitiv.eta.valueadd.common.VaQueue;
@@ -163,6 +166,15 @@ public class Reactor
 	Lock _reactorLock = new ReentrantLock();
 	int _reactorChannelCount; // used by reactor.dispatchAll
 
+	// used by reactor.dispatchAll with ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN
+	private ArrayList<ReactorChannel> _dispatchChannelList = new ArrayList<ReactorChannel>();
+	private ArrayList<SelectionKey> _dispatchKeyList = new ArrayList<SelectionKey>();
+	private int _dispatchRoundRobinStart;
+
+	// metrics, only created when enabled in ReactorOptions
+	ReactorMetrics _metrics;
+	private ObjectName _metricsObjectName;
+
 	EncodeIterator _eIter = CodecFactory.createEncodeIterator();
 	DecodeIterator _dIter = CodecFactory.createDecodeIterator();
 	Msg _msg = CodecFactory.createMsg();
@@ -232,6 +244,19 @@ public class Reactor
 	RWFToJsonOptions rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
 	ConversionResults conversionResults = ConverterFactory.createConversionResults();
 	GetJsonMsgOptions getJsonMsgOptions = ConverterFactory.createGetJsonMsgOptions();
+	private ReactorJsonFanOutCache jsonFanOutCache = null;
+	private ReactorJsonConversionPool jsonConversionPool = null;
+	private Buffer _convertedJsonRwfBuffer = CodecFactory.createBuffer(); /* messages converted by jsonConversionPool */
+	private ReadArgs _jsonConversionReadArgs = TransportFactory.createReadArgs(); /* reads resumed by processJsonConversionDone() */
+	private Buffer jsonFanOutBuffer = CodecFactory.createBuffer();
+	private Buffer _jsonPackRwfBuffer = CodecFactory.createBuffer(); /* messages encoded for JSON packing */
+	private static final int JSON_PACK_RWF_BUFFER_SIZE = 4096;
+	/* Time(in nanoseconds) before a packed buffer that got WRITE_CALL_AGAIN is written again */
+	private static final long PACKED_BUFFER_RETRY_TIME = 1000000L;
+
+	/* Size of the buffer a JSON message is first converted into, from the length of the RWF message */
+	static final int JSON_LENGTH_FACTOR = 3;
+	static final int JSON_LENGTH_EXTRA = 300;
 
 	/*
 	 * This is used by ReactorChannel for handling packed buffer of the JSON
@@ -304,8 +329,17 @@ public class Reactor
 			return;
 		}
 
+		// created before the Worker is started, the Worker updates its queue gauges
+		if (_reactorOptions.metrics())
+		{
+			_metrics = new ReactorMetrics();
+			if (_reactorOptions.metricsJmxExport())
+				_metricsObjectName = ReactorMetricsJmx.register(this, _metrics);
+		}
+
 		if (initializeReactor(errorInfo) != ReactorReturnCodes.SUCCESS)
 		{
+			ReactorMetricsJmx.unregister(_metricsObjectName);
 			return;
 		}
 
@@ -488,11 +522,20 @@ public class Reactor
 			_reactorChannel.returnToPool();
 			_reactorChannel = null;
 
+			ReactorMetricsJmx.unregister(_metricsObjectName);
+			_metricsObjectName = null;
+
 			// Releases all references for the JSON converter library.
 			serviceNameToIdCallback = null;
 			JsonConversionEventCallback = null;
 			jsonConverter = null;
 			jsonConverterUserSpec = null;
+			jsonFanOutCache = null;
+			if (Objects.nonNull(jsonConversionPool))
+			{
+				jsonConversionPool.shutdown();
+				jsonConversionPool = null;
+			}
 			serviceNameIdConverterClient = null;
 
 			int tRetCode = Transport.uninitialize();
@@ -524,6 +567,20 @@ public class Reactor
 		return _reactorChannel;
 	}
 
+	/**
+	 * Returns the metrics collected for this Reactor. The returned object can be
+	 * read from any thread.
+	 *
+	 * @return the Reactor's metrics, or null if metrics were not enabled with
+	 *         {@link ReactorOptions#enableMetrics()}
+	 *
+	 * @see ReactorChannel#metrics()
+	 */
+	public ReactorMetrics metrics()
+	{
+		return _metrics;
+	}
+
 	/**
 	 * Adds a server-side channel to the Reactor. Once the channel is initialized,
 	 * the channelEventCallback will receive an event indicating that the channel is
@@ -2192,6 +2249,20 @@ public class Reactor
 		return retVal;
 	}
 
+	/* Called by the JSON conversion threads when buffers of the channel have been converted. */
+	boolean sendJsonConversionDoneEvent(ReactorChannel reactorChannel)
+	{
+		SelectableBiDirectionalQueue workerQueue = _workerQueue;
+		if (Objects.isNull(workerQueue))
+			return false;
+
+		WorkerEvent event = ReactorFactory.createWorkerEvent();
+		event.eventType(WorkerEventTypes.JSON_CONVERSION_DONE);
+		event.reactorChannel(reactorChannel);
+
+		return workerQueue.remote().write(event);
+	}
+
 	/* This is used to send warning events for session management */
 	boolean sendChannelWarningEvent(ReactorChannel reactorChannel, ReactorErrorInfo reactorErrorInfo)
 	{
@@ -2947,7 +3018,10 @@ public class Reactor
 		if ((tunnelStream = reactorChannel.streamIdtoTunnelStreamTable().get(_tempWlInteger)) != null)
 			return handleTunnelStreamMsg(reactorChannel, tunnelStream, transportBuffer, msg, errorInfo);
 
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDefaultMsgCallback(reactorChannel, transportBuffer, msg, wlRequest);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, msg.domainType(), callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -2985,7 +3059,10 @@ public class Reactor
 		if ((tunnelStream = reactorChannel.streamIdtoTunnelStreamTable().get(_tempWlInteger)) != null)
 			return handleTunnelStreamMsg(reactorChannel, tunnelStream, transportBuffer, msg, errorInfo);
 
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDefaultMsgCallback(reactorChannel, transportBuffer, msg, null);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, msg.domainType(), callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -3739,7 +3816,10 @@ public class Reactor
 	int sendAndHandleLoginMsgCallback(String location, ReactorChannel reactorChannel, TransportBuffer transportBuffer,
 			Msg msg, LoginMsg loginMsg, WlRequest wlRequest, ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendLoginMsgCallback(reactorChannel, transportBuffer, msg, loginMsg, wlRequest);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.LOGIN, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -3763,7 +3843,10 @@ public class Reactor
 	private int sendAndHandleLoginMsgCallback(String location, ReactorChannel reactorChannel,
 			TransportBuffer transportBuffer, Msg msg, LoginMsg loginMsg, ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendLoginMsgCallback(reactorChannel, transportBuffer, msg, loginMsg, null);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.LOGIN, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -3943,7 +4026,10 @@ public class Reactor
 			TransportBuffer transportBuffer, Msg msg, DirectoryMsg directoryMsg, WlRequest wlRequest,
 			ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDirectoryMsgCallback(reactorChannel, transportBuffer, msg, directoryMsg, wlRequest);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.SOURCE, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -3967,7 +4053,10 @@ public class Reactor
 	private int sendAndHandleDirectoryMsgCallback(String location, ReactorChannel reactorChannel,
 			TransportBuffer transportBuffer, Msg msg, DirectoryMsg directoryMsg, ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDirectoryMsgCallback(reactorChannel, transportBuffer, msg, directoryMsg, null);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.SOURCE, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -4138,8 +4227,11 @@ public class Reactor
 			TransportBuffer transportBuffer, Msg msg, DictionaryMsg dictionaryMsg, WlRequest wlRequest,
 			ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDictionaryMsgCallback(reactorChannel, transportBuffer, msg, dictionaryMsg, wlRequest,
 				errorInfo);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.DICTIONARY, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -4163,7 +4255,10 @@ public class Reactor
 	private int sendAndHandleDictionaryMsgCallback(String location, ReactorChannel reactorChannel,
 			TransportBuffer transportBuffer, Msg msg, DictionaryMsg dictionaryMsg, ReactorErrorInfo errorInfo)
 	{
+		long callbackStartTime = (_metrics != null) ? System.nanoTime() : 0;
 		int retval = sendDictionaryMsgCallback(reactorChannel, transportBuffer, msg, dictionaryMsg, null, errorInfo);
+		if (callbackStartTime != 0)
+			recordCallbackMetrics(reactorChannel, DomainTypes.DICTIONARY, callbackStartTime);
 
 		// check return code from callback.
 		if (retval == ReactorCallbackReturnCodes.FAILURE)
@@ -4188,6 +4283,8 @@ public class Reactor
 	int dispatchChannel(ReactorChannel reactorChannel, ReactorDispatchOptions dispatchOptions,
 			ReactorErrorInfo errorInfo)
 	{
+		long dispatchStartTime = 0;
+
 		_reactorLock.lock();
 		if (_reactorOptions.debuggerOptions().debugConnectionLevel())
 		{
@@ -4195,6 +4292,12 @@ public class Reactor
 		}
 		try
 		{
+			if (_metrics != null && _reactorActive)
+			{
+				dispatchStartTime = System.nanoTime();
+				_metrics._reactorEventQueueDepth = _workerQueue.readQueueSize();
+			}
+
 			if (reactorChannel.state() == ReactorChannel.State.CLOSED)
 			{
 				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.dispatchChannel",
@@ -4253,10 +4356,27 @@ public class Reactor
 			}
 		} finally
 		{
+			if (dispatchStartTime != 0)
+				recordDispatchMetrics(dispatchStartTime);
 			_reactorLock.unlock();
 		}
 	}
 
+	/* Records the time spent in a dispatch call that started at dispatchStartTime. */
+	private void recordDispatchMetrics(long dispatchStartTime)
+	{
+		_metrics.recordDispatch(System.nanoTime() - dispatchStartTime,
+				_reactorChannelQueue != null ? _reactorChannelQueue.count() : 0);
+	}
+
+	/* Records the time spent in an application callback that started at callbackStartTime. */
+	private void recordCallbackMetrics(ReactorChannel reactorChannel, int domainType, long callbackStartTime)
+	{
+		ReactorChannelMetrics channelMetrics = reactorChannel.channelMetrics();
+		if (channelMetrics != null)
+			channelMetrics.recordCallbackTime(domainType, System.nanoTime() - callbackStartTime);
+	}
+
 	int submitChannel(ReactorChannel reactorChannel, TransportBuffer buffer, ReactorSubmitOptions submitOptions,
 			ReactorErrorInfo errorInfo)
 	{
@@ -4289,7 +4409,8 @@ public class Reactor
 
 				// Checks the channel's protocol type to perform auto conversion for the JSON
 				// protocol
-				if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE && !isPackedBuffer)
+				if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE && !isPackedBuffer
+						&& buffer != reactorChannel._packedBuffer)
 				{
 					TransportBuffer writeAgainBuffer = writeCallAgainMap.size() > 0 ? writeCallAgainMap.remove(buffer)
 							: null;
@@ -4311,39 +4432,10 @@ public class Reactor
 
 						if (ret == CodecReturnCodes.SUCCESS)
 						{
-							converterError.clear();
-							rwfToJsonOptions.clear();
-							rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-							if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-									converterError) != CodecReturnCodes.SUCCESS)
-							{
-								return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-										"Failed to convert RWF to JSON protocol. Error text: "
-												+ converterError.getText());
-							}
-
-							TransportBuffer jsonBuffer = reactorChannel.getBuffer(conversionResults.getLength(), false,
-									errorInfo);
+							TransportBuffer jsonBuffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 							if (Objects.isNull(jsonBuffer))
-							{
-								return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-										"Failed to get a buffer for sending JSON message. Error text: "
-												+ errorInfo.error().text());
-							}
-
-							getJsonMsgOptions.clear();
-							getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-							getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-							if (jsonConverter.getJsonBuffer(jsonBuffer, getJsonMsgOptions,
-									converterError) != CodecReturnCodes.SUCCESS)
-							{
-								return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-										"Failed to get converted JSON message. Error text: "
-												+ converterError.getText());
-							}
+								return errorInfo.code();
 
 							/*
 							 * Releases the user's buffer when this function writes the JSON buffer
@@ -4649,9 +4741,350 @@ public class Reactor
 		return ret;
 	}
 
+	/*
+	 * Encodes a message (either msg or rdmMsg) into the channel's packed buffer. The
+	 * packed buffer is written first if the message has a different write priority,
+	 * does not fit, or the buffer has waited longer than the channel's pack time.
+	 * Messages that cannot be packed are flushed behind the packed buffer and
+	 * written normally.
+	 */
+	int submitPackedChannel(ReactorChannel reactorChannel, Msg msg, MsgBase rdmMsg,
+			ReactorSubmitOptions submitOptions, ReactorErrorInfo errorInfo)
+	{
+		return submitPackedChannel(reactorChannel, msg, rdmMsg, submitOptions, reactorChannel.autoPacking(), errorInfo);
+	}
+
+	/*
+	 * As above, but packs the message whenever pack is set, whether or not the channel
+	 * packs automatically (e.g. for the watchlist's recovery requests).
+	 */
+	int submitPackedChannel(ReactorChannel reactorChannel, Msg msg, MsgBase rdmMsg,
+			ReactorSubmitOptions submitOptions, boolean pack, ReactorErrorInfo errorInfo)
+	{
+		int ret = ReactorReturnCodes.SUCCESS;
+
+		_reactorLock.lock();
+
+		try
+		{
+			if (!isReactorChannelReady(reactorChannel))
+			{
+				reactorChannel.clearPackedBuffer();
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+						"ReactorChannel is closed, aborting.");
+			}
+
+			WriteArgs writeArgs = submitOptions.writeArgs();
+			TransportBuffer packedBuffer = reactorChannel._packedBuffer;
+
+			if (packedBuffer != null && (reactorChannel._packedBufferSealed
+					|| reactorChannel._packedBufferPriority != writeArgs.priority()
+					|| (reactorChannel.autoPackTime() > 0 && System.nanoTime() >= reactorChannel._packedBufferExpireTime)))
+			{
+				if ((ret = flushPackedBuffer(reactorChannel, errorInfo)) != ReactorReturnCodes.SUCCESS)
+					return ret;
+				packedBuffer = null;
+			}
+
+			// only plain RWF and JSON messages are packed, everything else is written as is;
+			// this also writes what is left of the packed buffer after packing was disabled
+			boolean json = reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE;
+			if (!pack || writeArgs.flags() != WriteFlags.NO_FLAGS
+					|| (reactorChannel.channel().protocolType() != Codec.RWF_PROTOCOL_TYPE
+							&& (!json || Objects.isNull(jsonConverter))))
+			{
+				if ((ret = flushPackedBuffer(reactorChannel, errorInfo)) != ReactorReturnCodes.SUCCESS)
+					return ret;
+				return (msg != null) ? submitChannel(reactorChannel, msg, submitOptions, errorInfo)
+						: submitChannel(reactorChannel, rdmMsg, submitOptions, errorInfo);
+			}
+
+			if (json && (ret = encodeJsonPackMsg(reactorChannel, msg, rdmMsg)) != CodecReturnCodes.SUCCESS)
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+						"message encoding failure chnl=" + reactorChannel.channel().selectableChannel() + " ret=" + ret);
+
+			if (packedBuffer != null)
+			{
+				ret = json ? convertIntoJsonPackedBuffer(packedBuffer, errorInfo)
+						: encodeIntoPackedBuffer(reactorChannel, packedBuffer, msg, rdmMsg);
+				if (ret == CodecReturnCodes.SUCCESS)
+					return packPackedBuffer(reactorChannel, packedBuffer, errorInfo);
+				else if (ret != CodecReturnCodes.BUFFER_TOO_SMALL)
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+							"message encoding failure chnl=" + reactorChannel.channel().selectableChannel()
+									+ " ret=" + ret);
+
+				// no room left, write what has been packed so far
+				if ((ret = flushPackedBuffer(reactorChannel, errorInfo)) != ReactorReturnCodes.SUCCESS)
+					return ret;
+			}
+
+			int bufferSize = reactorChannel.autoPackBufferSize();
+			if (bufferSize == 0 && (bufferSize = getMaxFragmentSize(reactorChannel, errorInfo)) < 0)
+				return bufferSize;
+
+			packedBuffer = reactorChannel.channel().getBuffer(bufferSize, !json, errorInfo.error());
+			if (packedBuffer == null)
+			{
+				if (sendFlushRequest(reactorChannel, "Reactor.submitPackedChannel",
+						errorInfo) != ReactorReturnCodes.SUCCESS)
+					return ReactorReturnCodes.FAILURE;
+
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.NO_BUFFERS, "Reactor.submitPackedChannel",
+						"channel out of buffers chnl=" + reactorChannel.channel().selectableChannel() + " errorId="
+								+ errorInfo.error().errorId() + " errorText=" + errorInfo.error().text());
+			}
+
+			if (json)
+				packedBuffer.data().put((byte)'[');
+
+			ret = json ? convertIntoJsonPackedBuffer(packedBuffer, errorInfo)
+					: encodeIntoPackedBuffer(reactorChannel, packedBuffer, msg, rdmMsg);
+			if (ret != CodecReturnCodes.SUCCESS)
+			{
+				reactorChannel.channel().releaseBuffer(packedBuffer, errorInfo.error());
+
+				// message is larger than a packed buffer, write it on its own
+				if (ret == CodecReturnCodes.BUFFER_TOO_SMALL)
+					return (msg != null) ? submitChannel(reactorChannel, msg, submitOptions, errorInfo)
+							: submitChannel(reactorChannel, rdmMsg, submitOptions, errorInfo);
+
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+						"message encoding failure chnl=" + reactorChannel.channel().selectableChannel() + " ret="
+								+ ret);
+			}
+
+			reactorChannel._packedBuffer = packedBuffer;
+			reactorChannel._packedBufferPriority = writeArgs.priority();
+
+			if (reactorChannel.autoPackTime() > 0)
+			{
+				reactorChannel._packedBufferExpireTime = System.nanoTime() + reactorChannel.autoPackTime();
+
+				if (!reactorChannel._packedBufferTimerPending)
+				{
+					if (!sendWorkerEvent(WorkerEventTypes.START_PACKED_BUFFER_TIMER, reactorChannel,
+							reactorChannel._packedBufferExpireTime))
+					{
+						return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+								"Failed to send packed buffer timer event to worker.");
+					}
+					reactorChannel._packedBufferTimerPending = true;
+				}
+			}
+
+			return packPackedBuffer(reactorChannel, packedBuffer, errorInfo);
+		} finally
+		{
+			_reactorLock.unlock();
+		}
+	}
+
+	/* Encodes a message at the current position of a packed buffer, leaving the buffer untouched on failure. */
+	private int encodeIntoPackedBuffer(ReactorChannel reactorChannel, TransportBuffer packedBuffer, Msg msg,
+			MsgBase rdmMsg)
+	{
+		int position = packedBuffer.data().position();
+
+		_eIter.clear();
+		_eIter.setBufferAndRWFVersion(packedBuffer, reactorChannel.channel().majorVersion(),
+				reactorChannel.channel().minorVersion());
+		int ret = (msg != null) ? msg.encode(_eIter) : rdmMsg.encode(_eIter);
+
+		if (ret != CodecReturnCodes.SUCCESS)
+			packedBuffer.data().position(position);
+
+		return ret;
+	}
+
+	/* Encodes msg or rdmMsg to RWF and decodes it into jsonDecodeMsg for the conversion to JSON. */
+	private int encodeJsonPackMsg(ReactorChannel reactorChannel, Msg msg, MsgBase rdmMsg)
+	{
+		int ret;
+
+		while (true)
+		{
+			ByteBuffer data = _jsonPackRwfBuffer.data();
+			if (data == null)
+				data = ByteBuffer.allocate(JSON_PACK_RWF_BUFFER_SIZE);
+			data.clear();
+			_jsonPackRwfBuffer.data(data);
+
+			_eIter.clear();
+			_eIter.setBufferAndRWFVersion(_jsonPackRwfBuffer, reactorChannel.channel().majorVersion(),
+					reactorChannel.channel().minorVersion());
+			ret = (msg != null) ? msg.encode(_eIter) : rdmMsg.encode(_eIter);
+
+			if (ret != CodecReturnCodes.BUFFER_TOO_SMALL)
+				break;
+
+			_jsonPackRwfBuffer.data(ByteBuffer.allocate(data.capacity() * 2));
+		}
+
+		if (ret != CodecReturnCodes.SUCCESS)
+			return ret;
+
+		ByteBuffer data = _jsonPackRwfBuffer.data();
+		_jsonPackRwfBuffer.data(data, 0, data.position());
+
+		jsonDecodeMsg.clear();
+		_dIter.clear();
+		_dIter.setBufferAndRWFVersion(_jsonPackRwfBuffer, reactorChannel.channel().majorVersion(),
+				reactorChannel.channel().minorVersion());
+		if ((ret = jsonDecodeMsg.decode(_dIter)) != CodecReturnCodes.SUCCESS)
+			return ret;
+
+		// the converter expects a payload buffer even for a message without one
+		if (Objects.isNull(jsonDecodeMsg.encodedDataBody().data()))
+			jsonDecodeMsg.encodedDataBody().data(data, data.position(), 0);
+
+		return CodecReturnCodes.SUCCESS;
+	}
+
+	/* Converts jsonDecodeMsg to JSON at the current position of a JSON packed buffer, after a comma
+	 * if it is not the first message of the array. One byte is kept for closing the array. Leaves
+	 * the buffer untouched if the message does not fit. */
+	private int convertIntoJsonPackedBuffer(TransportBuffer packedBuffer, ReactorErrorInfo errorInfo)
+	{
+		ByteBuffer data = packedBuffer.data();
+		int position = data.position();
+		int limit = data.limit();
+
+		if (limit - position < 2)
+			return CodecReturnCodes.BUFFER_TOO_SMALL;
+
+		if (position > packedBuffer.dataStartPosition() + 1)
+			data.put((byte)',');
+
+		converterError.clear();
+		rwfToJsonOptions.clear();
+		rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+
+		data.limit(limit - 1);
+		int ret = jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, packedBuffer, conversionResults,
+				converterError);
+		data.limit(limit);
+
+		if (ret != CodecReturnCodes.SUCCESS)
+		{
+			data.position(position);
+			if (ret != CodecReturnCodes.BUFFER_TOO_SMALL)
+				errorInfo.error().text(converterError.getText());
+		}
+
+		return ret;
+	}
+
+	/* Closes off the message just encoded into the packed buffer and writes the buffer if it is full. */
+	private int packPackedBuffer(ReactorChannel reactorChannel, TransportBuffer packedBuffer,
+			ReactorErrorInfo errorInfo)
+	{
+		// the messages of a JSON packed buffer are already in the array
+		if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
+			return ReactorReturnCodes.SUCCESS;
+
+		int ret = reactorChannel.channel().packBuffer(packedBuffer, errorInfo.error());
+
+		if (ret < TransportReturnCodes.SUCCESS)
+		{
+			reactorChannel.releasePackedBuffer(errorInfo);
+			return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitPackedChannel",
+					"failed to pack buffer chnl=" + reactorChannel.channel().selectableChannel() + " errorId="
+							+ errorInfo.error().errorId() + " errorText=" + errorInfo.error().text());
+		}
+
+		// the message is in the buffer already; if the write is not finished the sealed buffer is written
+		// again later, so the caller must not submit the message again
+		if (ret == 0 && (ret = flushPackedBuffer(reactorChannel, errorInfo)) != ReactorReturnCodes.WRITE_CALL_AGAIN)
+			return ret;
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/* Writes the channel's packed buffer, if any, with the write priority of the messages it contains. */
+	int flushPackedBuffer(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		TransportBuffer packedBuffer = reactorChannel._packedBuffer;
+
+		if (packedBuffer == null)
+			return ReactorReturnCodes.SUCCESS;
+
+		if (!isReactorChannelReady(reactorChannel))
+		{
+			reactorChannel.clearPackedBuffer();
+			return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.flushPackedBuffer",
+					"ReactorChannel is closed, aborting.");
+		}
+
+		// closes the JSON array, unless a previous write of the buffer did so already
+		if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE && !reactorChannel._packedBufferSealed)
+			packedBuffer.data().put((byte)']');
+
+		ReactorSubmitOptions submitOptions = reactorChannel._packedBufferSubmitOptions;
+		submitOptions.clear();
+		submitOptions.writeArgs().priority(reactorChannel._packedBufferPriority);
+
+		int ret = submitChannel(reactorChannel, packedBuffer, submitOptions, errorInfo);
+
+		if (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+		{
+			// keep the buffer so that the next flush writes the remainder; the packed buffer
+			// timer makes sure that happens even if nothing else is submitted to the channel
+			reactorChannel._packedBufferSealed = true;
+			reactorChannel._packedBufferExpireTime = System.nanoTime() + PACKED_BUFFER_RETRY_TIME;
+
+			if (!reactorChannel._packedBufferTimerPending)
+			{
+				if (!sendWorkerEvent(WorkerEventTypes.START_PACKED_BUFFER_TIMER, reactorChannel,
+						reactorChannel._packedBufferExpireTime))
+				{
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.flushPackedBuffer",
+							"Failed to send packed buffer timer event to worker.");
+				}
+				reactorChannel._packedBufferTimerPending = true;
+			}
+			return ret;
+		}
+		else if (ret < ReactorReturnCodes.SUCCESS)
+		{
+			reactorChannel.releasePackedBuffer(errorInfo);
+			return ret;
+		}
+
+		reactorChannel.clearPackedBuffer();
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/* Handles expiry of a channel's packed buffer timer. */
+	private int processPackedBufferTimeout(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		reactorChannel._packedBufferTimerPending = false;
+
+		if (reactorChannel._packedBuffer == null || !isReactorChannelReady(reactorChannel))
+			return ReactorReturnCodes.SUCCESS;
+
+		// the buffer may have been written and replaced by a newer one since the timer started
+		if (System.nanoTime() < reactorChannel._packedBufferExpireTime)
+		{
+			if (!sendWorkerEvent(WorkerEventTypes.START_PACKED_BUFFER_TIMER, reactorChannel,
+					reactorChannel._packedBufferExpireTime))
+			{
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.processWorkerEvent",
+						"Failed to send packed buffer timer event to worker.");
+			}
+			reactorChannel._packedBufferTimerPending = true;
+			return ReactorReturnCodes.SUCCESS;
+		}
+
+		int ret = flushPackedBuffer(reactorChannel, errorInfo);
+		return (ret == ReactorReturnCodes.WRITE_CALL_AGAIN) ? ReactorReturnCodes.SUCCESS : ret;
+	}
+
 	/* Disconnects a channel and notifies application that the channel is down. */
 	int disconnect(ReactorChannel reactorChannel, String location, ReactorErrorInfo errorInfo)
 	{
+		reactorChannel.clearPackedBuffer();
+
 		if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
 		{
 			reactorChannel.state(State.DOWN_RECONNECTING);
@@ -4726,6 +5159,9 @@ public class Reactor
 					return retval;
 				}
 			}
+
+			if (_metrics != null && reactorChannel.watchlist() != null)
+				reactorChannel.watchlist().updateMetrics();
 		} else // not for watchlist
 		{
 			// check first if this is a TunnelStream Request for a Provider
@@ -4798,54 +5234,358 @@ public class Reactor
 		return ret;
 	}
 
-	// returns the errorInfo.code() or readArgs.readRetVal.
-	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, ReactorErrorInfo errorInfo)
+	/* Writes the RWF message converted from a received JSON message to the XML trace. */
+	private void traceConvertedJsonMsg(ReactorChannel reactorChannel, Buffer rwfMsg, ReactorErrorInfo errorInfo)
 	{
-		TransportBuffer msgBuf = reactorChannel.channel().read(readArgs, errorInfo.error());
-		int retval;
-
-		if (msgBuf != null)
+		if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
 		{
-			if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTracePing())
-			{
-				xmlString.setLength(0);
-				xmlString.append("\n<!-- Incoming Reactor message -->\n").append("<!-- ")
-						.append(reactorChannel.selectableChannel().toString()).append(" -->\n").append("<!-- ")
-						.append(new java.util.Date()).append(" -->\n");
-				xmlDumpTrace.dumpBuffer(reactorChannel.channel(), reactorChannel.channel().protocolType(), msgBuf, null,
-						xmlString, errorInfo.error());
-				if (_reactorOptions.xmlTracing()){
-					System.out.println(xmlString);
-				}
-				if (_reactorOptions.xmlTraceToFile()) {
-					_fileDumper.dump(xmlString.toString());
-				}
+			xmlString.setLength(0);
+			xmlString.append("\n<!-- Dump Reactor message -->\n").append("<!-- ")
+					.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
+					.append("<!-- ").append(new java.util.Date()).append(" -->\n");
+			xmlDumpTrace.dumpBuffer(reactorChannel.majorVersion(), reactorChannel.minorVersion(),
+					Codec.RWF_PROTOCOL_TYPE, rwfMsg, null, xmlString, errorInfo.error());
+			if (_reactorOptions.xmlTracing()){
+				System.out.println(xmlString);
 			}
+			if (_reactorOptions.xmlTraceToFile()) {
+				_fileDumper.dump(xmlString.toString());
+			}
+		}
+	}
 
-			// update ping handler
-			reactorChannel.pingHandler().receivedMsg();
+	/* Replies to a received JSON PING message. */
+	private int sendJsonPong(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		TransportBuffer msgBuffer = reactorChannel.getBuffer(JSON_PONG_MESSAGE.length(), false, errorInfo);
 
-			// Checks the channel's protocol type to perform auto conversion for the JSON
-			// protocol
-			if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
-			{
-				boolean failedToConvertJSONMsg = true;
-				String jsonErrorMsg = null;
+		if (Objects.isNull(msgBuffer))
+			return ReactorReturnCodes.FAILURE;
 
-				if (Objects.isNull(jsonConverter))
-				{
-					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
-							"The JSON converter library has not been initialized properly.");
-				}
+		msgBuffer.data().put(JSON_PONG_MESSAGE.getBytes());
 
-				parseJsonOptions.clear();
-				parseJsonOptions.setProtocolType(reactorChannel.channel().protocolType());
+		if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
+		{
+			xmlString.setLength(0);
+			xmlString.append("\n<!-- Outgoing Reactor message -->\n").append("<!-- ")
+					.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
+					.append("<!-- ").append(new java.util.Date()).append(" -->\n");
+			xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE, msgBuffer, null, xmlString,
+					errorInfo.error());
+			if (_reactorOptions.xmlTracing()){
+				System.out.println(xmlString);
+			}
+			if (_reactorOptions.xmlTraceToFile()) {
+				_fileDumper.dump(xmlString.toString());
+			}
+		}
 
-				converterError.clear();
-				retval = jsonConverter.parseJsonBuffer(msgBuf, parseJsonOptions, converterError);
+		/* Reply with JSON PONG message to the sender */
+		return sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
+	}
 
-				if (retval == CodecReturnCodes.SUCCESS)
-				{
+	/*
+	 * Handles a received JSON buffer that failed to parse or convert, or held a JSON error
+	 * message: replies with a JSON error message, notifies the ReactorJsonConversionEventCallback
+	 * and closes the channel as configured. converterError holds the conversion error; converted
+	 * is the buffer when it was converted by the JSON conversion threads, null otherwise.
+	 * Returns a failure code if the callback failed, SUCCESS otherwise.
+	 */
+	private int processJsonConversionFailure(ReactorChannel reactorChannel, int retval, boolean failedToConvertJSONMsg,
+			ReactorJsonConversionPool.ConvertedBuffer converted, ReactorErrorInfo errorInfo)
+	{
+		if (failedToConvertJSONMsg)
+		{
+			/* Send JSON error message back when it fails to decode JSON message. */
+			jsonErrorOutputBuffer.clear();
+
+			if (Objects.nonNull(converted))
+			{
+				// built by the conversion thread, which holds the failed message
+				if ((retval = converted.errorMessageRet()) == CodecReturnCodes.SUCCESS)
+					jsonErrorOutputBuffer.data(ByteBuffer.wrap(converted.errorMessage()));
+			} else
+			{
+				jsonErrorParams.clear();
+				jsonErrorParams.fillParams(converterError, jsonMsg.rwfMsg().streamId());
+
+				getMessageError.clear();
+				retval = jsonConverter.getErrorMessage(jsonErrorOutputBuffer, jsonErrorParams, getMessageError);
+			}
+
+			if (retval == CodecReturnCodes.SUCCESS && sendJsonConvError)
+			{
+				TransportBuffer msgBuffer = reactorChannel.getBuffer(jsonErrorOutputBuffer.length(), false,
+						errorInfo);
+
+				if (Objects.nonNull(msgBuffer))
+				{
+					msgBuffer.data().put(jsonErrorOutputBuffer.data());
+
+					/* Reply with JSON ERROR message to the sender */
+					retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
+				} else
+				{
+					retval = ReactorReturnCodes.FAILURE;
+				}
+			}
+		}
+
+		/*
+		 * Notifies JSON conversion error messages if the callback is specified by users
+		 */
+		if (Objects.nonNull(JsonConversionEventCallback)
+				&& (converterError.getCode() != JsonConverterErrorCodes.JSON_ERROR_NO_ERROR_CODE))
+		{
+			jsonConversionEvent.clear();
+			jsonConversionEvent.reactorChannel(reactorChannel);
+
+			if (failedToConvertJSONMsg)
+			{
+				populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
+						"Reactor.performChannelRead",
+						"Failed to convert JSON message: " + jsonErrorOutputBuffer.toString());
+			} else
+			{
+				populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
+						"Reactor.performChannelRead",
+						"Failed to convert JSON message: " + converterError.getText());
+			}
+
+			jsonConversionEvent.userSpec = jsonConverterUserSpec;
+			jsonConversionEvent.error().text(jsonConversionEvent.errorInfo().error().text());
+			jsonConversionEvent.error().errorId(CodecReturnCodes.FAILURE);
+
+			int cret = JsonConversionEventCallback.reactorJsonConversionEventCallback(jsonConversionEvent);
+
+			if (cret == ReactorCallbackReturnCodes.FAILURE)
+			{
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
+						"Reactor.performChannelRead", "Error return code" + cret
+								+ " from the ReactorJsonConversionEventCallback callback.");
+			}
+		}
+
+		/*
+		 * Don't closes the channel when this function can reply the JSON ERROR message
+		 * back.
+		 */
+		if (closeChannelFromFailure && (retval != ReactorReturnCodes.SUCCESS))
+		{
+			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
+																									// channel
+			{
+				reactorChannel.state(State.DOWN_RECONNECTING);
+			} else // server channel or no more retries
+			{
+				reactorChannel.state(State.DOWN);
+			}
+
+			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
+																									// channel
+			{
+				// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
+				sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+						ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
+			} else // server channel or no more retries
+			{
+				// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
+				sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+						ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
+			}
+
+			return ReactorReturnCodes.SUCCESS; /* Problem handled, so return success */
+		}
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/*
+	 * Dispatches the messages converted by the JSON conversion threads for the channel, in the
+	 * order their buffers were read. Buffers read before the channel went down are dropped.
+	 */
+	private int dispatchJsonConversions(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		ReactorJsonConversionPool.ChannelQueue queue = reactorChannel._jsonConversionQueue;
+		ReactorJsonConversionPool.ConvertedBuffer converted;
+		int retval;
+
+		if (Objects.isNull(queue))
+			return ReactorReturnCodes.SUCCESS;
+
+		if (!isReactorChannelReady(reactorChannel) || queue.channel() != reactorChannel.channel())
+		{
+			reactorChannel._jsonConversionQueue = null;
+			return ReactorReturnCodes.SUCCESS;
+		}
+
+		while (isReactorChannelReady(reactorChannel) && reactorChannel._jsonConversionQueue == queue
+				&& (converted = queue.poll()) != null)
+		{
+			if ((retval = processConvertedJson(reactorChannel, converted, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return retval;
+		}
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/*
+	 * Dispatches the converted messages of the channel when the JSON conversion threads notify it,
+	 * then reads the channel again if it was left unread as its queue was full. The transport may
+	 * hold data already received, for which the channel is not selected again.
+	 */
+	private int processJsonConversionDone(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		ReactorJsonConversionPool.ChannelQueue queue = reactorChannel._jsonConversionQueue;
+		int retval;
+
+		if ((retval = dispatchJsonConversions(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+			return retval;
+
+		if (Objects.isNull(queue) || !queue.readBlocked() || reactorChannel._jsonConversionQueue != queue
+				|| jsonConversionPool.full(reactorChannel))
+			return ReactorReturnCodes.SUCCESS;
+
+		queue.readBlocked(false);
+
+		// reads until the queue is full again or the channel has no more data
+		do
+		{
+			retval = performChannelRead(reactorChannel, _jsonConversionReadArgs, errorInfo);
+		} while (retval > 0 && isReactorChannelReady(reactorChannel) && !queue.readBlocked());
+
+		return retval < ReactorReturnCodes.SUCCESS ? retval : ReactorReturnCodes.SUCCESS;
+	}
+
+	/* Dispatches the messages of a JSON buffer converted by the JSON conversion threads, as performChannelRead() does. */
+	private int processConvertedJson(ReactorChannel reactorChannel, ReactorJsonConversionPool.ConvertedBuffer converted,
+			ReactorErrorInfo errorInfo)
+	{
+		int retval = ReactorReturnCodes.SUCCESS;
+
+		converterError.clear();
+
+		for (int i = 0; i < converted.count() && retval == ReactorReturnCodes.SUCCESS; i++)
+		{
+			switch (converted.msgClass(i))
+			{
+			case JsonMsgClasses.RSSL_MESSAGE:
+				converted.rwfMsg(i, _convertedJsonRwfBuffer);
+				traceConvertedJsonMsg(reactorChannel, _convertedJsonRwfBuffer, errorInfo);
+
+				// inspect the converted message and dispatch it to the application.
+				if ((retval = processRwfMessage(converted, _convertedJsonRwfBuffer, reactorChannel,
+						errorInfo)) != ReactorReturnCodes.SUCCESS)
+				{
+					return retval;
+				}
+				break;
+			case JsonMsgClasses.PING:
+				retval = sendJsonPong(reactorChannel, errorInfo);
+				break;
+			case JsonMsgClasses.PONG:
+				/* Do nothing as the ping handle is already updated. */
+				break;
+			case JsonMsgClasses.ERROR:
+				populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+						"Received JSON error message: " + converted.toString());
+				retval = ReactorReturnCodes.FAILURE;
+				break;
+			}
+		}
+
+		if (retval == ReactorReturnCodes.SUCCESS && (converted.parseFailed() || converted.convertFailed()))
+		{
+			converterError.setError(converted.errorCode(), converted.errorText());
+			if (converted.parseFailed())
+			{
+				/* Failed to parse JSON buffer */
+				populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+						"Failed to parse JSON message: " + converterError.getText());
+			}
+			retval = ReactorReturnCodes.FAILURE;
+		}
+
+		if (retval < ReactorReturnCodes.SUCCESS)
+			return processJsonConversionFailure(reactorChannel, retval, converted.convertFailed(), converted,
+					errorInfo);
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	// returns the errorInfo.code() or readArgs.readRetVal.
+	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, ReactorErrorInfo errorInfo)
+	{
+		int retval;
+
+		// the JSON conversion threads are behind on this channel, leave its data in the connection
+		if (Objects.nonNull(jsonConversionPool) && jsonConversionPool.full(reactorChannel))
+		{
+			if ((retval = dispatchJsonConversions(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return retval;
+
+			if (!isReactorChannelReady(reactorChannel))
+				return ReactorReturnCodes.SUCCESS;
+
+			if (jsonConversionPool.full(reactorChannel))
+			{
+				reactorChannel._jsonConversionQueue.readBlocked(true);
+				return ReactorReturnCodes.SUCCESS;
+			}
+		}
+
+		TransportBuffer msgBuf = reactorChannel.channel().read(readArgs, errorInfo.error());
+
+		if (msgBuf != null)
+		{
+			reactorChannel._dispatchedMessageCount++;
+
+			if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTracePing())
+			{
+				xmlString.setLength(0);
+				xmlString.append("\n<!-- Incoming Reactor message -->\n").append("<!-- ")
+						.append(reactorChannel.selectableChannel().toString()).append(" -->\n").append("<!-- ")
+						.append(new java.util.Date()).append(" -->\n");
+				xmlDumpTrace.dumpBuffer(reactorChannel.channel(), reactorChannel.channel().protocolType(), msgBuf, null,
+						xmlString, errorInfo.error());
+				if (_reactorOptions.xmlTracing()){
+					System.out.println(xmlString);
+				}
+				if (_reactorOptions.xmlTraceToFile()) {
+					_fileDumper.dump(xmlString.toString());
+				}
+			}
+
+			// update ping handler
+			reactorChannel.pingHandler().receivedMsg();
+
+			if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE
+					&& Objects.nonNull(jsonConversionPool))
+			{
+				// converted off this thread, see dispatchJsonConversions()
+				jsonConversionPool.submit(reactorChannel, msgBuf);
+			}
+			// Checks the channel's protocol type to perform auto conversion for the JSON
+			// protocol
+			else if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
+			{
+				boolean failedToConvertJSONMsg = true;
+				String jsonErrorMsg = null;
+
+				if (Objects.isNull(jsonConverter))
+				{
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+							"The JSON converter library has not been initialized properly.");
+				}
+
+				parseJsonOptions.clear();
+				parseJsonOptions.setProtocolType(reactorChannel.channel().protocolType());
+
+				converterError.clear();
+				retval = jsonConverter.parseJsonBuffer(msgBuf, parseJsonOptions, converterError);
+
+				if (retval == CodecReturnCodes.SUCCESS)
+				{
 					decodeJsonMsgOptions.clear();
 					decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
 					decodeJsonMsgOptions.setMajorVersion(reactorChannel.channel().majorVersion());
@@ -4877,22 +5617,7 @@ public class Reactor
 						{
 							failedToConvertJSONMsg = false;
 
-							if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
-							{
-								xmlString.setLength(0);
-								xmlString.append("\n<!-- Dump Reactor message -->\n").append("<!-- ")
-										.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
-										.append("<!-- ").append(new java.util.Date()).append(" -->\n");
-								xmlDumpTrace.dumpBuffer(reactorChannel.majorVersion(), reactorChannel.minorVersion(),
-										Codec.RWF_PROTOCOL_TYPE, jsonMsg.rwfMsg().encodedMsgBuffer(), null, xmlString,
-										errorInfo.error());
-								if (_reactorOptions.xmlTracing()){
-									System.out.println(xmlString);
-								}
-								if (_reactorOptions.xmlTraceToFile()) {
-									_fileDumper.dump(xmlString.toString());
-								}
-							}
+							traceConvertedJsonMsg(reactorChannel, jsonMsg.rwfMsg().encodedMsgBuffer(), errorInfo);
 
 							// inspect the converted message and dispatch it to the application.
 							retval = processRwfMessage(msgBuf, jsonMsg.rwfMsg().encodedMsgBuffer(), reactorChannel,
@@ -4908,36 +5633,7 @@ public class Reactor
 						{
 							failedToConvertJSONMsg = false;
 
-							TransportBuffer msgBuffer = reactorChannel.getBuffer(JSON_PONG_MESSAGE.length(), false,
-									errorInfo);
-
-							if (Objects.nonNull(msgBuffer))
-							{
-								msgBuffer.data().put(JSON_PONG_MESSAGE.getBytes());
-
-								if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
-								{
-									xmlString.setLength(0);
-									xmlString.append("\n<!-- Outgoing Reactor message -->\n").append("<!-- ")
-											.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
-											.append("<!-- ").append(new java.util.Date()).append(" -->\n");
-									xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE,
-											msgBuffer, null, xmlString, errorInfo.error());
-									if (_reactorOptions.xmlTracing()){
-										System.out.println(xmlString);
-									}
-									if (_reactorOptions.xmlTraceToFile()) {
-										_fileDumper.dump(xmlString.toString());
-									}
-								}
-
-								/* Reply with JSON PONG message to the sender */
-								retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
-							} else
-							{
-								retval = ReactorReturnCodes.FAILURE;
-							}
-
+							retval = sendJsonPong(reactorChannel, errorInfo);
 							break;
 						}
 						case JsonMsgClasses.PONG:
@@ -4978,98 +5674,10 @@ public class Reactor
 
 				if (retval < ReactorReturnCodes.SUCCESS)
 				{
-					if (failedToConvertJSONMsg)
-					{
-						/* Send JSON error message back when it fails to decode JSON message. */
-						jsonErrorParams.clear();
-						jsonErrorParams.fillParams(converterError, jsonMsg.rwfMsg().streamId());
-						jsonErrorOutputBuffer.clear();
-
-						getMessageError.clear();
-						if ((retval = jsonConverter.getErrorMessage(jsonErrorOutputBuffer, jsonErrorParams,
-								getMessageError)) == CodecReturnCodes.SUCCESS && sendJsonConvError)
-						{
-							TransportBuffer msgBuffer = reactorChannel.getBuffer(jsonErrorOutputBuffer.length(), false,
-									errorInfo);
-
-							if (Objects.nonNull(msgBuffer))
-							{
-								msgBuffer.data().put(jsonErrorOutputBuffer.data());
-
-								/* Reply with JSON ERROR message to the sender */
-								retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
-							} else
-							{
-								retval = ReactorReturnCodes.FAILURE;
-							}
-						}
-					}
-
-					/*
-					 * Notifies JSON conversion error messages if the callback is specified by users
-					 */
-					if (Objects.nonNull(JsonConversionEventCallback)
-							&& (converterError.getCode() != JsonConverterErrorCodes.JSON_ERROR_NO_ERROR_CODE))
-					{
-						jsonConversionEvent.clear();
-						jsonConversionEvent.reactorChannel(reactorChannel);
-
-						if (failedToConvertJSONMsg)
-						{
-							populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead",
-									"Failed to convert JSON message: " + jsonErrorOutputBuffer.toString());
-						} else
-						{
-							populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead",
-									"Failed to convert JSON message: " + converterError.getText());
-						}
-
-						jsonConversionEvent.userSpec = jsonConverterUserSpec;
-						jsonConversionEvent.error().text(jsonConversionEvent.errorInfo().error().text());
-						jsonConversionEvent.error().errorId(CodecReturnCodes.FAILURE);
-
-						int cret = JsonConversionEventCallback.reactorJsonConversionEventCallback(jsonConversionEvent);
-
-						if (cret == ReactorCallbackReturnCodes.FAILURE)
-						{
-							return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead", "Error return code" + cret
-											+ " from the ReactorJsonConversionEventCallback callback.");
-						}
-					}
-
-					/*
-					 * Don't closes the channel when this function can reply the JSON ERROR message
-					 * back.
-					 */
-					if (closeChannelFromFailure && (retval != ReactorReturnCodes.SUCCESS))
-					{
-						if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
-																												// channel
-						{
-							reactorChannel.state(State.DOWN_RECONNECTING);
-						} else // server channel or no more retries
-						{
-							reactorChannel.state(State.DOWN);
-						}
-
-						if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
-																												// channel
-						{
-							// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
-							sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-									ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
-						} else // server channel or no more retries
-						{
-							// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
-							sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-									ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
-						}
-
-						return ReactorReturnCodes.SUCCESS; /* Problem handled, so return success */
-					}
+					retval = processJsonConversionFailure(reactorChannel, retval, failedToConvertJSONMsg, null,
+							errorInfo);
+					if (retval != ReactorReturnCodes.SUCCESS || !isReactorChannelReady(reactorChannel))
+						return retval;
 				}
 			} else
 			{
@@ -5294,6 +5902,8 @@ public class Reactor
 		{
 		case FLUSH_DONE:
 			reactorChannel.flushRequested(false);
+			if (_metrics != null)
+				reactorChannel.channelMetrics().flushDone(System.nanoTime());
 			if (reactorChannel.flushAgain())
 			{
 				/*
@@ -5443,6 +6053,20 @@ public class Reactor
 				}
 			}
 			break;
+		case PACKED_BUFFER_TIMEOUT:
+			if ((ret = processPackedBufferTimeout(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+			{
+				event.returnToPool();
+				return ret;
+			}
+			break;
+		case JSON_CONVERSION_DONE:
+			if ((ret = processJsonConversionDone(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+			{
+				event.returnToPool();
+				return ret;
+			}
+			break;
 		case WATCHLIST_DISPATCH_NOW:
 			if (reactorChannel.watchlist() != null)
 			{
@@ -6211,6 +6835,8 @@ public class Reactor
 	{
 		ReactorChannel reactorChannel = event.reactorChannel();
 
+		reactorChannel.clearPackedBuffer();
+
 		if (reactorChannel.state() != State.CLOSED)
 		{
 			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
@@ -6243,6 +6869,10 @@ public class Reactor
 			return;
 		}
 
+		// create the channel's metrics before the application is told the channel is up
+		if (_metrics != null)
+			reactorChannel.channelMetrics();
+
 		// handle queue messaging
 		reactorChannel.tunnelStreamManager().setChannel(reactorChannel, errorInfo.error());
 
@@ -6316,36 +6946,160 @@ public class Reactor
 			}
 		} else if (reactorRole.type() == ReactorRoleTypes.NIPROVIDER)
 		{
-			if (reactorChannel.state() == State.CLOSED || reactorChannel.state() == State.DOWN)
-				return;
+			if (reactorChannel.state() == State.CLOSED || reactorChannel.state() == State.DOWN)
+				return;
+
+			LoginRequest loginRequest = ((NIProviderRole) reactorRole).rdmLoginRequest();
+			if (loginRequest != null)
+			{
+				// a rdmLoginRequest was specified, send it out.
+				encodeAndWriteLoginRequest(loginRequest, reactorChannel, errorInfo);
+			} else
+			{
+				// no rdmLoginRequest defined, so just send CHANNEL_READY
+				reactorChannel.state(State.READY);
+				reactorChannel.clearAccessTokenForV2();
+				if (sendAndHandleChannelEventCallback("Reactor.processChannelUp",
+						ReactorChannelEventTypes.CHANNEL_READY, reactorChannel,
+						errorInfo) != ReactorCallbackReturnCodes.SUCCESS)
+				{
+					return;
+				}
+			}
+		} else if (reactorRole.type() == ReactorRoleTypes.PROVIDER)
+		{
+			// send CHANNEL_READY
+			reactorChannel.state(State.READY);
+			if (sendAndHandleChannelEventCallback("Reactor.processChannelUp", ReactorChannelEventTypes.CHANNEL_READY,
+					reactorChannel, errorInfo) != ReactorCallbackReturnCodes.SUCCESS)
+			{
+				return;
+			}
+		}
+	}
+
+	/* Converts msg to a JSON message in a buffer of the channel. The JSON is written directly into a buffer
+	 * sized from the length of the RWF message; when it does not fit, the converted message is copied to
+	 * a buffer of its actual length. Returns null with errorInfo populated on failure. */
+	private TransportBuffer convertToJsonBuffer(ReactorChannel reactorChannel, Msg msg, ReactorErrorInfo errorInfo)
+	{
+		converterError.clear();
+		rwfToJsonOptions.clear();
+		rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+
+		if (Objects.nonNull(jsonFanOutCache) && Objects.nonNull(reactorChannel.server())
+				&& msg.msgClass() != MsgClasses.CLOSE)
+		{
+			return fanOutJsonBuffer(reactorChannel, msg, errorInfo);
+		}
+
+		TransportBuffer buffer = reactorChannel.getBuffer(msg.encodedMsgBuffer().length() * JSON_LENGTH_FACTOR + JSON_LENGTH_EXTRA,
+				false, errorInfo);
+
+		if (Objects.isNull(buffer))
+		{
+			populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
+			return null;
+		}
+
+		int ret = jsonConverter.convertRWFToJson(msg, rwfToJsonOptions, buffer, conversionResults, converterError);
+
+		if (ret == CodecReturnCodes.SUCCESS)
+			return buffer;
+
+		reactorChannel.releaseBuffer(buffer, errorInfo);
+
+		if (ret != CodecReturnCodes.BUFFER_TOO_SMALL)
+		{
+			populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
+			return null;
+		}
+
+		buffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+
+		if (Objects.isNull(buffer))
+		{
+			populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
+			return null;
+		}
+
+		getJsonMsgOptions.clear();
+		getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+		getJsonMsgOptions.isCloseMsg(msg.msgClass() == MsgClasses.CLOSE ? true : false);
+
+		if (jsonConverter.getJsonBuffer(buffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
+		{
+			reactorChannel.releaseBuffer(buffer, errorInfo);
+			populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"Failed to get converted JSON message. Error text: " + converterError.getText());
+			return null;
+		}
+
+		return buffer;
+	}
+
+	/* Converts msg to JSON through the fan-out cache: a message already converted for another stream
+	 * is copied with the stream ID of msg. */
+	private TransportBuffer fanOutJsonBuffer(ReactorChannel reactorChannel, Msg msg, ReactorErrorInfo errorInfo)
+	{
+		ReactorJsonFanOutCache.Entry entry = jsonFanOutCache.get(msg.encodedMsgBuffer());
+
+		if (Objects.isNull(entry))
+		{
+			if (jsonConverter.convertRWFToJson(msg, rwfToJsonOptions, conversionResults,
+					converterError) != CodecReturnCodes.SUCCESS)
+			{
+				populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+						"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
+				return null;
+			}
 
-			LoginRequest loginRequest = ((NIProviderRole) reactorRole).rdmLoginRequest();
-			if (loginRequest != null)
+			getJsonMsgOptions.clear();
+			getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+			jsonFanOutBuffer.clear();
+
+			if (jsonConverter.getJsonBuffer(jsonFanOutBuffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
 			{
-				// a rdmLoginRequest was specified, send it out.
-				encodeAndWriteLoginRequest(loginRequest, reactorChannel, errorInfo);
-			} else
+				populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+						"Failed to get converted JSON message. Error text: " + converterError.getText());
+				return null;
+			}
+
+			byte[] json = new byte[jsonFanOutBuffer.data().position()];
+			jsonFanOutBuffer.data().flip();
+			jsonFanOutBuffer.data().get(json);
+			entry = jsonFanOutCache.put(json);
+
+			if (Objects.isNull(entry))
 			{
-				// no rdmLoginRequest defined, so just send CHANNEL_READY
-				reactorChannel.state(State.READY);
-				reactorChannel.clearAccessTokenForV2();
-				if (sendAndHandleChannelEventCallback("Reactor.processChannelUp",
-						ReactorChannelEventTypes.CHANNEL_READY, reactorChannel,
-						errorInfo) != ReactorCallbackReturnCodes.SUCCESS)
+				TransportBuffer buffer = reactorChannel.getBuffer(json.length, false, errorInfo);
+
+				if (Objects.isNull(buffer))
 				{
-					return;
+					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
+					return null;
 				}
+
+				buffer.data().put(json);
+				return buffer;
 			}
-		} else if (reactorRole.type() == ReactorRoleTypes.PROVIDER)
+		}
+
+		TransportBuffer buffer = reactorChannel.getBuffer(jsonFanOutCache.length(entry, msg.streamId()), false, errorInfo);
+
+		if (Objects.isNull(buffer))
 		{
-			// send CHANNEL_READY
-			reactorChannel.state(State.READY);
-			if (sendAndHandleChannelEventCallback("Reactor.processChannelUp", ReactorChannelEventTypes.CHANNEL_READY,
-					reactorChannel, errorInfo) != ReactorCallbackReturnCodes.SUCCESS)
-			{
-				return;
-			}
+			populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
+			return null;
 		}
+
+		jsonFanOutCache.write(entry, msg.streamId(), buffer.data());
+		return buffer;
 	}
 
 	private void encodeAndWriteLoginRequest(LoginRequest loginRequest, ReactorChannel reactorChannel,
@@ -6411,39 +7165,10 @@ public class Reactor
 
 			if (ret == CodecReturnCodes.SUCCESS)
 			{
-				converterError.clear();
-				rwfToJsonOptions.clear();
-				rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-				if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
-
-					return;
-				}
-
-				TransportBuffer buffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+				TransportBuffer buffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 				if (Objects.isNull(buffer))
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
-
-					return;
-				}
-
-				getJsonMsgOptions.clear();
-				getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-				getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-				if (jsonConverter.getJsonBuffer(buffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get converted JSON message. Error text: " + converterError.getText());
 					return;
-				}
 
 				/* Release the original buffer */
 				reactorChannel.releaseBuffer(msgBuf, errorInfo);
@@ -6624,39 +7349,10 @@ public class Reactor
 
 			if (ret == CodecReturnCodes.SUCCESS)
 			{
-				converterError.clear();
-				rwfToJsonOptions.clear();
-				rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-				if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
-
-					return;
-				}
-
-				TransportBuffer buffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+				TransportBuffer buffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 				if (Objects.isNull(buffer))
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
-
 					return;
-				}
-
-				getJsonMsgOptions.clear();
-				getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-				getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-				if (jsonConverter.getJsonBuffer(buffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get converted JSON message. Error text: " + converterError.getText());
-					return;
-				}
 
 				/* Release the original buffer */
 				reactorChannel.releaseBuffer(msgBuf, errorInfo);
@@ -6776,39 +7472,10 @@ public class Reactor
 
 			if (ret == CodecReturnCodes.SUCCESS)
 			{
-				converterError.clear();
-				rwfToJsonOptions.clear();
-				rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-				if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
-
-					return;
-				}
-
-				TransportBuffer buffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+				TransportBuffer buffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 				if (Objects.isNull(buffer))
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
-
-					return;
-				}
-
-				getJsonMsgOptions.clear();
-				getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-				getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-				if (jsonConverter.getJsonBuffer(buffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get converted JSON message. Error text: " + converterError.getText());
 					return;
-				}
 
 				/* Release the original buffer */
 				reactorChannel.releaseBuffer(msgBuf, errorInfo);
@@ -6927,38 +7594,10 @@ public class Reactor
 
 			if (ret == CodecReturnCodes.SUCCESS)
 			{
-				converterError.clear();
-				rwfToJsonOptions.clear();
-				rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-				if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
-					return;
-				}
-
-				TransportBuffer jsonBuffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+				TransportBuffer jsonBuffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 				if (Objects.isNull(jsonBuffer))
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
-					return;
-				}
-
-				getJsonMsgOptions.clear();
-				getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-				getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-				if (jsonConverter.getJsonBuffer(jsonBuffer, getJsonMsgOptions,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get converted JSON message. Error text: " + converterError.getText());
 					return;
-				}
 
 				/* Releases the original message buffer */
 				reactorChannel.releaseBuffer(msgBuf, errorInfo);
@@ -7079,39 +7718,10 @@ public class Reactor
 
 			if (ret == CodecReturnCodes.SUCCESS)
 			{
-				converterError.clear();
-				rwfToJsonOptions.clear();
-				rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-
-				if (jsonConverter.convertRWFToJson(jsonDecodeMsg, rwfToJsonOptions, conversionResults,
-						converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to convert RWF to JSON protocol. Error text: " + converterError.getText());
-
-					return;
-				}
-
-				TransportBuffer buffer = reactorChannel.getBuffer(conversionResults.getLength(), false, errorInfo);
+				TransportBuffer buffer = convertToJsonBuffer(reactorChannel, jsonDecodeMsg, errorInfo);
 
 				if (Objects.isNull(buffer))
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get a buffer for sending JSON message. Error text: " + errorInfo.error().text());
-
-					return;
-				}
-
-				getJsonMsgOptions.clear();
-				getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-				getJsonMsgOptions.isCloseMsg(jsonDecodeMsg.msgClass() == MsgClasses.CLOSE ? true : false);
-
-				if (jsonConverter.getJsonBuffer(buffer, getJsonMsgOptions, converterError) != CodecReturnCodes.SUCCESS)
-				{
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
-							"Failed to get converted JSON message. Error text: " + converterError.getText());
 					return;
-				}
 
 				/* Release the original buffer */
 				reactorChannel.releaseBuffer(msgBuf, errorInfo);
@@ -7651,6 +8261,7 @@ public class Reactor
 		int maxMessages = dispatchOptions.maxMessages();
 		int msgCount = 0;
 		int retval = ReactorReturnCodes.SUCCESS;
+		long dispatchStartTime = 0;
 
 		_reactorLock.lock();
 
@@ -7662,6 +8273,12 @@ public class Reactor
 						"Reactor is not active, aborting.");
 			}
 
+			if (_metrics != null)
+			{
+				dispatchStartTime = System.nanoTime();
+				_metrics._reactorEventQueueDepth = _workerQueue.readQueueSize();
+			}
+
 			if (_reactorOptions.debuggerOptions().debugEventQueueLevel())
 			{
 				debugger.writeDebugInfo(ReactorDebugger.EVENTQUEUE_COUNT_REACTOR, this.hashCode(),
@@ -7699,7 +8316,10 @@ public class Reactor
 			// handle other channels
 			if (msgCount < maxMessages) // maxMessages not reached
 			{
-				if (keySet != null) // keySet available
+				if (dispatchOptions.schedulingPolicy() == ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN)
+				{
+					retval = dispatchAllRoundRobin(keySet, dispatchOptions, msgCount, errorInfo);
+				} else if (keySet != null) // keySet available
 				{
 					Iterator<SelectionKey> iter = keySet.iterator();
 					while (iter.hasNext())
@@ -7863,12 +8483,218 @@ public class Reactor
 			}
 		} finally
 		{
+			if (dispatchStartTime != 0)
+				recordDispatchMetrics(dispatchStartTime);
 			_reactorLock.unlock();
 		}
 
 		return retval;
 	}
 
+	/*
+	 * Reads the channels of dispatchAll() with ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN.
+	 * Latency sensitive channels are read first, then the other channels are read in
+	 * rounds where each one may read up to its dispatch weight (plus any allowance left
+	 * over from the previous call). Keys of channels that still have data when
+	 * maxMessages is reached are left in the keySet.
+	 */
+	private int dispatchAllRoundRobin(Set<SelectionKey> keySet, ReactorDispatchOptions dispatchOptions, int msgCount,
+			ReactorErrorInfo errorInfo)
+	{
+		int maxMessages = dispatchOptions.maxMessages();
+		ReadArgs readArgs = dispatchOptions.readArgs();
+		int retval;
+
+		_dispatchChannelList.clear();
+		_dispatchKeyList.clear();
+
+		if (keySet != null)
+		{
+			Iterator<SelectionKey> iter = keySet.iterator();
+			while (iter.hasNext())
+			{
+				SelectionKey key = iter.next();
+				try
+				{
+					if (!key.isReadable())
+					{
+						iter.remove();
+						continue;
+					}
+				} catch (CancelledKeyException e)
+				{
+					// key can be canceled during shutdown
+					iter.remove();
+					continue;
+				}
+
+				ReactorChannel reactorChnl = (ReactorChannel) key.attachment();
+
+				if (!isReactorChannelReady(reactorChnl))
+				{
+					iter.remove();
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.dispatchAll",
+							"ReactorChannel is not active, aborting.");
+				}
+
+				/* The user can only register the main WSB channel, find the channel this key belongs to. */
+				if (reactorChnl.reactor().reactorHandlesWarmStandby(reactorChnl))
+				{
+					ReactorChannel wsbChannel = null;
+					for (int i = 0; i < reactorChnl.warmStandByHandlerImpl.channelList().size(); i++)
+					{
+						ReactorChannel channel = reactorChnl.warmStandByHandlerImpl.channelList().get(i);
+						if (key.channel() == channel.selectableChannel())
+						{
+							wsbChannel = channel;
+							break;
+						}
+					}
+
+					if (wsbChannel == null)
+					{
+						iter.remove();
+						continue;
+					}
+
+					reactorChnl = wsbChannel;
+				} else if (reactorChnl.warmStandByHandlerImpl != null
+						&& reactorChnl.warmStandByHandlerImpl.mainReactorChannelImpl() == reactorChnl)
+				{
+					reactorChnl = reactorChnl.warmStandByHandlerImpl.startingReactorChannel();
+				}
+
+				_dispatchKeyList.add(key);
+				_dispatchChannelList.add(reactorChnl);
+			}
+		} else
+		{
+			for (ReactorChannel reactorChnl = _reactorChannelQueue.start(
+					ReactorChannel.REACTOR_CHANNEL_LINK); reactorChnl != null; reactorChnl = _reactorChannelQueue
+							.forth(ReactorChannel.REACTOR_CHANNEL_LINK))
+			{
+				if (!isReactorChannelReady(reactorChnl) || (reactorChnl.warmStandByHandlerImpl != null
+						&& reactorChnl == reactorChnl.warmStandByHandlerImpl.mainReactorChannelImpl()))
+				{
+					continue;
+				}
+
+				_dispatchKeyList.add(null);
+				_dispatchChannelList.add(reactorChnl);
+			}
+		}
+
+		int channelCount = _dispatchChannelList.size();
+		int roundRobinCount = 0;
+
+		// latency sensitive channels are read until they have no more data
+		for (int i = 0; i < channelCount && msgCount < maxMessages; i++)
+		{
+			ReactorChannel reactorChnl = _dispatchChannelList.get(i);
+
+			if (!reactorChnl.latencySensitive())
+			{
+				roundRobinCount++;
+				continue;
+			}
+
+			int readLimit = maxMessages - msgCount;
+			if ((retval = readChannelMessages(reactorChnl, readLimit, readArgs, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return retval;
+
+			msgCount += retval;
+			if (retval < readLimit)
+				finishDispatchChannel(keySet, i);
+		}
+
+		// then the remaining channels in deficit round-robin order
+		while (msgCount < maxMessages && roundRobinCount > 0)
+		{
+			for (int j = 0; j < channelCount && msgCount < maxMessages; j++)
+			{
+				int i = (_dispatchRoundRobinStart + j) % channelCount;
+				ReactorChannel reactorChnl = _dispatchChannelList.get(i);
+
+				if (reactorChnl == null || reactorChnl.latencySensitive())
+					continue;
+
+				reactorChnl._dispatchDeficit += reactorChnl.dispatchWeight();
+				int readLimit = Math.min(reactorChnl._dispatchDeficit, maxMessages - msgCount);
+				if ((retval = readChannelMessages(reactorChnl, readLimit, readArgs, errorInfo)) < ReactorReturnCodes.SUCCESS)
+					return retval;
+
+				msgCount += retval;
+				reactorChnl._dispatchDeficit -= retval;
+				if (retval < readLimit)
+				{
+					reactorChnl._dispatchDeficit = 0;
+					finishDispatchChannel(keySet, i);
+					roundRobinCount--;
+				}
+				_dispatchRoundRobinStart = i + 1;
+			}
+		}
+
+		// channels still in the list have more data to read
+		int pendingCount = 0;
+		for (int i = 0; i < channelCount; i++)
+		{
+			ReactorChannel reactorChnl = _dispatchChannelList.get(i);
+			if (reactorChnl != null)
+			{
+				reactorChnl._dispatchDeferredCount++;
+				pendingCount++;
+			}
+		}
+
+		_dispatchChannelList.clear();
+		_dispatchKeyList.clear();
+
+		return pendingCount;
+	}
+
+	/*
+	 * Reads up to readLimit messages from the channel. Returns the number of messages
+	 * read, which is less than readLimit when the channel has no more data to read,
+	 * or a failure code.
+	 */
+	private int readChannelMessages(ReactorChannel reactorChnl, int readLimit, ReadArgs readArgs,
+			ReactorErrorInfo errorInfo)
+	{
+		long readCountBefore = reactorChnl._dispatchedMessageCount;
+		int retval = 1;
+
+		// performChannelRead() counts each message read from the channel
+		while (reactorChnl._dispatchedMessageCount - readCountBefore < readLimit && retval > 0
+				&& isReactorChannelReady(reactorChnl))
+		{
+			if ((retval = performChannelRead(reactorChnl, readArgs, errorInfo)) < ReactorReturnCodes.SUCCESS)
+			{
+				if (reactorChnl.state() != ReactorChannel.State.CLOSED
+						&& reactorChnl.state() != ReactorChannel.State.DOWN_RECONNECTING)
+				{
+					return retval;
+				}
+
+				// close or reconnecting is not an error, but there is nothing left to read
+				break;
+			}
+		}
+
+		return (int)(reactorChnl._dispatchedMessageCount - readCountBefore);
+	}
+
+	/* Removes a channel that has no more data from the channels being dispatched by dispatchAllRoundRobin(). */
+	private void finishDispatchChannel(Set<SelectionKey> keySet, int index)
+	{
+		SelectionKey key = _dispatchKeyList.get(index);
+
+		if (keySet != null && key != null)
+			keySet.remove(key);
+
+		_dispatchChannelList.set(index, null);
+	}
+
 	/**
 	 * Initializes this Reactor to be able to convert messages to and from RWF and
 	 * JSON protocol.
@@ -7929,6 +8755,8 @@ public class Reactor
 							jsonConverterOptions.catchUnknownJsonKeys())
 					.setProperty(JsonConverterProperties.JSON_CPC_CATCH_UNKNOWN_JSON_FIDS,
 							jsonConverterOptions.catchUnknownJsonFids())
+					.setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE,
+							jsonConverterOptions.jsonStreamingDecode())
 					.setProperty(JsonConverterProperties.JSON_CPC_ALLOW_ENUM_DISPLAY_STRINGS, true) /*
 																									 * Always enable
 																									 * this feature
@@ -7952,6 +8780,13 @@ public class Reactor
 			}
 
 			sendJsonConvError = jsonConverterOptions.sendJsonConvError();
+
+			if (jsonConverterOptions.jsonFanOutCacheSize() > 0)
+				jsonFanOutCache = new ReactorJsonFanOutCache(jsonConverterOptions.jsonFanOutCacheSize());
+
+			if (jsonConverterOptions.jsonConversionThreads() > 0)
+				jsonConversionPool = new ReactorJsonConversionPool(this, jsonConverter, serviceNameIdConverterClient,
+						jsonConverterOptions.jsonConversionThreads(), jsonConverterOptions.jsonConversionQueueSize());
 		} finally
 		{
 			_reactorLock.unlock();
@@ -7991,6 +8826,10 @@ public class Reactor
 			// and remove it from the queue.
 			reactorChannel.state(State.CLOSED);
 			_reactorChannelQueue.remove(reactorChannel, ReactorChannel.REACTOR_CHANNEL_LINK);
+			reactorChannel.unregisterMetrics();
+
+			// messages still waiting to be packed are dropped along with the channel
+			reactorChannel.releasePackedBuffer(errorInfo);
 
 			if (reactorChannel.warmStandByHandlerImpl != null)
 			{
@@ -8377,6 +9216,9 @@ public class Reactor
 
 			reactorChannel.flushAgain(false);
 			reactorChannel.flushRequested(true);
+
+			if (_metrics != null)
+				reactorChannel.channelMetrics().flushRequested(System.nanoTime());
 		}
 
 		return ReactorReturnCodes.SUCCESS;
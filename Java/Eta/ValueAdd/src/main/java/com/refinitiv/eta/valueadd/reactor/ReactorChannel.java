@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 
+import javax.management.ObjectName;
+
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.Codec;
 import com.refinitiv.eta.codec.CodecFactory;
@@ -107,6 +109,32 @@ public class ReactorChannel extends VaNode
     // watchlist support
     private Watchlist _watchlist;
 
+    /* Automatic packing of submitted messages. */
+    private boolean _autoPacking = false;
+    private int _autoPackBufferSize = 0; /* 0 means the channel's maximum fragment size */
+    private long _autoPackTime = 0; /* nanoseconds, 0 means no time limit */
+    TransportBuffer _packedBuffer;
+    int _packedBufferPriority;
+    boolean _packedBufferSealed; /* the packed buffer was not fully written and cannot accept more messages */
+    long _packedBufferExpireTime;
+    boolean _packedBufferTimerPending;
+    ReactorSubmitOptions _packedBufferSubmitOptions = ReactorFactory.createReactorSubmitOptions();
+
+    /* Dispatch scheduling, see ReactorDispatchPolicies. */
+    static final int DEFAULT_DISPATCH_WEIGHT = 1;
+    private int _dispatchWeight = DEFAULT_DISPATCH_WEIGHT;
+    private boolean _latencySensitive = false;
+    int _dispatchDeficit; /* messages this channel may still read in the current round-robin round */
+    long _dispatchedMessageCount;
+    long _dispatchDeferredCount;
+
+    /* JSON buffers being converted off the dispatching thread, see ReactorJsonConverterOptions.jsonConversionThreads(). */
+    ReactorJsonConversionPool.ChannelQueue _jsonConversionQueue;
+
+    /* Created when the Reactor collects metrics, see Reactor.metrics(). */
+    private volatile ReactorChannelMetrics _metrics;
+    private ObjectName _metricsObjectName;
+
 	/* For Warm Standby by feature */
 	ReactorWarmStandbyHandler warmStandByHandlerImpl; // Keeps a list of Channel(s) for connected server(s).
 	boolean isActiveServer; // This indicates whether this channel is used to connect with the active server.
@@ -350,6 +378,20 @@ public class ReactorChannel extends VaNode
         _initializationEndTimeMs = 0L;
         _flushRequested = false;
         _flushAgain = false;
+        _autoPacking = false;
+        _autoPackBufferSize = 0;
+        _autoPackTime = 0;
+        clearPackedBuffer();
+        _packedBufferTimerPending = false;
+        _dispatchWeight = DEFAULT_DISPATCH_WEIGHT;
+        _latencySensitive = false;
+        _dispatchDeficit = 0;
+        _dispatchedMessageCount = 0;
+        _dispatchDeferredCount = 0;
+        _jsonConversionQueue = null;
+        unregisterMetrics();
+        if (_metrics != null)
+            _metrics.clear();
         _pingHandler.clear();
         _sendPingMessage = false;
         _streamIdtoTunnelStreamTable.clear();
@@ -766,7 +808,15 @@ public class ReactorChannel extends VaNode
                         "ReactorChannel.submit",
                         "ReactorChannel is closed, submit aborted.");
 
-            return _reactor.submitChannel(this, buffer, submitOptions, errorInfo);
+            // messages that were packed before this buffer must be written first
+            if (_packedBuffer != null)
+            {
+                int ret = _reactor.flushPackedBuffer(this, errorInfo);
+                if (ret != ReactorReturnCodes.SUCCESS)
+                    return ret;
+            }
+
+            return recordSubmit(_reactor.submitChannel(this, buffer, submitOptions, errorInfo));
         }
         finally
         {
@@ -822,15 +872,18 @@ public class ReactorChannel extends VaNode
 			/* If this is a warm standby connection, make sure the request is fanned out */
 			if(_reactor.reactorHandlesWarmStandby(channelImpl))
 			{
-				return _reactor.submitWSBMsg(this, msg, submitOptions, errorInfo);
+				return recordSubmit(_reactor.submitWSBMsg(this, msg, submitOptions, errorInfo));
 			}
 			else if (_watchlist == null) // watchlist not enabled, submit normally
             {
-                return _reactor.submitChannel(this, msg, submitOptions, errorInfo);
+                if (_autoPacking || _packedBuffer != null)
+                    return recordSubmit(_reactor.submitPackedChannel(this, msg, null, submitOptions, errorInfo));
+
+                return recordSubmit(_reactor.submitChannel(this, msg, submitOptions, errorInfo));
             }
             else // watchlist enabled, submit via watchlist
             {
-				return channelImpl._watchlist.submitMsg(msg, submitOptions, errorInfo);
+				return recordSubmit(channelImpl._watchlist.submitMsg(msg, submitOptions, errorInfo));
             }
         }
         finally
@@ -885,15 +938,18 @@ public class ReactorChannel extends VaNode
 
             if(_reactor.reactorHandlesWarmStandby(channelImpl))
 			{
-				return _reactor.submitWSBRDMMsg(channelImpl, rdmMsg, submitOptions, errorInfo);
+				return recordSubmit(_reactor.submitWSBRDMMsg(channelImpl, rdmMsg, submitOptions, errorInfo));
 			}
 			else if (_watchlist == null) // watchlist not enabled, submit normally
             {
-                return _reactor.submitChannel(this, rdmMsg, submitOptions, errorInfo);
+                if (_autoPacking || _packedBuffer != null)
+                    return recordSubmit(_reactor.submitPackedChannel(this, null, rdmMsg, submitOptions, errorInfo));
+
+                return recordSubmit(_reactor.submitChannel(this, rdmMsg, submitOptions, errorInfo));
             }
             else // watchlist enabled, submit via watchlist
             {
-                return _watchlist.submitMsg(rdmMsg, submitOptions, errorInfo);
+                return recordSubmit(_watchlist.submitMsg(rdmMsg, submitOptions, errorInfo));
             }
         }
         finally
@@ -1219,6 +1275,230 @@ public class ReactorChannel extends VaNode
         }
     }
 
+    /**
+     * Enables automatic packing of the messages submitted to this channel.
+     * <p>
+     * While enabled, consecutive messages submitted with
+     * {@link #submit(Msg, ReactorSubmitOptions, ReactorErrorInfo)} or
+     * {@link #submit(MsgBase, ReactorSubmitOptions, ReactorErrorInfo)} are encoded
+     * into a single packed buffer instead of being written one at a time.
+     * The packed buffer is written to the channel when it is full, when a message
+     * with a different write priority or with write flags is submitted, when a
+     * {@link TransportBuffer} is submitted, when maxPackTime expires or when
+     * {@link #flushPackedBuffer(ReactorErrorInfo)} is called.
+     * <p>
+     * On channels using the JSON protocol, the messages are converted into a single
+     * JSON array, which is written as one WebSocket frame. This requires the JSON
+     * converter to be initialized.
+     * <p>
+     * Packing only applies to channels using the RWF or JSON protocol without the watchlist
+     * enabled, messages submitted to other channels are written as they are submitted.
+     *
+     * @param packedBufferSize the size(in bytes) of the packed buffers, 0 uses the
+     *        channel's maximum fragment size
+     * @param maxPackTime the maximum time(in milliseconds) a message may wait in the
+     *        packed buffer before it is written, 0 means messages are only written
+     *        once the buffer is full or flushed
+     * @param errorInfo error structure to be populated in the event of failure
+     *
+     * @return {@link ReactorReturnCodes} indicating success or failure
+     */
+    public int enableAutoPacking(int packedBufferSize, int maxPackTime, ReactorErrorInfo errorInfo)
+    {
+        if (errorInfo == null || _reactor == null)
+            return ReactorReturnCodes.FAILURE;
+        else if (packedBufferSize < 0 || maxPackTime < 0)
+            return _reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.PARAMETER_OUT_OF_RANGE,
+                    "ReactorChannel.enableAutoPacking",
+                    "packedBufferSize and maxPackTime cannot be negative.");
+
+        _reactor._reactorLock.lock();
+
+        try
+        {
+            _autoPacking = true;
+            _autoPackBufferSize = packedBufferSize;
+            _autoPackTime = maxPackTime * 1000000L;
+            return ReactorReturnCodes.SUCCESS;
+        }
+        finally
+        {
+            _reactor._reactorLock.unlock();
+        }
+    }
+
+    /**
+     * Disables automatic packing of the messages submitted to this channel.
+     * Any messages waiting in the packed buffer are written to the channel.
+     *
+     * @param errorInfo error structure to be populated in the event of failure
+     *
+     * @return {@link ReactorReturnCodes#SUCCESS}, if the packed buffer was written or
+     * {@link ReactorReturnCodes#WRITE_CALL_AGAIN}, if the packed buffer cannot be written at this time, the
+     * Reactor writes the rest of it while dispatching or before the next message submitted to the channel or
+     * {@link ReactorReturnCodes#FAILURE}, if the write failed (refer to errorInfo for additional information)
+     *
+     * @see #enableAutoPacking(int, int, ReactorErrorInfo)
+     */
+    public int disableAutoPacking(ReactorErrorInfo errorInfo)
+    {
+        if (errorInfo == null || _reactor == null)
+            return ReactorReturnCodes.FAILURE;
+
+        _reactor._reactorLock.lock();
+
+        try
+        {
+            _autoPacking = false;
+            return _reactor.flushPackedBuffer(this, errorInfo);
+        }
+        finally
+        {
+            _reactor._reactorLock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether automatic packing is enabled for this channel.
+     *
+     * @return true if automatic packing is enabled
+     *
+     * @see #enableAutoPacking(int, int, ReactorErrorInfo)
+     */
+    public boolean autoPacking()
+    {
+        return _autoPacking;
+    }
+
+    /**
+     * Writes any messages waiting in the packed buffer to the channel.
+     *
+     * @param errorInfo error structure to be populated in the event of failure
+     *
+     * @return {@link ReactorReturnCodes#SUCCESS}, if the packed buffer was written or there was nothing to write or
+     * {@link ReactorReturnCodes#WRITE_CALL_AGAIN}, if the packed buffer cannot be written at this time, the
+     * Reactor writes the rest of it while dispatching or before the next message submitted to the channel or
+     * {@link ReactorReturnCodes#FAILURE}, if the write failed (refer to errorInfo for additional information)
+     *
+     * @see #enableAutoPacking(int, int, ReactorErrorInfo)
+     */
+    public int flushPackedBuffer(ReactorErrorInfo errorInfo)
+    {
+        if (errorInfo == null || _reactor == null)
+            return ReactorReturnCodes.FAILURE;
+
+        _reactor._reactorLock.lock();
+
+        try
+        {
+            if (_reactor.isShutdown())
+                return _reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.SHUTDOWN,
+                        "ReactorChannel.flushPackedBuffer",
+                        "Reactor is shutdown, flushPackedBuffer aborted.");
+
+            return _reactor.flushPackedBuffer(this, errorInfo);
+        }
+        finally
+        {
+            _reactor._reactorLock.unlock();
+        }
+    }
+
+    /**
+     * Sets the number of messages this channel may read per round when the Reactor is
+     * dispatched with {@link ReactorDispatchPolicies#DEFICIT_ROUND_ROBIN}. A channel with
+     * weight 4 is given four times the share of maxMessages of a channel with weight 1.
+     * Default is 1.
+     *
+     * @param dispatchWeight the dispatch weight, must be greater than zero
+     *
+     * @return {@link ReactorReturnCodes#SUCCESS} if dispatchWeight is valid,
+     *         otherwise {@link ReactorReturnCodes#PARAMETER_OUT_OF_RANGE}
+     *
+     * @see ReactorDispatchOptions#schedulingPolicy(int)
+     */
+    public int dispatchWeight(int dispatchWeight)
+    {
+        if (dispatchWeight < 1)
+            return ReactorReturnCodes.PARAMETER_OUT_OF_RANGE;
+
+        _dispatchWeight = dispatchWeight;
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    /**
+     * Returns the dispatch weight of this channel.
+     *
+     * @return the dispatch weight
+     *
+     * @see #dispatchWeight(int)
+     */
+    public int dispatchWeight()
+    {
+        return _dispatchWeight;
+    }
+
+    /**
+     * Marks this channel as latency sensitive. When the Reactor is dispatched with
+     * {@link ReactorDispatchPolicies#DEFICIT_ROUND_ROBIN}, latency sensitive channels are
+     * read before any other channel and are not limited by their dispatch weight.
+     * Default is false.
+     *
+     * @param latencySensitive true to read this channel ahead of the others
+     *
+     * @see ReactorDispatchOptions#schedulingPolicy(int)
+     */
+    public void latencySensitive(boolean latencySensitive)
+    {
+        _latencySensitive = latencySensitive;
+    }
+
+    /**
+     * Returns whether this channel is latency sensitive.
+     *
+     * @return true if this channel is latency sensitive
+     *
+     * @see #latencySensitive(boolean)
+     */
+    public boolean latencySensitive()
+    {
+        return _latencySensitive;
+    }
+
+    /**
+     * Returns the number of messages read from this channel by the Reactor's dispatch calls.
+     *
+     * @return the number of messages dispatched
+     */
+    public long dispatchedMessageCount()
+    {
+        return _dispatchedMessageCount;
+    }
+
+    /**
+     * Returns the number of times a dispatch call using
+     * {@link ReactorDispatchPolicies#DEFICIT_ROUND_ROBIN} reached maxMessages while
+     * this channel still had messages to read.
+     *
+     * @return the number of deferred dispatches
+     */
+    public long dispatchDeferredCount()
+    {
+        return _dispatchDeferredCount;
+    }
+
+    /**
+     * Resets the dispatch counters of this channel.
+     *
+     * @see #dispatchedMessageCount()
+     * @see #dispatchDeferredCount()
+     */
+    public void resetDispatchCounters()
+    {
+        _dispatchedMessageCount = 0;
+        _dispatchDeferredCount = 0;
+    }
+
     /**
      * Populates information about the ReactorChannel into ReactorChannelInfo
      *
@@ -2081,6 +2361,36 @@ public class ReactorChannel extends VaNode
         return _nextRecoveryTime;
     }
 
+    /* Returns the size of the buffers used for automatic packing, 0 means the maximum fragment size. */
+    int autoPackBufferSize()
+    {
+        return _autoPackBufferSize;
+    }
+
+    /* Returns the maximum time, in nanoseconds, a message may wait in the packed buffer. */
+    long autoPackTime()
+    {
+        return _autoPackTime;
+    }
+
+    /* Forgets the packed buffer without writing it. */
+    void clearPackedBuffer()
+    {
+        _packedBuffer = null;
+        _packedBufferPriority = 0;
+        _packedBufferSealed = false;
+        _packedBufferExpireTime = 0;
+    }
+
+    /* Returns an unwritten packed buffer to the channel, e.g. when the channel goes down. */
+    void releasePackedBuffer(ReactorErrorInfo errorInfo)
+    {
+        if (_packedBuffer != null && _channel != null)
+            _channel.releaseBuffer(_packedBuffer, errorInfo.error());
+
+        clearPackedBuffer();
+    }
+
     /* Returns whether a FLUSH event is has been sent to the worker and is awaiting a FLUSH_DONE event. */
     boolean flushRequested()
     {
@@ -2176,6 +2486,66 @@ public class ReactorChannel extends VaNode
         return ReactorReturnCodes.SUCCESS;
     }
 
+    /**
+     * Returns the metrics collected for this channel. The returned object can be
+     * read from any thread.
+     *
+     * @return the channel's metrics, or null if metrics were not enabled with
+     *         {@link ReactorOptions#enableMetrics()} or the channel is not up yet
+     *
+     * @see Reactor#metrics()
+     */
+    public ReactorChannelMetrics metrics()
+    {
+        Reactor reactor = _reactor;
+
+        if (reactor == null || reactor._metrics == null)
+            return null;
+
+        return _metrics;
+    }
+
+    /* Returns the metrics of this channel, creating them if needed, or null if the
+     * Reactor does not collect metrics. Only called by the Reactor. */
+    ReactorChannelMetrics channelMetrics()
+    {
+        if (_reactor == null || _reactor._metrics == null)
+            return null;
+
+        if (_metrics == null)
+            _metrics = new ReactorChannelMetrics();
+
+        if (_metricsObjectName == null && _reactor.reactorOptions().metricsJmxExport()
+                && this != _reactor.reactorChannel())
+            _metricsObjectName = ReactorMetricsJmx.register(_reactor, this, _metrics);
+
+        return _metrics;
+    }
+
+    /* Removes the JMX registration of this channel's metrics. */
+    void unregisterMetrics()
+    {
+        if (_metricsObjectName != null)
+        {
+            ReactorMetricsJmx.unregister(_metricsObjectName);
+            _metricsObjectName = null;
+        }
+    }
+
+    /* Counts the result of a submit call in the channel's metrics. */
+    private int recordSubmit(int ret)
+    {
+        if (_reactor._metrics != null)
+        {
+            channelMetrics().recordSubmit(ret);
+
+            if (_watchlist != null)
+                _watchlist.updateMetrics();
+        }
+
+        return ret;
+    }
+
     /**
      * Populates a {@link ReactorChannelStats} object with channel statistics aggregated
      * since either the start of the channel or the last call to this method.
@@ -0,0 +1,236 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Counters, gauges and latency histograms collected for a {@link ReactorChannel}
+ * when metrics are enabled with {@link ReactorOptions#enableMetrics()}.
+ * <p>
+ * Values are updated while the Reactor is dispatched or messages are submitted and
+ * can be read from a monitoring thread without locking the Reactor.
+ *
+ * @see ReactorChannel#metrics()
+ */
+public class ReactorChannelMetrics
+{
+    static final int MAX_DOMAIN_TYPES = 256;
+
+    volatile long _messagesSubmitted;
+    volatile long _submitWriteCallAgainCount;
+    volatile long _submitNoBuffersCount;
+    volatile long _submitFailureCount;
+    volatile long _flushRequestCount;
+
+    volatile int _openStreams;
+    volatile int _openRequests;
+    volatile int _itemsPendingRecovery;
+
+    private final ReactorLatencyHistogram _callbackTime = new ReactorLatencyHistogram();
+    private final AtomicReferenceArray<ReactorLatencyHistogram> _callbackTimeByDomain =
+            new AtomicReferenceArray<ReactorLatencyHistogram>(MAX_DOMAIN_TYPES);
+    private final ReactorLatencyHistogram _submitToFlushTime = new ReactorLatencyHistogram();
+
+    long _flushRequestTime; /* System.nanoTime() of the flush request in progress */
+
+    ReactorChannelMetrics()
+    {
+    }
+
+    /**
+     * Returns the number of messages successfully submitted to the channel.
+     *
+     * @return the number of messages submitted
+     */
+    public long messagesSubmitted()
+    {
+        return _messagesSubmitted;
+    }
+
+    /**
+     * Returns the number of submits that returned {@link ReactorReturnCodes#WRITE_CALL_AGAIN}.
+     *
+     * @return the number of submits that need to be called again
+     */
+    public long submitWriteCallAgainCount()
+    {
+        return _submitWriteCallAgainCount;
+    }
+
+    /**
+     * Returns the number of submits that returned {@link ReactorReturnCodes#NO_BUFFERS}.
+     *
+     * @return the number of submits that ran out of buffers
+     */
+    public long submitNoBuffersCount()
+    {
+        return _submitNoBuffersCount;
+    }
+
+    /**
+     * Returns the number of submits that failed for any other reason.
+     *
+     * @return the number of failed submits
+     */
+    public long submitFailureCount()
+    {
+        return _submitFailureCount;
+    }
+
+    /**
+     * Returns the number of times the Reactor asked its worker thread to flush the channel.
+     *
+     * @return the number of flush requests
+     */
+    public long flushRequestCount()
+    {
+        return _flushRequestCount;
+    }
+
+    /**
+     * Returns the number of streams the watchlist has open to the provider, 0 when
+     * the watchlist is not enabled.
+     *
+     * @return the number of open watchlist streams
+     */
+    public int openStreams()
+    {
+        return _openStreams;
+    }
+
+    /**
+     * Returns the number of requests the application has open on the watchlist, 0
+     * when the watchlist is not enabled.
+     *
+     * @return the number of open watchlist requests
+     */
+    public int openRequests()
+    {
+        return _openRequests;
+    }
+
+    /**
+     * Returns the number of item streams waiting for the watchlist to send (or
+     * resend) their request, 0 when the watchlist is not enabled.
+     *
+     * @return the number of items pending recovery
+     */
+    public int itemsPendingRecovery()
+    {
+        return _itemsPendingRecovery;
+    }
+
+    /**
+     * Returns the time spent in the application's message callbacks for all domains.
+     *
+     * @return the callback time histogram
+     */
+    public ReactorLatencyHistogram callbackTime()
+    {
+        return _callbackTime;
+    }
+
+    /**
+     * Returns the time spent in the application's message callbacks for the given domain.
+     *
+     * @param domainType the domain type, see {@link com.refinitiv.eta.rdm.DomainTypes}
+     * @return the callback time histogram, or null if no message of this domain was
+     *         delivered to the application
+     */
+    public ReactorLatencyHistogram callbackTime(int domainType)
+    {
+        if (domainType < 0 || domainType >= MAX_DOMAIN_TYPES)
+            return null;
+
+        return _callbackTimeByDomain.get(domainType);
+    }
+
+    /**
+     * Returns the time from when the Reactor requests a flush of the channel's
+     * pending output until the worker thread reports it done.
+     *
+     * @return the submit to flush time histogram
+     */
+    public ReactorLatencyHistogram submitToFlushTime()
+    {
+        return _submitToFlushTime;
+    }
+
+    void recordSubmit(int ret)
+    {
+        if (ret >= ReactorReturnCodes.SUCCESS)
+            _messagesSubmitted = _messagesSubmitted + 1;
+        else if (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+            _submitWriteCallAgainCount = _submitWriteCallAgainCount + 1;
+        else if (ret == ReactorReturnCodes.NO_BUFFERS)
+            _submitNoBuffersCount = _submitNoBuffersCount + 1;
+        else
+            _submitFailureCount = _submitFailureCount + 1;
+    }
+
+    void recordCallbackTime(int domainType, long time)
+    {
+        _callbackTime.record(time);
+
+        if (domainType < 0 || domainType >= MAX_DOMAIN_TYPES)
+            return;
+
+        ReactorLatencyHistogram histogram = _callbackTimeByDomain.get(domainType);
+        if (histogram == null)
+        {
+            histogram = new ReactorLatencyHistogram();
+            _callbackTimeByDomain.set(domainType, histogram);
+        }
+        histogram.record(time);
+    }
+
+    void flushRequested(long currentTime)
+    {
+        _flushRequestCount = _flushRequestCount + 1;
+        _flushRequestTime = currentTime;
+    }
+
+    void flushDone(long currentTime)
+    {
+        if (_flushRequestTime != 0)
+        {
+            _submitToFlushTime.record(currentTime - _flushRequestTime);
+            _flushRequestTime = 0;
+        }
+    }
+
+    void watchlistStreams(int openStreams, int openRequests, int itemsPendingRecovery)
+    {
+        _openStreams = openStreams;
+        _openRequests = openRequests;
+        _itemsPendingRecovery = itemsPendingRecovery;
+    }
+
+    void clear()
+    {
+        _messagesSubmitted = 0;
+        _submitWriteCallAgainCount = 0;
+        _submitNoBuffersCount = 0;
+        _submitFailureCount = 0;
+        _flushRequestCount = 0;
+        _openStreams = 0;
+        _openRequests = 0;
+        _itemsPendingRecovery = 0;
+        _callbackTime.clear();
+        for (int i = 0; i < MAX_DOMAIN_TYPES; i++)
+        {
+            ReactorLatencyHistogram histogram = _callbackTimeByDomain.get(i);
+            if (histogram != null)
+                histogram.clear();
+        }
+        _submitToFlushTime.clear();
+        _flushRequestTime = 0;
+    }
+}
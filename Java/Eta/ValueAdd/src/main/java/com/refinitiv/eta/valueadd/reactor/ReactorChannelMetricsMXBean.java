@@ -0,0 +1,61 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/**
+ * JMX view of the {@link ReactorChannelMetrics} of a ReactorChannel, registered when
+ * {@link ReactorOptions#enableMetricsJmxExport()} is set. Times are in nanoseconds.
+ */
+public interface ReactorChannelMetricsMXBean
+{
+    /** @return see {@link ReactorChannel#dispatchedMessageCount()} */
+    long getDispatchedMessageCount();
+
+    /** @return see {@link ReactorChannelMetrics#messagesSubmitted()} */
+    long getMessagesSubmitted();
+
+    /** @return see {@link ReactorChannelMetrics#submitWriteCallAgainCount()} */
+    long getSubmitWriteCallAgainCount();
+
+    /** @return see {@link ReactorChannelMetrics#submitNoBuffersCount()} */
+    long getSubmitNoBuffersCount();
+
+    /** @return see {@link ReactorChannelMetrics#submitFailureCount()} */
+    long getSubmitFailureCount();
+
+    /** @return see {@link ReactorChannelMetrics#flushRequestCount()} */
+    long getFlushRequestCount();
+
+    /** @return see {@link ReactorChannelMetrics#openStreams()} */
+    int getOpenStreams();
+
+    /** @return see {@link ReactorChannelMetrics#openRequests()} */
+    int getOpenRequests();
+
+    /** @return see {@link ReactorChannelMetrics#itemsPendingRecovery()} */
+    int getItemsPendingRecovery();
+
+    /** @return the mean of {@link ReactorChannelMetrics#callbackTime()} */
+    long getCallbackTimeMean();
+
+    /** @return the maximum of {@link ReactorChannelMetrics#callbackTime()} */
+    long getCallbackTimeMax();
+
+    /** @return the 99th percentile of {@link ReactorChannelMetrics#callbackTime()} */
+    long getCallbackTime99thPercentile();
+
+    /** @return the mean of {@link ReactorChannelMetrics#submitToFlushTime()} */
+    long getSubmitToFlushTimeMean();
+
+    /** @return the maximum of {@link ReactorChannelMetrics#submitToFlushTime()} */
+    long getSubmitToFlushTimeMax();
+
+    /** @return the 99th percentile of {@link ReactorChannelMetrics#submitToFlushTime()} */
+    long getSubmitToFlushTime99thPercentile();
+}
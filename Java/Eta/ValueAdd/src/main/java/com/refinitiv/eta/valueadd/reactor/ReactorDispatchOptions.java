@@ -21,6 +21,7 @@ public class ReactorDispatchOptions
     ReadArgs _readArgs = null;
     int DEFAULT_MAX_MESSAGES = 100;
     int _maxMessages = DEFAULT_MAX_MESSAGES;
+    int _schedulingPolicy = ReactorDispatchPolicies.KEY_SET_ORDER;
 
     /**
      * Instantiates a new reactor dispatch options.
@@ -73,6 +74,38 @@ public class ReactorDispatchOptions
         return _maxMessages;
     }
 
+    /**
+     * Controls how {@link Reactor#dispatchAll(java.util.Set, ReactorDispatchOptions,
+     * ReactorErrorInfo)} shares maxMessages between the channels that have data
+     * to read. Default is {@link ReactorDispatchPolicies#KEY_SET_ORDER}.
+     *
+     * @param schedulingPolicy one of the {@link ReactorDispatchPolicies} values
+     * @return {@link ReactorReturnCodes#SUCCESS} if schedulingPolicy is valid,
+     *         otherwise {@link ReactorReturnCodes#PARAMETER_OUT_OF_RANGE}
+     *
+     * @see ReactorChannel#dispatchWeight(int)
+     * @see ReactorChannel#latencySensitive(boolean)
+     */
+    public int schedulingPolicy(int schedulingPolicy)
+    {
+        if (schedulingPolicy != ReactorDispatchPolicies.KEY_SET_ORDER
+                && schedulingPolicy != ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN)
+            return ReactorReturnCodes.PARAMETER_OUT_OF_RANGE;
+
+        _schedulingPolicy = schedulingPolicy;
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    /**
+     * Returns the schedulingPolicy value.
+     * 
+     * @return the schedulingPolicy value
+     */
+    public int schedulingPolicy()
+    {
+        return _schedulingPolicy;
+    }
+
     /**
      * Clears this object for reuse.
      */
@@ -80,5 +113,6 @@ public class ReactorDispatchOptions
     {
         _readArgs.clear();
         _maxMessages = DEFAULT_MAX_MESSAGES;
+        _schedulingPolicy = ReactorDispatchPolicies.KEY_SET_ORDER;
     }
 }
@@ -0,0 +1,53 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/**
+ * ReactorDispatchPolicies used with {@link ReactorDispatchOptions#schedulingPolicy(int)}
+ * to control how {@link Reactor#dispatchAll(java.util.Set, ReactorDispatchOptions, ReactorErrorInfo)}
+ * shares maxMessages between the channels that have data to read.
+ */
+public class ReactorDispatchPolicies
+{
+    /**
+     * Channels are read one after another in the order of the selected key set (or
+     * the order in which they were added to the Reactor) and each channel is read
+     * until it has no more data or maxMessages is reached.
+     */
+    public static final int KEY_SET_ORDER = 0;
+
+    /**
+     * Channels marked with {@link ReactorChannel#latencySensitive(boolean)} are read
+     * first. The remaining channels are then read in deficit round-robin order where
+     * each channel may read up to {@link ReactorChannel#dispatchWeight()} messages per
+     * round, so a busy channel cannot use up maxMessages while other channels wait.
+     * Unused allowance of a channel that reached maxMessages is carried over to the
+     * next call.
+     */
+    public static final int DEFICIT_ROUND_ROBIN = 1;
+
+    /**
+     * Returns a String representation of the specified ReactorDispatchPolicies type.
+     *
+     * @param type the type
+     * @return String representation of the specified ReactorDispatchPolicies type
+     */
+    public static String toString(int type)
+    {
+        switch (type)
+        {
+            case KEY_SET_ORDER:
+                return "ReactorDispatchPolicies.KEY_SET_ORDER";
+            case DEFICIT_ROUND_ROBIN:
+                return "ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN";
+            default:
+                return "ReactorDispatchPolicies " + type + " - undefined.";
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.DecodeJsonMsgOptions;
+import com.refinitiv.eta.json.converter.GetJsonErrorParams;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonConverterErrorCodes;
+import com.refinitiv.eta.json.converter.JsonMsg;
+import com.refinitiv.eta.json.converter.JsonMsgClasses;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.ParseJsonOptions;
+import com.refinitiv.eta.transport.Channel;
+import com.refinitiv.eta.transport.TransportBuffer;
+
+/* Converts the JSON buffers read from WebSocket channels to RWF on a set of threads, see
+ * ReactorJsonConverterOptions.jsonConversionThreads(). All buffers of a channel are converted by the
+ * same thread in the order they were read. The converted buffers are queued on the channel's
+ * ChannelQueue and the Reactor is notified with a JSON_CONVERSION_DONE event to dispatch them. */
+class ReactorJsonConversionPool
+{
+	/* A copy of a JSON buffer read from a channel and the messages converted from it. It is passed to the
+	 * callbacks of the converted messages as their TransportBuffer. */
+	static class ConvertedBuffer implements TransportBuffer
+	{
+		private final ByteBuffer _json;
+
+		/* the converted messages, an RWF message is _rwf[_ends[i - 1] .. _ends[i]) */
+		private int _count;
+		private int[] _msgClasses = new int[4];
+		private int[] _ends = new int[4];
+		private byte[] _rwf;
+		private ByteBuffer _rwfData;
+
+		/* set when the buffer failed to parse or one of its messages failed to convert */
+		private boolean _parseFailed;
+		private boolean _convertFailed;
+		private int _errorCode;
+		private String _errorText;
+		private int _errorMessageRet;
+		private byte[] _errorMessage;
+
+		ConvertedBuffer(TransportBuffer msgBuf)
+		{
+			int length = msgBuf.length();
+			byte[] json = new byte[length];
+			ByteBuffer data = msgBuf.data().duplicate();
+			data.position(msgBuf.dataStartPosition());
+			data.get(json, 0, length);
+			_json = ByteBuffer.wrap(json);
+		}
+
+		void add(int msgClass, Buffer rwfMsg)
+		{
+			if (_count == _msgClasses.length)
+			{
+				_msgClasses = Arrays.copyOf(_msgClasses, _count * 2);
+				_ends = Arrays.copyOf(_ends, _count * 2);
+			}
+
+			int start = _count > 0 ? _ends[_count - 1] : 0;
+			int end = start;
+			if (Objects.nonNull(rwfMsg))
+			{
+				end += rwfMsg.length();
+				if (_rwf == null || _rwf.length < end)
+					_rwf = Arrays.copyOf(_rwf == null ? new byte[0] : _rwf, Math.max(end, start * 2));
+				rwfMsg.copy(_rwf, start);
+			}
+
+			_msgClasses[_count] = msgClass;
+			_ends[_count] = end;
+			_count++;
+		}
+
+		void failed(boolean parseFailed, JsonConverterError error)
+		{
+			_parseFailed = parseFailed;
+			_convertFailed = !parseFailed;
+			_errorCode = error.getCode();
+			_errorText = error.getText();
+		}
+
+		int count()
+		{
+			return _count;
+		}
+
+		int msgClass(int index)
+		{
+			return _msgClasses[index];
+		}
+
+		/* Sets buffer to the RWF message at index. */
+		void rwfMsg(int index, Buffer buffer)
+		{
+			if (_rwfData == null || _rwfData.array() != _rwf)
+				_rwfData = ByteBuffer.wrap(_rwf);
+			int start = index > 0 ? _ends[index - 1] : 0;
+			buffer.data(_rwfData, start, _ends[index] - start);
+		}
+
+		boolean parseFailed()
+		{
+			return _parseFailed;
+		}
+
+		boolean convertFailed()
+		{
+			return _convertFailed;
+		}
+
+		int errorCode()
+		{
+			return _errorCode;
+		}
+
+		String errorText()
+		{
+			return _errorText;
+		}
+
+		/* the return code of building the JSON error message of a failed conversion, and the message */
+		int errorMessageRet()
+		{
+			return _errorMessageRet;
+		}
+
+		byte[] errorMessage()
+		{
+			return _errorMessage;
+		}
+
+		@Override
+		public ByteBuffer data()
+		{
+			return _json;
+		}
+
+		@Override
+		public int length()
+		{
+			return _json.limit();
+		}
+
+		@Override
+		public int copy(ByteBuffer destBuffer)
+		{
+			if (destBuffer.remaining() < _json.limit())
+				return CodecReturnCodes.BUFFER_TOO_SMALL;
+			destBuffer.put(_json.array(), 0, _json.limit());
+			return CodecReturnCodes.SUCCESS;
+		}
+
+		@Override
+		public int capacity()
+		{
+			return _json.capacity();
+		}
+
+		@Override
+		public int dataStartPosition()
+		{
+			return 0;
+		}
+
+		@Override
+		public String toString()
+		{
+			return new String(_json.array(), 0, _json.limit());
+		}
+	}
+
+	/* The buffers of a channel being converted and waiting to be dispatched. A channel gets a new queue for
+	 * each connection, so that buffers read before it went down are not dispatched afterwards. */
+	static class ChannelQueue
+	{
+		private final ReactorChannel _reactorChannel;
+		private final Channel _channel;
+		private final ExecutorService _executor;
+		private final ConcurrentLinkedQueue<ConvertedBuffer> _converted = new ConcurrentLinkedQueue<ConvertedBuffer>();
+		private final AtomicBoolean _notified = new AtomicBoolean();
+		private int _pending; /* buffers read and not yet dispatched, used under the Reactor lock */
+		private boolean _readBlocked; /* the channel was not read as the queue was full, used under the Reactor lock */
+
+		ChannelQueue(ReactorChannel reactorChannel, ExecutorService executor)
+		{
+			_reactorChannel = reactorChannel;
+			_channel = reactorChannel.channel();
+			_executor = executor;
+		}
+
+		Channel channel()
+		{
+			return _channel;
+		}
+
+		int pending()
+		{
+			return _pending;
+		}
+
+		boolean readBlocked()
+		{
+			return _readBlocked;
+		}
+
+		void readBlocked(boolean readBlocked)
+		{
+			_readBlocked = readBlocked;
+		}
+
+		/* Returns the next converted buffer to dispatch, or null. Clears the notification first, so that a
+		 * buffer converted meanwhile notifies the Reactor again. */
+		ConvertedBuffer poll()
+		{
+			_notified.set(false);
+			ConvertedBuffer converted = _converted.poll();
+			if (Objects.nonNull(converted))
+				_pending--;
+			return converted;
+		}
+	}
+
+	/* The conversion objects of a conversion thread. */
+	private static class ConversionState
+	{
+		final ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+		final DecodeJsonMsgOptions decodeJsonMsgOptions = ConverterFactory.createDecodeJsonMsgOptions();
+		final JsonMsg jsonMsg = ConverterFactory.createJsonMsg();
+		final JsonConverterError converterError = ConverterFactory.createJsonConverterError();
+		final JsonConverterError getMessageError = ConverterFactory.createJsonConverterError();
+		final GetJsonErrorParams jsonErrorParams = ConverterFactory.createJsonErrorParams();
+		final Buffer jsonErrorOutputBuffer = CodecFactory.createBuffer();
+	}
+
+	private final Reactor _reactor;
+	private final JsonConverter _jsonConverter;
+	private final ServiceNameIdConverterClient _serviceNameIdConverterClient;
+	private final ExecutorService[] _executors;
+	private final int _queueSize;
+	private int _nextExecutor;
+	private final ThreadLocal<ConversionState> _state = ThreadLocal.withInitial(ConversionState::new);
+
+	ReactorJsonConversionPool(Reactor reactor, JsonConverter jsonConverter,
+			ServiceNameIdConverterClient serviceNameIdConverterClient, int threads, int queueSize)
+	{
+		_reactor = reactor;
+		_jsonConverter = jsonConverter;
+		_serviceNameIdConverterClient = serviceNameIdConverterClient;
+		_queueSize = Math.max(queueSize, 1);
+		_executors = new ExecutorService[threads];
+		for (int i = 0; i < threads; i++)
+		{
+			String name = "ReactorJsonConversion-" + i;
+			_executors[i] = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/* Returns true when the channel has as many buffers waiting as the queue size and should not be read. */
+	boolean full(ReactorChannel reactorChannel)
+	{
+		ChannelQueue queue = reactorChannel._jsonConversionQueue;
+		return Objects.nonNull(queue) && queue._channel == reactorChannel.channel() && queue._pending >= _queueSize;
+	}
+
+	/* Copies the buffer read from the channel and converts it on the channel's conversion thread.
+	 * Called under the Reactor lock. */
+	void submit(ReactorChannel reactorChannel, TransportBuffer msgBuf)
+	{
+		ChannelQueue queue = reactorChannel._jsonConversionQueue;
+		if (Objects.isNull(queue) || queue._channel != reactorChannel.channel())
+		{
+			queue = new ChannelQueue(reactorChannel, _executors[_nextExecutor]);
+			_nextExecutor = (_nextExecutor + 1) % _executors.length;
+			reactorChannel._jsonConversionQueue = queue;
+		}
+
+		final ChannelQueue channelQueue = queue;
+		final ConvertedBuffer converted = new ConvertedBuffer(msgBuf);
+		final int majorVersion = reactorChannel.channel().majorVersion();
+		final int minorVersion = reactorChannel.channel().minorVersion();
+		queue._pending++;
+		queue._executor.execute(() -> convert(channelQueue, converted, majorVersion, minorVersion));
+	}
+
+	void shutdown()
+	{
+		for (ExecutorService executor : _executors)
+			executor.shutdownNow();
+	}
+
+	/* Runs on a conversion thread. */
+	private void convert(ChannelQueue queue, ConvertedBuffer converted, int majorVersion, int minorVersion)
+	{
+		ConversionState state = _state.get();
+
+		try
+		{
+			/* Set the ReactorChannel so that users can get it in the ReactorServiceNameToIdCallback callback */
+			if (Objects.nonNull(_serviceNameIdConverterClient))
+				_serviceNameIdConverterClient.setReactorChannel(queue._reactorChannel);
+
+			state.parseJsonOptions.clear();
+			state.parseJsonOptions.setProtocolType(Codec.JSON_PROTOCOL_TYPE);
+			state.converterError.clear();
+
+			if (_jsonConverter.parseJsonBuffer(converted, state.parseJsonOptions,
+					state.converterError) != CodecReturnCodes.SUCCESS)
+			{
+				converted.failed(true, state.converterError);
+			} else
+			{
+				state.decodeJsonMsgOptions.clear();
+				state.decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+				state.decodeJsonMsgOptions.setMajorVersion(majorVersion);
+				state.decodeJsonMsgOptions.setMinorVersion(minorVersion);
+				state.jsonMsg.clear();
+
+				int ret;
+				while ((ret = _jsonConverter.decodeJsonMsg(state.jsonMsg, state.decodeJsonMsgOptions,
+						state.converterError)) != CodecReturnCodes.END_OF_CONTAINER)
+				{
+					if (ret != CodecReturnCodes.SUCCESS)
+					{
+						converted.failed(false, state.converterError);
+
+						/* the JSON error message refers to the failed message, which only this thread knows */
+						state.jsonErrorParams.clear();
+						state.jsonErrorParams.fillParams(state.converterError, state.jsonMsg.rwfMsg().streamId());
+						state.jsonErrorOutputBuffer.clear();
+						state.getMessageError.clear();
+						converted._errorMessageRet = _jsonConverter.getErrorMessage(state.jsonErrorOutputBuffer,
+								state.jsonErrorParams, state.getMessageError);
+						if (converted._errorMessageRet == CodecReturnCodes.SUCCESS)
+						{
+							converted._errorMessage = new byte[state.jsonErrorOutputBuffer.length()];
+							state.jsonErrorOutputBuffer.copy(converted._errorMessage);
+						}
+						break;
+					}
+
+					int msgClass = state.jsonMsg.jsonMsgClass();
+					converted.add(msgClass,
+							msgClass == JsonMsgClasses.RSSL_MESSAGE ? state.jsonMsg.rwfMsg().encodedMsgBuffer() : null);
+
+					/* an error message ends the buffer, as when it is converted by the Reactor */
+					if (msgClass == JsonMsgClasses.ERROR)
+						break;
+				}
+			}
+		} catch (RuntimeException e)
+		{
+			state.converterError.clear();
+			state.converterError.setError(JsonConverterErrorCodes.JSON_ERROR, "Exception while converting: " + e);
+			converted.failed(true, state.converterError);
+		}
+
+		queue._converted.add(converted);
+		if (queue._notified.compareAndSet(false, true))
+			_reactor.sendJsonConversionDoneEvent(queue._reactorChannel);
+	}
+}
@@ -28,7 +28,13 @@ public class ReactorJsonConverterOptions
 	private boolean closeChannelFromFailure;
 	private int jsonConverterPoolsSize = JsonFactory.JSON_CONVERTER_DEFAULT_POOLS_SIZE;
 	private boolean sendJsonConvError;
+	private boolean jsonStreamingDecode;
+	private int jsonFanOutCacheSize;
+	private int jsonConversionThreads;
+	private int jsonConversionQueueSize;
 	
+	static final int DEFAULT_JSON_CONVERSION_QUEUE_SIZE = 64;
+
 	ReactorJsonConverterOptions()
 	{
 		clear();
@@ -49,6 +55,10 @@ public class ReactorJsonConverterOptions
 		closeChannelFromFailure(true);
 		jsonConverterPoolsSize = JsonFactory.JSON_CONVERTER_DEFAULT_POOLS_SIZE;
 		sendJsonConvError(false);
+		jsonStreamingDecode(false);
+		jsonFanOutCacheSize(0);
+		jsonConversionThreads(0);
+		jsonConversionQueueSize(DEFAULT_JSON_CONVERSION_QUEUE_SIZE);
 	}
 	
 	/**
@@ -275,4 +285,104 @@ public class ReactorJsonConverterOptions
 	{
 		this.sendJsonConvError = sendJsonConvError;
 	}
+
+	/**
+	 * Checks whether JSON requests, closes and ping/pong messages are converted to RWF without building a tree of the message.
+	 *
+	 * @return true if the messages are converted from the parser tokens; false otherwise.
+	 */
+	public boolean jsonStreamingDecode()
+	{
+		return jsonStreamingDecode;
+	}
+
+	/**
+	 * Specifies true to convert JSON requests and closes of a single item, and ping/pong messages, to RWF straight
+	 * from the parser tokens instead of building a tree of every received message. Other messages are converted
+	 * from a tree as before.
+	 * <p>Defaults to false.</p>
+	 *
+	 * @param jsonStreamingDecode specifies true to convert the messages from the parser tokens; false otherwise.
+	 */
+	public void jsonStreamingDecode(boolean jsonStreamingDecode)
+	{
+		this.jsonStreamingDecode = jsonStreamingDecode;
+	}
+
+	/**
+	 * Returns the number of converted messages kept by the JSON fan-out cache.
+	 *
+	 * @return the size of the JSON fan-out cache; 0 if the cache is disabled.
+	 */
+	public int jsonFanOutCacheSize()
+	{
+		return jsonFanOutCacheSize;
+	}
+
+	/**
+	 * Specifies the number of messages kept converted to JSON for the channels of an interactive provider.
+	 * A message submitted to several JSON channels, which differs only by its stream ID, is then converted
+	 * once; the conversion is copied to the other channels with their stream ID. Messages are identified by
+	 * their encoded RWF content and the least recently submitted one is dropped when the cache is full.
+	 * Close messages and the channels of a consumer are not cached.
+	 * <p>Defaults to 0, which disables the cache.</p>
+	 *
+	 * @param jsonFanOutCacheSize specifies the number of messages kept converted to JSON.
+	 */
+	public void jsonFanOutCacheSize(int jsonFanOutCacheSize)
+	{
+		this.jsonFanOutCacheSize = jsonFanOutCacheSize;
+	}
+
+	/**
+	 * Returns the number of threads converting the JSON messages received on WebSocket channels.
+	 *
+	 * @return the number of JSON conversion threads; 0 if the messages are converted by the dispatching thread.
+	 */
+	public int jsonConversionThreads()
+	{
+		return jsonConversionThreads;
+	}
+
+	/**
+	 * Specifies the number of threads converting the JSON messages received on WebSocket channels to RWF, so that
+	 * the conversion does not hold up the dispatching of the other channels of the Reactor. The messages read from
+	 * a channel are converted by one thread in the order they were read, and are dispatched to the application in
+	 * that order when the Reactor is dispatched. The {@link ReactorMsgEvent#transportBuffer()} of the messages
+	 * converted this way holds a copy of the JSON buffer they were read from.
+	 * <p>The {@link ReactorServiceNameToIdCallback} is called from the conversion threads when this is set, and
+	 * must be safe to call from several threads.</p>
+	 * <p>Defaults to 0, which converts the messages when they are read.</p>
+	 *
+	 * @param jsonConversionThreads specifies the number of JSON conversion threads.
+	 * @see #jsonConversionQueueSize(int)
+	 */
+	public void jsonConversionThreads(int jsonConversionThreads)
+	{
+		this.jsonConversionThreads = jsonConversionThreads;
+	}
+
+	/**
+	 * Returns the number of JSON buffers of a channel that may wait for conversion or dispatch.
+	 *
+	 * @return the size of the JSON conversion queue of a channel.
+	 */
+	public int jsonConversionQueueSize()
+	{
+		return jsonConversionQueueSize;
+	}
+
+	/**
+	 * Specifies the number of JSON buffers read from a channel that may wait for the conversion threads or for
+	 * their messages to be dispatched. When this many are waiting, the Reactor stops reading the channel until
+	 * the waiting messages have been dispatched, leaving further data to the flow control of the connection.
+	 * Only used with {@link #jsonConversionThreads(int)}.
+	 * <p>Defaults to 64.</p>
+	 *
+	 * @param jsonConversionQueueSize specifies the size of the JSON conversion queue of a channel.
+	 */
+	public void jsonConversionQueueSize(int jsonConversionQueueSize)
+	{
+		this.jsonConversionQueueSize = jsonConversionQueueSize;
+	}
 }
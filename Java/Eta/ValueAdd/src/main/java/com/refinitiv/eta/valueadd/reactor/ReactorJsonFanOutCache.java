@@ -0,0 +1,206 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.refinitiv.eta.codec.Buffer;
+
+/* Keeps the JSON conversions of the latest RWF messages submitted to JSON channels, so that a message
+ * submitted to many channels, which differs only by its stream ID, is converted once. A message is
+ * identified by its encoded RWF bytes with the stream ID left out. The JSON is kept as converted and
+ * the value of its leading "ID" key is replaced by the stream ID of each submission.
+ * Holds at most maxEntries messages, dropping the least recently used one first.
+ * Used under the Reactor lock. */
+class ReactorJsonFanOutCache
+{
+	/* position and size of the stream ID in an encoded RWF message */
+	private static final int STREAM_ID_POS = 4;
+	private static final int STREAM_ID_SIZE = 4;
+
+	private static final byte[] ID_START = "{\"ID\":".getBytes(StandardCharsets.US_ASCII);
+
+	static class Key
+	{
+		byte[] data = new byte[0];
+		int length;
+		int hash;
+
+		/* Copies the RWF message with its stream ID cleared. */
+		void set(Buffer rwf)
+		{
+			length = rwf.length();
+			if (data.length < length)
+				data = new byte[length];
+
+			ByteBuffer source = rwf.data();
+			int position = rwf.position();
+			int h = 1;
+			for (int i = 0; i < length; i++)
+			{
+				byte b = (i >= STREAM_ID_POS && i < STREAM_ID_POS + STREAM_ID_SIZE) ? 0 : source.get(position + i);
+				data[i] = b;
+				h = 31 * h + b;
+			}
+			hash = h;
+		}
+
+		Key copy()
+		{
+			Key key = new Key();
+			key.data = new byte[length];
+			System.arraycopy(data, 0, key.data, 0, length);
+			key.length = length;
+			key.hash = hash;
+			return key;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (!(other instanceof Key))
+				return false;
+
+			Key key = (Key)other;
+			if (key.length != length || key.hash != hash)
+				return false;
+
+			for (int i = 0; i < length; i++)
+			{
+				if (key.data[i] != data[i])
+					return false;
+			}
+			return true;
+		}
+	}
+
+	static class Entry
+	{
+		/* the JSON message; prefixLength bytes up to the value of the "ID" key, bodyStart the position after it */
+		final byte[] json;
+		final int prefixLength;
+		final int bodyStart;
+
+		Entry(byte[] json, int prefixLength, int bodyStart)
+		{
+			this.json = json;
+			this.prefixLength = prefixLength;
+			this.bodyStart = bodyStart;
+		}
+	}
+
+	private final Key _lookupKey = new Key();
+	private final byte[] _digits = new byte[11];
+	private final Map<Key, Entry> _entries;
+
+	ReactorJsonFanOutCache(final int maxEntries)
+	{
+		_entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest)
+			{
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/* Returns the conversion of the RWF message, or null if it is not cached. The message is remembered
+	 * for a following put(). */
+	Entry get(Buffer rwf)
+	{
+		if (rwf.length() < STREAM_ID_POS + STREAM_ID_SIZE)
+			return null;
+
+		_lookupKey.set(rwf);
+		return _entries.get(_lookupKey);
+	}
+
+	/* Caches json as the conversion of the RWF message last passed to get(). Returns null if the JSON
+	 * does not start with the "ID" key. */
+	Entry put(byte[] json)
+	{
+		if (json.length <= ID_START.length)
+			return null;
+
+		for (int i = 0; i < ID_START.length; i++)
+		{
+			if (json[i] != ID_START[i])
+				return null;
+		}
+
+		int prefixLength = ID_START.length;
+		int index = prefixLength;
+		if (json[index] == '-')
+			index++;
+		while (index < json.length && json[index] >= '0' && json[index] <= '9')
+			index++;
+
+		if (index == prefixLength || index == json.length)
+			return null;
+
+		Entry entry = new Entry(json, prefixLength, index);
+		_entries.put(_lookupKey.copy(), entry);
+		return entry;
+	}
+
+	/* Returns the length of the JSON message with streamId. */
+	int length(Entry entry, int streamId)
+	{
+		return entry.prefixLength + digits(streamId) + entry.json.length - entry.bodyStart;
+	}
+
+	/* Writes the JSON message with streamId to the position of data. */
+	void write(Entry entry, int streamId, ByteBuffer data)
+	{
+		int count = digits(streamId);
+		data.put(entry.json, 0, entry.prefixLength);
+		data.put(_digits, _digits.length - count, count);
+		data.put(entry.json, entry.bodyStart, entry.json.length - entry.bodyStart);
+	}
+
+	int size()
+	{
+		return _entries.size();
+	}
+
+	void clear()
+	{
+		_entries.clear();
+	}
+
+	/* Writes the decimal digits of value to the end of _digits and returns their count. */
+	private int digits(int value)
+	{
+		long remaining = Math.abs((long)value);
+		int index = _digits.length;
+		do
+		{
+			_digits[--index] = (byte)('0' + remaining % 10);
+			remaining /= 10;
+		}
+		while (remaining != 0);
+
+		if (value < 0)
+			_digits[--index] = '-';
+
+		return _digits.length - index;
+	}
+}
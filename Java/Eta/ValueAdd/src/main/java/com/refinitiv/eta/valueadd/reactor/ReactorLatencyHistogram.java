@@ -0,0 +1,135 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of elapsed times, in nanoseconds, recorded by the Reactor.
+ * <p>
+ * Times are counted in power-of-two buckets, so percentiles are reported as the
+ * upper bound of the bucket they fall in. Values are only recorded by the thread
+ * dispatching the Reactor and can be read from any thread without locking.
+ *
+ * @see ReactorMetrics
+ * @see ReactorChannelMetrics
+ */
+public class ReactorLatencyHistogram
+{
+    static final int BUCKET_COUNT = 64;
+
+    /* bucket i counts times in [2^(i-1), 2^i - 1], bucket 0 counts times of 0 */
+    private final AtomicLongArray _buckets = new AtomicLongArray(BUCKET_COUNT);
+    private volatile long _count;
+    private volatile long _totalTime;
+    private volatile long _maxTime;
+
+    ReactorLatencyHistogram()
+    {
+    }
+
+    /* Records an elapsed time. Must only be called by a single thread. */
+    void record(long time)
+    {
+        if (time < 0)
+            time = 0;
+
+        int bucket = 64 - Long.numberOfLeadingZeros(time);
+        _buckets.lazySet(bucket, _buckets.get(bucket) + 1);
+        _totalTime = _totalTime + time;
+        if (time > _maxTime)
+            _maxTime = time;
+        _count = _count + 1;
+    }
+
+    /**
+     * Returns the number of recorded times.
+     *
+     * @return the number of recorded times
+     */
+    public long count()
+    {
+        return _count;
+    }
+
+    /**
+     * Returns the sum of the recorded times, in nanoseconds.
+     *
+     * @return the sum of the recorded times
+     */
+    public long totalTime()
+    {
+        return _totalTime;
+    }
+
+    /**
+     * Returns the largest recorded time, in nanoseconds.
+     *
+     * @return the largest recorded time
+     */
+    public long maxTime()
+    {
+        return _maxTime;
+    }
+
+    /**
+     * Returns the mean of the recorded times, in nanoseconds.
+     *
+     * @return the mean recorded time, or 0 if nothing was recorded
+     */
+    public long meanTime()
+    {
+        long count = _count;
+        return count == 0 ? 0 : _totalTime / count;
+    }
+
+    /**
+     * Returns an upper bound, in nanoseconds, of the time below which the given
+     * percentage of the recorded times fall.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound of the percentile, or 0 if nothing was recorded
+     */
+    public long percentile(double percentile)
+    {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            total += _buckets.get(i);
+
+        if (total == 0)
+            return 0;
+
+        long rank = (long)Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+        if (rank == 0)
+            rank = 1;
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += _buckets.get(i);
+            if (seen >= rank)
+            {
+                long upperBound = (i == BUCKET_COUNT - 1) ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, _maxTime);
+            }
+        }
+
+        return _maxTime;
+    }
+
+    /* Clears all recorded times. Must only be called by the recording thread. */
+    void clear()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            _buckets.lazySet(i, 0);
+        _count = 0;
+        _totalTime = 0;
+        _maxTime = 0;
+    }
+}
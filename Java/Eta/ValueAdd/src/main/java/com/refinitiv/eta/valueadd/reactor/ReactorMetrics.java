@@ -0,0 +1,109 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/**
+ * Counters, gauges and latency histograms collected for a {@link Reactor} when
+ * metrics are enabled with {@link ReactorOptions#enableMetrics()}.
+ * <p>
+ * Values can be read from a monitoring thread without locking the Reactor.
+ * Metrics of the individual channels are available from {@link ReactorChannel#metrics()}.
+ *
+ * @see Reactor#metrics()
+ */
+public class ReactorMetrics
+{
+    volatile long _dispatchCount;
+    volatile int _channelCount;
+    volatile int _reactorEventQueueDepth;
+    volatile int _workerEventQueueDepth;
+    volatile int _workerTimerCount;
+
+    private final ReactorLatencyHistogram _dispatchTime = new ReactorLatencyHistogram();
+
+    ReactorMetrics()
+    {
+    }
+
+    /**
+     * Returns the number of calls to {@link Reactor#dispatchAll(java.util.Set, ReactorDispatchOptions, ReactorErrorInfo)}
+     * and {@link Reactor#dispatchChannel(ReactorChannel, ReactorDispatchOptions, ReactorErrorInfo)}.
+     *
+     * @return the number of dispatch calls
+     */
+    public long dispatchCount()
+    {
+        return _dispatchCount;
+    }
+
+    /**
+     * Returns the time spent in each dispatch call, including the application's callbacks.
+     *
+     * @return the dispatch time histogram
+     */
+    public ReactorLatencyHistogram dispatchTime()
+    {
+        return _dispatchTime;
+    }
+
+    /**
+     * Returns the number of channels managed by the Reactor, as of the last dispatch call.
+     *
+     * @return the number of channels
+     */
+    public int channelCount()
+    {
+        return _channelCount;
+    }
+
+    /**
+     * Returns the number of events the worker thread has queued for the Reactor, as
+     * of the start of the last dispatch call.
+     *
+     * @return the number of events waiting to be dispatched
+     */
+    public int reactorEventQueueDepth()
+    {
+        return _reactorEventQueueDepth;
+    }
+
+    /**
+     * Returns the number of events the Reactor has queued for its worker thread.
+     *
+     * @return the number of events waiting for the worker thread
+     */
+    public int workerEventQueueDepth()
+    {
+        return _workerEventQueueDepth;
+    }
+
+    /**
+     * Returns the number of timers running on the worker thread.
+     *
+     * @return the number of worker timers
+     */
+    public int workerTimerCount()
+    {
+        return _workerTimerCount;
+    }
+
+    void recordDispatch(long time, int channelCount)
+    {
+        _dispatchCount = _dispatchCount + 1;
+        _dispatchTime.record(time);
+        _channelCount = channelCount;
+    }
+
+    /* Called by the worker thread. */
+    void workerQueues(int eventQueueDepth, int timerCount)
+    {
+        _workerEventQueueDepth = eventQueueDepth;
+        _workerTimerCount = timerCount;
+    }
+}
@@ -0,0 +1,233 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/* Registers Reactor and ReactorChannel metrics with the platform MBean server.
+ * Failures are ignored, monitoring must not affect the Reactor. */
+class ReactorMetricsJmx
+{
+    static final String DOMAIN = "com.refinitiv.eta.valueadd.reactor";
+
+    private ReactorMetricsJmx()
+    {
+        throw new AssertionError();
+    }
+
+    static ObjectName register(Reactor reactor, ReactorMetrics metrics)
+    {
+        return register(DOMAIN + ":type=Reactor,name=" + id(reactor), new ReactorView(metrics));
+    }
+
+    static ObjectName register(Reactor reactor, ReactorChannel reactorChannel, ReactorChannelMetrics metrics)
+    {
+        return register(DOMAIN + ":type=ReactorChannel,reactor=" + id(reactor) + ",name=" + id(reactorChannel),
+                new ReactorChannelView(reactorChannel, metrics));
+    }
+
+    static void unregister(ObjectName objectName)
+    {
+        if (objectName == null)
+            return;
+
+        try
+        {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mbeanServer.isRegistered(objectName))
+                mbeanServer.unregisterMBean(objectName);
+        }
+        catch (JMException | SecurityException e)
+        {
+        }
+    }
+
+    private static ObjectName register(String name, Object mbean)
+    {
+        try
+        {
+            ObjectName objectName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, objectName);
+            return objectName;
+        }
+        catch (JMException | SecurityException e)
+        {
+            return null;
+        }
+    }
+
+    private static String id(Object object)
+    {
+        return Integer.toHexString(System.identityHashCode(object));
+    }
+
+    private static class ReactorView implements ReactorMetricsMXBean
+    {
+        private final ReactorMetrics _metrics;
+
+        ReactorView(ReactorMetrics metrics)
+        {
+            _metrics = metrics;
+        }
+
+        @Override
+        public long getDispatchCount()
+        {
+            return _metrics.dispatchCount();
+        }
+
+        @Override
+        public long getDispatchTimeMean()
+        {
+            return _metrics.dispatchTime().meanTime();
+        }
+
+        @Override
+        public long getDispatchTimeMax()
+        {
+            return _metrics.dispatchTime().maxTime();
+        }
+
+        @Override
+        public long getDispatchTime99thPercentile()
+        {
+            return _metrics.dispatchTime().percentile(99);
+        }
+
+        @Override
+        public int getChannelCount()
+        {
+            return _metrics.channelCount();
+        }
+
+        @Override
+        public int getReactorEventQueueDepth()
+        {
+            return _metrics.reactorEventQueueDepth();
+        }
+
+        @Override
+        public int getWorkerEventQueueDepth()
+        {
+            return _metrics.workerEventQueueDepth();
+        }
+
+        @Override
+        public int getWorkerTimerCount()
+        {
+            return _metrics.workerTimerCount();
+        }
+    }
+
+    private static class ReactorChannelView implements ReactorChannelMetricsMXBean
+    {
+        private final ReactorChannel _reactorChannel;
+        private final ReactorChannelMetrics _metrics;
+
+        ReactorChannelView(ReactorChannel reactorChannel, ReactorChannelMetrics metrics)
+        {
+            _reactorChannel = reactorChannel;
+            _metrics = metrics;
+        }
+
+        @Override
+        public long getDispatchedMessageCount()
+        {
+            return _reactorChannel.dispatchedMessageCount();
+        }
+
+        @Override
+        public long getMessagesSubmitted()
+        {
+            return _metrics.messagesSubmitted();
+        }
+
+        @Override
+        public long getSubmitWriteCallAgainCount()
+        {
+            return _metrics.submitWriteCallAgainCount();
+        }
+
+        @Override
+        public long getSubmitNoBuffersCount()
+        {
+            return _metrics.submitNoBuffersCount();
+        }
+
+        @Override
+        public long getSubmitFailureCount()
+        {
+            return _metrics.submitFailureCount();
+        }
+
+        @Override
+        public long getFlushRequestCount()
+        {
+            return _metrics.flushRequestCount();
+        }
+
+        @Override
+        public int getOpenStreams()
+        {
+            return _metrics.openStreams();
+        }
+
+        @Override
+        public int getOpenRequests()
+        {
+            return _metrics.openRequests();
+        }
+
+        @Override
+        public int getItemsPendingRecovery()
+        {
+            return _metrics.itemsPendingRecovery();
+        }
+
+        @Override
+        public long getCallbackTimeMean()
+        {
+            return _metrics.callbackTime().meanTime();
+        }
+
+        @Override
+        public long getCallbackTimeMax()
+        {
+            return _metrics.callbackTime().maxTime();
+        }
+
+        @Override
+        public long getCallbackTime99thPercentile()
+        {
+            return _metrics.callbackTime().percentile(99);
+        }
+
+        @Override
+        public long getSubmitToFlushTimeMean()
+        {
+            return _metrics.submitToFlushTime().meanTime();
+        }
+
+        @Override
+        public long getSubmitToFlushTimeMax()
+        {
+            return _metrics.submitToFlushTime().maxTime();
+        }
+
+        @Override
+        public long getSubmitToFlushTime99thPercentile()
+        {
+            return _metrics.submitToFlushTime().percentile(99);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/**
+ * JMX view of the {@link ReactorMetrics} of a Reactor, registered when
+ * {@link ReactorOptions#enableMetricsJmxExport()} is set. Times are in nanoseconds.
+ */
+public interface ReactorMetricsMXBean
+{
+    /** @return see {@link ReactorMetrics#dispatchCount()} */
+    long getDispatchCount();
+
+    /** @return the mean of {@link ReactorMetrics#dispatchTime()} */
+    long getDispatchTimeMean();
+
+    /** @return the maximum of {@link ReactorMetrics#dispatchTime()} */
+    long getDispatchTimeMax();
+
+    /** @return the 99th percentile of {@link ReactorMetrics#dispatchTime()} */
+    long getDispatchTime99thPercentile();
+
+    /** @return see {@link ReactorMetrics#channelCount()} */
+    int getChannelCount();
+
+    /** @return see {@link ReactorMetrics#reactorEventQueueDepth()} */
+    int getReactorEventQueueDepth();
+
+    /** @return see {@link ReactorMetrics#workerEventQueueDepth()} */
+    int getWorkerEventQueueDepth();
+
+    /** @return see {@link ReactorMetrics#workerTimerCount()} */
+    int getWorkerTimerCount();
+}
@@ -73,6 +73,8 @@ public class ReactorOptions
     boolean _xmlTraceRead = false;
     boolean _xmlTracePing = false;
     int _statistics = StatisticFlags.NONE;
+    boolean _metrics = false;
+    boolean _metricsJmxExport = false;
 
     ReactorOptions()
     {
@@ -449,6 +451,39 @@ public class ReactorOptions
         return _statistics;
     }
 
+    /**
+     * Enables collection of the Reactor's metrics, see {@link Reactor#metrics()}
+     * and {@link ReactorChannel#metrics()}. Collecting metrics adds a timestamp
+     * around each dispatch call and each message callback.
+     */
+    public void enableMetrics()
+    {
+        _metrics = true;
+    }
+
+    /**
+     * Enables collection of the Reactor's metrics and registers them with the
+     * platform MBean server under the com.refinitiv.eta.valueadd.reactor domain.
+     *
+     * @see ReactorMetricsMXBean
+     * @see ReactorChannelMetricsMXBean
+     */
+    public void enableMetricsJmxExport()
+    {
+        _metrics = true;
+        _metricsJmxExport = true;
+    }
+
+    boolean metrics()
+    {
+        return _metrics;
+    }
+
+    boolean metricsJmxExport()
+    {
+        return _metricsJmxExport;
+    }
+
     /**
      * Clears this object for reuse.
      */
@@ -464,6 +499,8 @@ public class ReactorOptions
         _xmlTraceWrite = false;
         _xmlTracePing = false;
         _statistics = StatisticFlags.NONE;
+        _metrics = false;
+        _metricsJmxExport = false;
         _serviceDiscoveryURL.data(DEFAULT_SCHEME + "://" + API_GATEWAY_HOST + SERVICE_DISCOVERY_PATH);
         _serviceDiscoveryHost = new HttpHost(API_GATEWAY_HOST, DEFAULT_HTTPS_PORT, DEFAULT_SCHEME);
         _restRequestTimeout = 45000;
@@ -488,6 +525,8 @@ public class ReactorOptions
         _xmlTracePing =  options._xmlTracePing;
         _xmlTraceRead =  options._xmlTraceRead;
         _statistics =  options._statistics;
+        _metrics = options._metrics;
+        _metricsJmxExport = options._metricsJmxExport;
         _tokenReissueRatio = options._tokenReissueRatio;
         _reissueTokenAttemptLimit = (options._reissueTokenAttemptLimit < -1) ? -1 : options._reissueTokenAttemptLimit;
         _reissueTokenAttemptInterval = options._reissueTokenAttemptInterval;
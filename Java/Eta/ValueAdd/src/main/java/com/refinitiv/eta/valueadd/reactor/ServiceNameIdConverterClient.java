@@ -16,21 +16,30 @@ import com.refinitiv.eta.json.converter.ServiceNameIdConverter;
 class ServiceNameIdConverterClient implements ServiceNameIdConverter
 {	
 	private Reactor reactor;
-	private ReactorServiceNameToId serviceNameToId;
-	private ReactorServiceNameToIdEvent serviceNameToIdEvent;
-	private ReactorChannel reactorChannel;
+
+	/* Each thread converting JSON messages has its own objects, see ReactorJsonConverterOptions.jsonConversionThreads(). */
+	private class ThreadState
+	{
+		ReactorServiceNameToId serviceNameToId = new ReactorServiceNameToId();
+		ReactorServiceNameToIdEvent serviceNameToIdEvent = new ReactorServiceNameToIdEvent();
+		ReactorChannel reactorChannel;
+
+		ThreadState()
+		{
+			serviceNameToIdEvent.userSpecObj = reactor.jsonConverterUserSpec;
+		}
+	}
+
+	private ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
 	
 	ServiceNameIdConverterClient(Reactor reactor)
 	{
 		this.reactor = reactor;
-		serviceNameToId = new ReactorServiceNameToId();
-		serviceNameToIdEvent = new ReactorServiceNameToIdEvent();
-		serviceNameToIdEvent.userSpecObj = reactor.jsonConverterUserSpec;
 	}
 	
 	void setReactorChannel(ReactorChannel reactorChannel)
 	{
-		this.reactorChannel = reactorChannel;
+		threadState.get().reactorChannel = reactorChannel;
 	}
 
 	@Override
@@ -38,12 +47,13 @@ class ServiceNameIdConverterClient implements ServiceNameIdConverter
 	{
 		if (Objects.nonNull(reactor.serviceNameToIdCallback))
 		{
-			serviceNameToId.clear();
-			serviceNameToId.serviceName(serviceName);
-			serviceNameToIdEvent.reactorChannel(reactorChannel);
-			if ( reactor.serviceNameToIdCallback.reactorServiceNameToIdCallback(serviceNameToId, serviceNameToIdEvent) == ReactorReturnCodes.SUCCESS)
+			ThreadState state = threadState.get();
+			state.serviceNameToId.clear();
+			state.serviceNameToId.serviceName(serviceName);
+			state.serviceNameToIdEvent.reactorChannel(state.reactorChannel);
+			if ( reactor.serviceNameToIdCallback.reactorServiceNameToIdCallback(state.serviceNameToId, state.serviceNameToIdEvent) == ReactorReturnCodes.SUCCESS)
 			{
-				return serviceNameToId.serviceId();
+				return state.serviceNameToId.serviceId();
 			}
 		}
 		
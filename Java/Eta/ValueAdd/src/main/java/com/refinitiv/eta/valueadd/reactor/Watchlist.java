@@ -367,6 +367,9 @@ class Watchlist extends VaNode
         int ret1 = _loginHandler.dispatch(errorInfo);
         int ret2 = _directoryHandler.dispatch(errorInfo);
         int ret3 = _itemHandler.dispatch(errorInfo);
+
+        if (_reactor._metrics != null)
+            updateMetrics();
         
         if (ret1 < ReactorReturnCodes.SUCCESS)
         {
@@ -384,6 +387,16 @@ class Watchlist extends VaNode
         return ReactorReturnCodes.SUCCESS;
     }
 
+    /* Updates the watchlist gauges in the metrics of the reactor channel. */
+    void updateMetrics()
+    {
+        ReactorChannelMetrics metrics = _reactorChannel.channelMetrics();
+
+        if (metrics != null)
+            metrics.watchlistStreams(_streamIdtoWlStreamTable.size(), _streamIdtoWlRequestTable.size(),
+                    _itemHandler._pendingSendMsgList.size());
+    }
+
     /* Handles watchlist timeout events. */
     int timeout(ReactorErrorInfo errorInfo)
     {
@@ -547,6 +560,26 @@ class Watchlist extends VaNode
         return ReactorReturnCodes.SUCCESS;
     }
 
+    /* Starts a timer that dispatches the watchlist when it expires. */
+    int startWatchlistDispatchTimer(long expireTime, ReactorErrorInfo errorInfo)
+    {
+        if (!_reactor.sendWorkerEvent(WorkerEventTypes.START_WATCHLIST_DISPATCH_TIMER, _reactorChannel, expireTime))
+        {
+            // _reactor.sendWorkerEvent() failed, send channel down
+            _reactor.sendWorkerEvent(WorkerEventTypes.CHANNEL_DOWN, _reactorChannel);
+            _reactorChannel.state(com.refinitiv.eta.valueadd.reactor.ReactorChannel.State.DOWN);
+            _reactor.sendAndHandleChannelEventCallback("Watchlist.startWatchlistDispatchTimer",
+                                                  ReactorChannelEventTypes.CHANNEL_DOWN,
+                                                  _reactorChannel, errorInfo);
+            return _reactor.populateErrorInfo(errorInfo,
+                              ReactorReturnCodes.FAILURE,
+                              "Watchlist.startWatchlistDispatchTimer",
+                              "_reactor.sendWorkerEvent() failed");
+        }
+
+        return ReactorReturnCodes.SUCCESS;
+    }
+
     /* Converts an RDM message into a Codec message. */
     int convertRDMToCodecMsg(MsgBase rdmMsg, Msg msg)
     {
@@ -11,6 +11,8 @@ package com.refinitiv.eta.valueadd.reactor;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -117,6 +119,36 @@ class WlItemHandler implements WlHandler
     // List of streams with pending messages to send
     LinkedList<WlStream> _pendingSendMsgList = new LinkedList<WlStream>();
     
+    // paces sending of the pending stream send list (e.g. during recovery)
+    WlRecoveryPacer _recoveryPacer = new WlRecoveryPacer();
+    // time at which the pacing dispatch timer expires, 0 if no timer is started
+    long _recoveryTimerExpireTime;
+    // set when streams were added to the pending stream send list since it was last ordered by priority
+    boolean _pendingSendMsgListUnordered;
+    // set while the pending stream send list is sent with its requests packed into shared buffers
+    boolean _packPendingRequests;
+    
+    // orders streams by the priority of their request, highest priority class and then highest count first
+    static final Comparator<WlStream> PENDING_SEND_PRIORITY_ORDER = new Comparator<WlStream>()
+    {
+        @Override
+        public int compare(WlStream stream1, WlStream stream2)
+        {
+            RequestMsg requestMsg1 = stream1.requestMsg();
+            RequestMsg requestMsg2 = stream2.requestMsg();
+            int priorityClass1 = requestMsg1.checkHasPriority() ? requestMsg1.priority().priorityClass() : 0;
+            int priorityClass2 = requestMsg2.checkHasPriority() ? requestMsg2.priority().priorityClass() : 0;
+            
+            if (priorityClass1 != priorityClass2)
+                return priorityClass2 - priorityClass1;
+            
+            int count1 = requestMsg1.checkHasPriority() ? requestMsg1.priority().count() : 0;
+            int count2 = requestMsg2.checkHasPriority() ? requestMsg2.priority().count() : 0;
+            
+            return Integer.compare(count2, count1);
+        }
+    };
+    
     // List of user requests to re-submit upon dispatch that had request timeout
     LinkedList<WlRequest> _requestTimeoutList = new LinkedList<WlRequest>();
     
@@ -179,6 +211,8 @@ class WlItemHandler implements WlHandler
         _statusMsg.msgClass(MsgClasses.STATUS);
         _wlViewHandler = new WlViewHandler(watchlist);
         _itemAggregationKeytoWlStreamTable = new LinkedHashMap<WlItemAggregationKey,WlStream>(_watchlist.role().watchlistOptions().itemCountHint() + 10, 1);
+        _recoveryPacer.configure(_watchlist.role().watchlistOptions().recoveryRequestRate(),
+                                 _watchlist.role().watchlistOptions().recoveryRequestBurst(), System.nanoTime());
     }
     
     @Override
@@ -417,6 +451,7 @@ class WlItemHandler implements WlHandler
                         if (!sendNow)
                         {
                             _pendingSendMsgList.add(wlStream);
+                            _pendingSendMsgListUnordered = true;
                         }
                     }
                     else
@@ -517,6 +552,7 @@ class WlItemHandler implements WlHandler
                             if (!_pendingSendMsgList.contains(wlStream))
                             {
                                 _pendingSendMsgList.add(wlStream);
+                                _pendingSendMsgListUnordered = true;
  
                                 // increment number of outstanding requests if not dictionary domain and a request isn't currently pending
                                 if (requestMsg.domainType() != DomainTypes.DICTIONARY && !wlStream.requestPending() && !requestMsg.checkNoRefresh())
@@ -2441,11 +2477,62 @@ class WlItemHandler implements WlHandler
         }
         
         // call sendMsg on all streams in pending stream send list
+        return sendPendingMsgs(errorInfo);
+    }
+    
+    /* Calls sendMsg on the streams in the pending stream send list, in priority order and
+     * paced according to the watchlist options. If pacing stops the loop, a dispatch timer
+     * is started to send the remaining streams once the next request may be sent. */
+    int sendPendingMsgs(ReactorErrorInfo errorInfo)
+    {
+        if (_pendingSendMsgListUnordered)
+        {
+            if (_watchlist.watchlistOptions().recoverByPriority() && _pendingSendMsgList.size() > 1)
+            {
+                Collections.sort(_pendingSendMsgList, PENDING_SEND_PRIORITY_ORDER);
+            }
+            _pendingSendMsgListUnordered = false;
+        }
+        
+        if (!_watchlist.watchlistOptions().packRecoveryRequests() || _pendingSendMsgList.size() < 2)
+        {
+            return sendPendingMsgList(errorInfo);
+        }
+        
+        _packPendingRequests = true;
+        int ret = sendPendingMsgList(errorInfo);
+        _packPendingRequests = false;
+        
+        // write the last packed buffer, a WRITE_CALL_AGAIN leaves it to the reactor to finish the write
+        int flushRet = _watchlist.reactor().flushPackedBuffer(_watchlist.reactorChannel(), errorInfo);
+        if (flushRet < ReactorReturnCodes.SUCCESS && flushRet != ReactorReturnCodes.WRITE_CALL_AGAIN && ret >= ReactorReturnCodes.SUCCESS)
+        {
+            ret = flushRet;
+        }
+        
+        return ret;
+    }
+    
+    /* Sends the streams in the pending stream send list as long as pacing allows. */
+    int sendPendingMsgList(ReactorErrorInfo errorInfo)
+    {
+        int ret = ReactorReturnCodes.SUCCESS;
         
         WlStream wlStream = null;
         int loopCount = _pendingSendMsgList.size();
-        while((wlStream = _pendingSendMsgList.poll()) != null)
+        while((wlStream = _pendingSendMsgList.peek()) != null)
         {
+            if (_recoveryPacer.enabled())
+            {
+                long currentTime = System.nanoTime();
+                if (!_recoveryPacer.tryAcquire(currentTime))
+                {
+                    return startRecoveryTimer(_recoveryPacer.nextTokenTime(currentTime), currentTime, errorInfo);
+                }
+            }
+            
+            _pendingSendMsgList.poll();
+            
             if ((ret = wlStream.sendMsgOnLoop(wlStream.requestMsg(), _submitOptions, _errorInfo)) < ReactorReturnCodes.SUCCESS)
             {
             	/* No buffers means that the request was re-queued, so we can end the loop here */
@@ -2471,6 +2558,19 @@ class WlItemHandler implements WlHandler
         return ret;
     }
     
+    /* Starts the dispatch timer used to resume sending paced requests, unless one is already pending. */
+    int startRecoveryTimer(long expireTime, long currentTime, ReactorErrorInfo errorInfo)
+    {
+        if (_recoveryTimerExpireTime != 0 && _recoveryTimerExpireTime > currentTime)
+        {
+            return ReactorReturnCodes.SUCCESS;
+        }
+        
+        _recoveryTimerExpireTime = expireTime;
+        
+        return _watchlist.startWatchlistDispatchTimer(expireTime, errorInfo);
+    }
+    
     /* Handles login stream open event. */
     int loginStreamOpen(ReactorErrorInfo errorInfo)
     {
@@ -2595,6 +2695,10 @@ class WlItemHandler implements WlHandler
     /* Handles channel up event. */
     void channelUp(ReactorErrorInfo errorInfo)
     {
+        // start recovery of the new connection with a full burst of requests
+        _recoveryPacer.configure(_watchlist.watchlistOptions().recoveryRequestRate(),
+                                 _watchlist.watchlistOptions().recoveryRequestBurst(), System.nanoTime());
+
    	   for (WlStream wlStream = _streamList.poll(); wlStream != null; wlStream = _streamList.poll())
    	   {    	   
    		   wlStream.channelUp();
@@ -2642,30 +2746,9 @@ class WlItemHandler implements WlHandler
         }
         
         // call sendMsg on all streams in pending stream send list
-        WlStream wlStream = null;
-        int loopCount = _pendingSendMsgList.size();
-        while((wlStream = _pendingSendMsgList.poll()) != null)
+        if (!_pendingSendMsgList.isEmpty())
         {
-        	if ((ret = wlStream.sendMsgOnLoop(wlStream.requestMsg(), _submitOptions, _errorInfo)) < ReactorReturnCodes.SUCCESS)
-            {
-            	/* No buffers means that the request was re-queued, so we can end the loop here */
-            	if(ret == ReactorReturnCodes.NO_BUFFERS)
-            	{
-            		return ReactorReturnCodes.SUCCESS;
-            	}
-            	else
-            	{
-            		return ret;
-            	}
-            }
-            else
-            {
-            	loopCount--;
-            	if(loopCount == 0)
-            	{
-            		return ReactorReturnCodes.SUCCESS;
-            	}
-            }
+            return sendPendingMsgs(_errorInfo);
         }
         
         _userStreamIdListToRecover.clear();
@@ -3202,6 +3285,9 @@ class WlItemHandler implements WlHandler
 		_pendingRequestByNameTable.clear();
         _statusMsgDispatchList.clear();
         _pendingSendMsgList.clear();
+        _pendingSendMsgListUnordered = false;
+        _packPendingRequests = false;
+        _recoveryTimerExpireTime = 0;
         _userStreamIdListToRecover.clear();
         _currentFanoutStream = null;
         _hasPendingViewRequest = false;
@@ -3845,8 +3931,7 @@ class WlItemHandler implements WlHandler
                     break;
             }
 
-            if (wlRequest._view._fieldIdList != null)
-            	_wlViewHandler._viewFieldIdListPool.add(wlRequest._view._fieldIdList);
+            _wlViewHandler.repoolIntArray(wlRequest._view._fieldIds);
             if (wlRequest._view._elementNameList != null)
             	_wlViewHandler._viewElementNameListPool.add(wlRequest._view._elementNameList);
 
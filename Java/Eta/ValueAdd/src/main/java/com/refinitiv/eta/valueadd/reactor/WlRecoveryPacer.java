@@ -0,0 +1,95 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/* Token bucket used by the watchlist to pace queued item requests (e.g. during recovery). */
+class WlRecoveryPacer
+{
+    static final long NANOS_PER_SECOND = 1000000000L;
+
+    // requests per second, 0 means unlimited
+    int _rate;
+    // maximum number of tokens in the bucket
+    int _burst;
+    // available tokens, scaled by NANOS_PER_SECOND to avoid fractional arithmetic
+    long _scaledTokens;
+    long _lastRefillTime;
+
+    /* Configures the pacer. A rate of 0 disables pacing. */
+    void configure(int rate, int burst, long currentTime)
+    {
+        _rate = rate > 0 ? rate : 0;
+        _burst = burst > 0 ? burst : _rate;
+        _scaledTokens = (long)_burst * NANOS_PER_SECOND;
+        _lastRefillTime = currentTime;
+    }
+
+    /* Returns true if pacing is enabled. */
+    boolean enabled()
+    {
+        return _rate > 0;
+    }
+
+    /* Attempts to take a token. Returns true if a request may be sent now. */
+    boolean tryAcquire(long currentTime)
+    {
+        if (_rate == 0)
+            return true;
+
+        refill(currentTime);
+
+        if (_scaledTokens >= NANOS_PER_SECOND)
+        {
+            _scaledTokens -= NANOS_PER_SECOND;
+            return true;
+        }
+
+        return false;
+    }
+
+    /* Returns the time, in nanoseconds, at which the next token becomes available. */
+    long nextTokenTime(long currentTime)
+    {
+        if (_rate == 0)
+            return currentTime;
+
+        refill(currentTime);
+
+        long missing = NANOS_PER_SECOND - _scaledTokens;
+        if (missing <= 0)
+            return currentTime;
+
+        return currentTime + (missing + _rate - 1) / _rate;
+    }
+
+    private void refill(long currentTime)
+    {
+        long elapsed = currentTime - _lastRefillTime;
+        if (elapsed <= 0)
+            return;
+
+        long maxScaledTokens = (long)_burst * NANOS_PER_SECOND;
+
+        // fill the bucket directly once enough time has passed, which also keeps elapsed * rate from overflowing
+        if (elapsed >= maxScaledTokens / _rate)
+            _scaledTokens = maxScaledTokens;
+        else
+            _scaledTokens = Math.min(maxScaledTokens, _scaledTokens + elapsed * _rate);
+
+        _lastRefillTime = currentTime;
+    }
+
+    void clear()
+    {
+        _rate = 0;
+        _burst = 0;
+        _scaledTokens = 0;
+        _lastRefillTime = 0;
+    }
+}
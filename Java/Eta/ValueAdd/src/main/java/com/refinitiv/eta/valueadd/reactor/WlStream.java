@@ -832,6 +832,12 @@ class WlStream extends VaNode
     {
         int ret = ReactorReturnCodes.SUCCESS;
         
+        // requests sent from the item handler's pending stream send list may share packed buffers
+        if (msg.msgClass() == MsgClasses.REQUEST && _watchlist.itemHandler()._packPendingRequests)
+        {
+            return encodeIntoPackedBufferAndWrite(msg, submitOptions, errorInfo);
+        }
+        
         // lazily initialize channel info to get maxFragmentSize
         if (_reactorChannelInfo.channelInfo().maxFragmentSize() == 0)
         {
@@ -893,6 +899,25 @@ class WlStream extends VaNode
         return ret;
     }
     
+    /* Encodes a ETA message into the channel's packed buffer, which is written once it is full. */
+    int encodeIntoPackedBufferAndWrite(Msg msg, ReactorSubmitOptions submitOptions, ReactorErrorInfo errorInfo)
+    {
+        int ret = _reactor.submitPackedChannel(_reactorChannel, msg, null, submitOptions, true, errorInfo);
+        
+        // the full packed buffer could not be written to make room for the message, call submit again until it is
+        while (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+        {
+            try
+            {
+                Thread.sleep(1);
+            }
+            catch (InterruptedException e) { }
+            ret = _reactor.submitPackedChannel(_reactorChannel, msg, null, submitOptions, true, errorInfo);
+        }
+        
+        return ret;
+    }
+    
     /* Sends close message for the stream. */
     int sendCloseMsg(Msg msg, ReactorErrorInfo errorInfo)
     {
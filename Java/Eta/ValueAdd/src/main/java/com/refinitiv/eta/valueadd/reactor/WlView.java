@@ -11,7 +11,6 @@ package com.refinitiv.eta.valueadd.reactor;
 import com.refinitiv.eta.valueadd.common.VaNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedList;
 
 public class WlView extends VaNode
@@ -19,7 +18,7 @@ public class WlView extends VaNode
 	WlViewHandler _viewHandler;
 	int _viewType;
 	int _elemCount;
-	ArrayList<Integer> _fieldIdList;
+	int[] _fieldIds; // sorted, only the first _elemCount entries are valid
 	ArrayList<String> _elementNameList;
 	State _state = State.NEW;
 
@@ -35,8 +34,8 @@ public class WlView extends VaNode
 	LinkedList<WlView> _newViews;
 	LinkedList<WlView> _mergedViews;
 	LinkedList<WlView> _committedViews;
-	HashMap<Integer, Integer> _viewFieldIdCountMap;
-	HashMap<String, Integer> _viewElementNameCountMap;
+	// aggregated views only: number of merged views referencing each entry of _fieldIds or _elementNameList
+	int[] _refCounts;
 
 	
 	public WlViewHandler viewHandler()
@@ -79,14 +78,14 @@ public class WlView extends VaNode
 		this._aggregated = aggregated;
 	}
 	
-	public ArrayList<Integer> fieldIdList()
+	public int[] fieldIds()
 	{
-		return _fieldIdList;
+		return _fieldIds;
 	}
 
-	public void fieldIdList(ArrayList<Integer> fieldIdList)
+	public void fieldIds(int[] fieldIds)
 	{
-		_fieldIdList = fieldIdList;
+		_fieldIds = fieldIds;
 	}
 
 	public ArrayList<String> elementNameList()
@@ -148,12 +147,11 @@ public class WlView extends VaNode
 	public void returnToPool()
 	{
 		/* Clear out all pooled elements */
-		_viewFieldIdCountMap = null;
-		_viewElementNameCountMap = null;
+		_refCounts = null;
 		_newViews = null;
 		_mergedViews = null;
 		_committedViews = null;
-		_fieldIdList = null;
+		_fieldIds = null;
 		_elementNameList = null;
 
     		super.returnToPool();
@@ -11,7 +11,6 @@ package com.refinitiv.eta.valueadd.reactor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 
 import com.refinitiv.eta.codec.Array;
@@ -40,14 +39,14 @@ public class WlViewHandler
     Watchlist _watchlist;
     private boolean _resorted;
 	
+    static final int MIN_VIEW_ARRAY_CAPACITY = 16;
+
     LinkedList<ArrayList<Integer>> _viewFieldIdListPool = new LinkedList<ArrayList<Integer>>();
     LinkedList<ArrayList<String>> _viewElementNameListPool = new LinkedList<ArrayList<String>>();
     LinkedList<LinkedList<WlView>> _mergedViewsPool = new LinkedList<LinkedList<WlView>>();
     LinkedList<LinkedList<WlView>> _committedViewsPool = new LinkedList<LinkedList<WlView>>();
     LinkedList<LinkedList<WlView>> _newViewsPool = new LinkedList<LinkedList<WlView>>();   
-    LinkedList<HashMap<Integer, Integer>> _viewFieldIdCountMapPool = new LinkedList<HashMap<Integer, Integer>>();
-    LinkedList<HashMap<String, Integer>> _viewElementNameCountMapPool = new LinkedList<HashMap<String, Integer>>();
-   ArrayList<Integer> fidsToRemove = new ArrayList<Integer>();
+    LinkedList<int[]> _viewIntArrayPool = new LinkedList<int[]>();
 
     WlViewHandler(Watchlist watchlist)
     {
@@ -66,38 +65,21 @@ public class WlViewHandler
 				wlView.viewType(viewType);
 			    wlView.elemCount(0);
 			    wlView.state(WlView.State.NEW);
-				wlView._fieldIdList = _viewFieldIdListPool.poll();
-				if (wlView._fieldIdList == null)
-					wlView._fieldIdList = new ArrayList<Integer>();
-				else {
-					wlView._fieldIdList.clear();
-				}
-					
-				for (Integer I : fieldIdList) {
-					wlView._fieldIdList.add(I);
-					++wlView._elemCount;
-				}
-				
-				if (wlView._fieldIdList != null && wlView.elemCount() > 0 )
+			    int size = fieldIdList.size();
+				wlView._fieldIds = pollIntArray(size);
+				for (int i = 0; i < size; ++i)
+					wlView._fieldIds[i] = fieldIdList.get(i);
+
+				if (size > 0)
 				{
-					Collections.sort(wlView._fieldIdList);
-					int startingCount = wlView.elemCount();
-					int newCount = startingCount;
+					Arrays.sort(wlView._fieldIds, 0, size);
 					int nextValidPos = 1;
-					for (int i = 1; i < startingCount; ++i) {
-						if (wlView._fieldIdList.get(i).equals(wlView._fieldIdList.get(nextValidPos - 1))) {
-							--newCount;
-						}
-						else {
-							if (i > nextValidPos)
-								wlView._fieldIdList.set(nextValidPos, wlView._fieldIdList.get(i));
-							nextValidPos++;
-						}
+					for (int i = 1; i < size; ++i) {
+						if (wlView._fieldIds[i] != wlView._fieldIds[nextValidPos - 1])
+							wlView._fieldIds[nextValidPos++] = wlView._fieldIds[i];
 					}
-					wlView._elemCount = newCount;
+					wlView._elemCount = nextValidPos;
 				}
-				else
-				    wlView.elemCount(0);
 				
 				return wlView;
 
@@ -168,35 +150,14 @@ public class WlViewHandler
 		if (aggView._committedViews == null) aggView._committedViews = new LinkedList<WlView>();
 		aggView._committedViews.clear();
 		
-		aggView._viewFieldIdCountMap = null;
-		aggView._viewElementNameCountMap = null;
-		
-		if ( view.viewType() == ViewTypes.FIELD_ID_LIST)
-		{
-			aggView._viewFieldIdCountMap = _viewFieldIdCountMapPool.poll();
-			if (aggView._viewFieldIdCountMap == null) aggView._viewFieldIdCountMap = new HashMap<Integer, Integer>();
-			aggView._viewFieldIdCountMap.clear();
-			for (Integer fieldId : view.fieldIdList().subList(0, view.elemCount()))
-			{
-				aggView._viewFieldIdCountMap.put(fieldId,  1);
-			}
+		// every entry of the first view is referenced once
+		aggView._refCounts = pollIntArray(view.elemCount());
+		Arrays.fill(aggView._refCounts, 0, view.elemCount(), 1);
 
-		}
-		else if ( view.viewType() == ViewTypes.ELEMENT_NAME_LIST)
-		{
-			aggView._viewElementNameCountMap = _viewElementNameCountMapPool.poll();
-			if (aggView._viewElementNameCountMap == null) aggView._viewElementNameCountMap = new HashMap<String, Integer>();
-			aggView._viewElementNameCountMap.clear();
-			for (String elementName : view.elementNameList().subList(0, view.elemCount()))
-			{
-				aggView._viewElementNameCountMap.put(elementName,  1);
-			}
-
-		}
 		aggView.mergedViews().add(view);
 		view.state(WlView.State.MERGED);
 		
-		aggView._fieldIdList = null;
+		aggView._fieldIds = null;
 		aggView._elementNameList = null;
 		
 		switch(view.viewType())
@@ -207,11 +168,8 @@ public class WlViewHandler
 				aggView.viewHandler(this);
 				aggView.viewType(view.viewType());
 			    aggView.elemCount(view.elemCount());
-				aggView._fieldIdList = _viewFieldIdListPool.poll();
-				if (aggView._fieldIdList == null)
-					aggView._fieldIdList = new ArrayList<Integer>();	
-				aggView._fieldIdList.clear();
-				aggView._fieldIdList.addAll(view.fieldIdList());
+				aggView._fieldIds = pollIntArray(view.elemCount());
+				System.arraycopy(view._fieldIds, 0, aggView._fieldIds, 0, view.elemCount());
 				break;
 			}
 			case ViewTypes.ELEMENT_NAME_LIST:
@@ -222,7 +180,7 @@ public class WlViewHandler
 				aggView._elementNameList = _viewElementNameListPool.poll();
 				if (aggView._elementNameList == null) aggView._elementNameList = new ArrayList<String>();
 				aggView._elementNameList.clear();
-				aggView._elementNameList.addAll(view.elementNameList());
+				aggView._elementNameList.addAll(view.elementNameList().subList(0, view.elemCount()));
 				break;
 			}
 			default:
@@ -259,44 +217,54 @@ public class WlViewHandler
 			{		
 				case ViewTypes.FIELD_ID_LIST:
 				{
-					ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-				
-					if (aggViewFieldIdList == null)
+					if (aggView._fieldIds == null)
 					{
-						aggViewFieldIdList = _viewFieldIdListPool.poll();
-						if (aggViewFieldIdList == null )
-							aggViewFieldIdList = new ArrayList<Integer>();
-						else 
-							aggViewFieldIdList.clear();
-						 
-						aggView.fieldIdList(aggViewFieldIdList);	
+						aggView._fieldIds = pollIntArray(view.elemCount());
 						aggView._elemCount = 0;
 					}
+					if (aggView._refCounts == null)
+						aggView._refCounts = pollIntArray(view.elemCount());
 
-					ArrayList<Integer> newFids = new ArrayList<Integer>();
-					for (int i = 0; i < view.fieldIdList().subList(0, view.elemCount()).size(); i++)
+					// fids already in the aggregate view only need their reference count bumped
+					int newCount = 0;
+					for (int i = 0; i < view.elemCount(); i++)
 					{
-						Integer fid = view.fieldIdList().get(i);
-						int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
+						int index = Arrays.binarySearch(aggView._fieldIds, 0, aggView._elemCount, view._fieldIds[i]);
 						if (index >= 0)
+							++aggView._refCounts[index];
+						else
+							++newCount;
+					}
+
+					if (newCount == 0)
+						break;
+
+					// merge the new fids in from the back so the aggregate view stays sorted
+					int aggCount = aggView._elemCount;
+					ensureViewCapacity(aggView, aggCount + newCount);
+					int[] aggFieldIds = aggView._fieldIds;
+					int[] refCounts = aggView._refCounts;
+					int aggPos = aggCount - 1;
+					int writePos = aggCount + newCount - 1;
+					for (int viewPos = view.elemCount() - 1; viewPos >= 0; )
+					{
+						int fid = view._fieldIds[viewPos];
+						if (aggPos >= 0 && aggFieldIds[aggPos] > fid)
 						{
-							Integer count = aggView._viewFieldIdCountMap.get(fid);
-							aggView._viewFieldIdCountMap.put(fid, ++count);
+							aggFieldIds[writePos] = aggFieldIds[aggPos];
+							refCounts[writePos--] = refCounts[aggPos--];
 						}
 						else
-							newFids.add(fid);
-					}
-					
-					for (int j = 0; j < newFids.size(); ++j) {
-						if (aggView.elemCount() < aggViewFieldIdList.size())
-							aggViewFieldIdList.set(aggView._elemCount, newFids.get(j));
-						else 
-							aggViewFieldIdList.add(newFids.get(j));
-						aggView._viewFieldIdCountMap.put(newFids.get(j), 1);
-						aggView._elemCount++;
+						{
+							if (aggPos < 0 || aggFieldIds[aggPos] != fid)
+							{
+								aggFieldIds[writePos] = fid;
+								refCounts[writePos--] = 1;
+							}
+							--viewPos;
+						}
 					}
-					
-					Collections.sort(aggViewFieldIdList.subList(0, aggView._elemCount));
+					aggView._elemCount = aggCount + newCount;
 					break;
 				}
 				case ViewTypes.ELEMENT_NAME_LIST:
@@ -314,30 +282,51 @@ public class WlViewHandler
 						aggView.elementNameList(aggViewElementNameList);
 						aggView._elemCount = 0;
 					}
+					if (aggView._refCounts == null)
+						aggView._refCounts = pollIntArray(view.elemCount());
 
-					ArrayList<String> newElements = new ArrayList<String>();
-					for (int i = 0; i < view.elementNameList().subList(0, view.elemCount()).size(); i++)
+					// names already in the aggregate view only need their reference count bumped
+					int newCount = 0;
+					for (int i = 0; i < view.elemCount(); i++)
 					{						
-					    String elementName = view.elementNameList().get(i);
-						int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
+						int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), view.elementNameList().get(i));
 						if (index >= 0)
-						{
-							Integer count = aggView._viewElementNameCountMap.get(elementName);
-							aggView._viewElementNameCountMap.put(elementName, ++count);
-						}
+							++aggView._refCounts[index];
 						else
-							newElements.add(elementName);
+							++newCount;
 					}
 
-					for (int j = 0; j < newElements.size(); ++j) {
-						if (aggView.elemCount() < aggViewElementNameList.size())
-							aggViewElementNameList.set(aggView._elemCount, newElements.get(j));
+					if (newCount == 0)
+						break;
+
+					// merge the new names in from the back so the aggregate view stays sorted
+					int aggCount = aggView._elemCount;
+					ensureViewCapacity(aggView, aggCount + newCount);
+					while (aggViewElementNameList.size() < aggCount + newCount)
+						aggViewElementNameList.add(null);
+					int[] refCounts = aggView._refCounts;
+					int aggPos = aggCount - 1;
+					int writePos = aggCount + newCount - 1;
+					for (int viewPos = view.elemCount() - 1; viewPos >= 0; )
+					{
+						String elementName = view.elementNameList().get(viewPos);
+						int comparisonResult = (aggPos >= 0 ? aggViewElementNameList.get(aggPos).compareTo(elementName) : -1);
+						if (comparisonResult > 0)
+						{
+							aggViewElementNameList.set(writePos, aggViewElementNameList.get(aggPos));
+							refCounts[writePos--] = refCounts[aggPos--];
+						}
 						else
-							aggViewElementNameList.add(newElements.get(j));
-						aggView._viewElementNameCountMap.put(newElements.get(j),  1);
-						++aggView._elemCount;
+						{
+							if (comparisonResult != 0)
+							{
+								aggViewElementNameList.set(writePos, elementName);
+								refCounts[writePos--] = 1;
+							}
+							--viewPos;
+						}
 					}
-					Collections.sort(aggViewElementNameList.subList(0, aggView._elemCount));
+					aggView._elemCount = aggCount + newCount;
 					break;
 				}
 				default:
@@ -383,19 +372,16 @@ public class WlViewHandler
 		
 		if(view.state() == WlView.State.MERGED || view.state() == WlView.State.COMMITTED)
 		{
+			boolean removed = false;
 			if (view.viewType() == ViewTypes.FIELD_ID_LIST) {
-				ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-				fidsToRemove.clear();
-				for (int i = 0; i < view.fieldIdList().subList(0, view.elemCount()).size(); i++)
+				for (int i = 0; i < view.elemCount(); i++)
 				{
-					Integer fid = view.fieldIdList().get(i);
-					int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
+					int fid = view._fieldIds[i];
+					int index = Arrays.binarySearch(aggView._fieldIds, 0, aggView._elemCount, fid);
 					if ( index >= 0) 
 					{
-						Integer count = aggView._viewFieldIdCountMap.get(fid);
-						aggView._viewFieldIdCountMap.put(fid, --count);
-						if (count == 0)
-							fidsToRemove.add(fid);
+						if (aggView._refCounts[index] > 0 && --aggView._refCounts[index] == 0)
+							removed = true;
 					}
 					else
 					{
@@ -404,49 +390,17 @@ public class WlViewHandler
 								"Aggregate View cannot remove a non-existent field id  <" + fid + ">");
 					}
 				}
-
-				int writePos = 0;
-				int currentPos = 0;
-				int originalSize = aggView.elemCount();
-				_resorted = (fidsToRemove.isEmpty() ? false : true);	// needed so updated view is resent
-				for ( int k = 0; k < fidsToRemove.size(); ++k ) {
-					while (currentPos < originalSize) {
-						if (aggViewFieldIdList.get(currentPos) == fidsToRemove.get(k) ) {
-							++currentPos;
-							--aggView._elemCount;
-							break;
-						}
-						if (aggViewFieldIdList.get(currentPos) < fidsToRemove.get(k) ) {
-							if (writePos != currentPos)
-								aggViewFieldIdList.set(writePos, aggViewFieldIdList.get(currentPos));
-							++currentPos;
-							++writePos;
-						}
-						else
-							// should never get here
-							return _watchlist.reactor().populateErrorInfo(errorInfo,
-									ReactorReturnCodes.FAILURE, "ViewHandler",
-									"Aggregate View cannot remove a non-existent field id  <" + fidsToRemove.get(k) + ">");break;
-					}
-				}
-
-				// may have remaining elements to write
-				while (currentPos < originalSize)
-					aggViewFieldIdList.set(writePos++, aggViewFieldIdList.get(currentPos++));
 			}
 			else { 	// ViewTypes.ELEMENT_NAME_LIST:
 				ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-				ArrayList<String> elementNamesToRemove = new ArrayList<String>();
 				for (int i = 0; i < view.elemCount(); i++)
 				{
 					String elementName = view.elementNameList().get(i);
 					int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
 					if ( index >= 0)
 					{
-						Integer count = aggView._viewElementNameCountMap.get(elementName);
-						aggView._viewElementNameCountMap.put(elementName, --count);
-						if (count == 0)
-							elementNamesToRemove.add(elementName);
+						if (aggView._refCounts[index] > 0 && --aggView._refCounts[index] == 0)
+							removed = true;
 					}
 					else
 					{
@@ -455,42 +409,62 @@ public class WlViewHandler
 								"Aggregate View cannot remove a non-existent elementName  <" + elementName + ">");
 					}
 				}
-
-				int writePos = 0;
-				int currentPos = 0;
-				int originalSize = aggView.elemCount();
-				_resorted = (elementNamesToRemove.isEmpty() ? false : true);	// needed so updated view is resent
-				for ( int k = 0; k < elementNamesToRemove.size(); ++k ) {
-					while (currentPos < originalSize) {
-						int comparisonResult = aggViewElementNameList.get(currentPos).compareTo(elementNamesToRemove.get(k));
-						if (comparisonResult == 0) {	// remove
-							++currentPos;
-							--aggView._elemCount;
-							break;
-						}
-						if (comparisonResult < 0 ) {
-							if (currentPos > writePos)
-								aggViewElementNameList.set(writePos, aggViewElementNameList.get(currentPos));
-							++currentPos;
-							++writePos;
-						}
-						else
-							// should never get here
-							return _watchlist.reactor().populateErrorInfo(errorInfo,
-									ReactorReturnCodes.FAILURE, "ViewHandler",
-									"Aggregate View cannot remove a non-existent field id  <" + elementNamesToRemove.get(k) + ">");
-					}
-				}
-
-				// may have remaining elements to write
-				while (currentPos < originalSize)
-					aggViewElementNameList.set(writePos++, aggViewElementNameList.get(currentPos++));
 			}
+
+			_resorted = removed;	// needed so updated view is resent
+			if (removed)
+				compactAggregateView(aggView);
 		}
 
 		return CodecReturnCodes.SUCCESS;
 	}
 	
+	/* Drops the entries of an aggregate view that are no longer referenced by any view. */
+	private void compactAggregateView(WlView aggView)
+	{
+		int writePos = 0;
+		for (int i = 0; i < aggView._elemCount; ++i)
+		{
+			if (aggView._refCounts[i] == 0)
+				continue;
+
+			if (writePos != i)
+			{
+				if (aggView.viewType() == ViewTypes.FIELD_ID_LIST)
+					aggView._fieldIds[writePos] = aggView._fieldIds[i];
+				else
+					aggView._elementNameList.set(writePos, aggView._elementNameList.get(i));
+				aggView._refCounts[writePos] = aggView._refCounts[i];
+			}
+			++writePos;
+		}
+		aggView._elemCount = writePos;
+	}
+	
+	/* Returns a pooled int array that can hold at least the given number of entries. */
+	int[] pollIntArray(int capacity)
+	{
+		int[] array = _viewIntArrayPool.poll();
+		if (array == null || array.length < capacity)
+			array = new int[Math.max(capacity, MIN_VIEW_ARRAY_CAPACITY)];
+		return array;
+	}
+	
+	void repoolIntArray(int[] array)
+	{
+		if (array != null)
+			_viewIntArrayPool.add(array);
+	}
+	
+	/* Grows the field id and reference count arrays of an aggregate view to hold at least the given number of entries. */
+	private void ensureViewCapacity(WlView aggView, int capacity)
+	{
+		if (aggView._fieldIds != null && aggView._fieldIds.length < capacity)
+			aggView._fieldIds = Arrays.copyOf(aggView._fieldIds, Math.max(capacity, aggView._fieldIds.length * 2));
+		if (aggView._refCounts.length < capacity)
+			aggView._refCounts = Arrays.copyOf(aggView._refCounts, Math.max(capacity, aggView._refCounts.length * 2));
+	}
+	
 	
 	void aggregateViewCommit(WlView aggView)
 	{			
@@ -548,13 +522,13 @@ public class WlViewHandler
 					return ret;
 				}	
 
-				for (Integer viewField : aggView.fieldIdList().subList(0, aggView.elemCount()))
+				for (int i = 0; i < aggView.elemCount(); i++)
 				{
 
-					if (aggView._viewFieldIdCountMap.get(viewField) == null || aggView._viewFieldIdCountMap.get(viewField) == 0 ) continue;
+					if (aggView._refCounts[i] == 0 ) continue;
 								
 					arrayEntry.clear();
-					tempInt.value(viewField);
+					tempInt.value(aggView._fieldIds[i]);
 					ret = arrayEntry.encode(encodeIter, tempInt);
 					if (ret < CodecReturnCodes.SUCCESS)
 					{
@@ -608,12 +582,12 @@ public class WlViewHandler
 					return ret;
 				}	
 
-				for (String elementName : aggView.elementNameList().subList(0, aggView.elemCount()))
+				for (int i = 0; i < aggView.elemCount(); i++)
 				{
-					if (aggView._viewElementNameCountMap.get(elementName) == null || aggView._viewElementNameCountMap.get(elementName) == 0 ) continue;
+					if (aggView._refCounts[i] == 0 ) continue;
 
 					arrayEntry.clear();					
-		            elementNameBuf.data(elementName);
+		            elementNameBuf.data(aggView.elementNameList().get(i));
 		            ret = arrayEntry.encode(encodeIter, elementNameBuf);
 					
 					if (ret < CodecReturnCodes.SUCCESS)
@@ -649,15 +623,14 @@ public class WlViewHandler
 	
 	void aggregateViewDestroy(WlView aggView)
 	{
-		_viewFieldIdCountMapPool.add(aggView._viewFieldIdCountMap);	
-		_viewElementNameCountMapPool.add(aggView._viewElementNameCountMap);	
+		repoolIntArray(aggView._refCounts);
 
 		
 		_newViewsPool.add(aggView._newViews);
 		_mergedViewsPool.add(aggView._mergedViews);
 		_committedViewsPool.add(aggView._committedViews);
 		
-		_viewFieldIdListPool.add(aggView._fieldIdList);
+		repoolIntArray(aggView._fieldIds);
 		_viewElementNameListPool.add(aggView._elementNameList);
 		
 		aggView.returnToPool();
@@ -674,17 +647,12 @@ public class WlViewHandler
 			{		
 				case ViewTypes.FIELD_ID_LIST:
 				{
-					ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-
-					ArrayList<Integer> viewFieldIdList = view.fieldIdList();
-	
 					if (view.elemCount() > aggView.elemCount())
 						return false;
 			   
-					for (int i = 0; i < viewFieldIdList.subList(0, view.elemCount()).size(); i++)
+					for (int i = 0; i < view.elemCount(); i++)
 					{					
-						Integer fid = view.fieldIdList().get(i);
-						int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
+						int index = Arrays.binarySearch(aggView._fieldIds, 0, aggView._elemCount, view._fieldIds[i]);
 						if ( index < 0 ) return false;
 					}			   
 					return true;			   
@@ -724,8 +692,6 @@ public class WlViewHandler
 		{		
 		case ViewTypes.FIELD_ID_LIST:
 		{
-			ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-
 			ArrayList<Integer> viewFieldIdList = wlRequest.viewFieldIdList();
 	
 			if (wlRequest.viewElemCount() > aggView.elemCount())
@@ -733,8 +699,7 @@ public class WlViewHandler
 			   
 			for (int i = 0; i < viewFieldIdList.subList(0, wlRequest.viewElemCount()).size(); i++)
 			{					
-				Integer fid = viewFieldIdList.get(i);
-				int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
+				int index = Arrays.binarySearch(aggView._fieldIds, 0, aggView._elemCount, viewFieldIdList.get(i));
 				if ( index < 0 ) return false;
 			}			   
 			return true;			   
@@ -774,17 +739,14 @@ public class WlViewHandler
 		{		
 			case ViewTypes.FIELD_ID_LIST:
 			{
-				ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-
-				for (int kk = 0; kk < aggViewFieldIdList.subList(0, aggView.elemCount()).size(); kk++)
+				for (int kk = 0; kk < aggView.elemCount(); kk++)
 				{					
-					Integer aggFid =  aggViewFieldIdList.get(kk);
+					int aggFid =  aggView._fieldIds[kk];
 					boolean found = false;
 				
 					for (WlView view : aggView.committedViews())
 					{						
-						ArrayList<Integer> viewFieldIdList = view.fieldIdList();			   
-						int index = Collections.binarySearch(viewFieldIdList.subList(0, view._elemCount), aggFid);
+						int index = Arrays.binarySearch(view._fieldIds, 0, view._elemCount, aggFid);
 						if ( index >= 0 )
 						{
 							found = true;
@@ -836,7 +798,12 @@ public class WlViewHandler
 		{		
 			case ViewTypes.FIELD_ID_LIST:
 // should be sorted 
-				 return Arrays.equals(view1.fieldIdList().subList(0, view1._elemCount).toArray(), wlRequest._viewFieldIdList.subList(0, wlRequest.viewElemCount()).toArray());			
+				 for (int i = 0; i < view1._elemCount; i++)
+				 {
+					 if (view1._fieldIds[i] != wlRequest._viewFieldIdList.get(i))
+						 return false;
+				 }
+				 return true;
 			case ViewTypes.ELEMENT_NAME_LIST:
 				// should be sorted 
 				 return Arrays.equals(view1.elementNameList().subList(0, view1._elemCount).toArray(), wlRequest._viewElementNameList.subList(0, wlRequest.viewElemCount()).toArray());
@@ -848,7 +815,7 @@ public class WlViewHandler
 		
 	void destroyView(WlView view)
 	{
-		_viewFieldIdListPool.add(view._fieldIdList);
+		repoolIntArray(view._fieldIds);
 		_viewElementNameListPool.add(view._elementNameList);
 		view.returnToPool();
 	}
@@ -155,6 +155,14 @@ class Worker implements Runnable
                             {
                                 eventType = WorkerEventTypes.WATCHLIST_TIMEOUT;
                             }
+                            else if (event.eventType() == WorkerEventTypes.START_WATCHLIST_DISPATCH_TIMER)
+                            {
+                                eventType = WorkerEventTypes.WATCHLIST_DISPATCH_NOW;
+                            }
+                            else if (event.eventType() == WorkerEventTypes.START_PACKED_BUFFER_TIMER)
+                            {
+                                eventType = WorkerEventTypes.PACKED_BUFFER_TIMEOUT;
+                            }
 
                             sendWorkerEvent(event.reactorChannel(), eventType, event.tunnelStream(),
                                     ReactorReturnCodes.SUCCESS, null, null);
@@ -166,6 +174,9 @@ class Worker implements Runnable
                     }
                 }
 
+                if (_reactor._metrics != null && _queue != null)
+                    _reactor._metrics.workerQueues(_queue.readQueueSize(), _timerEventQueue.size());
+
                 // initialize channels and check if initialization timeout occurred
                 _initChannelQueue.rewind();
                 while (_initChannelQueue.hasNext())
@@ -403,6 +414,8 @@ class Worker implements Runnable
                 return;
             case START_DISPATCH_TIMER:
             case START_WATCHLIST_TIMER:
+            case START_WATCHLIST_DISPATCH_TIMER:
+            case START_PACKED_BUFFER_TIMER:
                 _timerEventQueue.add(event);
                 return;
 
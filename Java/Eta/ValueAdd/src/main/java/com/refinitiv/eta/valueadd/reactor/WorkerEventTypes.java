@@ -48,6 +48,14 @@ enum WorkerEventTypes
     START_WATCHLIST_TIMER,
     // sent from Worker to Reactor
     WATCHLIST_TIMEOUT,
+    // sent from Reactor to Worker, returned as WATCHLIST_DISPATCH_NOW when it expires
+    START_WATCHLIST_DISPATCH_TIMER,
+    // sent from Reactor to Worker
+    START_PACKED_BUFFER_TIMER,
+    // sent from Worker to Reactor
+    PACKED_BUFFER_TIMEOUT,
+    // sent from the JSON conversion threads to Reactor
+    JSON_CONVERSION_DONE,
     // sent from Reactor to Worker
     TOKEN_MGNT,
     // sent from Reactor to itself for dispatching to the application
@@ -97,6 +105,14 @@ enum WorkerEventTypes
                 return "ReactorChannelEventTypes.START_WATCHLIST_TIMER";
             case WATCHLIST_TIMEOUT:
                 return "ReactorChannelEventTypes.WATCHLIST_TIMEOUT";
+            case START_WATCHLIST_DISPATCH_TIMER:
+                return "ReactorChannelEventTypes.START_WATCHLIST_DISPATCH_TIMER";
+            case START_PACKED_BUFFER_TIMER:
+                return "ReactorChannelEventTypes.START_PACKED_BUFFER_TIMER";
+            case PACKED_BUFFER_TIMEOUT:
+                return "ReactorChannelEventTypes.PACKED_BUFFER_TIMEOUT";
+            case JSON_CONVERSION_DONE:
+                return "ReactorChannelEventTypes.JSON_CONVERSION_DONE";
             case TOKEN_MGNT:
                 return "ReactorChannelEventTypes.TOKEN_MGNT";                
             default:
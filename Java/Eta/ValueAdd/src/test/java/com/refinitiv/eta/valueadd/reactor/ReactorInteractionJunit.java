@@ -7,6 +7,13 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import org.junit.Test;
 
 import com.refinitiv.eta.codec.CloseMsg;
@@ -19,6 +26,8 @@ import com.refinitiv.eta.codec.RefreshMsg;
 import com.refinitiv.eta.codec.RequestMsg;
 import com.refinitiv.eta.codec.StreamStates;
 import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.ConnectionTypes;
+import com.refinitiv.eta.transport.WritePriorities;
 
 import static org.junit.Assert.*;
 
@@ -365,6 +374,514 @@ public class ReactorInteractionJunit
 		TestReactorComponent.closeSession(consumer, provider,  failureCount>0);
 	}
 
+	@Test
+	public void AutoPackingTest()
+	{
+		/* Test that messages submitted by a provider with automatic packing enabled are held back
+		 * until the packed buffer is flushed, the write priority changes, or the pack time expires. */
+
+		ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+		TestReactorEvent event;
+		ReactorMsgEvent msgEvent;
+		RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+
+		/* Create reactors. */
+		TestReactor consumerReactor = new TestReactor();
+		TestReactor providerReactor = new TestReactor();
+
+		/* Create consumer. */
+		Consumer consumer = new Consumer(consumerReactor);
+		initConsumerRole(consumer);
+
+		/* Create provider. */
+		Provider provider = new Provider(providerReactor);
+		initProviderRole(provider);
+
+		/* Connect the consumer and provider. Setup login & directory streams automatically. */
+		ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+		opts.setupDefaultLoginStream(true);
+		opts.setupDefaultDirectoryStream(true);
+		provider.bind(opts);
+		TestReactor.openSession(consumer, provider, opts);
+
+		ReactorChannel providerChannel = provider.reactorChannel();
+		assertFalse(providerChannel.autoPacking());
+		assertEquals(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, providerChannel.enableAutoPacking(-1, 0, _errorInfo));
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.enableAutoPacking(0, 0, _errorInfo));
+		assertTrue(providerChannel.autoPacking());
+
+		/* Provider sends three refreshes, which are packed. */
+		for (int i = 0; i < 3; i++)
+		{
+			createRefreshMessage(refreshMsg, 5 + i, "TRI.N." + i);
+			assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		}
+
+		/* Consumer receives nothing until the provider flushes. */
+		consumerReactor.dispatch(0);
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.flushPackedBuffer(_errorInfo));
+		providerReactor.dispatch(0);
+
+		/* Consumer receives all three refreshes in order. */
+		consumerReactor.dispatch(3);
+		for (int i = 0; i < 3; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+			assertEquals(5 + i, msgEvent.msg().streamId());
+		}
+
+		/* A message with a different write priority causes the packed buffer to be written. */
+		createRefreshMessage(refreshMsg, 5, "TRI.N.0");
+		assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		submitOptions.writeArgs().priority(WritePriorities.LOW);
+		createRefreshMessage(refreshMsg, 6, "TRI.N.1");
+		assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		providerReactor.dispatch(0);
+
+		consumerReactor.dispatch(1);
+		event = consumerReactor.pollEvent();
+		assertEquals(TestReactorEventTypes.MSG, event.type());
+		msgEvent = (ReactorMsgEvent)event.reactorEvent();
+		assertEquals(5, msgEvent.msg().streamId());
+
+		/* Disabling packing writes the remaining message. */
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.disableAutoPacking(_errorInfo));
+		assertFalse(providerChannel.autoPacking());
+		providerReactor.dispatch(0);
+
+		consumerReactor.dispatch(1);
+		event = consumerReactor.pollEvent();
+		assertEquals(TestReactorEventTypes.MSG, event.type());
+		msgEvent = (ReactorMsgEvent)event.reactorEvent();
+		assertEquals(6, msgEvent.msg().streamId());
+
+		/* With a pack time, the packed buffer is written once the time expires. */
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.enableAutoPacking(0, 100, _errorInfo));
+		submitOptions.clear();
+		createRefreshMessage(refreshMsg, 7, "TRI.N.2");
+		assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		providerReactor.dispatch(0, 500);
+
+		consumerReactor.dispatch(1);
+		event = consumerReactor.pollEvent();
+		assertEquals(TestReactorEventTypes.MSG, event.type());
+		msgEvent = (ReactorMsgEvent)event.reactorEvent();
+		assertEquals(7, msgEvent.msg().streamId());
+
+		TestReactorComponent.closeSession(consumer, provider);
+	}
+
+	@Test
+	public void AutoPackingJsonTest()
+	{
+		/* Test that messages submitted by a provider to a JSON WebSocket channel with automatic packing
+		 * enabled are written together as one JSON array and received in order. */
+
+		ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+		TestReactorEvent event;
+		ReactorMsgEvent msgEvent;
+		RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+
+		/* Create reactors. */
+		TestReactor consumerReactor = new TestReactor();
+		TestReactor providerReactor = new TestReactor();
+
+		/* Create consumer. */
+		Consumer consumer = new Consumer(consumerReactor);
+		initConsumerRole(consumer);
+
+		/* Create provider. */
+		Provider provider = new Provider(providerReactor);
+		initProviderRole(provider);
+
+		/* Initialize the JSON converters. */
+		ReactorJsonConverterOptions jsonConverterOptions = new ReactorJsonConverterOptions();
+		jsonConverterOptions.serviceNameToIdCallback(consumer);
+		jsonConverterOptions.jsonConversionEventCallback(consumer);
+		assertEquals(ReactorReturnCodes.SUCCESS, consumerReactor._reactor.initJsonConverter(jsonConverterOptions, _errorInfo));
+		jsonConverterOptions.serviceNameToIdCallback(provider);
+		jsonConverterOptions.jsonConversionEventCallback(provider);
+		assertEquals(ReactorReturnCodes.SUCCESS, providerReactor._reactor.initJsonConverter(jsonConverterOptions, _errorInfo));
+
+		/* Connect the consumer and provider over WebSocket with the JSON protocol. */
+		ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+		opts.setupDefaultLoginStream(true);
+		opts.setupDefaultDirectoryStream(true);
+		opts.connectionType(ConnectionTypes.WEBSOCKET);
+		opts.setProtocolList("tr_json2");
+		provider.bind(opts);
+		TestReactor.openSession(consumer, provider, opts);
+
+		ReactorChannel providerChannel = provider.reactorChannel();
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.enableAutoPacking(0, 0, _errorInfo));
+
+		/* Provider sends three refreshes, which are packed into one array. */
+		for (int i = 0; i < 3; i++)
+		{
+			createRefreshMessage(refreshMsg, 5 + i, "TRI.N." + i);
+			assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		}
+
+		/* Consumer receives nothing until the provider flushes. */
+		consumerReactor.dispatch(0);
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.flushPackedBuffer(_errorInfo));
+		providerReactor.dispatch(0);
+
+		/* Consumer receives all three refreshes in order. */
+		consumerReactor.dispatch(3);
+		for (int i = 0; i < 3; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+			assertEquals(5 + i, msgEvent.msg().streamId());
+			assertEquals("TRI.N." + i, msgEvent.msg().msgKey().name().toString());
+		}
+
+		/* With a pack time, the array is written once the time expires. */
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.enableAutoPacking(0, 100, _errorInfo));
+		createRefreshMessage(refreshMsg, 8, "TRI.N.3");
+		assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		createRefreshMessage(refreshMsg, 9, "TRI.N.4");
+		assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		providerReactor.dispatch(0, 500);
+
+		consumerReactor.dispatch(2);
+		for (int i = 0; i < 2; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(8 + i, msgEvent.msg().streamId());
+		}
+
+		assertEquals(ReactorReturnCodes.SUCCESS, providerChannel.disableAutoPacking(_errorInfo));
+		TestReactorComponent.closeSession(consumer, provider);
+	}
+
+	@Test
+	public void JsonConversionThreadsTest()
+	{
+		/* Test that JSON messages converted by the JSON conversion threads are dispatched in the
+		 * order they were received, including when the conversion queue of a channel is full. */
+
+		ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+		TestReactorEvent event;
+		ReactorMsgEvent msgEvent;
+		Msg msg = CodecFactory.createMsg();
+		RequestMsg requestMsg = (RequestMsg)msg;
+		RefreshMsg refreshMsg = (RefreshMsg)msg;
+		final int count = 20;
+
+		/* Create reactors. */
+		TestReactor consumerReactor = new TestReactor();
+		TestReactor providerReactor = new TestReactor();
+
+		/* Create consumer. */
+		Consumer consumer = new Consumer(consumerReactor);
+		initConsumerRole(consumer);
+
+		/* Create provider. */
+		Provider provider = new Provider(providerReactor);
+		initProviderRole(provider);
+
+		/* Initialize the JSON converters, the consumer reads one buffer at a time. */
+		ReactorJsonConverterOptions jsonConverterOptions = new ReactorJsonConverterOptions();
+		jsonConverterOptions.serviceNameToIdCallback(consumer);
+		jsonConverterOptions.jsonConversionEventCallback(consumer);
+		jsonConverterOptions.jsonConversionThreads(2);
+		jsonConverterOptions.jsonConversionQueueSize(1);
+		assertEquals(ReactorReturnCodes.SUCCESS, consumerReactor._reactor.initJsonConverter(jsonConverterOptions, _errorInfo));
+		jsonConverterOptions.serviceNameToIdCallback(provider);
+		jsonConverterOptions.jsonConversionEventCallback(provider);
+		jsonConverterOptions.jsonConversionQueueSize(8);
+		assertEquals(ReactorReturnCodes.SUCCESS, providerReactor._reactor.initJsonConverter(jsonConverterOptions, _errorInfo));
+
+		/* Connect the consumer and provider over WebSocket with the JSON protocol. */
+		ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+		opts.setupDefaultLoginStream(true);
+		opts.setupDefaultDirectoryStream(true);
+		opts.connectionType(ConnectionTypes.WEBSOCKET);
+		opts.setProtocolList("tr_json2");
+		provider.bind(opts);
+		TestReactor.openSession(consumer, provider, opts);
+
+		/* Consumer sends requests. */
+		for (int i = 0; i < count; i++)
+		{
+			requestMsg.clear();
+			requestMsg.msgClass(MsgClasses.REQUEST);
+			requestMsg.streamId(5 + i);
+			requestMsg.domainType(DomainTypes.MARKET_PRICE);
+			requestMsg.applyStreaming();
+			requestMsg.msgKey().applyHasServiceId();
+			requestMsg.msgKey().serviceId(Provider.defaultService().serviceId());
+			requestMsg.msgKey().applyHasName();
+			requestMsg.msgKey().name().data("TRI.N." + i);
+			assertTrue(consumer.submit(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		}
+
+		/* Consumer flushes the requests. */
+		consumerReactor.dispatch(0);
+
+		/* Provider receives the requests in order. */
+		providerReactor.dispatch(count);
+		for (int i = 0; i < count; i++)
+		{
+			event = providerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(MsgClasses.REQUEST, msgEvent.msg().msgClass());
+			assertEquals(5 + i, msgEvent.msg().streamId());
+			assertEquals("TRI.N." + i, msgEvent.msg().msgKey().name().toString());
+			assertNotNull(msgEvent.transportBuffer());
+		}
+
+		/* Provider sends refreshes. */
+		for (int i = 0; i < count; i++)
+		{
+			createRefreshMessage(refreshMsg, 5 + i, "TRI.N." + i);
+			assertTrue(provider.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		}
+
+		/* Provider flushes the refreshes. */
+		providerReactor.dispatch(0);
+
+		/* Consumer receives the refreshes in order. */
+		consumerReactor.dispatch(count);
+		for (int i = 0; i < count; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+			assertEquals(5 + i, msgEvent.msg().streamId());
+			assertEquals("TRI.N." + i, msgEvent.msg().msgKey().name().toString());
+		}
+
+		TestReactorComponent.closeSession(consumer, provider);
+	}
+
+	@Test
+	public void DeficitRoundRobinDispatchTest()
+	{
+		/* Test that dispatching with the deficit round-robin policy reads latency sensitive channels first,
+		 * shares maxMessages between the other channels by weight, and updates the dispatch counters. */
+
+		ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+		ReactorDispatchOptions dispatchOptions = ReactorFactory.createReactorDispatchOptions();
+		TestReactorEvent event;
+		ReactorMsgEvent msgEvent;
+		RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+
+		/* Create reactors. Both consumers share the same reactor. */
+		TestReactor consumerReactor = new TestReactor();
+		TestReactor providerReactorA = new TestReactor();
+		TestReactor providerReactorB = new TestReactor();
+
+		Consumer consumerA = new Consumer(consumerReactor);
+		initConsumerRole(consumerA);
+		Consumer consumerB = new Consumer(consumerReactor);
+		initConsumerRole(consumerB);
+
+		Provider providerA = new Provider(providerReactorA);
+		initProviderRole(providerA);
+		Provider providerB = new Provider(providerReactorB);
+		initProviderRole(providerB);
+
+		ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+		opts.setupDefaultLoginStream(true);
+		opts.setupDefaultDirectoryStream(true);
+		providerA.bind(opts);
+		TestReactor.openSession(consumerA, providerA, opts);
+		providerB.bind(opts);
+		TestReactor.openSession(consumerB, providerB, opts);
+
+		ReactorChannel channelA = consumerA.reactorChannel();
+		ReactorChannel channelB = consumerB.reactorChannel();
+
+		assertEquals(ReactorDispatchPolicies.KEY_SET_ORDER, dispatchOptions.schedulingPolicy());
+		assertEquals(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, dispatchOptions.schedulingPolicy(5));
+		assertEquals(ReactorReturnCodes.SUCCESS, dispatchOptions.schedulingPolicy(ReactorDispatchPolicies.DEFICIT_ROUND_ROBIN));
+		assertEquals(ReactorReturnCodes.SUCCESS, dispatchOptions.maxMessages(4));
+		assertEquals(1, channelA.dispatchWeight());
+		assertEquals(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, channelA.dispatchWeight(0));
+		assertFalse(channelB.latencySensitive());
+		channelB.latencySensitive(true);
+		channelA.resetDispatchCounters();
+		channelB.resetDispatchCounters();
+
+		/* Each provider sends three refreshes. */
+		for (int i = 0; i < 3; i++)
+		{
+			createRefreshMessage(refreshMsg, 5 + i, "TRI.N." + i);
+			assertTrue(providerA.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+			assertTrue(providerB.submit(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		}
+
+		providerReactorA.dispatch(0);
+		providerReactorB.dispatch(0);
+
+		/* The latency sensitive channel is read first, the remaining allowance goes to the other channel. */
+		assertTrue(consumerReactor._reactor.dispatchAll(null, dispatchOptions, _errorInfo) > 0);
+		assertEquals(3, channelB.dispatchedMessageCount());
+		assertEquals(1, channelA.dispatchedMessageCount());
+		assertEquals(1, channelA.dispatchDeferredCount());
+		assertEquals(0, channelB.dispatchDeferredCount());
+
+		for (int i = 0; i < 4; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(i < 3 ? channelB : channelA, msgEvent.reactorChannel());
+			assertEquals(i < 3 ? 5 + i : 5, msgEvent.msg().streamId());
+		}
+
+		/* The next dispatch reads the rest of the messages. */
+		assertEquals(ReactorReturnCodes.SUCCESS, consumerReactor._reactor.dispatchAll(null, dispatchOptions, _errorInfo));
+		assertEquals(3, channelA.dispatchedMessageCount());
+
+		for (int i = 1; i < 3; i++)
+		{
+			event = consumerReactor.pollEvent();
+			assertEquals(TestReactorEventTypes.MSG, event.type());
+			msgEvent = (ReactorMsgEvent)event.reactorEvent();
+			assertEquals(channelA, msgEvent.reactorChannel());
+			assertEquals(5 + i, msgEvent.msg().streamId());
+		}
+
+		dispatchOptions.clear();
+		assertEquals(ReactorDispatchPolicies.KEY_SET_ORDER, dispatchOptions.schedulingPolicy());
+
+		TestReactorComponent.closeSession(consumerA, providerA);
+		TestReactorComponent.closeSession(consumerB, providerB);
+	}
+
+	@Test
+	public void MetricsTest_Watchlist()
+	{
+		/* Test that the Reactor and its channels collect metrics when enabled, and that they are
+		 * exported through JMX. */
+
+		ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+		TestReactorEvent event;
+		ReactorMsgEvent msgEvent;
+		Msg msg = CodecFactory.createMsg();
+		RequestMsg requestMsg = (RequestMsg)msg;
+		RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+
+		/* Histograms report percentiles as the upper bound of power-of-two buckets. */
+		ReactorLatencyHistogram histogram = new ReactorLatencyHistogram();
+		assertEquals(0, histogram.percentile(99));
+		for (int i = 1; i <= 100; i++)
+			histogram.record(i * 10);
+		histogram.record(5000);
+		assertEquals(101, histogram.count());
+		assertEquals(5000, histogram.maxTime());
+		assertEquals((50500 + 5000) / 101, histogram.meanTime());
+		assertEquals(511, histogram.percentile(50));
+		assertEquals(1023, histogram.percentile(99));
+		assertEquals(5000, histogram.percentile(100));
+
+		/* Create reactors, only the consumer's collects metrics. */
+		ReactorOptions reactorOptions = ReactorFactory.createReactorOptions();
+		reactorOptions.enableMetricsJmxExport();
+		TestReactor consumerReactor = new TestReactor(reactorOptions);
+		TestReactor providerReactor = new TestReactor();
+
+		Consumer consumer = new Consumer(consumerReactor);
+		initConsumerRole(consumer);
+		((ConsumerRole)consumer.reactorRole()).watchlistOptions().enableWatchlist(true);
+
+		Provider provider = new Provider(providerReactor);
+		initProviderRole(provider);
+
+		ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+		opts.setupDefaultLoginStream(true);
+		opts.setupDefaultDirectoryStream(true);
+		provider.bind(opts);
+		TestReactor.openSession(consumer, provider, opts);
+
+		assertNull(providerReactor._reactor.metrics());
+		assertNull(provider.reactorChannel().metrics());
+
+		ReactorMetrics reactorMetrics = consumerReactor._reactor.metrics();
+		ReactorChannelMetrics channelMetrics = consumer.reactorChannel().metrics();
+		assertNotNull(reactorMetrics);
+		assertNotNull(channelMetrics);
+		assertTrue(reactorMetrics.dispatchCount() > 0);
+		assertEquals(reactorMetrics.dispatchCount(), reactorMetrics.dispatchTime().count());
+		assertEquals(1, channelMetrics.callbackTime(DomainTypes.LOGIN).count());
+		assertNull(channelMetrics.callbackTime(DomainTypes.MARKET_PRICE));
+
+		/* Consumer sends request. */
+		requestMsg.clear();
+		requestMsg.msgClass(MsgClasses.REQUEST);
+		requestMsg.streamId(5);
+		requestMsg.domainType(DomainTypes.MARKET_PRICE);
+		requestMsg.applyStreaming();
+		requestMsg.msgKey().applyHasName();
+		requestMsg.msgKey().name().data("TRI.N");
+		submitOptions.clear();
+		submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+		assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+		assertEquals(1, channelMetrics.messagesSubmitted());
+		assertEquals(0, channelMetrics.submitFailureCount());
+
+		/* Provider receives request and sends refresh. */
+		providerReactor.dispatch(1);
+		event = providerReactor.pollEvent();
+		assertEquals(TestReactorEventTypes.MSG, event.type());
+		msgEvent = (ReactorMsgEvent)event.reactorEvent();
+		createRefreshMessage(refreshMsg, msgEvent.msg().streamId(), "TRI.N");
+		assertTrue(provider.submitAndDispatch(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+		/* Consumer receives refresh. */
+		consumerReactor.dispatch(1);
+		event = consumerReactor.pollEvent();
+		assertEquals(TestReactorEventTypes.MSG, event.type());
+
+		assertEquals(1, channelMetrics.callbackTime(DomainTypes.MARKET_PRICE).count());
+		assertTrue(channelMetrics.callbackTime().count() >= 3);
+		assertEquals(3, channelMetrics.openRequests());
+		assertEquals(3, channelMetrics.openStreams());
+		assertEquals(0, channelMetrics.itemsPendingRecovery());
+		assertTrue(consumer.reactorChannel().dispatchedMessageCount() >= 3);
+
+		/* Both the Reactor and the channel are registered with the platform MBean server. */
+		try
+		{
+			MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+			Set<ObjectName> names = mbeanServer.queryNames(
+					new ObjectName("com.refinitiv.eta.valueadd.reactor:type=ReactorChannel,*"), null);
+			assertEquals(1, names.size());
+			ObjectName channelName = names.iterator().next();
+			assertEquals(1L, mbeanServer.getAttribute(channelName, "MessagesSubmitted"));
+			assertEquals(3, mbeanServer.getAttribute(channelName, "OpenStreams"));
+
+			assertEquals(1, mbeanServer.queryNames(
+					new ObjectName("com.refinitiv.eta.valueadd.reactor:type=Reactor,*"), null).size());
+
+			TestReactorComponent.closeSession(consumer, provider);
+			assertTrue(mbeanServer.queryNames(
+					new ObjectName("com.refinitiv.eta.valueadd.reactor:type=ReactorChannel,*"), null).isEmpty());
+
+			consumerReactor.close();
+			assertTrue(mbeanServer.queryNames(
+					new ObjectName("com.refinitiv.eta.valueadd.reactor:*"), null).isEmpty());
+		}
+		catch (JMException e)
+		{
+			fail("Caught JMException: " + e.getLocalizedMessage());
+		}
+		providerReactor.close();
+	}
+
 	private void initConsumerRole(Consumer consumer)
 	{
 		ConsumerRole consumerRole = (ConsumerRole) consumer.reactorRole();
@@ -465,6 +982,10 @@ public class ReactorInteractionJunit
         assertTrue(consumerRole.watchlistOptions().obeyOpenWindow() == reactorChnlConsumerRole.watchlistOptions().obeyOpenWindow());
         assertTrue(consumerRole.watchlistOptions().postAckTimeout() == reactorChnlConsumerRole.watchlistOptions().postAckTimeout());
         assertTrue(consumerRole.watchlistOptions().requestTimeout() == reactorChnlConsumerRole.watchlistOptions().requestTimeout());
+        assertTrue(consumerRole.watchlistOptions().recoveryRequestRate() == reactorChnlConsumerRole.watchlistOptions().recoveryRequestRate());
+        assertTrue(consumerRole.watchlistOptions().recoveryRequestBurst() == reactorChnlConsumerRole.watchlistOptions().recoveryRequestBurst());
+        assertTrue(consumerRole.watchlistOptions().recoverByPriority() == reactorChnlConsumerRole.watchlistOptions().recoverByPriority());
+        assertTrue(consumerRole.watchlistOptions().packRecoveryRequests() == reactorChnlConsumerRole.watchlistOptions().packRecoveryRequests());
        
         /* Obtain reference to ReactorChannel ProviderRole and verify that
          * user ProviderRole and ReactorChannel ProviderRole are not the same. */
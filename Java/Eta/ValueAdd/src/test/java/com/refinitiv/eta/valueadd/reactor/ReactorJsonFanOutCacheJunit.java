@@ -0,0 +1,160 @@
+///*|-----------------------------------------------------------------------------
+// *|            This source code is provided under the Apache 2.0 license      --
+// *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+// *|                See the project's LICENSE.md for details.                  --
+// *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+///*|-----------------------------------------------------------------------------
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.GetJsonMsgOptions;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonConverterProperties;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.RWFToJsonOptions;
+import com.refinitiv.eta.rdm.DomainTypes;
+
+public class ReactorJsonFanOutCacheJunit
+{
+	JsonConverterError convError = ConverterFactory.createJsonConverterError();
+	JsonConverter converter = ConverterFactory.createJsonConverterBuilder()
+			.setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+			.build(convError);
+
+	/* Encodes an update of an element list holding text. */
+	private Buffer encodeUpdate(int streamId, String text)
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(1000));
+		EncodeIterator encIter = CodecFactory.createEncodeIterator();
+		encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+		UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+		updateMsg.msgClass(MsgClasses.UPDATE);
+		updateMsg.streamId(streamId);
+		updateMsg.domainType(DomainTypes.MARKET_PRICE);
+		updateMsg.containerType(DataTypes.ELEMENT_LIST);
+		assertEquals(CodecReturnCodes.ENCODE_CONTAINER, updateMsg.encodeInit(encIter, 0));
+
+		ElementList elementList = CodecFactory.createElementList();
+		ElementEntry elementEntry = CodecFactory.createElementEntry();
+		Buffer value = CodecFactory.createBuffer();
+		elementList.applyHasStandardData();
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.encodeInit(encIter, null, 0));
+		elementEntry.name().data("Text");
+		elementEntry.dataType(DataTypes.ASCII_STRING);
+		value.data(text);
+		assertEquals(CodecReturnCodes.SUCCESS, elementEntry.encode(encIter, value));
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.encodeComplete(encIter, true));
+		assertEquals(CodecReturnCodes.SUCCESS, updateMsg.encodeComplete(encIter, true));
+		return buffer;
+	}
+
+	private byte[] convert(Buffer rwf)
+	{
+		DecodeIterator decIter = CodecFactory.createDecodeIterator();
+		decIter.setBufferAndRWFVersion(rwf, Codec.majorVersion(), Codec.minorVersion());
+		Msg msg = CodecFactory.createMsg();
+		assertEquals(CodecReturnCodes.SUCCESS, msg.decode(decIter));
+
+		RWFToJsonOptions rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
+		rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+		assertEquals(CodecReturnCodes.SUCCESS, converter.convertRWFToJson(msg, rwfToJsonOptions, convError));
+
+		GetJsonMsgOptions getJsonMsgOptions = ConverterFactory.createGetJsonMsgOptions();
+		getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+		Buffer json = CodecFactory.createBuffer();
+		assertEquals(CodecReturnCodes.SUCCESS, converter.getJsonBuffer(json, getJsonMsgOptions, convError));
+		byte[] bytes = new byte[json.data().position()];
+		json.data().flip();
+		json.data().get(bytes);
+		return bytes;
+	}
+
+	private byte[] write(ReactorJsonFanOutCache cache, ReactorJsonFanOutCache.Entry entry, int streamId)
+	{
+		ByteBuffer data = ByteBuffer.allocate(cache.length(entry, streamId));
+		cache.write(entry, streamId, data);
+		assertFalse(data.hasRemaining());
+		return data.array();
+	}
+
+	@Test
+	public void sameMessageOtherStreamsTest()
+	{
+		ReactorJsonFanOutCache cache = new ReactorJsonFanOutCache(10);
+
+		Buffer first = encodeUpdate(5, "hello");
+		assertNull(cache.get(first));
+		ReactorJsonFanOutCache.Entry entry = cache.put(convert(first));
+		assertNotNull(entry);
+		assertArrayEquals(convert(first), write(cache, entry, 5));
+
+		for (int streamId : new int[] { 6, 123456, -3, Integer.MAX_VALUE, Integer.MIN_VALUE, 0 })
+		{
+			Buffer other = encodeUpdate(streamId, "hello");
+			assertSame(entry, cache.get(other));
+			assertArrayEquals(convert(other), write(cache, entry, streamId));
+		}
+
+		assertNull(cache.get(encodeUpdate(5, "hellO")));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void leastRecentlyUsedDroppedTest()
+	{
+		ReactorJsonFanOutCache cache = new ReactorJsonFanOutCache(2);
+
+		Buffer a = encodeUpdate(1, "a");
+		Buffer b = encodeUpdate(1, "b");
+		Buffer c = encodeUpdate(1, "c");
+
+		assertNull(cache.get(a));
+		assertNotNull(cache.put(convert(a)));
+		assertNull(cache.get(b));
+		assertNotNull(cache.put(convert(b)));
+		assertNotNull(cache.get(a));
+		assertNull(cache.get(c));
+		assertNotNull(cache.put(convert(c)));
+
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get(a));
+		assertNotNull(cache.get(c));
+		assertNull(cache.get(b));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void notCachedWithoutIdTest()
+	{
+		ReactorJsonFanOutCache cache = new ReactorJsonFanOutCache(2);
+
+		assertNull(cache.get(encodeUpdate(1, "a")));
+		assertNull(cache.put("{\"Type\":\"Ping\"}".getBytes()));
+		assertNull(cache.put("{\"ID\":}".getBytes()));
+		assertEquals(0, cache.size());
+	}
+}
@@ -242,6 +242,10 @@ public class ReactorRolesJunit
         consumerRole.watchlistOptions().itemCountHint(4);
         consumerRole.watchlistOptions().maxOutstandingPosts(5);
         consumerRole.watchlistOptions().obeyOpenWindow(true);
+        consumerRole.watchlistOptions().recoveryRequestRate(1000);
+        consumerRole.watchlistOptions().recoveryRequestBurst(200);
+        consumerRole.watchlistOptions().recoverByPriority(true);
+        consumerRole.watchlistOptions().packRecoveryRequests(true);
         consumerRole.watchlistOptions().channelOpenCallback(consumerCallbackHandler);
         assertEquals(ReactorCallbackReturnCodes.SUCCESS, consumerRole.watchlistOptions().channelOpenCallback().reactorChannelEventCallback(reactorChannelEvent));
         assertEquals(2, consumerCallbackHandler._reactorChannelEventCallbackCount);     
@@ -249,6 +253,15 @@ public class ReactorRolesJunit
         assertEquals(4, consumerRole.watchlistOptions().itemCountHint());
         assertEquals(5, consumerRole.watchlistOptions().maxOutstandingPosts());
         assertTrue(consumerRole.watchlistOptions().obeyOpenWindow());
+        assertEquals(1000, consumerRole.watchlistOptions().recoveryRequestRate());
+        assertEquals(200, consumerRole.watchlistOptions().recoveryRequestBurst());
+        assertTrue(consumerRole.watchlistOptions().recoverByPriority());
+        assertTrue(consumerRole.watchlistOptions().packRecoveryRequests());
+        consumerRole.watchlistOptions().clear();
+        assertEquals(0, consumerRole.watchlistOptions().recoveryRequestRate());
+        assertEquals(0, consumerRole.watchlistOptions().recoveryRequestBurst());
+        assertFalse(consumerRole.watchlistOptions().recoverByPriority());
+        assertFalse(consumerRole.watchlistOptions().packRecoveryRequests());
         
         reactorMsgEvent.streamInfo().serviceName("DIRECT_FEED");
         reactorMsgEvent.streamInfo().userSpecObject(new String(" JUNIT TEST "));
@@ -24087,6 +24087,328 @@ public class ReactorWatchlistJUnitNew
         System.out.println(test + " Done\n");
     }
 
+    @Test
+    public void itemRecoveryPacingByPriorityTest_Socket() {
+
+        itemRecoveryPacingByPriority(false, null);
+    }
+
+    @Test
+    public void itemRecoveryPacingByPriorityTest_WebSocket_Rwf() {
+
+        itemRecoveryPacingByPriority(true, "rssl.rwf");
+    }
+
+    private void itemRecoveryPacingByPriority(boolean isWebsocket, String protocolList) {
+
+        /* Test that items recovered when a service comes back up are re-requested in priority order
+         * and paced according to the recovery request rate. */
+        
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        TestReactorEvent event;
+        ReactorMsgEvent msgEvent;
+        Msg msg = CodecFactory.createMsg();
+        RequestMsg requestMsg = (RequestMsg)msg;
+        RequestMsg receivedRequestMsg;
+        String[] itemNames = { "TRI.N", "IBM.N", "GOOG.O" };
+        int[] priorityClasses = { 1, 3, 2 };
+                
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+                
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().channelOpenCallback(consumer);
+        consumerRole.watchlistOptions().requestTimeout(3000);
+        consumerRole.watchlistOptions().recoveryRequestRate(1);
+        consumerRole.watchlistOptions().recoveryRequestBurst(1);
+        consumerRole.watchlistOptions().recoverByPriority(true);
+        
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        /* Connect the consumer and provider. Setup login & directory streams automatically. */
+        ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+        opts.setupDefaultLoginStream(true);
+        opts.setupDefaultDirectoryStream(true);
+
+        setupWebsocket(isWebsocket, protocolList, consumer, provider, opts);
+
+        provider.bind(opts);
+
+        TestReactor.openSession(consumer, provider, opts);
+        
+        /* Provider sends service update to bring service down. */
+        DirectoryUpdate directoryUpdateMsg = (DirectoryUpdate)DirectoryMsgFactory.createMsg();
+        directoryUpdateMsg.clear();
+        directoryUpdateMsg.rdmMsgType(DirectoryMsgType.UPDATE);
+        directoryUpdateMsg.streamId(2);
+        directoryUpdateMsg.applyHasFilter();
+        directoryUpdateMsg.filter(Directory.ServiceFilterFlags.STATE);
+        
+        WlService wlService = new WlService();
+        wlService.rdmService().applyHasState();
+        wlService.rdmService().action(MapEntryActions.UPDATE);
+        wlService.rdmService().state().applyHasStatus();
+        wlService.rdmService().state().action(FilterEntryActions.SET);
+        wlService.rdmService().state().status().dataState(DataStates.SUSPECT);
+        wlService.rdmService().state().status().streamState(StreamStates.CLOSED_RECOVER);
+        wlService.rdmService().state().applyHasAcceptingRequests();
+        wlService.rdmService().state().acceptingRequests(1);
+        wlService.rdmService().state().serviceState(0);
+        wlService.rdmService().serviceId(1);
+        
+        directoryUpdateMsg.serviceList().add(wlService.rdmService());
+
+        assertTrue(provider.submitAndDispatch(directoryUpdateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+        
+        /* Consumer receives directory update. */
+        consumerReactor.dispatch(1);
+        event = consumerReactor.pollEvent();
+        assertEquals(TestReactorEventTypes.DIRECTORY_MSG, event.type());
+        
+        /* Consumer sends requests with different priorities while the service is down. */
+        for (int i = 0; i < itemNames.length; i++)
+        {
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(5 + i);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.applyHasPriority();
+            requestMsg.priority().priorityClass(priorityClasses[i]);
+            requestMsg.priority().count(1);
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data(itemNames[i]);
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submit(requestMsg, submitOptions, false) >= ReactorReturnCodes.SUCCESS);
+        }
+        
+        /* Consumer receives a status for each request since the service is down. */
+        consumerReactor.dispatch(itemNames.length);
+        for (int i = 0; i < itemNames.length; i++)
+        {
+            event = consumerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.STATUS, msgEvent.msg().msgClass());
+        }
+        
+        /* Provider receives nothing. */
+        providerReactor.dispatch(0);
+        
+        /* Provider sends service update to bring service back up. */
+        wlService.rdmService().state().status().dataState(DataStates.OK);
+        wlService.rdmService().state().status().streamState(StreamStates.OPEN);
+        wlService.rdmService().state().serviceState(1);
+        assertTrue(provider.submitAndDispatch(directoryUpdateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+        
+        /* Consumer receives directory update. */
+        consumerReactor.dispatch(1);
+        event = consumerReactor.pollEvent();
+        assertEquals(TestReactorEventTypes.DIRECTORY_MSG, event.type());
+        
+        /* Provider receives one request at a time, highest priority first. */
+        int[] expectedOrder = { 1, 2, 0 };
+        for (int i = 0; i < expectedOrder.length; i++)
+        {
+            if (i > 0)
+            {
+                /* Next request is held back until the consumer's pacing timer expires. */
+                providerReactor.dispatch(0);
+                consumerReactor.dispatch(0, 1000);
+            }
+            
+            providerReactor.dispatch(1);
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.REQUEST, msgEvent.msg().msgClass());
+            
+            receivedRequestMsg = (RequestMsg)msgEvent.msg();
+            assertTrue(receivedRequestMsg.msgKey().checkHasName());
+            assertEquals(itemNames[expectedOrder[i]], receivedRequestMsg.msgKey().name().toString());
+            assertEquals(priorityClasses[expectedOrder[i]], receivedRequestMsg.priority().priorityClass());
+        }
+        
+        TestReactorComponent.closeSession(consumer, provider);
+        tearDownConsumerAndProvider(consumerReactor, providerReactor, consumer, provider);
+    }
+
+    @Test
+    public void itemRecoveryPackingTest_Socket() {
+
+        itemRecoveryPacking(false, null);
+    }
+
+    @Test
+    public void itemRecoveryPackingTest_WebSocket_Rwf() {
+
+        itemRecoveryPacking(true, "rssl.rwf");
+    }
+
+    private void itemRecoveryPacking(boolean isWebsocket, String protocolList) {
+
+        /* Test that items recovered when a service comes back up are re-requested in packed buffers. */
+        
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        TestReactorEvent event;
+        ReactorMsgEvent msgEvent;
+        Msg msg = CodecFactory.createMsg();
+        RequestMsg requestMsg = (RequestMsg)msg;
+        RequestMsg receivedRequestMsg;
+        String[] itemNames = { "TRI.N", "IBM.N", "GOOG.O" };
+        int[] priorityClasses = { 1, 3, 2 };
+                
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+                
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().channelOpenCallback(consumer);
+        consumerRole.watchlistOptions().requestTimeout(3000);
+        consumerRole.watchlistOptions().packRecoveryRequests(true);
+        
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        /* Connect the consumer and provider. Setup login & directory streams automatically. */
+        ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+        opts.setupDefaultLoginStream(true);
+        opts.setupDefaultDirectoryStream(true);
+
+        setupWebsocket(isWebsocket, protocolList, consumer, provider, opts);
+
+        provider.bind(opts);
+
+        TestReactor.openSession(consumer, provider, opts);
+        
+        /* Provider sends service update to bring service down. */
+        DirectoryUpdate directoryUpdateMsg = (DirectoryUpdate)DirectoryMsgFactory.createMsg();
+        directoryUpdateMsg.clear();
+        directoryUpdateMsg.rdmMsgType(DirectoryMsgType.UPDATE);
+        directoryUpdateMsg.streamId(2);
+        directoryUpdateMsg.applyHasFilter();
+        directoryUpdateMsg.filter(Directory.ServiceFilterFlags.STATE);
+        
+        WlService wlService = new WlService();
+        wlService.rdmService().applyHasState();
+        wlService.rdmService().action(MapEntryActions.UPDATE);
+        wlService.rdmService().state().applyHasStatus();
+        wlService.rdmService().state().action(FilterEntryActions.SET);
+        wlService.rdmService().state().status().dataState(DataStates.SUSPECT);
+        wlService.rdmService().state().status().streamState(StreamStates.CLOSED_RECOVER);
+        wlService.rdmService().state().applyHasAcceptingRequests();
+        wlService.rdmService().state().acceptingRequests(1);
+        wlService.rdmService().state().serviceState(0);
+        wlService.rdmService().serviceId(1);
+        
+        directoryUpdateMsg.serviceList().add(wlService.rdmService());
+
+        assertTrue(provider.submitAndDispatch(directoryUpdateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+        
+        /* Consumer receives directory update. */
+        consumerReactor.dispatch(1);
+        event = consumerReactor.pollEvent();
+        assertEquals(TestReactorEventTypes.DIRECTORY_MSG, event.type());
+        
+        /* Consumer sends requests with different priorities while the service is down. */
+        for (int i = 0; i < itemNames.length; i++)
+        {
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(5 + i);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.applyHasPriority();
+            requestMsg.priority().priorityClass(priorityClasses[i]);
+            requestMsg.priority().count(1);
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data(itemNames[i]);
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submit(requestMsg, submitOptions, false) >= ReactorReturnCodes.SUCCESS);
+        }
+        
+        /* Consumer receives a status for each request since the service is down. */
+        consumerReactor.dispatch(itemNames.length);
+        for (int i = 0; i < itemNames.length; i++)
+        {
+            event = consumerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.STATUS, msgEvent.msg().msgClass());
+        }
+        
+        /* Provider receives nothing. */
+        providerReactor.dispatch(0);
+        
+        /* Provider sends service update to bring service back up. */
+        wlService.rdmService().state().status().dataState(DataStates.OK);
+        wlService.rdmService().state().status().streamState(StreamStates.OPEN);
+        wlService.rdmService().state().serviceState(1);
+        assertTrue(provider.submitAndDispatch(directoryUpdateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+        
+        /* Consumer receives directory update. */
+        consumerReactor.dispatch(1);
+        event = consumerReactor.pollEvent();
+        assertEquals(TestReactorEventTypes.DIRECTORY_MSG, event.type());
+        
+        /* The last packed buffer was written when the requests had been sent. */
+        assertNull(consumer.reactorChannel()._packedBuffer);
+        
+        /* Provider receives the requests in the order they were submitted. */
+        providerReactor.dispatch(itemNames.length);
+        for (int i = 0; i < itemNames.length; i++)
+        {
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.REQUEST, msgEvent.msg().msgClass());
+            
+            receivedRequestMsg = (RequestMsg)msgEvent.msg();
+            assertTrue(receivedRequestMsg.msgKey().checkHasName());
+            assertEquals(itemNames[i], receivedRequestMsg.msgKey().name().toString());
+            assertEquals(priorityClasses[i], receivedRequestMsg.priority().priorityClass());
+        }
+        
+        TestReactorComponent.closeSession(consumer, provider);
+        tearDownConsumerAndProvider(consumerReactor, providerReactor, consumer, provider);
+    }
+
     private void tearDownConsumerAndProvider(TestReactor consumerReactor, TestReactor providerReactor, Consumer consumer, Provider provider) {
         consumerReactor.close();
         providerReactor.close();
@@ -0,0 +1,358 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Array;
+import com.refinitiv.eta.codec.ArrayEntry;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Int;
+import com.refinitiv.eta.rdm.ElementNames;
+import com.refinitiv.eta.rdm.ViewTypes;
+
+/** Aggregation of the views of the requests of a watchlist stream. */
+public class WlViewHandlerJunit
+{
+	private WlViewHandler _viewHandler = new WlViewHandler(null);
+	private ReactorErrorInfo _errorInfo = ReactorFactory.createReactorErrorInfo();
+	private WlStream _wlStream = ReactorFactory.createWlStream();
+
+	private WlView fieldIdView(int... fieldIds)
+	{
+		ArrayList<Integer> fieldIdList = new ArrayList<Integer>();
+		for (int fieldId : fieldIds)
+			fieldIdList.add(fieldId);
+		WlView view = _viewHandler.viewCreate(fieldIdList, null, fieldIdList.size(), ViewTypes.FIELD_ID_LIST, _errorInfo);
+		assertNotNull(view);
+		return view;
+	}
+
+	private WlView elementNameView(String... elementNames)
+	{
+		ArrayList<String> elementNameList = new ArrayList<String>(Arrays.asList(elementNames));
+		WlView view = _viewHandler.viewCreate(null, elementNameList, elementNameList.size(), ViewTypes.ELEMENT_NAME_LIST, _errorInfo);
+		assertNotNull(view);
+		return view;
+	}
+
+	/* Creates the aggregate view of the stream from the first view and merges the others into it. */
+	private WlView aggregate(WlView first, WlView... others)
+	{
+		WlView aggView = _viewHandler.aggregateViewCreate(first, _errorInfo);
+		assertNotNull(aggView);
+		_wlStream.aggregateView(aggView);
+		_wlStream._requestsWithViewCount = 1;
+		merge(aggView, others);
+		return aggView;
+	}
+
+	private void merge(WlView aggView, WlView... views)
+	{
+		for (WlView view : views)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.aggregateViewAdd(aggView, view, _errorInfo));
+			++_wlStream._requestsWithViewCount;
+		}
+		assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.aggregateViewMerge(aggView));
+	}
+
+	private void remove(WlView view)
+	{
+		WlRequest wlRequest = ReactorFactory.createWlRequest();
+		wlRequest.requestMsg().applyHasView();
+		wlRequest.view(view);
+		_viewHandler.resorted(false);
+		assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.removeRequestView(_wlStream, wlRequest, _errorInfo));
+	}
+
+	private static int[] fieldIds(WlView view)
+	{
+		return Arrays.copyOf(view._fieldIds, view._elemCount);
+	}
+
+	private static int[] refCounts(WlView view)
+	{
+		return Arrays.copyOf(view._refCounts, view._elemCount);
+	}
+
+	private static List<String> elementNames(WlView view)
+	{
+		return new ArrayList<String>(view._elementNameList.subList(0, view._elemCount));
+	}
+
+	@Test
+	public void viewIsSortedWithoutDuplicates()
+	{
+		WlView view = fieldIdView(22, 6, 25, 6, 22);
+		assertArrayEquals(new int[] {6, 22, 25}, fieldIds(view));
+
+		view = elementNameView("BID", "ASK", "BID");
+		assertEquals(Arrays.asList("ASK", "BID"), elementNames(view));
+	}
+
+	@Test
+	public void overlappingViewsShareEntries()
+	{
+		WlView aggView = aggregate(fieldIdView(2, 4, 6), fieldIdView(4, 5, 6, 7));
+		assertArrayEquals(new int[] {2, 4, 5, 6, 7}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 2, 1, 2, 1}, refCounts(aggView));
+
+		merge(aggView, fieldIdView(1, 4, 8));
+		assertArrayEquals(new int[] {1, 2, 4, 5, 6, 7, 8}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1, 3, 1, 2, 1, 1}, refCounts(aggView));
+	}
+
+	@Test
+	public void subsetViewOnlyCountsReferences()
+	{
+		WlView aggView = aggregate(fieldIdView(1, 2, 3));
+		int[] aggFieldIds = aggView._fieldIds;
+
+		merge(aggView, fieldIdView(2, 3));
+		assertTrue(aggFieldIds == aggView._fieldIds);
+		assertArrayEquals(new int[] {1, 2, 3}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 2, 2}, refCounts(aggView));
+	}
+
+	@Test
+	public void aggregateViewGrowsPastItsInitialCapacity()
+	{
+		int[] even = new int[WlViewHandler.MIN_VIEW_ARRAY_CAPACITY];
+		for (int i = 0; i < even.length; i++)
+			even[i] = i * 2;
+		int[] odd = new int[WlViewHandler.MIN_VIEW_ARRAY_CAPACITY + 4];
+		for (int i = 0; i < odd.length; i++)
+			odd[i] = i * 2 + 1;
+
+		WlView aggView = aggregate(fieldIdView(even), fieldIdView(odd));
+
+		int[] expected = Arrays.copyOf(even, even.length + odd.length);
+		System.arraycopy(odd, 0, expected, even.length, odd.length);
+		Arrays.sort(expected);
+		assertArrayEquals(expected, fieldIds(aggView));
+		int[] ones = new int[expected.length];
+		Arrays.fill(ones, 1);
+		assertArrayEquals(ones, refCounts(aggView));
+		assertTrue(aggView._fieldIds.length >= expected.length);
+		assertTrue(aggView._refCounts.length >= expected.length);
+	}
+
+	@Test
+	public void removedViewDecrementsAndCompacts()
+	{
+		WlView first = fieldIdView(2, 4, 6);
+		WlView second = fieldIdView(4, 5, 6, 7);
+		WlView third = fieldIdView(1, 4, 8);
+		WlView aggView = aggregate(first, second, third);
+		_viewHandler.aggregateViewCommit(aggView);
+
+		remove(second);
+		assertTrue(_viewHandler.resorted());
+		assertArrayEquals(new int[] {1, 2, 4, 6, 8}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1, 2, 1, 1}, refCounts(aggView));
+
+		remove(third);
+		assertTrue(_viewHandler.resorted());
+		assertArrayEquals(new int[] {2, 4, 6}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1, 1}, refCounts(aggView));
+
+		remove(first);
+		assertTrue(_viewHandler.resorted());
+		assertEquals(0, aggView._elemCount);
+		assertEquals(0, _wlStream._requestsWithViewCount);
+	}
+
+	@Test
+	public void removedViewWithSharedEntriesIsNotResent()
+	{
+		WlView subset = fieldIdView(2, 3);
+		WlView aggView = aggregate(fieldIdView(1, 2, 3), subset);
+
+		remove(subset);
+		assertFalse(_viewHandler.resorted());
+		assertArrayEquals(new int[] {1, 2, 3}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1, 1}, refCounts(aggView));
+	}
+
+	@Test
+	public void removedEntriesCanBeAddedAgain()
+	{
+		WlView second = fieldIdView(3, 5, 9);
+		WlView aggView = aggregate(fieldIdView(1, 5), second);
+		remove(second);
+		assertArrayEquals(new int[] {1, 5}, fieldIds(aggView));
+
+		merge(aggView, fieldIdView(0, 3, 5, 9), fieldIdView(9, 10));
+		assertArrayEquals(new int[] {0, 1, 3, 5, 9, 10}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1, 1, 2, 2, 1}, refCounts(aggView));
+	}
+
+	@Test
+	public void newViewRemovedBeforeMergeIsDropped()
+	{
+		WlView aggView = aggregate(fieldIdView(1, 2));
+		WlView pending = fieldIdView(2, 3);
+		assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.aggregateViewAdd(aggView, pending, _errorInfo));
+		++_wlStream._requestsWithViewCount;
+
+		remove(pending);
+		assertTrue(aggView.newViews().isEmpty());
+		assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.aggregateViewMerge(aggView));
+		assertArrayEquals(new int[] {1, 2}, fieldIds(aggView));
+		assertArrayEquals(new int[] {1, 1}, refCounts(aggView));
+	}
+
+	@Test
+	public void overlappingElementNameViews()
+	{
+		WlView first = elementNameView("BID", "ASK");
+		WlView second = elementNameView("ASK", "TRDPRC_1");
+		WlView aggView = aggregate(first, second, elementNameView("ACVOL_1", "BID"));
+		assertEquals(Arrays.asList("ACVOL_1", "ASK", "BID", "TRDPRC_1"), elementNames(aggView));
+		assertArrayEquals(new int[] {1, 2, 2, 1}, refCounts(aggView));
+
+		remove(first);
+		assertFalse(_viewHandler.resorted());
+		remove(second);
+		assertTrue(_viewHandler.resorted());
+		assertEquals(Arrays.asList("ACVOL_1", "BID"), elementNames(aggView));
+		assertArrayEquals(new int[] {1, 1}, refCounts(aggView));
+	}
+
+	@Test
+	public void encodedViewHasTheReferencedFieldIds()
+	{
+		WlView second = fieldIdView(4, 5, 6, 7);
+		WlView aggView = aggregate(fieldIdView(2, 4, 6), second, fieldIdView(1, 4, 8));
+		remove(second);
+
+		assertArrayEquals(new int[] {1, 2, 4, 6, 8}, encodeAndDecode(aggView));
+	}
+
+	/* Adds and removes random overlapping views and checks the aggregate view against the
+	 * reference counts kept in a map. */
+	@Test
+	public void randomAddAndRemoveSequences()
+	{
+		Random random = new Random(27);
+		for (int round = 0; round < 20; round++)
+		{
+			_viewHandler = new WlViewHandler(null);
+			_wlStream = ReactorFactory.createWlStream();
+
+			List<WlView> views = new ArrayList<WlView>();
+			TreeMap<Integer, Integer> expected = new TreeMap<Integer, Integer>();
+
+			WlView first = randomView(random, expected);
+			views.add(first);
+			WlView aggView = aggregate(first);
+
+			for (int step = 0; step < 60; step++)
+			{
+				if (views.isEmpty() || random.nextInt(3) != 0)
+				{
+					WlView view = randomView(random, expected);
+					views.add(view);
+					merge(aggView, view);
+				}
+				else
+				{
+					WlView view = views.remove(random.nextInt(views.size()));
+					for (int fieldId : fieldIds(view))
+					{
+						if (expected.merge(fieldId, -1, Integer::sum) == 0)
+							expected.remove(fieldId);
+					}
+					remove(view);
+				}
+
+				assertEquals(expected.size(), aggView._elemCount);
+				int i = 0;
+				for (Map.Entry<Integer, Integer> entry : expected.entrySet())
+				{
+					assertEquals(entry.getKey().intValue(), aggView._fieldIds[i]);
+					assertEquals(entry.getValue().intValue(), aggView._refCounts[i]);
+					++i;
+				}
+			}
+		}
+	}
+
+	private WlView randomView(Random random, TreeMap<Integer, Integer> expected)
+	{
+		int[] fieldIds = new int[1 + random.nextInt(24)];
+		for (int i = 0; i < fieldIds.length; i++)
+			fieldIds[i] = random.nextInt(64) - 8;
+
+		WlView view = fieldIdView(fieldIds);
+		for (int fieldId : fieldIds(view))
+			expected.merge(fieldId, 1, Integer::sum);
+		return view;
+	}
+
+	private int[] encodeAndDecode(WlView aggView)
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(1024));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		assertEquals(CodecReturnCodes.SUCCESS, _viewHandler.encodeViewRequest(encodeIter, aggView));
+		buffer.data(buffer.data(), 0, buffer.data().position());
+
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		ElementList elementList = CodecFactory.createElementList();
+		ElementEntry elementEntry = CodecFactory.createElementEntry();
+		Array array = CodecFactory.createArray();
+		ArrayEntry arrayEntry = CodecFactory.createArrayEntry();
+		Int fieldId = CodecFactory.createInt();
+
+		List<Integer> fieldIds = new ArrayList<Integer>();
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.decode(decodeIter, null));
+		while (elementEntry.decode(decodeIter) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			if (!elementEntry.name().equals(ElementNames.VIEW_DATA))
+				continue;
+
+			assertEquals(CodecReturnCodes.SUCCESS, array.decode(decodeIter));
+			while (arrayEntry.decode(decodeIter) != CodecReturnCodes.END_OF_CONTAINER)
+			{
+				assertEquals(CodecReturnCodes.SUCCESS, fieldId.decode(decodeIter));
+				fieldIds.add((int)fieldId.toLong());
+			}
+		}
+
+		int[] result = new int[fieldIds.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = fieldIds.get(i);
+		return result;
+	}
+}
@@ -39,6 +39,17 @@ class CacheErrorImpl implements CacheError
         _text = null;
     }
 
+    static int populateErrorInfo(CacheErrorImpl errorInfo, int returnCode, String text)
+    {
+        if (errorInfo != null)
+        {
+            errorInfo.errorId(returnCode);
+            errorInfo.text(text);
+        }
+
+        return returnCode;
+    }
+
     public String toString()
     {
         return "Error" + "\n" + "\tErrorId: " + _errorId + "\n" + "\ttext: " + _text;
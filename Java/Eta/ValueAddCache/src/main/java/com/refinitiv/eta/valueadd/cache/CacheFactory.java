@@ -15,6 +15,10 @@ public class CacheFactory
 	/**
 	 * Creates an instance of a payload cache container.
 	 *
+	 * The cache of the native ETA ValueAdd Cache library (rsslVACacheJNI) is created,
+	 * unless {@link PayloadCacheConfigOptions#useJavaCache()} selects the cache that
+	 * is implemented in Java and keeps the cached payloads off-heap.
+	 *
 	 * This is a thread safe method. 
 	 * @param configOptions The options for configuring this cache container
 	 * @param error Error information populated if this function fails
@@ -34,6 +38,9 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( configOptions.useJavaCache() )
+			return DirectPayloadCacheImpl.create(configOptions, error);
+
 		return PayloadCacheImpl.create(configOptions, error);
 	}
 	
@@ -59,11 +66,15 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( cacheInstance instanceof DirectPayloadCacheImpl )
+			return DirectPayloadEntryImpl.create(cacheInstance, error);
+
 		return PayloadEntryImpl.create(cacheInstance, error);
 	}
 	
 	/**
 	 * Creates an instance of a payload entry cursor.
+	 * The cursor can be used with entries of any payload cache.
 	 *
 	 * This is a thread safe method.
 	 * @return The payload cursor
@@ -71,7 +82,7 @@ public class CacheFactory
 	 */
 	public static PayloadCursor createPayloadCursor()
 	{
-		return PayloadCursorImpl.create();
+		return DirectPayloadCursorImpl.create();
 	}
 
 	/**
@@ -0,0 +1,175 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/* Cached form of one container of a DirectPayloadEntryImpl. The container of the
+ * payload and the containers nested in its entries each have their own store, so
+ * an update is applied to the entries it touches and nothing else.
+ *
+ * depth is the nesting level of the container, 0 for the payload; it selects the
+ * codec objects of the StoreContext used while the container is decoded or encoded. */
+abstract class ContainerStore
+{
+    final StoreContext _context;
+    final int _containerType;
+
+    ContainerStore(StoreContext context, int containerType)
+    {
+        _context = context;
+        _containerType = containerType;
+    }
+
+    /* Applies the container dIter is positioned on; encodedData is its encoding. */
+    abstract int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error);
+
+    /* Encodes the cached container at the position of eIter. Containers with entries
+     * other than field and element lists are split over several calls when a cursor
+     * is given and the buffer cannot hold all entries, see DirectPayloadCursorImpl. */
+    abstract int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error);
+
+    /* Drops the cached content and returns its memory to the pool. */
+    abstract void clear();
+
+    /* Returns a store for the container type; types without entries are kept as they
+     * were received and replaced by every update. */
+    static ContainerStore create(StoreContext context, int containerType)
+    {
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+                return new FieldListStore(context);
+            case DataTypes.ELEMENT_LIST:
+                return new ElementListStore(context);
+            case DataTypes.MAP:
+                return new MapStore(context);
+            case DataTypes.VECTOR:
+                return new VectorStore(context);
+            case DataTypes.SERIES:
+                return new SeriesStore(context);
+            case DataTypes.FILTER_LIST:
+                return new FilterListStore(context);
+            default:
+                return new RawStore(context, containerType);
+        }
+    }
+
+    /* Container types a PayloadEntry caches as message payload. */
+    static boolean isPayloadType(int containerType)
+    {
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+            case DataTypes.ELEMENT_LIST:
+            case DataTypes.MAP:
+            case DataTypes.VECTOR:
+            case DataTypes.SERIES:
+            case DataTypes.FILTER_LIST:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /* Decodes the set definitions of the container just decoded at depth, for the
+     * field or element lists in its entries. */
+    int decodeSetDefs(int depth, DecodeIterator dIter, boolean hasSetDefs, int entryContainerType)
+    {
+        StoreContext.Level level = _context.level(depth);
+        level._hasSetDefs = false;
+        if (!hasSetDefs)
+            return CodecReturnCodes.SUCCESS;
+
+        int ret;
+        if (entryContainerType == DataTypes.FIELD_LIST)
+        {
+            level._fieldSetDefs.clear();
+            ret = level._fieldSetDefs.decode(dIter);
+        }
+        else if (entryContainerType == DataTypes.ELEMENT_LIST)
+        {
+            level._elementSetDefs.clear();
+            ret = level._elementSetDefs.decode(dIter);
+        }
+        else
+            return CodecReturnCodes.SUCCESS;
+
+        level._hasSetDefs = ret >= CodecReturnCodes.SUCCESS;
+        return ret;
+    }
+
+    /* Applies the payload of an entry of this container to the store of the entry,
+     * creating or replacing the store as needed. */
+    int applyEntryPayload(EntryNode node, int containerType, boolean replace, int depth,
+                          DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        ContainerStore payload = node._payload;
+        if (payload != null && (replace || payload._containerType != containerType))
+        {
+            payload.clear();
+            if (payload._containerType != containerType)
+                node._payload = payload = null;
+        }
+
+        if (containerType == DataTypes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+
+        if (payload == null)
+            node._payload = payload = create(_context, containerType);
+
+        return payload.apply(depth + 1, dIter, encodedData, error);
+    }
+
+    static Buffer copyOf(Buffer src)
+    {
+        Buffer copy = CodecFactory.createBuffer();
+        ByteBuffer data = ByteBuffer.allocate(src.length());
+        if (src.length() > 0)
+            ValueSlots.copy(src, data, 0);
+        data.clear();
+        copy.data(data);
+        return copy;
+    }
+
+    static int decodeError(CacheErrorImpl error, int ret, String container)
+    {
+        return CacheErrorImpl.populateErrorInfo(error, ret,
+                                                "DirectPayloadEntryImpl.apply error: unable to decode " + container + ", "
+                                                + CodecReturnCodes.toString(ret) + ".");
+    }
+
+    static int encodeError(CacheErrorImpl error, int ret, String container)
+    {
+        return CacheErrorImpl.populateErrorInfo(error, ret,
+                                                "DirectPayloadEntryImpl.retrieve error: unable to encode " + container + ", "
+                                                + CodecReturnCodes.toString(ret) + ".");
+    }
+
+    /* Permission data and payload of a cached entry of a Map, Vector, Series or FilterList. */
+    static class EntryNode
+    {
+        Buffer _permData;
+        ContainerStore _payload;
+
+        void permData(boolean hasPermData, Buffer permData)
+        {
+            _permData = hasPermData ? copyOf(permData) : null;
+        }
+
+        void clear()
+        {
+            if (_payload != null)
+            {
+                _payload.clear();
+                _payload = null;
+            }
+            _permData = null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/* Off-heap memory of a DirectPayloadCacheImpl. Blocks are carved out of large direct
+ * ByteBuffers in power-of-two sizes and recycled when released, so a cache that has
+ * warmed up applies updates without allocating. Blocks larger than the largest size
+ * class are allocated on their own and left to the garbage collector on release.
+ * Not thread safe, a cache and its entries are used by one thread at a time. */
+class DirectBufferPool
+{
+    static final int MIN_BLOCK_SIZE = 32;
+    static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    private static final int MIN_BLOCK_SHIFT = 5;
+    private static final int SIZE_CLASSES = 12;
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final ArrayDeque<ByteBuffer>[] _freeBlocks;
+    private ByteBuffer _chunk;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    DirectBufferPool()
+    {
+        _freeBlocks = new ArrayDeque[SIZE_CLASSES];
+        for (int sizeClass = 0; sizeClass < SIZE_CLASSES; ++sizeClass)
+            _freeBlocks[sizeClass] = new ArrayDeque<ByteBuffer>();
+    }
+
+    /* Returns a cleared block with a capacity of at least size bytes. */
+    ByteBuffer acquire(int size)
+    {
+        if (size > MAX_BLOCK_SIZE)
+            return ByteBuffer.allocateDirect(size);
+
+        int sizeClass = sizeClass(size);
+        ByteBuffer block = _freeBlocks[sizeClass].poll();
+        if (block == null)
+            return carve(MIN_BLOCK_SIZE << sizeClass);
+
+        block.clear();
+        return block;
+    }
+
+    void release(ByteBuffer block)
+    {
+        if (block.capacity() <= MAX_BLOCK_SIZE)
+            _freeBlocks[sizeClass(block.capacity())].push(block);
+    }
+
+    /* Drops all blocks; blocks acquired before must not be released afterwards. */
+    void clear()
+    {
+        for (int sizeClass = 0; sizeClass < SIZE_CLASSES; ++sizeClass)
+            _freeBlocks[sizeClass].clear();
+
+        _chunk = null;
+    }
+
+    private static int sizeClass(int size)
+    {
+        if (size <= MIN_BLOCK_SIZE)
+            return 0;
+
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_BLOCK_SHIFT;
+    }
+
+    private ByteBuffer carve(int size)
+    {
+        if (_chunk == null || _chunk.remaining() < size)
+            _chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+
+        int position = _chunk.position();
+        _chunk.limit(position + size);
+        ByteBuffer block = _chunk.slice();
+        _chunk.limit(CHUNK_SIZE);
+        _chunk.position(position + size);
+
+        return block;
+    }
+}
@@ -0,0 +1,228 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+
+/* Payload cache implemented in Java. Entries keep their payload in ContainerStores
+ * backed by off-heap blocks of the cache's DirectBufferPool and apply updates in
+ * place; no native library is needed.
+ *
+ * The dictionary is not needed to apply or retrieve payloads, since field values are
+ * cached encoded. It is bound anyway so that the dictionary keys behave as they do
+ * for the native cache. Like the native cache, a cache and its entries must not be
+ * used by more than one thread at a time. */
+class DirectPayloadCacheImpl implements PayloadCache
+{
+    private static final HashMap<String, DataDictionary> _globalDictionaries = new HashMap<String, DataDictionary>();
+    private static final ArrayList<DirectPayloadCacheImpl> _globalCacheList = new ArrayList<DirectPayloadCacheImpl>();
+
+    private final DirectBufferPool _pool = new DirectBufferPool();
+    private final StoreContext _context = new StoreContext(_pool);
+    private final ArrayList<DirectPayloadEntryImpl> _cacheEntryList = new ArrayList<DirectPayloadEntryImpl>();
+    private List<PayloadEntry> _appCacheEntryList;
+    private final int _maxItems;
+    private String _dictKey;
+    private boolean _dictKeyCleared;
+    private boolean _isCacheDestroyed;
+
+    private DirectPayloadCacheImpl(PayloadCacheConfigOptions configOptions)
+    {
+        _maxItems = configOptions.maxItems();
+    }
+
+    static PayloadCache create(PayloadCacheConfigOptions configOptions, CacheError error)
+    {
+        DirectPayloadCacheImpl cache = new DirectPayloadCacheImpl(configOptions);
+
+        synchronized (_globalCacheList)
+        {
+            _globalCacheList.add(cache);
+        }
+
+        return cache;
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        destroyPayloadEntries();
+        _pool.clear();
+
+        synchronized (_globalCacheList)
+        {
+            _globalCacheList.remove(this);
+        }
+
+        _isCacheDestroyed = true;
+    }
+
+    @Override
+    public void destroyAll()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        ArrayList<DirectPayloadCacheImpl> caches;
+        synchronized (_globalCacheList)
+        {
+            caches = new ArrayList<DirectPayloadCacheImpl>(_globalCacheList);
+        }
+
+        for (DirectPayloadCacheImpl cache : caches)
+            cache.destroy();
+    }
+
+    @Override
+    public int setDictionary(DataDictionary fidDictionary, String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("DirectPayloadCacheImpl.setDictionary: error cannot be null, dictionary not bind.");
+
+        if (_isCacheDestroyed)
+            return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                                    "DirectPayloadCacheImpl.setDictionary error: the cache instance has been destroyed.");
+
+        if (dictionaryKey == null || fidDictionary == null)
+            return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadCacheImpl.setDictionary error: dictionaryKey or fidDictionary cannot be null, dictionary not bind.");
+
+        if (!_dictKeyCleared && _dictKey != null && !_dictKey.equals(dictionaryKey))
+            return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadCacheImpl.setDictionary error: not allow to reload dictonary with new key.");
+
+        synchronized (_globalDictionaries)
+        {
+            _globalDictionaries.put(dictionaryKey, fidDictionary);
+        }
+
+        _dictKey = dictionaryKey;
+        _dictKeyCleared = false;
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int setSharedDictionaryKey(String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("DirectPayloadCacheImpl.setSharedDictionaryKey: error cannot be null, dictionary not bind.");
+
+        if (dictionaryKey == null)
+            return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadCacheImpl.setSharedDictionaryKey error: dictionaryKey cannot be null, dictionary not bind.");
+
+        if (_isCacheDestroyed)
+            return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                                    "DirectPayloadCacheImpl.setSharedDictionaryKey error: the cache instance has been destroyed.");
+
+        if (!_dictKeyCleared && _dictKey != null)
+        {
+            if (!_dictKey.equals(dictionaryKey))
+                return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                        "DirectPayloadCacheImpl.setSharedDictionaryKey error: not allow to reload dictonary with new key.");
+            return CodecReturnCodes.SUCCESS;
+        }
+
+        synchronized (_globalDictionaries)
+        {
+            if (!_globalDictionaries.containsKey(dictionaryKey))
+                return CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                        "DirectPayloadCacheImpl.setSharedDictionaryKey error: the shared dictionary is not available, dictionary not bind.");
+        }
+
+        _dictKey = dictionaryKey;
+        _dictKeyCleared = false;
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int entryCount()
+    {
+        if (_isCacheDestroyed)
+            return 0;
+
+        return _cacheEntryList.size();
+    }
+
+    @Override
+    public List<PayloadEntry> entryList()
+    {
+        if (_isCacheDestroyed || _cacheEntryList.isEmpty())
+            return null;
+
+        if (_appCacheEntryList == null)
+            _appCacheEntryList = new ArrayList<PayloadEntry>(_cacheEntryList.size());
+        else
+            _appCacheEntryList.clear();
+
+        _appCacheEntryList.addAll(_cacheEntryList);
+        return _appCacheEntryList;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        destroyPayloadEntries();
+        _dictKeyCleared = true;
+    }
+
+    boolean isDestroyed()
+    {
+        return _isCacheDestroyed;
+    }
+
+    StoreContext context()
+    {
+        return _context;
+    }
+
+    /* Returns false if the cache is limited to maxItems entries and already has them. */
+    boolean addCacheEntry(DirectPayloadEntryImpl entry, CacheError error)
+    {
+        if (_isCacheDestroyed)
+        {
+            CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                             "DirectPayloadCacheImpl.createCacheEntry error: the cache instance has been destroyed.");
+            return false;
+        }
+
+        if (_maxItems > 0 && _cacheEntryList.size() >= _maxItems)
+        {
+            CacheErrorImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
+                                             "DirectPayloadCacheImpl.createCacheEntry error: the cache already holds maxItems (" + _maxItems + ") entries.");
+            return false;
+        }
+
+        entry._cacheIndex = _cacheEntryList.size();
+        _cacheEntryList.add(entry);
+        return true;
+    }
+
+    void removeCacheEntry(DirectPayloadEntryImpl entry)
+    {
+        int last = _cacheEntryList.size() - 1;
+        DirectPayloadEntryImpl moved = _cacheEntryList.get(last);
+        _cacheEntryList.set(entry._cacheIndex, moved);
+        moved._cacheIndex = entry._cacheIndex;
+        _cacheEntryList.remove(last);
+    }
+
+    private void destroyPayloadEntries()
+    {
+        for (int index = _cacheEntryList.size() - 1; index >= 0; --index)
+            _cacheEntryList.get(index).destroyEntry();
+
+        _cacheEntryList.clear();
+    }
+}
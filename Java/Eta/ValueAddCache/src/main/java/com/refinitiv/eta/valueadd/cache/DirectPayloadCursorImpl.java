@@ -0,0 +1,95 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import com.refinitiv.eta.valueadd.cache.PayloadCursor;
+
+/* Cursor of a fragmented retrieval. Map, Vector, Series and FilterList payloads are
+ * retrieved in parts of as many entries as fit the buffer; the cursor remembers how
+ * many entries were retrieved so far. Field and element lists are always retrieved
+ * whole.
+ *
+ * The same cursor is used with entries of a native cache; it then creates and
+ * delegates to a PayloadCursorImpl on first use. */
+class DirectPayloadCursorImpl implements PayloadCursor
+{
+    private boolean _isCursorDestroyed;
+    private boolean _isComplete;
+    private int _position;
+    private PayloadCursorImpl _nativeCursor;
+
+    static PayloadCursor create()
+    {
+        return new DirectPayloadCursorImpl();
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (_isCursorDestroyed)
+            return;
+
+        _isCursorDestroyed = true;
+
+        if (_nativeCursor != null)
+        {
+            _nativeCursor.destroy();
+            _nativeCursor = null;
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        if (_isCursorDestroyed)
+            return;
+
+        _isComplete = false;
+        _position = 0;
+
+        if (_nativeCursor != null)
+            _nativeCursor.clear();
+    }
+
+    @Override
+    public boolean isComplete()
+    {
+        if (_isCursorDestroyed)
+            return false;
+
+        if (_nativeCursor != null)
+            return _nativeCursor.isComplete();
+
+        return _isComplete;
+    }
+
+    boolean isDestroyed()
+    {
+        return _isCursorDestroyed;
+    }
+
+    /* Number of entries retrieved by the previous parts. */
+    int position()
+    {
+        return _position;
+    }
+
+    /* Records a part that ended before the entry at position. */
+    void position(int position)
+    {
+        _position = position;
+        _isComplete = false;
+    }
+
+    void complete()
+    {
+        _position = 0;
+        _isComplete = true;
+    }
+
+    PayloadCursorImpl nativeCursor()
+    {
+        if (_nativeCursor == null)
+            _nativeCursor = (PayloadCursorImpl)PayloadCursorImpl.create();
+
+        return _nativeCursor;
+    }
+}
@@ -0,0 +1,288 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.StatusMsg;
+import com.refinitiv.eta.codec.Vector;
+
+/* Payload entry of a DirectPayloadCacheImpl. The payload is decoded from the message
+ * with an iterator of the entry, so the iterator of the application is left as it was
+ * passed in, as with the native cache. */
+class DirectPayloadEntryImpl implements PayloadEntry
+{
+    private static final int TRACE_BUF_SIZE = 6144;
+
+    private final DirectPayloadCacheImpl _cacheInstance;
+    private final DecodeIterator _applyIter = CodecFactory.createDecodeIterator();
+    private ContainerStore _store;
+    private short _dataType = DataTypes.UNKNOWN;
+    private int _majorVer;
+    private int _minorVer;
+    private boolean _isEntryDestroyed;
+
+    /* position in the entry list of the cache */
+    int _cacheIndex;
+
+    // Variables for trace function only
+    private DecodeIterator _traceDIter;
+    private EncodeIterator _traceEIter;
+    private Buffer _traceBuffer;
+    private DirectPayloadCursorImpl _traceCursor;
+
+    private DirectPayloadEntryImpl(DirectPayloadCacheImpl cacheInstance)
+    {
+        _cacheInstance = cacheInstance;
+    }
+
+    static PayloadEntry create(PayloadCache cacheInstance, CacheError error)
+    {
+        DirectPayloadEntryImpl entry = new DirectPayloadEntryImpl((DirectPayloadCacheImpl)cacheInstance);
+        if (!((DirectPayloadCacheImpl)cacheInstance).addCacheEntry(entry, error))
+            return null;
+
+        return entry;
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (_isEntryDestroyed)
+            return;
+
+        _cacheInstance.removeCacheEntry(this);
+        destroyEntry();
+    }
+
+    /* Destroys the entry without removing it from the cache, for the cache destroying all of them. */
+    void destroyEntry()
+    {
+        clearStore();
+        _isEntryDestroyed = true;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (_isEntryDestroyed)
+            return;
+
+        clearStore();
+    }
+
+    @Override
+    public short dataType()
+    {
+        if (_isEntryDestroyed)
+            return DataTypes.UNKNOWN;
+
+        return _dataType;
+    }
+
+    @Override
+    public int apply(DecodeIterator dIter, Msg msg, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("DirectPayloadEntryImpl.apply: error cannot be null, data not apply.");
+
+        CacheErrorImpl cacheError = (CacheErrorImpl)error;
+        if (_isEntryDestroyed)
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_DATA,
+                                                    "DirectPayloadEntryImpl.apply error: the cache instance has been destroyed.");
+
+        if (dIter == null || msg == null)
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadEntryImpl.apply error: dIter or msg cannot be null, data not apply.");
+
+        switch (msg.msgClass())
+        {
+            case MsgClasses.REFRESH:
+                if (((RefreshMsg)msg).checkClearCache())
+                    clearStore();
+                break;
+            case MsgClasses.UPDATE:
+                break;
+            case MsgClasses.STATUS:
+                if (((StatusMsg)msg).checkClearCache())
+                    clearStore();
+                return CodecReturnCodes.SUCCESS;
+            default:
+                return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_ARGUMENT,
+                                                        "DirectPayloadEntryImpl.apply error: only refresh, update and status messages can be applied.");
+        }
+
+        int containerType = msg.containerType();
+        if (containerType == DataTypes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+
+        if (!ContainerStore.isPayloadType(containerType))
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadEntryImpl.apply error: unsupported container type " + DataTypes.toString(containerType) + ", data not apply.");
+
+        if (_store != null && _store._containerType != containerType)
+        {
+            if (msg.msgClass() != MsgClasses.REFRESH)
+                return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_DATA,
+                                                        "DirectPayloadEntryImpl.apply error: container type " + DataTypes.toString(containerType)
+                                                        + " does not match the cached " + DataTypes.toString(_store._containerType) + ", data not apply.");
+            clearStore();
+        }
+
+        if (_store == null)
+            _store = ContainerStore.create(_cacheInstance.context(), containerType);
+
+        _majorVer = dIter.majorVersion();
+        _minorVer = dIter.minorVersion();
+        _applyIter.clear();
+        _applyIter.setBufferAndRWFVersion(msg.encodedDataBody(), _majorVer, _minorVer);
+
+        int ret = _store.apply(0, _applyIter, msg.encodedDataBody(), cacheError);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        _dataType = (short)containerType;
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int retrieve(EncodeIterator eIter, PayloadCursor cursor, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("DirectPayloadEntryImpl.retrieve: error cannot be null, unable receive data.");
+
+        CacheErrorImpl cacheError = (CacheErrorImpl)error;
+        if (_isEntryDestroyed)
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_DATA,
+                                                    "DirectPayloadEntryImpl.retrieve error: the cache instance has been destroyed.");
+
+        if (eIter == null)
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadEntryImpl.retrieve error: eIter cannot be null, unable receive data.");
+
+        if (cursor != null && (!(cursor instanceof DirectPayloadCursorImpl) || ((DirectPayloadCursorImpl)cursor).isDestroyed()))
+            return CacheErrorImpl.populateErrorInfo(cacheError, CodecReturnCodes.INVALID_ARGUMENT,
+                                                    "DirectPayloadEntryImpl.retrieve error: invalid cursor, unable receive data.");
+
+        DirectPayloadCursorImpl cursorUsed = (DirectPayloadCursorImpl)cursor;
+        if (_store == null)
+        {
+            if (cursorUsed != null)
+                cursorUsed.complete();
+            return CodecReturnCodes.SUCCESS;
+        }
+
+        return _store.retrieve(0, eIter, cursorUsed, cacheError);
+    }
+
+    @Override
+    public int trace(int traceFormat, PrintWriter fileWriter, DataDictionary dictionary)
+    {
+        if (_isEntryDestroyed || fileWriter == null || dictionary == null || _store == null)
+            return CodecReturnCodes.FAILURE;
+
+        if (traceFormat != PayloadEntryTraceFormat.PAYLOAD_ENTRY_TRACE_OPTION_XML)
+        {
+            System.out.println("DirectPayloadEntryImpl.trace error: unsupported trace format.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (_traceCursor == null)
+        {
+            _traceCursor = new DirectPayloadCursorImpl();
+            _traceDIter = CodecFactory.createDecodeIterator();
+            _traceEIter = CodecFactory.createEncodeIterator();
+            _traceBuffer = CodecFactory.createBuffer();
+        }
+        else
+            _traceCursor.clear();
+
+        ByteBuffer traceData = ByteBuffer.allocate(TRACE_BUF_SIZE);
+        CacheErrorImpl error = new CacheErrorImpl();
+        while (!_traceCursor.isComplete())
+        {
+            traceData.clear();
+            _traceBuffer.data(traceData);
+            _traceEIter.clear();
+            _traceEIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+
+            if (_store.retrieve(0, _traceEIter, _traceCursor, error) < CodecReturnCodes.SUCCESS)
+                return CodecReturnCodes.FAILURE;
+
+            _traceBuffer.data(traceData, 0, traceData.position());
+            _traceDIter.clear();
+            _traceDIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+
+            switch (_dataType)
+            {
+                case DataTypes.FIELD_LIST:
+                {
+                    FieldList fieldList = CodecFactory.createFieldList();
+                    fileWriter.printf(fieldList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.ELEMENT_LIST:
+                {
+                    ElementList elementList = CodecFactory.createElementList();
+                    fileWriter.printf(elementList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.MAP:
+                {
+                    Map map = CodecFactory.createMap();
+                    fileWriter.printf(map.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.VECTOR:
+                {
+                    Vector vector = CodecFactory.createVector();
+                    fileWriter.printf(vector.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.SERIES:
+                {
+                    Series series = CodecFactory.createSeries();
+                    fileWriter.printf(series.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.FILTER_LIST:
+                {
+                    FilterList filterList = CodecFactory.createFilterList();
+                    fileWriter.printf(filterList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                default:
+                    System.out.println("DirectPayloadEntryImpl.trace error: unsupported data type.");
+                    return CodecReturnCodes.FAILURE;
+            }
+
+            fileWriter.flush();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    private void clearStore()
+    {
+        if (_store != null)
+        {
+            _store.clear();
+            _store = null;
+        }
+        _dataType = DataTypes.UNKNOWN;
+    }
+}
@@ -0,0 +1,198 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.LocalElementSetDefDb;
+
+/* Cached ElementList. Works like FieldListStore with entries found by name; the data
+ * type of each entry is kept next to its value. */
+class ElementListStore extends ContainerStore
+{
+    private static final int EMPTY = -1;
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private final ValueSlots _values;
+    private Buffer[] _names = new Buffer[INITIAL_TABLE_SIZE / 2];
+    private int[] _hashes = new int[INITIAL_TABLE_SIZE / 2];
+    private int[] _dataTypes = new int[INITIAL_TABLE_SIZE / 2];
+    private int[] _table = newTable(INITIAL_TABLE_SIZE);
+
+    private boolean _hasInfo;
+    private int _elementListNum;
+
+    ElementListStore(StoreContext context)
+    {
+        super(context, DataTypes.ELEMENT_LIST);
+        _values = new ValueSlots(context._pool);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        ElementList elementList = level._elementList;
+        ElementEntry elementEntry = level._elementEntry;
+
+        LocalElementSetDefDb setDefs = null;
+        if (depth > 0 && _context.level(depth - 1)._hasSetDefs)
+            setDefs = _context.level(depth - 1)._elementSetDefs;
+
+        elementList.clear();
+        int ret = elementList.decode(dIter, setDefs);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "element list");
+
+        if (elementList.checkHasInfo())
+        {
+            _hasInfo = true;
+            _elementListNum = elementList.elementListNum();
+        }
+
+        elementEntry.clear();
+        while ((ret = elementEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "element entry");
+
+            Buffer value = elementEntry.encodedData();
+            if (elementEntry.dataType() == DataTypes.REAL && (value = _context.standardReal(dIter, level._real)) == null)
+                return decodeError(error, CodecReturnCodes.INVALID_DATA, "set-defined real of element " + elementEntry.name());
+
+            Buffer name = elementEntry.name();
+            int hash = hash(name);
+            int slot = find(name, hash);
+            if (slot == EMPTY)
+                slot = insert(name, hash, _values.add(value));
+            else
+                _values.set(slot, value);
+
+            _dataTypes[slot] = elementEntry.dataType();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        ElementList elementList = level._elementList;
+        ElementEntry elementEntry = level._elementEntry;
+
+        elementList.clear();
+        elementList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            elementList.applyHasInfo();
+            elementList.elementListNum(_elementListNum);
+        }
+
+        int ret = elementList.encodeInit(eIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            elementList.encodeComplete(eIter, false);
+            return encodeError(error, ret, "element list");
+        }
+
+        int count = _values.count();
+        for (int slot = 0; slot < count; ++slot)
+        {
+            elementEntry.clear();
+            elementEntry.name(_names[slot]);
+            elementEntry.dataType(_dataTypes[slot]);
+            _values.value(slot, level._value);
+            elementEntry.encodedData(level._value);
+            if ((ret = elementEntry.encode(eIter)) < CodecReturnCodes.SUCCESS)
+            {
+                elementList.encodeComplete(eIter, false);
+                return encodeError(error, ret, "element entry");
+            }
+        }
+
+        if ((ret = elementList.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "element list");
+
+        if (cursor != null)
+            cursor.complete();
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        _values.clear();
+        Arrays.fill(_names, null);
+        Arrays.fill(_table, EMPTY);
+        _hasInfo = false;
+    }
+
+    private int find(Buffer name, int hash)
+    {
+        int mask = _table.length - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask)
+        {
+            int slot = _table[index];
+            if (slot == EMPTY || (_hashes[slot] == hash && _names[slot].equals(name)))
+                return slot;
+        }
+    }
+
+    private int insert(Buffer name, int hash, int slot)
+    {
+        if (slot == _names.length)
+        {
+            _names = Arrays.copyOf(_names, slot * 2);
+            _hashes = Arrays.copyOf(_hashes, slot * 2);
+            _dataTypes = Arrays.copyOf(_dataTypes, slot * 2);
+        }
+
+        _names[slot] = copyOf(name);
+        _hashes[slot] = hash;
+
+        if ((slot + 1) * 2 > _table.length)
+        {
+            _table = newTable(_table.length * 2);
+            for (int rehashed = 0; rehashed < slot; ++rehashed)
+                index(rehashed);
+        }
+
+        index(slot);
+        return slot;
+    }
+
+    private void index(int slot)
+    {
+        int mask = _table.length - 1;
+        int index = _hashes[slot] & mask;
+        while (_table[index] != EMPTY)
+            index = (index + 1) & mask;
+
+        _table[index] = slot;
+    }
+
+    private static int hash(Buffer name)
+    {
+        if (name.length() == 0)
+            return 0;
+
+        int hash = name.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] newTable(int size)
+    {
+        int[] table = new int[size];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
@@ -0,0 +1,185 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+
+/* Cached FieldList. Field values are kept in ValueSlots in the order the fields were
+ * first received and are found by field id through an open-addressing table, so an
+ * update overwrites the values of its fields in place. */
+class FieldListStore extends ContainerStore
+{
+    private static final int EMPTY = -1;
+    private static final int INITIAL_TABLE_SIZE = 32;
+
+    private final ValueSlots _values;
+    private int[] _fieldIds = new int[INITIAL_TABLE_SIZE / 2];
+    private int[] _table = newTable(INITIAL_TABLE_SIZE);
+
+    private boolean _hasInfo;
+    private int _dictionaryId;
+    private int _fieldListNum;
+
+    FieldListStore(StoreContext context)
+    {
+        super(context, DataTypes.FIELD_LIST);
+        _values = new ValueSlots(context._pool);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        FieldList fieldList = level._fieldList;
+        FieldEntry fieldEntry = level._fieldEntry;
+
+        LocalFieldSetDefDb setDefs = null;
+        if (depth > 0 && _context.level(depth - 1)._hasSetDefs)
+            setDefs = _context.level(depth - 1)._fieldSetDefs;
+
+        fieldList.clear();
+        int ret = fieldList.decode(dIter, setDefs);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "field list");
+
+        if (fieldList.checkHasInfo())
+        {
+            _hasInfo = true;
+            _dictionaryId = fieldList.dictionaryId();
+            _fieldListNum = fieldList.fieldListNum();
+        }
+
+        fieldEntry.clear();
+        while ((ret = fieldEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "field entry");
+
+            Buffer value = fieldEntry.encodedData();
+            if (fieldEntry.dataType() == DataTypes.REAL && (value = _context.standardReal(dIter, level._real)) == null)
+                return decodeError(error, CodecReturnCodes.INVALID_DATA, "set-defined real of field " + fieldEntry.fieldId());
+
+            int fieldId = fieldEntry.fieldId();
+            int slot = find(fieldId);
+            if (slot == EMPTY)
+                insert(fieldId, _values.add(value));
+            else
+                _values.set(slot, value);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        FieldList fieldList = level._fieldList;
+        FieldEntry fieldEntry = level._fieldEntry;
+
+        fieldList.clear();
+        fieldList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            fieldList.applyHasInfo();
+            fieldList.dictionaryId(_dictionaryId);
+            fieldList.fieldListNum(_fieldListNum);
+        }
+
+        int ret = fieldList.encodeInit(eIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            fieldList.encodeComplete(eIter, false);
+            return encodeError(error, ret, "field list");
+        }
+
+        int count = _values.count();
+        for (int slot = 0; slot < count; ++slot)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(_fieldIds[slot]);
+            _values.value(slot, level._value);
+            fieldEntry.encodedData(level._value);
+            if ((ret = fieldEntry.encode(eIter)) < CodecReturnCodes.SUCCESS)
+            {
+                fieldList.encodeComplete(eIter, false);
+                return encodeError(error, ret, "field entry");
+            }
+        }
+
+        if ((ret = fieldList.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "field list");
+
+        if (cursor != null)
+            cursor.complete();
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        _values.clear();
+        Arrays.fill(_table, EMPTY);
+        _hasInfo = false;
+    }
+
+    private int find(int fieldId)
+    {
+        int mask = _table.length - 1;
+        for (int index = hash(fieldId) & mask; ; index = (index + 1) & mask)
+        {
+            int slot = _table[index];
+            if (slot == EMPTY || _fieldIds[slot] == fieldId)
+                return slot;
+        }
+    }
+
+    private void insert(int fieldId, int slot)
+    {
+        if (slot == _fieldIds.length)
+            _fieldIds = Arrays.copyOf(_fieldIds, slot * 2);
+
+        _fieldIds[slot] = fieldId;
+
+        if ((slot + 1) * 2 > _table.length)
+        {
+            _table = newTable(_table.length * 2);
+            for (int rehashed = 0; rehashed < slot; ++rehashed)
+                index(rehashed);
+        }
+
+        index(slot);
+    }
+
+    private void index(int slot)
+    {
+        int mask = _table.length - 1;
+        int index = hash(_fieldIds[slot]) & mask;
+        while (_table[index] != EMPTY)
+            index = (index + 1) & mask;
+
+        _table[index] = slot;
+    }
+
+    private static int hash(int fieldId)
+    {
+        return (fieldId * 0x9E3779B9) >>> 16;
+    }
+
+    private static int[] newTable(int size)
+    {
+        int[] table = new int[size];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
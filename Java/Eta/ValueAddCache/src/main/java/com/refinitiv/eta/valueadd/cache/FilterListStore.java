@@ -0,0 +1,191 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FilterEntry;
+import com.refinitiv.eta.codec.FilterEntryActions;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.FilterListFlags;
+
+/* Cached FilterList. Filter ids fit in a byte, so entries are kept in an array indexed
+ * by id and retrieved in id order. Cleared entries are retrieved with the CLEAR action. */
+class FilterListStore extends ContainerStore
+{
+    private static final int MAX_FILTER_ID = 255;
+
+    private final FilterNode[] _nodes = new FilterNode[MAX_FILTER_ID + 1];
+    private int _count;
+
+    private int _flags;
+    private int _entryContainerType = DataTypes.NO_DATA;
+
+    FilterListStore(StoreContext context)
+    {
+        super(context, DataTypes.FILTER_LIST);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        FilterList filterList = level._filterList;
+        FilterEntry filterEntry = level._filterEntry;
+
+        filterList.clear();
+        int ret = filterList.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "filter list");
+
+        _flags = filterList.flags() & (FilterListFlags.HAS_PER_ENTRY_PERM_DATA | FilterListFlags.HAS_TOTAL_COUNT_HINT);
+        _entryContainerType = filterList.containerType();
+
+        filterEntry.clear();
+        while ((ret = filterEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "filter entry");
+
+            FilterNode node = _nodes[filterEntry.id()];
+            if (node == null)
+            {
+                node = _nodes[filterEntry.id()] = new FilterNode();
+                ++_count;
+            }
+
+            if (filterEntry.action() == FilterEntryActions.CLEAR)
+            {
+                node.clear();
+                node._cleared = true;
+                continue;
+            }
+
+            boolean replace = filterEntry.action() == FilterEntryActions.SET;
+            if (filterEntry.checkHasPermData() || replace)
+                node.permData(filterEntry.checkHasPermData(), filterEntry.permData());
+
+            int containerType = filterEntry.checkHasContainerType() ? filterEntry.containerType() : filterList.containerType();
+            node._cleared = false;
+            if ((ret = applyEntryPayload(node, containerType, replace, depth, dIter,
+                                         filterEntry.encodedData(), error)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        FilterList filterList = level._filterList;
+        FilterEntry filterEntry = level._filterEntry;
+        int position = cursor != null ? cursor.position() : 0;
+
+        filterList.clear();
+        filterList.flags(_flags & FilterListFlags.HAS_PER_ENTRY_PERM_DATA);
+        filterList.containerType(_entryContainerType);
+        if (position == 0 && (_flags & FilterListFlags.HAS_TOTAL_COUNT_HINT) != 0)
+        {
+            filterList.applyHasTotalCountHint();
+            filterList.totalCountHint(_count);
+        }
+
+        int ret = filterList.encodeInit(eIter);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            filterList.encodeComplete(eIter, false);
+            return encodeError(error, ret, "filter list");
+        }
+
+        /* position counts the entries retrieved, the filter id of the next one is searched */
+        int retrieved = 0;
+        int id = 0;
+        for (; id <= MAX_FILTER_ID; ++id)
+        {
+            FilterNode node = _nodes[id];
+            if (node == null || retrieved++ < position)
+                continue;
+
+            filterEntry.clear();
+            filterEntry.id(id);
+            filterEntry.action(node._cleared ? FilterEntryActions.CLEAR : FilterEntryActions.SET);
+            if (node._permData != null)
+            {
+                filterEntry.applyHasPermData();
+                filterEntry.permData(node._permData);
+            }
+
+            if (node._payload == null)
+                ret = filterEntry.encode(eIter);
+            else
+            {
+                if (node._payload._containerType != _entryContainerType)
+                {
+                    filterEntry.applyHasContainerType();
+                    filterEntry.containerType(node._payload._containerType);
+                }
+
+                if ((ret = filterEntry.encodeInit(eIter, 0)) >= CodecReturnCodes.SUCCESS)
+                {
+                    ret = node._payload.retrieve(depth + 1, eIter, null, error);
+                    int completeRet = filterEntry.encodeComplete(eIter, ret >= CodecReturnCodes.SUCCESS);
+                    if (ret >= CodecReturnCodes.SUCCESS)
+                        ret = completeRet;
+                }
+                else
+                    filterEntry.encodeComplete(eIter, false);
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && retrieved - 1 > position)
+                {
+                    --retrieved;
+                    break;
+                }
+
+                filterList.encodeComplete(eIter, false);
+                return encodeError(error, ret, "filter entry");
+            }
+        }
+
+        if ((ret = filterList.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "filter list");
+
+        if (cursor != null)
+        {
+            if (id > MAX_FILTER_ID)
+                cursor.complete();
+            else
+                cursor.position(retrieved);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        for (int id = 0; id <= MAX_FILTER_ID; ++id)
+        {
+            if (_nodes[id] != null)
+            {
+                _nodes[id].clear();
+                _nodes[id] = null;
+            }
+        }
+
+        _count = 0;
+        _flags = 0;
+    }
+
+    private static class FilterNode extends EntryNode
+    {
+        boolean _cleared;
+    }
+}
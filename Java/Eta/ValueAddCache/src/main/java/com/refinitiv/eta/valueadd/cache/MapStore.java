@@ -0,0 +1,297 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.MapFlags;
+
+/* Cached Map. Entries are found by their encoded key through an open-addressing table
+ * and kept in the order they were added; each entry payload has its own store, so an
+ * UPDATE action is applied to the cached payload in place. The summary data is kept
+ * as received and only retrieved with the first part of a fragmented retrieval. */
+class MapStore extends ContainerStore
+{
+    private static final int INITIAL_TABLE_SIZE = 16;
+    private static final int HEADER_FLAGS = MapFlags.HAS_PER_ENTRY_PERM_DATA | MapFlags.HAS_TOTAL_COUNT_HINT | MapFlags.HAS_KEY_FIELD_ID;
+
+    private MapNode[] _table = new MapNode[INITIAL_TABLE_SIZE];
+    private MapNode _head;
+    private MapNode _tail;
+    private int _count;
+
+    private int _flags;
+    private int _keyPrimitiveType;
+    private int _keyFieldId;
+    private int _entryContainerType = DataTypes.NO_DATA;
+    private final RawStore _summaryData;
+
+    MapStore(StoreContext context)
+    {
+        super(context, DataTypes.MAP);
+        _summaryData = new RawStore(context, DataTypes.NO_DATA);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Map map = level._map;
+        MapEntry mapEntry = level._mapEntry;
+
+        map.clear();
+        int ret = map.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "map");
+
+        _flags = map.flags() & HEADER_FLAGS;
+        _keyPrimitiveType = map.keyPrimitiveType();
+        _keyFieldId = map.keyFieldId();
+        _entryContainerType = map.containerType();
+
+        if (map.checkHasSummaryData())
+            _summaryData.set(map.encodedSummaryData());
+
+        if ((ret = decodeSetDefs(depth, dIter, map.checkHasSetDefs(), map.containerType())) < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "map set definitions");
+
+        mapEntry.clear();
+        while ((ret = mapEntry.decode(dIter, null)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "map entry");
+
+            Buffer key = mapEntry.encodedKey();
+            int hash = hash(key);
+            MapNode node = find(key, hash);
+
+            if (mapEntry.action() == MapEntryActions.DELETE)
+            {
+                if (node != null)
+                    remove(node);
+                continue;
+            }
+
+            if (node == null)
+                node = add(key, hash);
+
+            if (mapEntry.checkHasPermData() || mapEntry.action() == MapEntryActions.ADD)
+                node.permData(mapEntry.checkHasPermData(), mapEntry.permData());
+
+            if ((ret = applyEntryPayload(node, map.containerType(), mapEntry.action() == MapEntryActions.ADD, depth, dIter,
+                                         mapEntry.encodedData(), error)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Map map = level._map;
+        MapEntry mapEntry = level._mapEntry;
+        int position = cursor != null ? cursor.position() : 0;
+
+        map.clear();
+        map.flags(_flags & ~MapFlags.HAS_TOTAL_COUNT_HINT);
+        map.keyPrimitiveType(_keyPrimitiveType);
+        map.keyFieldId(_keyFieldId);
+        map.containerType(_entryContainerType);
+        if (position == 0)
+        {
+            if ((_flags & MapFlags.HAS_TOTAL_COUNT_HINT) != 0)
+            {
+                map.applyHasTotalCountHint();
+                map.totalCountHint(_count);
+            }
+
+            if (!_summaryData.isEmpty())
+            {
+                map.applyHasSummaryData();
+                _summaryData.value(level._value);
+                map.encodedSummaryData(level._value);
+            }
+        }
+
+        int ret = map.encodeInit(eIter, 0, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            map.encodeComplete(eIter, false);
+            return encodeError(error, ret, "map");
+        }
+
+        MapNode node = _head;
+        for (int skipped = 0; skipped < position && node != null; ++skipped)
+            node = node._next;
+
+        for (; node != null; node = node._next, ++position)
+        {
+            mapEntry.clear();
+            mapEntry.action(MapEntryActions.ADD);
+            mapEntry.encodedKey(node._key);
+            if (node._permData != null)
+            {
+                mapEntry.applyHasPermData();
+                mapEntry.permData(node._permData);
+            }
+
+            if (node._payload == null)
+                ret = mapEntry.encode(eIter);
+            else if ((ret = mapEntry.encodeInit(eIter, 0)) >= CodecReturnCodes.SUCCESS)
+            {
+                ret = node._payload.retrieve(depth + 1, eIter, null, error);
+                int completeRet = mapEntry.encodeComplete(eIter, ret >= CodecReturnCodes.SUCCESS);
+                if (ret >= CodecReturnCodes.SUCCESS)
+                    ret = completeRet;
+            }
+            else
+                mapEntry.encodeComplete(eIter, false);
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && position > cursor.position())
+                    break;
+
+                map.encodeComplete(eIter, false);
+                return encodeError(error, ret, "map entry");
+            }
+        }
+
+        if ((ret = map.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "map");
+
+        if (cursor != null)
+        {
+            if (node == null)
+                cursor.complete();
+            else
+                cursor.position(position);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        for (MapNode node = _head; node != null; node = node._next)
+            node.clear();
+
+        Arrays.fill(_table, null);
+        _head = _tail = null;
+        _count = 0;
+        _flags = 0;
+        _summaryData.clear();
+    }
+
+    private MapNode find(Buffer key, int hash)
+    {
+        int mask = _table.length - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask)
+        {
+            MapNode node = _table[index];
+            if (node == null || (node._hash == hash && node._key.equals(key)))
+                return node;
+        }
+    }
+
+    private MapNode add(Buffer key, int hash)
+    {
+        MapNode node = new MapNode();
+        node._key = copyOf(key);
+        node._hash = hash;
+
+        if (_tail == null)
+            _head = node;
+        else
+        {
+            _tail._next = node;
+            node._prev = _tail;
+        }
+        _tail = node;
+
+        if (++_count * 2 > _table.length)
+        {
+            _table = new MapNode[_table.length * 2];
+            for (MapNode indexed = _head; indexed != null; indexed = indexed._next)
+                index(indexed);
+        }
+        else
+            index(node);
+
+        return node;
+    }
+
+    private void index(MapNode node)
+    {
+        int mask = _table.length - 1;
+        int index = node._hash & mask;
+        while (_table[index] != null)
+            index = (index + 1) & mask;
+
+        _table[index] = node;
+    }
+
+    private void remove(MapNode node)
+    {
+        node.clear();
+
+        if (node._prev == null)
+            _head = node._next;
+        else
+            node._prev._next = node._next;
+
+        if (node._next == null)
+            _tail = node._prev;
+        else
+            node._next._prev = node._prev;
+
+        --_count;
+
+        /* backward-shift deletion keeps the probe sequences of the other keys intact */
+        int mask = _table.length - 1;
+        int index = node._hash & mask;
+        while (_table[index] != node)
+            index = (index + 1) & mask;
+
+        int next = (index + 1) & mask;
+        while (_table[next] != null)
+        {
+            int home = _table[next]._hash & mask;
+            if (((next - home) & mask) >= ((next - index) & mask))
+            {
+                _table[index] = _table[next];
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        _table[index] = null;
+    }
+
+    private static int hash(Buffer key)
+    {
+        if (key.length() == 0)
+            return 0;
+
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class MapNode extends EntryNode
+    {
+        Buffer _key;
+        int _hash;
+        MapNode _prev;
+        MapNode _next;
+    }
+}
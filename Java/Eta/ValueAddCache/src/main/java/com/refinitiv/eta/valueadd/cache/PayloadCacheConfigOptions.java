@@ -20,5 +20,21 @@ public interface PayloadCacheConfigOptions
 	 * @param maxItems the max limit to set
 	 */
 	public void maxItems(int maxItems); 
-}
 
+	/**
+	 * Selects the Java cache, which keeps cached payloads off-heap and does not
+	 * need the native ETA ValueAdd Cache library (rsslVACacheJNI). Defaults to
+	 * false, the cache of the native library is used.
+	 * 
+	 * @return true if the Java cache is used
+	 */
+	public boolean useJavaCache();
+
+	/**
+	 * Selects the Java cache instead of the cache of the native ETA ValueAdd Cache
+	 * library (rsslVACacheJNI). Defaults to false.
+	 * 
+	 * @param useJavaCache true to use the Java cache
+	 */
+	public void useJavaCache(boolean useJavaCache);
+}
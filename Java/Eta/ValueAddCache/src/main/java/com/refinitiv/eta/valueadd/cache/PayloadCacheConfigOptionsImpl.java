@@ -6,6 +6,7 @@ import com.refinitiv.eta.valueadd.cache.PayloadCacheConfigOptions;
 class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
 {
     private int _maxItems;
+    private boolean _useJavaCache;
 
     @Override
     public int maxItems()
@@ -19,9 +20,22 @@ class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
         _maxItems = maxItems;
     }
 
+    @Override
+    public boolean useJavaCache()
+    {
+        return _useJavaCache;
+    }
+
+    @Override
+    public void useJavaCache(boolean useJavaCache)
+    {
+        _useJavaCache = useJavaCache;
+    }
+
     public void clear()
     {
         _maxItems = 0;
+        _useJavaCache = false;
     }
 
 }
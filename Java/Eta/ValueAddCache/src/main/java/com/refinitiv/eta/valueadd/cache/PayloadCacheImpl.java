@@ -361,10 +361,7 @@ class PayloadCacheImpl extends VaNode implements PayloadCache
 
     public static int populateErrorInfo(CacheErrorImpl errorInfo, int returnCode, String text)
     {
-        errorInfo.errorId(returnCode);
-        errorInfo.text(text);
-
-        return returnCode;
+        return CacheErrorImpl.populateErrorInfo(errorInfo, returnCode, text);
     }
 
     private KeyETADictRefMap getDictDb(String dictionaryKey)
@@ -188,7 +188,12 @@ class PayloadEntryImpl extends VaNode implements PayloadEntry
             return PayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
                                                       "PayloadCacheEntryImpl.retrieve error: unable to create jni buffer, unable receive data.");
 
-        PayloadCursorImpl cursorUsed = (PayloadCursorImpl)cursor;
+        // a cursor created by CacheFactory is backed by a native cursor once it is used with this entry
+        if (cursor instanceof DirectPayloadCursorImpl && ((DirectPayloadCursorImpl)cursor).isDestroyed())
+            return PayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                      "PayloadCacheEntryImpl.retrieve error: invalid cursor, unable receive data.");
+
+        PayloadCursorImpl cursorUsed = (cursor instanceof DirectPayloadCursorImpl ? ((DirectPayloadCursorImpl)cursor).nativeCursor() : (PayloadCursorImpl)cursor);
         if (cursorUsed != null && cursorUsed.isDestroyed())
             return PayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
                                                       "PayloadCacheEntryImpl.retrieve error: invalid cursor, unable receive data.");
@@ -222,7 +227,7 @@ class PayloadEntryImpl extends VaNode implements PayloadEntry
 
         if (_traceCursor == null)
         {
-            _traceCursor = (PayloadCursorImpl)CacheFactory.createPayloadCursor();
+            _traceCursor = (PayloadCursorImpl)PayloadCursorImpl.create();
             if (_traceCursor == null)
                 return CodecReturnCodes.FAILURE;
         }
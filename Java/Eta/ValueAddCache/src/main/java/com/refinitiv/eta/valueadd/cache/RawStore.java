@@ -0,0 +1,84 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/* Cached container without entries of its own, e.g. Opaque, XML or an AnsiPage, and
+ * summary data. The encoded container is kept off-heap as it was received and each
+ * update replaces it. */
+class RawStore extends ContainerStore
+{
+    private final ValueSlots _value;
+
+    RawStore(StoreContext context, int containerType)
+    {
+        super(context, containerType);
+        _value = new ValueSlots(context._pool);
+    }
+
+    boolean isEmpty()
+    {
+        return _value.count() == 0;
+    }
+
+    void set(Buffer encodedData)
+    {
+        if (_value.count() == 0)
+            _value.add(encodedData);
+        else
+            _value.set(0, encodedData);
+    }
+
+    /* Points value at the cached encoding; valid until the store is modified. */
+    void value(Buffer value)
+    {
+        _value.value(0, value);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        set(encodedData);
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Buffer nonRWFBuffer = level._nonRWFBuffer;
+
+        int ret = eIter.encodeNonRWFInit(nonRWFBuffer);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "data");
+
+        nonRWFBuffer.data().position(nonRWFBuffer.position());
+        if (!isEmpty())
+        {
+            value(level._value);
+            if (nonRWFBuffer.length() < level._value.length())
+            {
+                eIter.encodeNonRWFComplete(nonRWFBuffer, false);
+                return encodeError(error, CodecReturnCodes.BUFFER_TOO_SMALL, "data");
+            }
+
+            ValueSlots.copy(level._value, nonRWFBuffer.data(), nonRWFBuffer.position());
+        }
+
+        if ((ret = eIter.encodeNonRWFComplete(nonRWFBuffer, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "data");
+
+        if (cursor != null)
+            cursor.complete();
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        _value.clear();
+    }
+}
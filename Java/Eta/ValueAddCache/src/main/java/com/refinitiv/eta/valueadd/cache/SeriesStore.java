@@ -0,0 +1,159 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+
+/* Cached Series. Series entries have no key, so every entry received is appended. */
+class SeriesStore extends ContainerStore
+{
+    private static final int INITIAL_ENTRIES = 16;
+
+    private EntryNode[] _nodes = new EntryNode[INITIAL_ENTRIES];
+    private int _count;
+
+    private boolean _hasTotalCountHint;
+    private int _entryContainerType = DataTypes.NO_DATA;
+    private final RawStore _summaryData;
+
+    SeriesStore(StoreContext context)
+    {
+        super(context, DataTypes.SERIES);
+        _summaryData = new RawStore(context, DataTypes.NO_DATA);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Series series = level._series;
+        SeriesEntry seriesEntry = level._seriesEntry;
+
+        series.clear();
+        int ret = series.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "series");
+
+        _hasTotalCountHint = series.checkHasTotalCountHint();
+        _entryContainerType = series.containerType();
+
+        if (series.checkHasSummaryData())
+            _summaryData.set(series.encodedSummaryData());
+
+        if ((ret = decodeSetDefs(depth, dIter, series.checkHasSetDefs(), series.containerType())) < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "series set definitions");
+
+        seriesEntry.clear();
+        while ((ret = seriesEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "series entry");
+
+            if (_count == _nodes.length)
+                _nodes = Arrays.copyOf(_nodes, _count * 2);
+
+            EntryNode node = new EntryNode();
+            _nodes[_count++] = node;
+
+            if ((ret = applyEntryPayload(node, series.containerType(), true, depth, dIter,
+                                         seriesEntry.encodedData(), error)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Series series = level._series;
+        SeriesEntry seriesEntry = level._seriesEntry;
+        int position = cursor != null ? cursor.position() : 0;
+
+        series.clear();
+        series.containerType(_entryContainerType);
+        if (position == 0)
+        {
+            if (_hasTotalCountHint)
+            {
+                series.applyHasTotalCountHint();
+                series.totalCountHint(_count);
+            }
+
+            if (!_summaryData.isEmpty())
+            {
+                series.applyHasSummaryData();
+                _summaryData.value(level._value);
+                series.encodedSummaryData(level._value);
+            }
+        }
+
+        int ret = series.encodeInit(eIter, 0, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            series.encodeComplete(eIter, false);
+            return encodeError(error, ret, "series");
+        }
+
+        for (; position < _count; ++position)
+        {
+            EntryNode node = _nodes[position];
+            seriesEntry.clear();
+
+            if (node._payload == null)
+                ret = seriesEntry.encode(eIter);
+            else if ((ret = seriesEntry.encodeInit(eIter, 0)) >= CodecReturnCodes.SUCCESS)
+            {
+                ret = node._payload.retrieve(depth + 1, eIter, null, error);
+                int completeRet = seriesEntry.encodeComplete(eIter, ret >= CodecReturnCodes.SUCCESS);
+                if (ret >= CodecReturnCodes.SUCCESS)
+                    ret = completeRet;
+            }
+            else
+                seriesEntry.encodeComplete(eIter, false);
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && position > cursor.position())
+                    break;
+
+                series.encodeComplete(eIter, false);
+                return encodeError(error, ret, "series entry");
+            }
+        }
+
+        if ((ret = series.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "series");
+
+        if (cursor != null)
+        {
+            if (position == _count)
+                cursor.complete();
+            else
+                cursor.position(position);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        for (int position = 0; position < _count; ++position)
+            _nodes[position].clear();
+
+        Arrays.fill(_nodes, 0, _count, null);
+        _count = 0;
+        _hasTotalCountHint = false;
+        _summaryData.clear();
+    }
+}
@@ -0,0 +1,109 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.FilterEntry;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.LocalElementSetDefDb;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+
+/* Working objects shared by the ContainerStores of one DirectPayloadCacheImpl. The
+ * codec objects are kept per nesting level since a container is decoded or encoded
+ * while its parent is. */
+class StoreContext
+{
+    private static final int SCRATCH_SIZE = 16;
+
+    final DirectBufferPool _pool;
+    private Level[] _levels = new Level[4];
+
+    private final EncodeIterator _scratchIter = CodecFactory.createEncodeIterator();
+    private final ByteBuffer _scratchData = ByteBuffer.allocate(SCRATCH_SIZE);
+    private final Buffer _scratchBuffer = CodecFactory.createBuffer();
+
+    StoreContext(DirectBufferPool pool)
+    {
+        _pool = pool;
+    }
+
+    Level level(int depth)
+    {
+        if (depth >= _levels.length)
+        {
+            Level[] levels = new Level[_levels.length * 2];
+            System.arraycopy(_levels, 0, levels, 0, _levels.length);
+            _levels = levels;
+        }
+
+        if (_levels[depth] == null)
+            _levels[depth] = new Level();
+
+        return _levels[depth];
+    }
+
+    /* Returns the standard encoding of the REAL entry value the decode iterator is
+     * positioned on. Set-defined entries may carry reserved-bit reals, which are
+     * decoded and encoded again since the cache only retrieves standard data. */
+    Buffer standardReal(DecodeIterator dIter, Real real)
+    {
+        real.clear();
+        if (real.decode(dIter) < CodecReturnCodes.SUCCESS)
+            return null;
+
+        if (real.isBlank())
+        {
+            _scratchBuffer.clear();
+            return _scratchBuffer;
+        }
+
+        _scratchData.clear();
+        _scratchBuffer.data(_scratchData);
+        _scratchIter.clear();
+        _scratchIter.setBufferAndRWFVersion(_scratchBuffer, dIter.majorVersion(), dIter.minorVersion());
+        if (real.encode(_scratchIter) < CodecReturnCodes.SUCCESS)
+            return null;
+
+        _scratchBuffer.data(_scratchData, 0, _scratchData.position());
+        return _scratchBuffer;
+    }
+
+    static class Level
+    {
+        final FieldList _fieldList = CodecFactory.createFieldList();
+        final FieldEntry _fieldEntry = CodecFactory.createFieldEntry();
+        final ElementList _elementList = CodecFactory.createElementList();
+        final ElementEntry _elementEntry = CodecFactory.createElementEntry();
+        final Map _map = CodecFactory.createMap();
+        final MapEntry _mapEntry = CodecFactory.createMapEntry();
+        final Vector _vector = CodecFactory.createVector();
+        final VectorEntry _vectorEntry = CodecFactory.createVectorEntry();
+        final Series _series = CodecFactory.createSeries();
+        final SeriesEntry _seriesEntry = CodecFactory.createSeriesEntry();
+        final FilterList _filterList = CodecFactory.createFilterList();
+        final FilterEntry _filterEntry = CodecFactory.createFilterEntry();
+        final Real _real = CodecFactory.createReal();
+        final Buffer _value = CodecFactory.createBuffer();
+        final Buffer _nonRWFBuffer = CodecFactory.createBuffer();
+
+        /* set definitions of the container decoded at this level, for its entries */
+        final LocalFieldSetDefDb _fieldSetDefs = CodecFactory.createLocalFieldSetDefDb();
+        final LocalElementSetDefDb _elementSetDefs = CodecFactory.createLocalElementSetDefDb();
+        boolean _hasSetDefs;
+    }
+}
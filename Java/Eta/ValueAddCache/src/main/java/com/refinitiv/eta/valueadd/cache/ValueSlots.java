@@ -0,0 +1,176 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+
+/* Encoded values of a cached container, stored in insertion order in one off-heap
+ * block of the cache's DirectBufferPool. Each value has a slot with a little room to
+ * grow; a value that still fits its slot is overwritten in place and a larger one is
+ * moved to the end of the block. Slots left behind are reclaimed when the block is
+ * full, by copying the live slots into a new block. */
+class ValueSlots
+{
+    private static final int SLOT_ALIGNMENT = 4;
+    private static final int INITIAL_SLOTS = 16;
+    private static final int INITIAL_BLOCK_SIZE = 256;
+
+    private final DirectBufferPool _pool;
+    private ByteBuffer _block;
+    private int _used;
+    private int[] _offsets = new int[INITIAL_SLOTS];
+    private int[] _lengths = new int[INITIAL_SLOTS];
+    private int[] _capacities = new int[INITIAL_SLOTS];
+    private int _count;
+
+    ValueSlots(DirectBufferPool pool)
+    {
+        _pool = pool;
+    }
+
+    int count()
+    {
+        return _count;
+    }
+
+    /* Appends value and returns its slot. */
+    int add(Buffer value)
+    {
+        if (_count == _offsets.length)
+        {
+            _offsets = grow(_offsets);
+            _lengths = grow(_lengths);
+            _capacities = grow(_capacities);
+        }
+
+        int slot = _count++;
+        _capacities[slot] = 0;
+        set(slot, value);
+        return slot;
+    }
+
+    void set(int slot, Buffer value)
+    {
+        int length = value.length();
+        if (length > _capacities[slot])
+        {
+            int capacity = (length + SLOT_ALIGNMENT) & ~(SLOT_ALIGNMENT - 1);
+            _capacities[slot] = 0;
+            reserve(capacity);
+            _offsets[slot] = _used;
+            _capacities[slot] = capacity;
+            _used += capacity;
+        }
+
+        _lengths[slot] = length;
+        if (length > 0)
+            copy(value, _block, _offsets[slot]);
+    }
+
+    /* Removes the slot, the slots after it move down by one. */
+    void remove(int slot)
+    {
+        int moved = _count - slot - 1;
+        System.arraycopy(_offsets, slot + 1, _offsets, slot, moved);
+        System.arraycopy(_lengths, slot + 1, _lengths, slot, moved);
+        System.arraycopy(_capacities, slot + 1, _capacities, slot, moved);
+        --_count;
+    }
+
+    /* Points value at the bytes of the slot; valid until the slots are modified. */
+    void value(int slot, Buffer value)
+    {
+        if (_lengths[slot] == 0)
+            value.clear();
+        else
+            value.data(_block, _offsets[slot], _lengths[slot]);
+    }
+
+    int length(int slot)
+    {
+        return _lengths[slot];
+    }
+
+    void clear()
+    {
+        if (_block != null)
+        {
+            _pool.release(_block);
+            _block = null;
+        }
+
+        _used = 0;
+        _count = 0;
+    }
+
+    /* Copies the bytes of src into dst at offset without disturbing either buffer. */
+    static void copy(Buffer src, ByteBuffer dst, int offset)
+    {
+        ByteBuffer data = src.data();
+        int position = src.position();
+        int length = src.length();
+
+        if (data.hasArray())
+        {
+            dst.position(offset);
+            dst.put(data.array(), data.arrayOffset() + position, length);
+            return;
+        }
+
+        int savedPosition = data.position();
+        int savedLimit = data.limit();
+        data.limit(position + length);
+        data.position(position);
+        dst.position(offset);
+        dst.put(data);
+        data.limit(savedLimit);
+        data.position(savedPosition);
+    }
+
+    private void reserve(int capacity)
+    {
+        if (_block != null && _used + capacity <= _block.capacity())
+            return;
+
+        int live = capacity;
+        for (int slot = 0; slot < _count; ++slot)
+            live += _capacities[slot];
+
+        int size = INITIAL_BLOCK_SIZE;
+        while (size < live * 2 && size < live + DirectBufferPool.MAX_BLOCK_SIZE)
+            size <<= 1;
+
+        ByteBuffer block = _pool.acquire(size);
+        int used = 0;
+        for (int slot = 0; slot < _count; ++slot)
+        {
+            if (_capacities[slot] == 0)
+                continue;
+
+            if (_lengths[slot] > 0)
+            {
+                _block.limit(_offsets[slot] + _lengths[slot]);
+                _block.position(_offsets[slot]);
+                block.position(used);
+                block.put(_block);
+            }
+
+            _offsets[slot] = used;
+            used += _capacities[slot];
+        }
+
+        if (_block != null)
+            _pool.release(_block);
+
+        _block = block;
+        _block.clear();
+        _used = used;
+    }
+
+    private static int[] grow(int[] array)
+    {
+        int[] grown = new int[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
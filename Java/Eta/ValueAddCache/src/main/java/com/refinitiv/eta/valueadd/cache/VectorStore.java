@@ -0,0 +1,257 @@
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+import com.refinitiv.eta.codec.VectorEntryActions;
+import com.refinitiv.eta.codec.VectorFlags;
+
+/* Cached Vector. Entries are kept sorted by index; INSERT and DELETE actions of a
+ * sortable vector move the indices of the entries after them. Cleared entries are
+ * retrieved with the CLEAR action. */
+class VectorStore extends ContainerStore
+{
+    private static final int INITIAL_ENTRIES = 16;
+    private static final int HEADER_FLAGS = VectorFlags.HAS_PER_ENTRY_PERM_DATA | VectorFlags.HAS_TOTAL_COUNT_HINT | VectorFlags.SUPPORTS_SORTING;
+
+    private VectorNode[] _nodes = new VectorNode[INITIAL_ENTRIES];
+    private int _count;
+
+    private int _flags;
+    private int _entryContainerType = DataTypes.NO_DATA;
+    private final RawStore _summaryData;
+
+    VectorStore(StoreContext context)
+    {
+        super(context, DataTypes.VECTOR);
+        _summaryData = new RawStore(context, DataTypes.NO_DATA);
+    }
+
+    @Override
+    int apply(int depth, DecodeIterator dIter, Buffer encodedData, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Vector vector = level._vector;
+        VectorEntry vectorEntry = level._vectorEntry;
+
+        vector.clear();
+        int ret = vector.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "vector");
+
+        _flags = vector.flags() & HEADER_FLAGS;
+        _entryContainerType = vector.containerType();
+
+        if (vector.checkHasSummaryData())
+            _summaryData.set(vector.encodedSummaryData());
+
+        if ((ret = decodeSetDefs(depth, dIter, vector.checkHasSetDefs(), vector.containerType())) < CodecReturnCodes.SUCCESS)
+            return decodeError(error, ret, "vector set definitions");
+
+        vectorEntry.clear();
+        while ((ret = vectorEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return decodeError(error, ret, "vector entry");
+
+            long index = vectorEntry.index();
+            int position = search(index);
+            boolean replace = true;
+
+            switch (vectorEntry.action())
+            {
+                case VectorEntryActions.DELETE:
+                    if (position >= 0)
+                    {
+                        _nodes[position].clear();
+                        System.arraycopy(_nodes, position + 1, _nodes, position, --_count - position);
+                        _nodes[_count] = null;
+                    }
+                    if (vector.checkSupportsSorting())
+                        shiftIndices(index + 1, -1);
+                    continue;
+                case VectorEntryActions.CLEAR:
+                    if (position < 0)
+                        position = insert(-position - 1, index);
+                    _nodes[position].clear();
+                    _nodes[position]._cleared = true;
+                    continue;
+                case VectorEntryActions.INSERT:
+                    if (vector.checkSupportsSorting())
+                    {
+                        shiftIndices(index, 1);
+                        position = insert(position < 0 ? -position - 1 : position, index);
+                    }
+                    break;
+                case VectorEntryActions.UPDATE:
+                    replace = false;
+                    break;
+                default:
+                    break;
+            }
+
+            if (position < 0)
+                position = insert(-position - 1, index);
+
+            VectorNode node = _nodes[position];
+            node._cleared = false;
+            if (vectorEntry.checkHasPermData() || replace)
+                node.permData(vectorEntry.checkHasPermData(), vectorEntry.permData());
+
+            if ((ret = applyEntryPayload(node, vector.containerType(), replace, depth, dIter,
+                                         vectorEntry.encodedData(), error)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int retrieve(int depth, EncodeIterator eIter, DirectPayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        StoreContext.Level level = _context.level(depth);
+        Vector vector = level._vector;
+        VectorEntry vectorEntry = level._vectorEntry;
+        int position = cursor != null ? cursor.position() : 0;
+
+        vector.clear();
+        vector.flags(_flags & ~VectorFlags.HAS_TOTAL_COUNT_HINT);
+        vector.containerType(_entryContainerType);
+        if (position == 0)
+        {
+            if ((_flags & VectorFlags.HAS_TOTAL_COUNT_HINT) != 0)
+            {
+                vector.applyHasTotalCountHint();
+                vector.totalCountHint(_count);
+            }
+
+            if (!_summaryData.isEmpty())
+            {
+                vector.applyHasSummaryData();
+                _summaryData.value(level._value);
+                vector.encodedSummaryData(level._value);
+            }
+        }
+
+        int ret = vector.encodeInit(eIter, 0, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            vector.encodeComplete(eIter, false);
+            return encodeError(error, ret, "vector");
+        }
+
+        for (; position < _count; ++position)
+        {
+            VectorNode node = _nodes[position];
+            vectorEntry.clear();
+            vectorEntry.index(node._index);
+            vectorEntry.action(node._cleared ? VectorEntryActions.CLEAR : VectorEntryActions.SET);
+            if (node._permData != null)
+            {
+                vectorEntry.applyHasPermData();
+                vectorEntry.permData(node._permData);
+            }
+
+            if (node._payload == null)
+                ret = vectorEntry.encode(eIter);
+            else if ((ret = vectorEntry.encodeInit(eIter, 0)) >= CodecReturnCodes.SUCCESS)
+            {
+                ret = node._payload.retrieve(depth + 1, eIter, null, error);
+                int completeRet = vectorEntry.encodeComplete(eIter, ret >= CodecReturnCodes.SUCCESS);
+                if (ret >= CodecReturnCodes.SUCCESS)
+                    ret = completeRet;
+            }
+            else
+                vectorEntry.encodeComplete(eIter, false);
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && position > cursor.position())
+                    break;
+
+                vector.encodeComplete(eIter, false);
+                return encodeError(error, ret, "vector entry");
+            }
+        }
+
+        if ((ret = vector.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return encodeError(error, ret, "vector");
+
+        if (cursor != null)
+        {
+            if (position == _count)
+                cursor.complete();
+            else
+                cursor.position(position);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        for (int position = 0; position < _count; ++position)
+            _nodes[position].clear();
+
+        Arrays.fill(_nodes, 0, _count, null);
+        _count = 0;
+        _flags = 0;
+        _summaryData.clear();
+    }
+
+    /* Returns the position of the entry with the index, or -(insertion point) - 1. */
+    private int search(long index)
+    {
+        int low = 0;
+        int high = _count - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            long middleIndex = _nodes[middle]._index;
+            if (middleIndex < index)
+                low = middle + 1;
+            else if (middleIndex > index)
+                high = middle - 1;
+            else
+                return middle;
+        }
+        return -(low + 1);
+    }
+
+    private int insert(int position, long index)
+    {
+        if (_count == _nodes.length)
+            _nodes = Arrays.copyOf(_nodes, _count * 2);
+
+        System.arraycopy(_nodes, position, _nodes, position + 1, _count - position);
+        VectorNode node = new VectorNode();
+        node._index = index;
+        _nodes[position] = node;
+        ++_count;
+        return position;
+    }
+
+    private void shiftIndices(long fromIndex, int delta)
+    {
+        for (int position = 0; position < _count; ++position)
+        {
+            if (_nodes[position]._index >= fromIndex)
+                _nodes[position]._index += delta;
+        }
+    }
+
+    private static class VectorNode extends EntryNode
+    {
+        long _index;
+        boolean _cleared;
+    }
+}
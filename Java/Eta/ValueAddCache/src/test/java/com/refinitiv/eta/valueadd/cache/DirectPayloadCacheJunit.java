@@ -0,0 +1,781 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license      --
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.  --
+ *|                See the project's LICENSE.md for details.                  --
+ *|           Copyright (C) 2023 Refinitiv. All rights reserved.              --
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.FieldSetDefEntry;
+import com.refinitiv.eta.codec.FilterEntry;
+import com.refinitiv.eta.codec.FilterEntryActions;
+import com.refinitiv.eta.codec.FilterEntryFlags;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+import com.refinitiv.eta.codec.StatusMsg;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+import com.refinitiv.eta.codec.VectorEntryActions;
+import com.refinitiv.eta.codec.VectorFlags;
+
+/* Applies refresh and update payloads to entries of the Java payload cache and checks
+ * the retrieved payloads. Payloads are compared in a compact text form built by
+ * describe(), e.g. {22:10.5 25:11.0} for a field list and [K1:ADD:{...}] for a map. */
+public class DirectPayloadCacheJunit
+{
+    private static final int BUF_SIZE = 65536;
+
+    private PayloadCache _cache;
+    private PayloadEntry _entry;
+    private CacheError _error;
+
+    @Before
+    public void setUp()
+    {
+        _error = CacheFactory.createCacheError();
+        PayloadCacheConfigOptions configOptions = CacheFactory.createPayloadCacheConfig();
+        configOptions.useJavaCache(true);
+        _cache = CacheFactory.createPayloadCache(configOptions, _error);
+        assertTrue(_cache instanceof DirectPayloadCacheImpl);
+
+        _entry = CacheFactory.createPayloadEntry(_cache, _error);
+        assertTrue(_entry instanceof DirectPayloadEntryImpl);
+    }
+
+    @After
+    public void tearDown()
+    {
+        _cache.destroy();
+    }
+
+    @Test
+    public void nativeCacheIsTheDefault()
+    {
+        assertFalse(CacheFactory.createPayloadCacheConfig().useJavaCache());
+    }
+
+    @Test
+    public void fieldListTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(22, 10.5, 25, 11.0));
+        assertEquals(DataTypes.FIELD_LIST, _entry.dataType());
+        assertEquals("{22:10.5 25:11.0}", retrieve());
+
+        /* updated fields are overwritten in place, new fields are added at the end */
+        apply(MsgClasses.UPDATE, DataTypes.FIELD_LIST, fieldList(25, 11.5, 32, 100L));
+        assertEquals("{22:10.5 25:11.5 32:100}", retrieve());
+
+        /* a blank value replaces the cached one */
+        apply(MsgClasses.UPDATE, DataTypes.FIELD_LIST, fieldList(22, null));
+        assertEquals("{22:blank 25:11.5 32:100}", retrieve());
+    }
+
+    @Test
+    public void elementListTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.ELEMENT_LIST, elementList("Bid", 10.5, "Volume", 100L));
+        assertEquals(DataTypes.ELEMENT_LIST, _entry.dataType());
+        assertEquals("{Bid:10.5 Volume:100}", retrieve());
+
+        apply(MsgClasses.UPDATE, DataTypes.ELEMENT_LIST, elementList("Volume", 200L, "Ask", 11.0));
+        assertEquals("{Bid:10.5 Volume:200 Ask:11.0}", retrieve());
+    }
+
+    @Test
+    public void mapTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.MAP, map(fieldList(15, 840L), null,
+                mapEntry("A", MapEntryActions.ADD, fieldList(22, 10.5, 25, 11.0)),
+                mapEntry("B", MapEntryActions.ADD, fieldList(22, 20.5))));
+        assertEquals(DataTypes.MAP, _entry.dataType());
+        assertEquals("summary{15:840} [A:ADD:{22:10.5 25:11.0} B:ADD:{22:20.5}]", retrieve());
+
+        /* UPDATE merges into the cached entry, ADD replaces it, DELETE removes it */
+        apply(MsgClasses.UPDATE, DataTypes.MAP, map(null, null,
+                mapEntry("A", MapEntryActions.UPDATE, fieldList(25, 11.5)),
+                mapEntry("B", MapEntryActions.DELETE, null),
+                mapEntry("C", MapEntryActions.ADD, fieldList(22, 30.5))));
+        assertEquals("summary{15:840} [A:ADD:{22:10.5 25:11.5} C:ADD:{22:30.5}]", retrieve());
+
+        apply(MsgClasses.UPDATE, DataTypes.MAP, map(null, null,
+                mapEntry("A", MapEntryActions.ADD, fieldList(32, 100L)),
+                mapEntry("B", MapEntryActions.ADD, fieldList(22, 40.5))));
+        assertEquals("summary{15:840} [A:ADD:{32:100} C:ADD:{22:30.5} B:ADD:{22:40.5}]", retrieve());
+    }
+
+    @Test
+    public void mapSetDefinitionsTest()
+    {
+        FieldSetDefEntry[] setDefEntries = new FieldSetDefEntry[2];
+        setDefEntries[0] = CodecFactory.createFieldSetDefEntry();
+        setDefEntries[0].fieldId(22);
+        setDefEntries[0].dataType(DataTypes.REAL_4RB);
+        setDefEntries[1] = CodecFactory.createFieldSetDefEntry();
+        setDefEntries[1].fieldId(32);
+        setDefEntries[1].dataType(DataTypes.UINT_4);
+
+        LocalFieldSetDefDb setDefs = CodecFactory.createLocalFieldSetDefDb();
+        setDefs.definitions()[0].setId(0);
+        setDefs.definitions()[0].count(2);
+        setDefs.definitions()[0].entries(setDefEntries);
+
+        apply(MsgClasses.REFRESH, DataTypes.MAP, map(null, setDefs,
+                mapEntry("A", MapEntryActions.ADD, setFieldList(setDefs, 10.5, 100L, 25, 11.0)),
+                mapEntry("B", MapEntryActions.ADD, setFieldList(setDefs, 12.5, 200L, 25, 21.0))));
+
+        /* set-defined entries are retrieved as standard data */
+        assertEquals("[A:ADD:{22:10.5 32:100 25:11.0} B:ADD:{22:12.5 32:200 25:21.0}]", retrieve());
+
+        /* an update without the set definitions merges with the cached entries */
+        apply(MsgClasses.UPDATE, DataTypes.MAP, map(null, null,
+                mapEntry("A", MapEntryActions.UPDATE, fieldList(32, 150L))));
+        assertEquals("[A:ADD:{22:10.5 32:150 25:11.0} B:ADD:{22:12.5 32:200 25:21.0}]", retrieve());
+    }
+
+    @Test
+    public void vectorTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.VECTOR, vector(true,
+                vectorEntry(0, VectorEntryActions.SET, fieldList(22, 10.5)),
+                vectorEntry(1, VectorEntryActions.SET, fieldList(22, 11.5)),
+                vectorEntry(2, VectorEntryActions.SET, fieldList(22, 12.5))));
+        assertEquals(DataTypes.VECTOR, _entry.dataType());
+        assertEquals("[0:SET:{22:10.5} 1:SET:{22:11.5} 2:SET:{22:12.5}]", retrieve());
+
+        /* INSERT and DELETE of a sortable vector move the indices of the entries after them */
+        apply(MsgClasses.UPDATE, DataTypes.VECTOR, vector(true,
+                vectorEntry(1, VectorEntryActions.INSERT, fieldList(22, 99.5)),
+                vectorEntry(0, VectorEntryActions.DELETE, null)));
+        assertEquals("[0:SET:{22:99.5} 1:SET:{22:11.5} 2:SET:{22:12.5}]", retrieve());
+
+        apply(MsgClasses.UPDATE, DataTypes.VECTOR, vector(true,
+                vectorEntry(1, VectorEntryActions.UPDATE, fieldList(25, 13.0)),
+                vectorEntry(2, VectorEntryActions.CLEAR, null)));
+        assertEquals("[0:SET:{22:99.5} 1:SET:{22:11.5 25:13.0} 2:CLEAR]", retrieve());
+    }
+
+    @Test
+    public void seriesTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.SERIES, series(elementList("Name", "summary"),
+                elementList("Bid", 10.5), elementList("Bid", 11.5)));
+        assertEquals(DataTypes.SERIES, _entry.dataType());
+        assertEquals("summary{Name:summary} [{Bid:10.5} {Bid:11.5}]", retrieve());
+
+        /* series entries have no key and are appended */
+        apply(MsgClasses.UPDATE, DataTypes.SERIES, series(null, elementList("Bid", 12.5)));
+        assertEquals("summary{Name:summary} [{Bid:10.5} {Bid:11.5} {Bid:12.5}]", retrieve());
+    }
+
+    @Test
+    public void filterListTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.FILTER_LIST, filterList(
+                filterEntry(1, FilterEntryActions.SET, DataTypes.ELEMENT_LIST, elementList("Name", "one")),
+                filterEntry(2, FilterEntryActions.SET, DataTypes.FIELD_LIST, fieldList(22, 10.5))));
+        assertEquals(DataTypes.FILTER_LIST, _entry.dataType());
+        assertEquals("[1:SET:{Name:one} 2:SET:{22:10.5}]", retrieve());
+
+        apply(MsgClasses.UPDATE, DataTypes.FILTER_LIST, filterList(
+                filterEntry(2, FilterEntryActions.UPDATE, DataTypes.FIELD_LIST, fieldList(25, 11.0)),
+                filterEntry(1, FilterEntryActions.CLEAR, DataTypes.NO_DATA, null)));
+        assertEquals("[1:CLEAR 2:SET:{22:10.5 25:11.0}]", retrieve());
+
+        apply(MsgClasses.UPDATE, DataTypes.FILTER_LIST, filterList(
+                filterEntry(1, FilterEntryActions.SET, DataTypes.ELEMENT_LIST, elementList("Name", "two"))));
+        assertEquals("[1:SET:{Name:two} 2:SET:{22:10.5 25:11.0}]", retrieve());
+    }
+
+    @Test
+    public void cursorTest()
+    {
+        Object[][] entries = new Object[50][];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < entries.length; ++i)
+        {
+            entries[i] = mapEntry("K" + i, MapEntryActions.ADD, fieldList(22, i + 0.5));
+            expected.append(i == 0 ? "" : " ").append("K" + i + ":ADD:{22:" + (i + 0.5) + "}");
+        }
+        apply(MsgClasses.REFRESH, DataTypes.MAP, map(fieldList(15, 840L), null, entries));
+
+        /* each part is a map of the entries that fit, the summary data comes with the first */
+        PayloadCursor cursor = CacheFactory.createPayloadCursor();
+        List<String> parts = new ArrayList<String>();
+        while (!cursor.isComplete())
+        {
+            assertTrue("too many parts", parts.size() < entries.length);
+            parts.add(retrieve(cursor, 128));
+        }
+
+        assertTrue(parts.size() > 1);
+        assertTrue(parts.get(0).startsWith("summary{15:840} ["));
+        StringBuilder retrieved = new StringBuilder();
+        for (int i = 0; i < parts.size(); ++i)
+        {
+            String part = parts.get(i);
+            if (i > 0)
+            {
+                assertFalse(part.startsWith("summary"));
+                retrieved.append(" ");
+            }
+            retrieved.append(part.substring(part.indexOf('[') + 1, part.length() - 1));
+        }
+        assertEquals(expected.toString(), retrieved.toString());
+
+        /* a cleared cursor starts over */
+        cursor.clear();
+        assertFalse(cursor.isComplete());
+        assertEquals(parts.get(0), retrieve(cursor, 128));
+
+        /* a destroyed cursor is rejected */
+        cursor.destroy();
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, _entry.retrieve(encodeIterator(buffer(BUF_SIZE)), cursor, _error));
+    }
+
+    @Test
+    public void entryClearTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(22, 10.5, 25, 11.0));
+        _entry.clear();
+        assertEquals(DataTypes.UNKNOWN, _entry.dataType());
+        assertEquals("", retrieve());
+
+        /* the entry can be used again, also for another container type */
+        apply(MsgClasses.REFRESH, DataTypes.ELEMENT_LIST, elementList("Bid", 10.5));
+        assertEquals("{Bid:10.5}", retrieve());
+    }
+
+    @Test
+    public void clearCacheFlagTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(22, 10.5, 25, 11.0));
+
+        RefreshMsg refreshMsg = (RefreshMsg)msg(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(32, 100L));
+        refreshMsg.applyClearCache();
+        assertEquals(CodecReturnCodes.SUCCESS, _entry.apply(decodeIterator(refreshMsg.encodedDataBody()), refreshMsg, _error));
+        assertEquals("{32:100}", retrieve());
+
+        StatusMsg statusMsg = (StatusMsg)CodecFactory.createMsg();
+        statusMsg.msgClass(MsgClasses.STATUS);
+        statusMsg.containerType(DataTypes.NO_DATA);
+        statusMsg.applyClearCache();
+        assertEquals(CodecReturnCodes.SUCCESS, _entry.apply(decodeIterator(buffer(0)), statusMsg, _error));
+        assertEquals(DataTypes.UNKNOWN, _entry.dataType());
+    }
+
+    @Test
+    public void entryDestroyTest()
+    {
+        PayloadEntry other = CacheFactory.createPayloadEntry(_cache, _error);
+        assertEquals(2, _cache.entryCount());
+
+        apply(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(22, 10.5));
+        _entry.destroy();
+        assertEquals(1, _cache.entryCount());
+        assertSame(other, _cache.entryList().get(0));
+
+        Msg msg = msg(MsgClasses.UPDATE, DataTypes.FIELD_LIST, fieldList(22, 11.5));
+        assertEquals(CodecReturnCodes.INVALID_DATA, _entry.apply(decodeIterator(msg.encodedDataBody()), msg, _error));
+        assertEquals(CodecReturnCodes.INVALID_DATA, _entry.retrieve(encodeIterator(buffer(BUF_SIZE)), null, _error));
+        assertEquals(DataTypes.UNKNOWN, _entry.dataType());
+
+        /* destroying the cache destroys its entries */
+        _cache.destroy();
+        assertEquals(0, _cache.entryCount());
+        assertEquals(CodecReturnCodes.INVALID_DATA, other.apply(decodeIterator(msg.encodedDataBody()), msg, _error));
+        assertNull(CacheFactory.createPayloadEntry(_cache, _error));
+    }
+
+    @Test
+    public void maxItemsTest()
+    {
+        PayloadCacheConfigOptions configOptions = CacheFactory.createPayloadCacheConfig();
+        configOptions.useJavaCache(true);
+        configOptions.maxItems(1);
+        PayloadCache cache = CacheFactory.createPayloadCache(configOptions, _error);
+
+        PayloadEntry entry = CacheFactory.createPayloadEntry(cache, _error);
+        assertNotNull(entry);
+        assertNull(CacheFactory.createPayloadEntry(cache, _error));
+        assertEquals(CodecReturnCodes.FAILURE, _error.errorId());
+
+        entry.destroy();
+        assertNotNull(CacheFactory.createPayloadEntry(cache, _error));
+        cache.destroy();
+    }
+
+    @Test
+    public void containerTypeMismatchTest()
+    {
+        apply(MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(22, 10.5));
+
+        Msg msg = msg(MsgClasses.UPDATE, DataTypes.ELEMENT_LIST, elementList("Bid", 11.5));
+        assertEquals(CodecReturnCodes.INVALID_DATA, _entry.apply(decodeIterator(msg.encodedDataBody()), msg, _error));
+        assertEquals("{22:10.5}", retrieve());
+    }
+
+    /* Encoding helpers. Values are Doubles encoded as REAL, Longs as UINT, Strings as
+     * ASCII_STRING and null as a blank REAL. Nested containers are encoded on their own
+     * first and passed to the entries of their parent as encoded data. */
+
+    private interface Encoder
+    {
+        int encode(EncodeIterator eIter);
+    }
+
+    private static Buffer encode(Encoder encoder)
+    {
+        ByteBuffer data = ByteBuffer.allocate(BUF_SIZE);
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(data);
+        assertEquals(CodecReturnCodes.SUCCESS, encoder.encode(encodeIterator(buffer)));
+        buffer.data(data, 0, data.position());
+        return buffer;
+    }
+
+    private static int fieldType(int fieldId)
+    {
+        return fieldId == 15 || fieldId == 32 ? DataTypes.UINT : DataTypes.REAL;
+    }
+
+    private static Real real(Object value)
+    {
+        Real real = CodecFactory.createReal();
+        real.value((Double)value, RealHints.EXPONENT_1);
+        return real;
+    }
+
+    private static UInt uint(Object value)
+    {
+        UInt uint = CodecFactory.createUInt();
+        uint.value((Long)value);
+        return uint;
+    }
+
+    private static Buffer fieldList(Object... fieldIdsAndValues)
+    {
+        return encode(eIter -> {
+            FieldList fieldList = CodecFactory.createFieldList();
+            FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+            fieldList.applyHasStandardData();
+            int ret = fieldList.encodeInit(eIter, null, 0);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < fieldIdsAndValues.length; i += 2)
+            {
+                Object value = fieldIdsAndValues[i + 1];
+                fieldEntry.clear();
+                fieldEntry.fieldId((Integer)fieldIdsAndValues[i]);
+                fieldEntry.dataType(value instanceof Long ? DataTypes.UINT : DataTypes.REAL);
+                if (value == null)
+                    ret = fieldEntry.encodeBlank(eIter);
+                else if (value instanceof Long)
+                    ret = fieldEntry.encode(eIter, uint(value));
+                else
+                    ret = fieldEntry.encode(eIter, real(value));
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : fieldList.encodeComplete(eIter, true);
+        });
+    }
+
+    /* Field list with the REAL and UINT values of set definition 0 followed by standard fields. */
+    private static Buffer setFieldList(LocalFieldSetDefDb setDefs, double setReal, long setUInt, Object... fieldIdsAndValues)
+    {
+        return encode(eIter -> {
+            FieldList fieldList = CodecFactory.createFieldList();
+            FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+            fieldList.applyHasSetData();
+            fieldList.applyHasSetId();
+            fieldList.setId(0);
+            if (fieldIdsAndValues.length > 0)
+                fieldList.applyHasStandardData();
+            int ret = fieldList.encodeInit(eIter, setDefs, 0);
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            fieldEntry.fieldId(22);
+            fieldEntry.dataType(DataTypes.REAL);
+            if ((ret = fieldEntry.encode(eIter, real(setReal))) < CodecReturnCodes.SUCCESS)
+                return ret;
+            fieldEntry.clear();
+            fieldEntry.fieldId(32);
+            fieldEntry.dataType(DataTypes.UINT);
+            if ((ret = fieldEntry.encode(eIter, uint(setUInt))) != CodecReturnCodes.SET_COMPLETE)
+                return CodecReturnCodes.FAILURE;
+
+            for (int i = 0; i < fieldIdsAndValues.length; i += 2)
+            {
+                fieldEntry.clear();
+                fieldEntry.fieldId((Integer)fieldIdsAndValues[i]);
+                fieldEntry.dataType(DataTypes.REAL);
+                if ((ret = fieldEntry.encode(eIter, real(fieldIdsAndValues[i + 1]))) < CodecReturnCodes.SUCCESS)
+                    return ret;
+            }
+            return fieldList.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Buffer elementList(Object... namesAndValues)
+    {
+        return encode(eIter -> {
+            ElementList elementList = CodecFactory.createElementList();
+            ElementEntry elementEntry = CodecFactory.createElementEntry();
+            elementList.applyHasStandardData();
+            int ret = elementList.encodeInit(eIter, null, 0);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < namesAndValues.length; i += 2)
+            {
+                Object value = namesAndValues[i + 1];
+                elementEntry.clear();
+                Buffer name = CodecFactory.createBuffer();
+                name.data((String)namesAndValues[i]);
+                elementEntry.name(name);
+                if (value instanceof Long)
+                {
+                    elementEntry.dataType(DataTypes.UINT);
+                    ret = elementEntry.encode(eIter, uint(value));
+                }
+                else if (value instanceof String)
+                {
+                    Buffer ascii = CodecFactory.createBuffer();
+                    ascii.data((String)value);
+                    elementEntry.dataType(DataTypes.ASCII_STRING);
+                    ret = elementEntry.encode(eIter, ascii);
+                }
+                else
+                {
+                    elementEntry.dataType(DataTypes.REAL);
+                    ret = value == null ? elementEntry.encodeBlank(eIter) : elementEntry.encode(eIter, real(value));
+                }
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : elementList.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Buffer map(Buffer summaryData, LocalFieldSetDefDb setDefs, Object[]... entries)
+    {
+        return encode(eIter -> {
+            Map map = CodecFactory.createMap();
+            MapEntry mapEntry = CodecFactory.createMapEntry();
+            map.keyPrimitiveType(DataTypes.ASCII_STRING);
+            map.containerType(DataTypes.FIELD_LIST);
+            if (summaryData != null)
+            {
+                map.applyHasSummaryData();
+                map.encodedSummaryData(summaryData);
+            }
+            if (setDefs != null)
+            {
+                map.applyHasSetDefs();
+                map.encodedSetDefs(encode(setDefs::encode));
+            }
+
+            int ret = map.encodeInit(eIter, 0, 0);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < entries.length; ++i)
+            {
+                Buffer key = CodecFactory.createBuffer();
+                key.data((String)entries[i][0]);
+                mapEntry.clear();
+                mapEntry.action((Integer)entries[i][1]);
+                if (entries[i][2] != null)
+                    mapEntry.encodedData((Buffer)entries[i][2]);
+                ret = mapEntry.encode(eIter, key);
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : map.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Object[] mapEntry(String key, int action, Buffer payload)
+    {
+        return new Object[] { key, action, payload };
+    }
+
+    private static Buffer vector(boolean sortable, Object[]... entries)
+    {
+        return encode(eIter -> {
+            Vector vector = CodecFactory.createVector();
+            VectorEntry vectorEntry = CodecFactory.createVectorEntry();
+            vector.containerType(DataTypes.FIELD_LIST);
+            if (sortable)
+                vector.flags(VectorFlags.SUPPORTS_SORTING);
+
+            int ret = vector.encodeInit(eIter, 0, 0);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < entries.length; ++i)
+            {
+                vectorEntry.clear();
+                vectorEntry.index((Long)entries[i][0]);
+                vectorEntry.action((Integer)entries[i][1]);
+                if (entries[i][2] != null)
+                    vectorEntry.encodedData((Buffer)entries[i][2]);
+                ret = vectorEntry.encode(eIter);
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : vector.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Object[] vectorEntry(long index, int action, Buffer payload)
+    {
+        return new Object[] { index, action, payload };
+    }
+
+    private static Buffer series(Buffer summaryData, Buffer... entries)
+    {
+        return encode(eIter -> {
+            Series series = CodecFactory.createSeries();
+            SeriesEntry seriesEntry = CodecFactory.createSeriesEntry();
+            series.containerType(DataTypes.ELEMENT_LIST);
+            if (summaryData != null)
+            {
+                series.applyHasSummaryData();
+                series.encodedSummaryData(summaryData);
+            }
+
+            int ret = series.encodeInit(eIter, 0, 0);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < entries.length; ++i)
+            {
+                seriesEntry.clear();
+                seriesEntry.encodedData(entries[i]);
+                ret = seriesEntry.encode(eIter);
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : series.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Buffer filterList(Object[]... entries)
+    {
+        return encode(eIter -> {
+            FilterList filterList = CodecFactory.createFilterList();
+            FilterEntry filterEntry = CodecFactory.createFilterEntry();
+            filterList.containerType(DataTypes.FIELD_LIST);
+
+            int ret = filterList.encodeInit(eIter);
+            for (int i = 0; ret >= CodecReturnCodes.SUCCESS && i < entries.length; ++i)
+            {
+                filterEntry.clear();
+                filterEntry.id((Integer)entries[i][0]);
+                filterEntry.action((Integer)entries[i][1]);
+                if ((Integer)entries[i][2] != DataTypes.NO_DATA)
+                {
+                    filterEntry.flags(FilterEntryFlags.HAS_CONTAINER_TYPE);
+                    filterEntry.containerType((Integer)entries[i][2]);
+                    filterEntry.encodedData((Buffer)entries[i][3]);
+                }
+                ret = filterEntry.encode(eIter);
+            }
+            return ret < CodecReturnCodes.SUCCESS ? ret : filterList.encodeComplete(eIter, true);
+        });
+    }
+
+    private static Object[] filterEntry(int id, int action, int containerType, Buffer payload)
+    {
+        return new Object[] { id, action, containerType, payload };
+    }
+
+    private static Buffer buffer(int size)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(size));
+        return buffer;
+    }
+
+    private static EncodeIterator encodeIterator(Buffer buffer)
+    {
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        return eIter;
+    }
+
+    private static DecodeIterator decodeIterator(Buffer buffer)
+    {
+        DecodeIterator dIter = CodecFactory.createDecodeIterator();
+        dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        return dIter;
+    }
+
+    private static Msg msg(int msgClass, int containerType, Buffer payload)
+    {
+        Msg msg = CodecFactory.createMsg();
+        msg.msgClass(msgClass);
+        msg.containerType(containerType);
+        msg.encodedDataBody(payload);
+        return msg;
+    }
+
+    private void apply(int msgClass, int containerType, Buffer payload)
+    {
+        Msg msg = msg(msgClass, containerType, payload);
+        assertEquals(_error.text(), CodecReturnCodes.SUCCESS, _entry.apply(decodeIterator(payload), msg, _error));
+    }
+
+    private String retrieve()
+    {
+        return retrieve(null, BUF_SIZE);
+    }
+
+    private String retrieve(PayloadCursor cursor, int size)
+    {
+        Buffer buffer = buffer(size);
+        EncodeIterator eIter = encodeIterator(buffer);
+        assertEquals(_error.text(), CodecReturnCodes.SUCCESS, _entry.retrieve(eIter, cursor, _error));
+        if (buffer.data().position() == 0)
+            return "";
+
+        buffer.data(buffer.data(), 0, buffer.data().position());
+        return describe(decodeIterator(buffer), _entry.dataType());
+    }
+
+    /* Decoding helpers, describing a retrieved payload as text. */
+
+    private static String describe(DecodeIterator dIter, int containerType)
+    {
+        StringBuilder text = new StringBuilder();
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+            {
+                FieldList fieldList = CodecFactory.createFieldList();
+                FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(dIter, null));
+                text.append("{");
+                while (fieldEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+                {
+                    text.append(text.length() > 1 ? " " : "").append(fieldEntry.fieldId()).append(":")
+                        .append(describeValue(dIter, fieldType(fieldEntry.fieldId()), fieldEntry.encodedData()));
+                }
+                return text.append("}").toString();
+            }
+            case DataTypes.ELEMENT_LIST:
+            {
+                ElementList elementList = CodecFactory.createElementList();
+                ElementEntry elementEntry = CodecFactory.createElementEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, elementList.decode(dIter, null));
+                text.append("{");
+                while (elementEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+                {
+                    text.append(text.length() > 1 ? " " : "").append(elementEntry.name().toString()).append(":")
+                        .append(describeValue(dIter, elementEntry.dataType(), elementEntry.encodedData()));
+                }
+                return text.append("}").toString();
+            }
+            case DataTypes.MAP:
+            {
+                Map map = CodecFactory.createMap();
+                MapEntry mapEntry = CodecFactory.createMapEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, map.decode(dIter));
+                if (map.checkHasSummaryData())
+                    text.append("summary").append(describe(decodeIterator(map.encodedSummaryData()), map.containerType())).append(" ");
+                text.append("[");
+                int start = text.length();
+                while (mapEntry.decode(dIter, null) != CodecReturnCodes.END_OF_CONTAINER)
+                {
+                    text.append(text.length() > start ? " " : "").append(mapEntry.encodedKey().toString()).append(":")
+                        .append(MapEntryActions.toString(mapEntry.action()));
+                    if (mapEntry.action() != MapEntryActions.DELETE)
+                        text.append(":").append(describe(dIter, map.containerType()));
+                }
+                return text.append("]").toString();
+            }
+            case DataTypes.VECTOR:
+            {
+                Vector vector = CodecFactory.createVector();
+                VectorEntry vectorEntry = CodecFactory.createVectorEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, vector.decode(dIter));
+                text.append("[");
+                while (vectorEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+                {
+                    text.append(text.length() > 1 ? " " : "").append(vectorEntry.index()).append(":")
+                        .append(vectorEntry.action() == VectorEntryActions.SET ? "SET" : vectorEntry.action() == VectorEntryActions.CLEAR ? "CLEAR" : "action " + vectorEntry.action());
+                    if (vectorEntry.action() != VectorEntryActions.CLEAR && vectorEntry.action() != VectorEntryActions.DELETE)
+                        text.append(":").append(describe(dIter, vector.containerType()));
+                }
+                return text.append("]").toString();
+            }
+            case DataTypes.SERIES:
+            {
+                Series series = CodecFactory.createSeries();
+                SeriesEntry seriesEntry = CodecFactory.createSeriesEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, series.decode(dIter));
+                if (series.checkHasSummaryData())
+                    text.append("summary").append(describe(decodeIterator(series.encodedSummaryData()), series.containerType())).append(" ");
+                text.append("[");
+                int start = text.length();
+                while (seriesEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+                    text.append(text.length() > start ? " " : "").append(describe(dIter, series.containerType()));
+                return text.append("]").toString();
+            }
+            case DataTypes.FILTER_LIST:
+            {
+                FilterList filterList = CodecFactory.createFilterList();
+                FilterEntry filterEntry = CodecFactory.createFilterEntry();
+                assertEquals(CodecReturnCodes.SUCCESS, filterList.decode(dIter));
+                text.append("[");
+                while (filterEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+                {
+                    text.append(text.length() > 1 ? " " : "").append(filterEntry.id()).append(":")
+                        .append(filterEntry.action() == FilterEntryActions.SET ? "SET" : filterEntry.action() == FilterEntryActions.CLEAR ? "CLEAR" : "action " + filterEntry.action());
+                    if (filterEntry.action() != FilterEntryActions.CLEAR)
+                        text.append(":").append(describe(dIter, filterEntry.checkHasContainerType() ? filterEntry.containerType() : filterList.containerType()));
+                }
+                return text.append("]").toString();
+            }
+            default:
+                fail("unexpected container type " + DataTypes.toString(containerType));
+                return null;
+        }
+    }
+
+    private static String describeValue(DecodeIterator dIter, int dataType, Buffer encodedData)
+    {
+        if (encodedData.length() == 0)
+            return "blank";
+
+        switch (dataType)
+        {
+            case DataTypes.REAL:
+            {
+                Real real = CodecFactory.createReal();
+                assertEquals(CodecReturnCodes.SUCCESS, real.decode(dIter));
+                return String.valueOf(real.toDouble());
+            }
+            case DataTypes.UINT:
+            {
+                UInt uint = CodecFactory.createUInt();
+                assertEquals(CodecReturnCodes.SUCCESS, uint.decode(dIter));
+                return String.valueOf(uint.toLong());
+            }
+            default:
+                return encodedData.toString();
+        }
+    }
+}